@@ -838,6 +838,16 @@ public class AiAttackController {
      * @return a {@link forge.game.combat.Combat} object.
      */
     public final int declareAttackers(final Combat combat) {
+        // aggression levels are tried against the same attacker/blocker pairs over and over
+        AiCombatAnalysis.open(ai);
+        try {
+            return doDeclareAttackers(combat);
+        } finally {
+            AiCombatAnalysis.close();
+        }
+    }
+
+    private int doDeclareAttackers(final Combat combat) {
         // something prevents attacking, try another
         if (this.attackers.isEmpty() && ai.getOpponents().size() > 1) {
             final PlayerCollection opps = ai.getOpponents();
@@ -1079,6 +1079,16 @@ public class AiBlockController {
             return;
         }
 
+        // the block heuristics below query the same attacker/blocker pairs many times
+        AiCombatAnalysis.open(ai);
+        try {
+            doAssignBlockers(combat, possibleBlockers);
+        } finally {
+            AiCombatAnalysis.close();
+        }
+    }
+
+    private void doAssignBlockers(final Combat combat, List<Card> possibleBlockers) {
         clearBlockers(combat, possibleBlockers);
 
         diff = (ai.getLife() * 2) - 5; // This is the minimal gain for an unnecessary trade
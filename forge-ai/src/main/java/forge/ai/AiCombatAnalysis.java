@@ -0,0 +1,204 @@
+/*
+ * Forge: Play Magic: the Gathering.
+ * Copyright (C) 2011  Forge Team
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package forge.ai;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.player.Player;
+
+/**
+ * <p>
+ * AiCombatAnalysis class.
+ * </p>
+ *
+ * An attacker x blocker matrix of combat predictions (power and toughness bonuses, whether either side dies,
+ * whether it dies before first strike damage) that is filled while the AI plans its attacks or blocks.
+ * The attack and block controllers try many aggression levels and block assignments and ask
+ * {@link ComputerUtilCombat} about the same pairs over and over; while an analysis is open on the current thread
+ * each of these predictions is computed once per pair and combat state. A pair's entries are dropped as soon as
+ * the combat they were computed for changes (see {@link Combat#getChangeCount()}).
+ *
+ * @author Forge
+ */
+public final class AiCombatAnalysis {
+    private static final ThreadLocal<AiCombatAnalysis> current = new ThreadLocal<>();
+
+    // prediction kinds, each has a slot for every combination of the two "without" flags
+    private static final int ATTACKER_POWER_BONUS = 0;
+    private static final int ATTACKER_TOUGHNESS_BONUS = 1;
+    private static final int BLOCKER_POWER_BONUS = 2;
+    private static final int BLOCKER_TOUGHNESS_BONUS = 3;
+    private static final int ATTACKER_DESTROYED = 4;
+    private static final int BLOCKER_DESTROYED = 5;
+    private static final int ATTACKER_DESTROYED_BEFORE_FIRST_STRIKE = 6;
+    private static final int BLOCKER_DESTROYED_BEFORE_FIRST_STRIKE = 7;
+    private static final int SLOTS = 8 * 4;
+
+    private final Player ai;
+    private int depth = 0;
+    // keyed by the combat passed to the prediction (possibly null), by identity like the cards below
+    private final Map<Combat, Matrix> matrices = new IdentityHashMap<>();
+
+    private AiCombatAnalysis(final Player ai) {
+        this.ai = ai;
+    }
+
+    /**
+     * Starts (or joins, if one is already running on this thread) an analysis for a combat decision of the given player.
+     * Every call must be matched by a call to {@link #close()}, preferably in a finally block.
+     */
+    public static void open(final Player ai) {
+        AiCombatAnalysis analysis = current.get();
+        if (analysis == null) {
+            analysis = new AiCombatAnalysis(ai);
+            current.set(analysis);
+        }
+        analysis.depth++;
+    }
+
+    public static void close() {
+        final AiCombatAnalysis analysis = current.get();
+        if (analysis != null && --analysis.depth == 0) {
+            current.remove();
+        }
+    }
+
+    static AiCombatAnalysis current() {
+        return current.get();
+    }
+
+    private static final class Matrix {
+        private Combat validFor;
+        private int changeCount;
+        private final Map<Card, Map<Card, Object[]>> outcomes = new IdentityHashMap<>();
+    }
+
+    private Object[] outcomesOf(final Combat combat, final Card attacker, final Card blocker) {
+        // predictions made without an explicit combat look at the game's current one
+        final Combat effective = combat != null ? combat : ai.getGame().getCombat();
+        final int changeCount = effective == null ? 0 : effective.getChangeCount();
+
+        Matrix matrix = matrices.get(combat);
+        if (matrix == null) {
+            matrix = new Matrix();
+            matrices.put(combat, matrix);
+        } else if (matrix.validFor != effective || matrix.changeCount != changeCount) {
+            matrix.outcomes.clear();
+        }
+        matrix.validFor = effective;
+        matrix.changeCount = changeCount;
+
+        Map<Card, Object[]> row = matrix.outcomes.get(attacker);
+        if (row == null) {
+            row = new IdentityHashMap<>();
+            matrix.outcomes.put(attacker, row);
+        }
+        Object[] outcomes = row.get(blocker);
+        if (outcomes == null) {
+            outcomes = new Object[SLOTS];
+            row.put(blocker, outcomes);
+        }
+        return outcomes;
+    }
+
+    private static int slot(final int kind, final boolean withoutAbilities, final boolean withoutStaticAbilities) {
+        return kind * 4 + (withoutAbilities ? 2 : 0) + (withoutStaticAbilities ? 1 : 0);
+    }
+
+    int predictPowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, final boolean withoutAbilities, final boolean withoutCombatStaticAbilities) {
+        final Object[] outcomes = outcomesOf(combat, attacker, blocker);
+        final int slot = slot(ATTACKER_POWER_BONUS, withoutAbilities, withoutCombatStaticAbilities);
+        if (outcomes[slot] == null) {
+            outcomes[slot] = ComputerUtilCombat.predictPowerBonusOfAttackerUncached(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+        }
+        return (Integer) outcomes[slot];
+    }
+
+    int predictToughnessBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, final boolean withoutAbilities, final boolean withoutCombatStaticAbilities) {
+        final Object[] outcomes = outcomesOf(combat, attacker, blocker);
+        final int slot = slot(ATTACKER_TOUGHNESS_BONUS, withoutAbilities, withoutCombatStaticAbilities);
+        if (outcomes[slot] == null) {
+            outcomes[slot] = ComputerUtilCombat.predictToughnessBonusOfAttackerUncached(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+        }
+        return (Integer) outcomes[slot];
+    }
+
+    int predictPowerBonusOfBlocker(final Card attacker, final Card blocker, final boolean withoutAbilities) {
+        final Object[] outcomes = outcomesOf(null, attacker, blocker);
+        final int slot = slot(BLOCKER_POWER_BONUS, withoutAbilities, false);
+        if (outcomes[slot] == null) {
+            outcomes[slot] = ComputerUtilCombat.predictPowerBonusOfBlockerUncached(attacker, blocker, withoutAbilities);
+        }
+        return (Integer) outcomes[slot];
+    }
+
+    int predictToughnessBonusOfBlocker(final Card attacker, final Card blocker, final boolean withoutAbilities) {
+        final Object[] outcomes = outcomesOf(null, attacker, blocker);
+        final int slot = slot(BLOCKER_TOUGHNESS_BONUS, withoutAbilities, false);
+        if (outcomes[slot] == null) {
+            outcomes[slot] = ComputerUtilCombat.predictToughnessBonusOfBlockerUncached(attacker, blocker, withoutAbilities);
+        }
+        return (Integer) outcomes[slot];
+    }
+
+    boolean canDestroyAttacker(final Player ai, final Card attacker, final Card blocker, final Combat combat, final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        if (ai != this.ai) {
+            return ComputerUtilCombat.canDestroyAttackerUncached(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+        }
+        final Object[] outcomes = outcomesOf(combat, attacker, blocker);
+        final int slot = slot(ATTACKER_DESTROYED, withoutAbilities, withoutAttackerStaticAbilities);
+        if (outcomes[slot] == null) {
+            outcomes[slot] = ComputerUtilCombat.canDestroyAttackerUncached(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+        }
+        return (Boolean) outcomes[slot];
+    }
+
+    boolean canDestroyBlocker(final Player ai, final Card blocker, final Card attacker, final Combat combat, final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        if (ai != this.ai) {
+            return ComputerUtilCombat.canDestroyBlockerUncached(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+        }
+        final Object[] outcomes = outcomesOf(combat, attacker, blocker);
+        final int slot = slot(BLOCKER_DESTROYED, withoutAbilities, withoutAttackerStaticAbilities);
+        if (outcomes[slot] == null) {
+            outcomes[slot] = ComputerUtilCombat.canDestroyBlockerUncached(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+        }
+        return (Boolean) outcomes[slot];
+    }
+
+    boolean canDestroyAttackerBeforeFirstStrike(final Card attacker, final Card blocker, final Combat combat, final boolean withoutAbilities) {
+        final Object[] outcomes = outcomesOf(combat, attacker, blocker);
+        final int slot = slot(ATTACKER_DESTROYED_BEFORE_FIRST_STRIKE, withoutAbilities, false);
+        if (outcomes[slot] == null) {
+            outcomes[slot] = ComputerUtilCombat.canDestroyAttackerBeforeFirstStrikeUncached(attacker, blocker, combat, withoutAbilities);
+        }
+        return (Boolean) outcomes[slot];
+    }
+
+    boolean canDestroyBlockerBeforeFirstStrike(final Card blocker, final Card attacker, final boolean withoutAbilities) {
+        final Object[] outcomes = outcomesOf(null, attacker, blocker);
+        final int slot = slot(BLOCKER_DESTROYED_BEFORE_FIRST_STRIKE, withoutAbilities, false);
+        if (outcomes[slot] == null) {
+            outcomes[slot] = ComputerUtilCombat.canDestroyBlockerBeforeFirstStrikeUncached(blocker, attacker, withoutAbilities);
+        }
+        return (Boolean) outcomes[slot];
+    }
+}
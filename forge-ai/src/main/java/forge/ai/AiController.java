@@ -182,7 +182,7 @@ public class AiController {
 
     // look for cards on the battlefield that should prevent the AI from using that spellability
     private boolean checkCurseEffects(final SpellAbility sa) {
-        CardCollectionView ccvGameBattlefield = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), CardPredicates.hasSVar("AICurseEffect"));
+        CardCollectionView ccvGameBattlefield = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), CardPredicates.hasSVar("AICurseEffect"));
         for (final Card c : ccvGameBattlefield) {
             final String curse = c.getSVar("AICurseEffect");
             if ("NonActive".equals(curse) && !player.equals(game.getPhaseHandler().getPlayerTurn())) {
@@ -204,7 +204,7 @@ public class AiController {
                             return true;
                         }
                     }
-                    if (Iterables.any(game.getCardsIn(ZoneType.Graveyard), CardPredicates.nameEquals(hostName))) {
+                    if (Iterables.any(game.viewCardsIn(ZoneType.Graveyard), CardPredicates.nameEquals(hostName))) {
                         return true;
                     }
                 }
@@ -888,7 +888,14 @@ public class AiController {
             Sentry.setExtra("Card", card.getName());
             Sentry.setExtra("SA", sa.toString());
 
-            boolean canPlay = SpellApiToAi.Converter.get(sa.getApi()).canPlayAIWithSubs(player, sa);
+            final GameMetrics metrics = game.getMetrics();
+            final long decisionStart = metrics.start(GameMetrics.Metric.AI_DECISIONS);
+            boolean canPlay;
+            try {
+                canPlay = SpellApiToAi.Converter.get(sa.getApi()).canPlayAIWithSubs(player, sa);
+            } finally {
+                metrics.stopAiDecision(sa.getApi(), decisionStart);
+            }
 
             // remove added extra
             Sentry.removeExtra("Card");
@@ -1349,6 +1356,16 @@ public class AiController {
             return singleSpellAbilityList(simPicker.chooseSpellAbilityToPlay(null));
         }
 
+        // every candidate gets its costs checked against the same mana sources, only collect them once
+        AiManaOracle.open();
+        try {
+            return doChooseSpellAbilityToPlay();
+        } finally {
+            AiManaOracle.close();
+        }
+    }
+
+    private List<SpellAbility> doChooseSpellAbilityToPlay() {
         CardCollection playBeforeLand = CardLists.filter(
                 player.getCardsIn(ZoneType.Hand), CardPredicates.hasSVar("PlayBeforeLandDrop")
         );
@@ -2050,7 +2067,7 @@ public class AiController {
         }
         // Left:True; Right:False
         if ("GainControl".equals(sa.getParam("AILogic")) && game.getPlayers().size() > 2) {
-            CardCollection creats = CardLists.getType(game.getCardsIn(ZoneType.Battlefield), "Creature");
+            CardCollection creats = CardLists.getType(game.viewCardsIn(ZoneType.Battlefield), "Creature");
             CardCollection left = CardLists.filterControlledBy(creats, game.getNextPlayerAfter(player, Direction.Left));
             CardCollection right = CardLists.filterControlledBy(creats, game.getNextPlayerAfter(player, Direction.Right));
             if (!left.isEmpty() || !right.isEmpty()) {
@@ -2060,7 +2077,7 @@ public class AiController {
             }
         }
         if ("Aminatou".equals(sa.getParam("AILogic")) && game.getPlayers().size() > 2) {
-            CardCollection all = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), Presets.NONLAND_PERMANENTS);
+            CardCollection all = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), Presets.NONLAND_PERMANENTS);
             CardCollection left = CardLists.filterControlledBy(all, game.getNextPlayerAfter(player, Direction.Left));
             CardCollection right = CardLists.filterControlledBy(all, game.getNextPlayerAfter(player, Direction.Right));
             return Aggregates.sum(left, Accessors.fnGetCmc) > Aggregates.sum(right, Accessors.fnGetCmc);
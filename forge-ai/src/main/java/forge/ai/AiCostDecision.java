@@ -193,7 +193,7 @@ public class AiCostDecision extends CostDecisionMakerBase {
 
         int c = cost.getAbilityAmount(ability);
 
-        CardCollection typeList = CardLists.getValidCards(player.getGame().getCardsIn(ZoneType.Exile), cost.getType().split(";"), player, source, ability);
+        CardCollection typeList = CardLists.getValidCards(player.getGame().viewCardsIn(ZoneType.Exile), cost.getType().split(";"), player, source, ability);
 
         if (typeList.size() < c) {
             return null;
@@ -216,7 +216,7 @@ public class AiCostDecision extends CostDecisionMakerBase {
 
         int c = cost.getAbilityAmount(ability);
 
-        final CardCollection typeList = CardLists.getValidCards(player.getGame().getCardsIn(ZoneType.Battlefield), cost.getType().split(";"), player, source, ability);
+        final CardCollection typeList = CardLists.getValidCards(player.getGame().viewCardsIn(ZoneType.Battlefield), cost.getType().split(";"), player, source, ability);
 
         if (typeList.size() < c) {
             return null;
@@ -258,7 +258,7 @@ public class AiCostDecision extends CostDecisionMakerBase {
 
         int c = cost.getAbilityAmount(ability);
 
-        CardCollection typeList = CardLists.getValidCards(player.getGame().getCardsIn(ZoneType.Battlefield), cost.getType().split(";"), player, source, ability);
+        CardCollection typeList = CardLists.getValidCards(player.getGame().viewCardsIn(ZoneType.Battlefield), cost.getType().split(";"), player, source, ability);
         typeList = CardLists.filter(typeList, crd -> crd.canBeControlledBy(player));
 
         if (typeList.size() < c) {
@@ -365,7 +365,7 @@ public class AiCostDecision extends CostDecisionMakerBase {
             return PaymentDecision.card(source);
         }
 
-        final CardCollection typeList = CardLists.getValidCards(player.getGame().getCardsIn(ZoneType.Battlefield),
+        final CardCollection typeList = CardLists.getValidCards(player.getGame().viewCardsIn(ZoneType.Battlefield),
                 cost.getType().split(";"), player, source, ability);
 
         Card card;
@@ -0,0 +1,152 @@
+/*
+ * Forge: Play Magic: the Gathering.
+ * Copyright (C) 2011  Forge Team
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package forge.ai;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.combat.Combat;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+/**
+ * <p>
+ * AiManaOracle class.
+ * </p>
+ *
+ * Remembers which mana sources a player has available, and which colors each of their mana abilities can make,
+ * for the duration of one AI priority decision. While choosing what to play the AI checks whether it can pay
+ * for every candidate spell (and for every value of X), and each check used to rebuild these from the
+ * battlefield. The oracle is opened by {@link AiController#chooseSpellAbilityToPlay()} and consulted by
+ * {@link ComputerUtilMana}; an entry is recomputed whenever the player's permanents, hand, mana pool, life or
+ * the stack, phase or combat look different from when it was made.
+ *
+ * @author Forge
+ */
+public final class AiManaOracle {
+    private static final ThreadLocal<AiManaOracle> current = new ThreadLocal<>();
+
+    private int depth = 0;
+    private final Map<Player, Entry[]> entries = new HashMap<>();
+
+    private static final class Entry {
+        private final long fingerprint;
+        private CardCollection sources;
+        private ListMultimap<Integer, SpellAbility> sourcesByColor;
+
+        private Entry(final long fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private AiManaOracle() {
+    }
+
+    /**
+     * Starts (or joins, if one is already running on this thread) a priority decision.
+     * Every call must be matched by a call to {@link #close()}, preferably in a finally block.
+     */
+    public static void open() {
+        AiManaOracle oracle = current.get();
+        if (oracle == null) {
+            oracle = new AiManaOracle();
+            current.set(oracle);
+        }
+        oracle.depth++;
+    }
+
+    public static void close() {
+        final AiManaOracle oracle = current.get();
+        if (oracle != null && --oracle.depth == 0) {
+            current.remove();
+        }
+    }
+
+    static AiManaOracle current() {
+        return current.get();
+    }
+
+    CardCollection getAvailableManaSources(final Player ai, final boolean checkPlayable) {
+        final Entry entry = entryFor(ai, checkPlayable);
+        if (entry.sources == null) {
+            entry.sources = ComputerUtilMana.getAvailableManaSourcesUncached(ai, checkPlayable);
+        }
+        return new CardCollection(entry.sources);
+    }
+
+    ListMultimap<Integer, SpellAbility> groupSourcesByManaColor(final Player ai, final boolean checkPlayable) {
+        final Entry entry = entryFor(ai, checkPlayable);
+        if (entry.sourcesByColor == null) {
+            entry.sourcesByColor = Multimaps.unmodifiableListMultimap(ComputerUtilMana.groupSourcesByManaColorUncached(ai, checkPlayable));
+        } else {
+            // building the map sets the activating player of every ability in it, later payment relies on that
+            final Set<SpellAbility> abilities = new HashSet<>(entry.sourcesByColor.values());
+            for (final SpellAbility sa : abilities) {
+                sa.setActivatingPlayer(ai, true);
+            }
+        }
+        return entry.sourcesByColor;
+    }
+
+    private Entry entryFor(final Player ai, final boolean checkPlayable) {
+        Entry[] forPlayer = entries.get(ai);
+        if (forPlayer == null) {
+            forPlayer = new Entry[2];
+            entries.put(ai, forPlayer);
+        }
+        final int index = checkPlayable ? 1 : 0;
+        final long fingerprint = fingerprint(ai);
+        if (forPlayer[index] == null || forPlayer[index].fingerprint != fingerprint) {
+            forPlayer[index] = new Entry(fingerprint);
+        }
+        return forPlayer[index];
+    }
+
+    // cheap summary of everything the available sources depend on that may change during a decision
+    private static long fingerprint(final Player ai) {
+        final Game game = ai.getGame();
+        long result = ai.getManaPool().totalMana();
+        int tapped = 0;
+        for (final Card c : ai.getCardsIn(ZoneType.Battlefield)) {
+            if (c.isTapped()) {
+                tapped++;
+            }
+        }
+        result = 31 * result + tapped;
+        result = 31 * result + ai.getCardsIn(ZoneType.Battlefield).size();
+        result = 31 * result + ai.getCardsIn(ZoneType.Hand).size();
+        result = 31 * result + ai.getLife();
+        result = 31 * result + game.getStack().size();
+        final PhaseType phase = game.getPhaseHandler().getPhase();
+        result = 31 * result + (phase == null ? -1 : phase.ordinal());
+        final Combat combat = game.getCombat();
+        result = 31 * result + (combat == null ? -1 : combat.getChangeCount());
+        return result;
+    }
+}
@@ -68,6 +68,11 @@ public class ComputerUtilCombat {
         dontTestRegen = shouldSuppress;
     }
 
+    // pairwise predictions are only memoized while an AI combat decision is in progress on this thread
+    private static AiCombatAnalysis getCombatAnalysis() {
+        return dontTestRegen ? null : AiCombatAnalysis.current();
+    }
+
     /**
      * <p>
      * canAttackNextTurn.
@@ -887,6 +892,13 @@ public class ComputerUtilCombat {
      * @return a int.
      */
     public static int predictPowerBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
+        final AiCombatAnalysis analysis = getCombatAnalysis();
+        if (analysis != null) {
+            return analysis.predictPowerBonusOfBlocker(attacker, blocker, withoutAbilities);
+        }
+        return predictPowerBonusOfBlockerUncached(attacker, blocker, withoutAbilities);
+    }
+    static int predictPowerBonusOfBlockerUncached(final Card attacker, final Card blocker, boolean withoutAbilities) {
         int power = 0;
 
         // Serene Master switches power with attacker
@@ -1033,6 +1045,13 @@ public class ComputerUtilCombat {
      * @return a int.
      */
     public static int predictToughnessBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
+        final AiCombatAnalysis analysis = getCombatAnalysis();
+        if (analysis != null) {
+            return analysis.predictToughnessBonusOfBlocker(attacker, blocker, withoutAbilities);
+        }
+        return predictToughnessBonusOfBlockerUncached(attacker, blocker, withoutAbilities);
+    }
+    static int predictToughnessBonusOfBlockerUncached(final Card attacker, final Card blocker, boolean withoutAbilities) {
         int toughness = 0;
 
         if (blocker.getName().equals("Shape Stealer")) {
@@ -1170,6 +1189,13 @@ public class ComputerUtilCombat {
         return predictPowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, false);
     }
     public static int predictPowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
+        final AiCombatAnalysis analysis = getCombatAnalysis();
+        if (analysis != null) {
+            return analysis.predictPowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+        }
+        return predictPowerBonusOfAttackerUncached(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+    }
+    static int predictPowerBonusOfAttackerUncached(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
         int power = 0;
 
         // Serene Master switches power with attacker
@@ -1370,6 +1396,14 @@ public class ComputerUtilCombat {
     }
     public static int predictToughnessBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat
             , boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
+        final AiCombatAnalysis analysis = getCombatAnalysis();
+        if (analysis != null) {
+            return analysis.predictToughnessBonusOfAttacker(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+        }
+        return predictToughnessBonusOfAttackerUncached(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+    }
+    static int predictToughnessBonusOfAttackerUncached(final Card attacker, final Card blocker, final Combat combat
+            , boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
         int toughness = 0;
 
         if (blocker != null && attacker.getName().equals("Shape Stealer")) {
@@ -1569,6 +1603,14 @@ public class ComputerUtilCombat {
     // check whether the attacker will be destroyed by triggered abilities before First Strike damage
     public static boolean canDestroyAttackerBeforeFirstStrike(final Card attacker, final Card blocker, final Combat combat,
             final boolean withoutAbilities) {
+        final AiCombatAnalysis analysis = getCombatAnalysis();
+        if (analysis != null) {
+            return analysis.canDestroyAttackerBeforeFirstStrike(attacker, blocker, combat, withoutAbilities);
+        }
+        return canDestroyAttackerBeforeFirstStrikeUncached(attacker, blocker, combat, withoutAbilities);
+    }
+    static boolean canDestroyAttackerBeforeFirstStrikeUncached(final Card attacker, final Card blocker, final Combat combat,
+            final boolean withoutAbilities) {
         if (blocker.isEquippedBy("Godsend")) {
            return true;
         }
@@ -1667,6 +1709,14 @@ public class ComputerUtilCombat {
     }
     public static boolean canDestroyAttacker(Player ai, Card attacker, Card blocker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        final AiCombatAnalysis analysis = getCombatAnalysis();
+        if (analysis != null) {
+            return analysis.canDestroyAttacker(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+        }
+        return canDestroyAttackerUncached(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+    }
+    static boolean canDestroyAttackerUncached(Player ai, Card attacker, Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
             attacker = canTransform(attacker);
@@ -1808,6 +1858,13 @@ public class ComputerUtilCombat {
     }
 
     public static boolean canDestroyBlockerBeforeFirstStrike(final Card blocker, final Card attacker, final boolean withoutAbilities) {
+        final AiCombatAnalysis analysis = getCombatAnalysis();
+        if (analysis != null) {
+            return analysis.canDestroyBlockerBeforeFirstStrike(blocker, attacker, withoutAbilities);
+        }
+        return canDestroyBlockerBeforeFirstStrikeUncached(blocker, attacker, withoutAbilities);
+    }
+    static boolean canDestroyBlockerBeforeFirstStrikeUncached(final Card blocker, final Card attacker, final boolean withoutAbilities) {
     	if (attacker.isEquippedBy("Godsend")) {
             return true;
         }
@@ -1897,6 +1954,14 @@ public class ComputerUtilCombat {
     }
     public static boolean canDestroyBlocker(Player ai, Card blocker, Card attacker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        final AiCombatAnalysis analysis = getCombatAnalysis();
+        if (analysis != null) {
+            return analysis.canDestroyBlocker(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+        }
+        return canDestroyBlockerUncached(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+    }
+    static boolean canDestroyBlockerUncached(Player ai, Card blocker, Card attacker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
             attacker = canTransform(attacker);
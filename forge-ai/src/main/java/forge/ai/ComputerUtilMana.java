@@ -1434,6 +1434,14 @@ public class ComputerUtilMana {
 
     //This method is currently used by AI to estimate available mana
     public static CardCollection getAvailableManaSources(final Player ai, final boolean checkPlayable) {
+        final AiManaOracle oracle = AiManaOracle.current();
+        if (oracle != null) {
+            return oracle.getAvailableManaSources(ai, checkPlayable);
+        }
+        return getAvailableManaSourcesUncached(ai, checkPlayable);
+    }
+
+    static CardCollection getAvailableManaSourcesUncached(final Player ai, final boolean checkPlayable) {
         final CardCollectionView list = CardCollection.combine(ai.getCardsIn(ZoneType.Battlefield), ai.getCardsIn(ZoneType.Hand));
         final List<Card> manaSources = CardLists.filter(list, new Predicate<Card>() {
             @Override
@@ -1588,6 +1596,14 @@ public class ComputerUtilMana {
 
     //This method is currently used by AI to estimate mana available
     private static ListMultimap<Integer, SpellAbility> groupSourcesByManaColor(final Player ai, boolean checkPlayable) {
+        final AiManaOracle oracle = AiManaOracle.current();
+        if (oracle != null) {
+            return oracle.groupSourcesByManaColor(ai, checkPlayable);
+        }
+        return groupSourcesByManaColorUncached(ai, checkPlayable);
+    }
+
+    static ListMultimap<Integer, SpellAbility> groupSourcesByManaColorUncached(final Player ai, boolean checkPlayable) {
         final ListMultimap<Integer, SpellAbility> manaMap = ArrayListMultimap.create();
         final Game game = ai.getGame();
 
@@ -1720,12 +1736,12 @@ public class ComputerUtilMana {
         if (sa.hasParam("XMaxLimit")) {
             max = Math.min(max, AbilityUtils.calculateAmount(sa.getHostCard(), sa.getParam("XMaxLimit"), sa));
         }
-        for (int i = 1; i <= max; i++) {
-            if (!canPayManaCost(sa.getRootAbility(), player, i, effect)) {
-                return i - 1;
+        return findMaxPayable(max, new Predicate<Integer>() {
+            @Override
+            public boolean apply(final Integer extraMana) {
+                return canPayManaCost(sa.getRootAbility(), player, extraMana, effect);
             }
-        }
-        return max;
+        });
     }
 
     /**
@@ -1743,17 +1759,48 @@ public class ComputerUtilMana {
      * @since 1.5.59
      */
     public static int determineLeftoverMana(final SpellAbility sa, final Player player, final String shardColor, final boolean effect) {
-        ManaCost origCost = sa.getRootAbility().getPayCosts().getTotalMana();
+        final ManaCost origCost = sa.getRootAbility().getPayCosts().getTotalMana();
+        final ManaCost extra = new ManaCost(new ManaCostParser(shardColor));
 
-        String shardSurplus = shardColor;
-        for (int i = 1; i < 100; i++) {
-            ManaCost extra = new ManaCost(new ManaCostParser(shardSurplus));
-            if (!canPayManaCost(new ManaCostBeingPaid(ManaCost.combine(origCost, extra)), sa, player, effect)) {
-                return i - 1;
+        return findMaxPayable(99, new Predicate<Integer>() {
+            @Override
+            public boolean apply(final Integer times) {
+                ManaCost cost = origCost;
+                for (int i = 0; i < times; i++) {
+                    cost = ManaCost.combine(cost, extra);
+                }
+                return canPayManaCost(new ManaCostBeingPaid(cost), sa, player, effect);
+            }
+        });
+    }
+
+    /**
+     * Finds the largest amount in 0..max that can still be paid, assuming that anything more expensive
+     * than an unpayable amount is unpayable too. Probes 1, 2, 4, ... and then bisects, so only a logarithmic
+     * number of payment checks is needed.
+     */
+    private static int findMaxPayable(final int max, final Predicate<Integer> canPay) {
+        if (max < 1) {
+            return max;
+        }
+        int payable = 0;
+        int unpayable = max + 1;
+        for (int probe = 1; probe <= max; probe *= 2) {
+            if (!canPay.apply(probe)) {
+                unpayable = probe;
+                break;
+            }
+            payable = probe;
+        }
+        while (unpayable - payable > 1) {
+            final int mid = (payable + unpayable) >>> 1;
+            if (canPay.apply(mid)) {
+                payable = mid;
+            } else {
+                unpayable = mid;
             }
-            shardSurplus += " " + shardColor;
         }
-        return 99;
+        return payable;
     }
 
     // Returns basic mana abilities plus "reflected mana" abilities
@@ -0,0 +1,82 @@
+package forge.ai;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import forge.deck.Deck;
+import forge.deck.DeckSection;
+import forge.game.Game;
+import forge.game.GameReplay;
+import forge.game.GameRules;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+
+/**
+ * Plays a recorded game again, headless and as fast as the engine goes, e.g. to profile or benchmark a game
+ * that was slow in production, or to check that a change doesn't alter how the AI plays.
+ * <p>
+ * The AI isn't fed its recorded choices unless asked to: it takes them again, from the same seed, decks and profiles,
+ * and the replayed game's log is compared to the recorded one to find where they first differ.
+ * Players who weren't an AI are played by one that makes their logged choices, see {@link ScriptedPlayerController};
+ * what isn't logged, like how mana costs are paid, is left to the AI, so such a game can still go another way.
+ * The schemes, planes and avatars of variants can't be replayed.
+ */
+public final class GameReplayer {
+    private GameReplayer() {
+    }
+
+    public static Match createMatch(final GameReplay recorded) {
+        return createMatch(recorded, false);
+    }
+
+    /**
+     * @param scriptAi whether the AI players make their logged choices as well, e.g. to replay a game recorded
+     * before the AI changed
+     */
+    public static Match createMatch(final GameReplay recorded, final boolean scriptAi) {
+        final List<RegisteredPlayer> players = Lists.newArrayList();
+        for (final GameReplay.Seat seat : recorded.getSeats()) {
+            LobbyPlayerAi ai = LobbyPlayerAi.fromReplay(seat);
+            if (ai == null) {
+                ai = new LobbyPlayerAi(seat.getName(), null);
+                ai.setScripted(true);
+            } else {
+                ai.setScripted(scriptAi);
+            }
+            final Deck deck = seat.getDeck();
+            final RegisteredPlayer player = new RegisteredPlayer(deck);
+            if (deck.has(DeckSection.Commander)) {
+                player.assignCommander();
+            }
+            player.setStartingLife(seat.getStartingLife());
+            player.setStartingHand(seat.getStartingHand());
+            player.setTeamNumber(seat.getTeam());
+            players.add(player.setPlayer(ai));
+        }
+
+        final GameRules rules = new GameRules(recorded.getGameType());
+        rules.setAppliedVariants(EnumSet.of(recorded.getGameType()));
+        rules.setGamesPerMatch(1);
+        rules.setHeadless(true);
+        rules.setRecordReplay(true);
+        rules.setReplayOf(recorded);
+        return new Match(rules, players, "Replay");
+    }
+
+    /**
+     * Plays the game again on the current thread.
+     * @return the replayed game, see {@link Game#getReplay()} for what happened in it.
+     */
+    public static Game replay(final GameReplay recorded) {
+        return replay(recorded, false);
+    }
+
+    public static Game replay(final GameReplay recorded, final boolean scriptAi) {
+        final Match match = createMatch(recorded, scriptAi);
+        final Game game = match.createGame();
+        match.startGame(game);
+        return game;
+    }
+}
@@ -1,19 +1,24 @@
 package forge.ai;
 
+import java.util.EnumSet;
 import java.util.Set;
 
 import forge.LobbyPlayer;
 import forge.game.Game;
+import forge.game.GameReplay;
 import forge.game.player.IGameEntitiesFactory;
 import forge.game.player.Player;
 import forge.game.player.PlayerController;
 
 public class LobbyPlayerAi extends LobbyPlayer implements IGameEntitiesFactory {
+    // how the AI players are written in the header of a GameReplay
+    private static final String REPLAY_CONTROLLER = "ai";
 
     private String aiProfile = "";
     private boolean rotateProfileEachGame;
     private boolean allowCheatShuffle;
     private boolean useSimulation;
+    private boolean scripted;
 
     public LobbyPlayerAi(String name, Set<AIOption> options) {
         super(name);
@@ -40,8 +45,17 @@ public class LobbyPlayerAi extends LobbyPlayer implements IGameEntitiesFactory {
         this.rotateProfileEachGame = rotateProfileEachGame;
     }
 
+    /**
+     * Makes the AI play the choices logged for its seat in the game it replays, see {@link ScriptedPlayerController}.
+     */
+    public void setScripted(boolean scripted) {
+        this.scripted = scripted;
+    }
+
     private PlayerControllerAi createControllerFor(Player ai) {
-        PlayerControllerAi result = new PlayerControllerAi(ai.getGame(), ai, this);
+        final Game game = ai.getGame();
+        PlayerControllerAi result = game.getReplay() != null ? new ScriptedPlayerController(game, ai, this, scripted)
+                : new PlayerControllerAi(game, ai, this);
         result.setUseSimulation(useSimulation);
         result.allowCheatShuffle(allowCheatShuffle);
         return result;
@@ -61,6 +75,55 @@ public class LobbyPlayerAi extends LobbyPlayer implements IGameEntitiesFactory {
             setAiProfile(AiProfileUtil.getRandomProfile());
             /*System.out.println(String.format("AI profile %s was chosen for the lobby player %s.", getAiProfile(), getName()));*/
         }
+        final GameReplay replay = game.getReplay();
+        if (replay != null) {
+            replay.setController(id, describe());
+        }
+        return ai;
+    }
+
+    private String describe() {
+        final StringBuilder sb = new StringBuilder(REPLAY_CONTROLLER);
+        if (!aiProfile.isEmpty()) {
+            sb.append(" profile=").append(aiProfile);
+        }
+        if (useSimulation) {
+            sb.append(" simulation");
+        }
+        if (allowCheatShuffle) {
+            sb.append(" cheatShuffle");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return an AI set up as the one a replayed game was recorded with, or null if that player wasn't an AI.
+     * @see GameReplay.Seat#getController()
+     */
+    public static LobbyPlayerAi fromReplay(final GameReplay.Seat seat) {
+        final String controller = seat.getController();
+        if (controller == null) {
+            return null;
+        }
+        final String[] words = controller.split(" ");
+        if (!REPLAY_CONTROLLER.equals(words[0])) {
+            return null;
+        }
+        final Set<AIOption> options = EnumSet.noneOf(AIOption.class);
+        String profile = "";
+        boolean cheatShuffle = false;
+        for (int i = 1; i < words.length; i++) {
+            if (words[i].startsWith("profile=")) {
+                profile = words[i].substring("profile=".length());
+            } else if ("simulation".equals(words[i])) {
+                options.add(AIOption.USE_SIMULATION);
+            } else if ("cheatShuffle".equals(words[i])) {
+                cheatShuffle = true;
+            }
+        }
+        final LobbyPlayerAi ai = new LobbyPlayerAi(seat.getName(), options);
+        ai.setAiProfile(profile);
+        ai.setAllowCheatShuffle(cheatShuffle);
         return ai;
     }
 
@@ -519,16 +519,20 @@ public class PlayerControllerAi extends PlayerController {
     public void playSpellAbilityForFree(SpellAbility copySA, boolean mayChooseNewTargets) {
         // Ai is known to set targets in doTrigger, so if it cannot choose new targets, we won't call canPlays
         if (mayChooseNewTargets) {
-            if (copySA instanceof Spell) {
-                Spell spell = (Spell) copySA;
-                ((PlayerControllerAi) player.getController()).getAi().canPlayFromEffectAI(spell, true, true);
-            } else {
-                getAi().canPlaySa(copySA);
-            }
+            chooseTargetsForFree(copySA);
         }
         ComputerUtil.playSpellAbilityForFree(player, copySA);
     }
 
+    protected void chooseTargetsForFree(SpellAbility copySA) {
+        if (copySA instanceof Spell) {
+            Spell spell = (Spell) copySA;
+            ((PlayerControllerAi) player.getController()).getAi().canPlayFromEffectAI(spell, true, true);
+        } else {
+            getAi().canPlaySa(copySA);
+        }
+    }
+
     @Override
     public void playSpellAbilityNoStack(SpellAbility effectSA, boolean canSetupTargets) {
         if (canSetupTargets)
@@ -1077,37 +1081,41 @@ public class PlayerControllerAi extends PlayerController {
     @Override
     public void orderAndPlaySimultaneousSa(List<SpellAbility> activePlayerSAs) {
         for (final SpellAbility sa : getAi().orderPlaySa(activePlayerSAs)) {
-            if (sa.isTrigger() && !sa.isCopied()) {
-                if (prepareSingleSa(sa.getHostCard(), sa, true)) {
-                    ComputerUtil.playStack(sa, player, getGame());
-                }
-            } else {
-                if (sa.isCopied()) {
-                    if (sa.isSpell()) {
-                        if (!sa.getHostCard().isInZone(ZoneType.Stack)) {
-                            sa.setHostCard(getGame().getAction().moveToStack(sa.getHostCard(), sa));
-                        } else {
-                            getGame().getStackZone().add(sa.getHostCard());
-                        }
+            playSimultaneousSa(sa);
+        }
+    }
+
+    protected void playSimultaneousSa(final SpellAbility sa) {
+        if (sa.isTrigger() && !sa.isCopied()) {
+            if (prepareSingleSa(sa.getHostCard(), sa, true)) {
+                ComputerUtil.playStack(sa, player, getGame());
+            }
+        } else {
+            if (sa.isCopied()) {
+                if (sa.isSpell()) {
+                    if (!sa.getHostCard().isInZone(ZoneType.Stack)) {
+                        sa.setHostCard(getGame().getAction().moveToStack(sa.getHostCard(), sa));
+                    } else {
+                        getGame().getStackZone().add(sa.getHostCard());
                     }
+                }
 
-                    if (sa.isMayChooseNewTargets()) {
-                        TargetChoices tc = sa.getTargets();
-                        if (!sa.setupTargets()) {
-                            // if AI can't choose targets need to keep old one even if illegal
-                            sa.setTargets(tc);
-                        }
-                        // FIXME: the new implementation (below) requires implementing setupNewTargets in the AI controller, among other possible changes, otherwise breaks AI
-                        // sa.setupNewTargets(player);
+                if (sa.isMayChooseNewTargets()) {
+                    TargetChoices tc = sa.getTargets();
+                    if (!sa.setupTargets()) {
+                        // if AI can't choose targets need to keep old one even if illegal
+                        sa.setTargets(tc);
                     }
+                    // FIXME: the new implementation (below) requires implementing setupNewTargets in the AI controller, among other possible changes, otherwise breaks AI
+                    // sa.setupNewTargets(player);
                 }
-                // need finally add the new spell to the stack
-                getGame().getStack().add(sa);
             }
+            // need finally add the new spell to the stack
+            getGame().getStack().add(sa);
         }
     }
 
-    private boolean prepareSingleSa(final Card host, final SpellAbility sa, boolean isMandatory) {
+    protected boolean prepareSingleSa(final Card host, final SpellAbility sa, boolean isMandatory) {
         if (sa.getApi() == ApiType.Charm) {
             return CharmEffect.makeChoices(sa);
         }
@@ -1130,22 +1138,28 @@ public class PlayerControllerAi extends PlayerController {
 
     @Override
     public boolean playSaFromPlayEffect(SpellAbility tgtSA) {
-        boolean optional = tgtSA.hasParam("Optional");
-        boolean noManaCost = tgtSA.hasParam("WithoutManaCost");
         if (tgtSA instanceof Spell) { // Isn't it ALWAYS a spell?
-            Spell spell = (Spell) tgtSA;
-            // TODO if mandatory AI is only forced to use mana when it's already in the pool
-            if (brains.canPlayFromEffectAI(spell, !optional, noManaCost) == AiPlayDecision.WillPlay || !optional) {
-                if (noManaCost) {
-                    return ComputerUtil.playSpellAbilityWithoutPayingManaCost(player, tgtSA, getGame());
-                }
-                return ComputerUtil.playStack(tgtSA, player, getGame());
+            if (willPlayFromEffect((Spell) tgtSA)) {
+                return playFromEffect(tgtSA);
             }
             return false; // didn't play spell
         }
         return true;
     }
 
+    protected boolean willPlayFromEffect(Spell spell) {
+        boolean optional = spell.hasParam("Optional");
+        // TODO if mandatory AI is only forced to use mana when it's already in the pool
+        return brains.canPlayFromEffectAI(spell, !optional, spell.hasParam("WithoutManaCost")) == AiPlayDecision.WillPlay || !optional;
+    }
+
+    protected boolean playFromEffect(SpellAbility tgtSA) {
+        if (tgtSA.hasParam("WithoutManaCost")) {
+            return ComputerUtil.playSpellAbilityWithoutPayingManaCost(player, tgtSA, getGame());
+        }
+        return ComputerUtil.playStack(tgtSA, player, getGame());
+    }
+
     @Override
     public boolean chooseTargetsFor(SpellAbility currentAbility) {
         return brains.doTrigger(currentAbility, true);
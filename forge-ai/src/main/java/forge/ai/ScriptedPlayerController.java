@@ -0,0 +1,760 @@
+package forge.ai;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import forge.LobbyPlayer;
+import forge.card.ColorSet;
+import forge.card.ICardFace;
+import forge.card.mana.ManaCost;
+import forge.card.mana.ManaCostShard;
+import forge.game.*;
+import forge.game.ability.ApiType;
+import forge.game.ability.effects.CharmEffect;
+import forge.game.card.*;
+import forge.game.combat.Combat;
+import forge.game.cost.Cost;
+import forge.game.cost.CostPart;
+import forge.game.keyword.KeywordInterface;
+import forge.game.mana.Mana;
+import forge.game.player.*;
+import forge.game.replacement.ReplacementEffect;
+import forge.game.spellability.*;
+import forge.game.staticability.StaticAbility;
+import forge.game.trigger.WrappedAbility;
+import forge.game.zone.ZoneType;
+import forge.util.collect.FCollectionView;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The controller of an AI player in a recorded game, which logs the choices of the player, see {@link PlayerChoiceLog}.
+ * <br><br>
+ * When scripted, it makes the choices logged for the player in the game played again instead, whoever made them, and
+ * only leaves to the AI what wasn't logged, e.g. how to pay mana costs, or what can't be chosen the same way because
+ * the game went another way.
+ */
+public class ScriptedPlayerController extends PlayerControllerAi {
+    private final PlayerChoiceLog log;
+    private final boolean scripted;
+
+    public ScriptedPlayerController(Game game, Player p, LobbyPlayer lp, boolean scripted) {
+        super(game, p, lp);
+        this.log = p.getChoiceLog();
+        this.scripted = scripted;
+    }
+
+    private <T> T choose(String name, Iterable<?> options, Supplier<T> ai, Function<Object, T> convert) {
+        return choose(name, options, ai, convert, Function.identity());
+    }
+
+    /**
+     * Makes the choice the way it was logged when scripted, else the way the AI does, and logs it.
+     * @param convert turns the logged choice back into what is returned
+     * @param chosen what to log of the choice
+     */
+    private <T> T choose(String name, Iterable<?> options, Supplier<T> ai, Function<Object, T> convert, Function<? super T, ?> chosen) {
+        final String value = scripted ? log.replay(name) : null;
+        return log.record(name, options, () -> {
+            if (value != null) {
+                try {
+                    return convert.apply(log.decode(value, options));
+                } catch (IllegalArgumentException | ClassCastException e) {
+                    // chosen in a game that went another way, leave it to the AI
+                }
+            }
+            return ai.get();
+        }, chosen);
+    }
+
+    /**
+     * Does what the player chose to do, again the way it was done when scripted, and logs its outcome.
+     * @param again does it given its logged outcome
+     * @param outcome what to log once it's done, as a list
+     */
+    private <T> T act(String name, Supplier<T> anew, Function<List<?>, T> again, Function<? super T, List<?>> outcome) {
+        if (!scripted) {
+            return log.act(name, anew, outcome);
+        }
+        return log.replayAction(name, value -> {
+            List<?> logged = null;
+            if (value != null) {
+                try {
+                    logged = (List<?>) log.decode(value, null);
+                } catch (IllegalArgumentException | ClassCastException e) {
+                    // done in a game that went another way
+                }
+            }
+            return logged != null ? again.apply(logged) : anew.get();
+        }, outcome);
+    }
+
+    private static Function<Object, Boolean> asBoolean() {
+        return Boolean.class::cast;
+    }
+
+    private static Function<Object, Integer> asInteger() {
+        return Integer.class::cast;
+    }
+
+    private static Function<Object, String> asString() {
+        return String.class::cast;
+    }
+
+    private static Function<Object, Byte> asByte() {
+        return value -> ((Integer) value).byteValue();
+    }
+
+    /** @return a function checking that what was chosen is among the options */
+    @SuppressWarnings("unchecked")
+    private static <T> Function<Object, T> among(final Iterable<? extends T> options) {
+        return value -> {
+            if (value != null && !Iterables.contains(options, value)) {
+                throw new IllegalArgumentException(value + " isn't an option");
+            }
+            return (T) value;
+        };
+    }
+
+    /** @return a function checking that all that was chosen is among the options, or of the given type without them */
+    private static <T> Function<Object, List<T>> allAmong(final Iterable<? extends T> options, final Class<T> type) {
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            final List<T> result = new ArrayList<>();
+            for (final Object o : (List<?>) value) {
+                result.add(options == null ? type.cast(o) : ScriptedPlayerController.<T>among(options).apply(o));
+            }
+            return result;
+        };
+    }
+
+    private static Function<Object, CardCollection> cardsAmong(final Iterable<Card> options) {
+        return value -> value == null ? null : new CardCollection(allAmong(options, Card.class).apply(value));
+    }
+
+    private static <K, V> Function<Object, Map<K, V>> mapOf(final Class<K> keyType, final Class<V> valueType) {
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            final Map<K, V> result = new HashMap<>();
+            for (final Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                result.put(keyType.cast(e.getKey()), valueType.cast(e.getValue()));
+            }
+            return result;
+        };
+    }
+
+    private Function<Object, ImmutablePair<CardCollection, CardCollection>> piles(final CardCollection topN) {
+        return value -> {
+            final Pair<?, ?> pair = (Pair<?, ?>) value;
+            return ImmutablePair.of(cardsAmong(topN).apply(pair.getLeft()), cardsAmong(topN).apply(pair.getRight()));
+        };
+    }
+
+    @Override
+    public Map<Card, Integer> assignCombatDamage(Card attacker, CardCollectionView blockers, CardCollectionView remaining, int damageDealt, GameEntity defender, boolean overrideOrder) {
+        return choose("assignCombatDamage", blockers, () -> super.assignCombatDamage(attacker, blockers, remaining, damageDealt, defender, overrideOrder),
+                mapOf(Card.class, Integer.class));
+    }
+
+    @Override
+    public Map<GameEntity, Integer> divideShield(Card effectSource, Map<GameEntity, Integer> affected, int shieldAmount) {
+        return choose("divideShield", affected.keySet(), () -> super.divideShield(effectSource, affected, shieldAmount),
+                mapOf(GameEntity.class, Integer.class));
+    }
+
+    @Override
+    public Map<Byte, Integer> specifyManaCombo(SpellAbility sa, ColorSet colorSet, int manaAmount, boolean different) {
+        return choose("specifyManaCombo", null, () -> super.specifyManaCombo(sa, colorSet, manaAmount, different), value -> {
+            final Map<Byte, Integer> result = new HashMap<>();
+            for (final Map.Entry<Integer, Integer> e : mapOf(Integer.class, Integer.class).apply(value).entrySet()) {
+                result.put(e.getKey().byteValue(), e.getValue());
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public Integer announceRequirements(SpellAbility ability, String announce) {
+        return choose("announceRequirements", null, () -> super.announceRequirements(ability, announce), asInteger());
+    }
+
+    @Override
+    public CardCollectionView choosePermanentsToSacrifice(SpellAbility sa, int min, int max, CardCollectionView validTargets, String message) {
+        return choose("choosePermanentsToSacrifice", validTargets, () -> super.choosePermanentsToSacrifice(sa, min, max, validTargets, message),
+                cardsAmong(validTargets)::apply);
+    }
+
+    @Override
+    public CardCollectionView choosePermanentsToDestroy(SpellAbility sa, int min, int max, CardCollectionView validTargets, String message) {
+        return choose("choosePermanentsToDestroy", validTargets, () -> super.choosePermanentsToDestroy(sa, min, max, validTargets, message),
+                cardsAmong(validTargets)::apply);
+    }
+
+    @Override
+    public CardCollectionView chooseCardsForEffect(CardCollectionView sourceList, SpellAbility sa, String title, int min, int max, boolean isOptional, Map<String, Object> params) {
+        return choose("chooseCardsForEffect", sourceList, () -> super.chooseCardsForEffect(sourceList, sa, title, min, max, isOptional, params),
+                cardsAmong(sourceList)::apply);
+    }
+
+    @Override
+    public <T extends GameEntity> T chooseSingleEntityForEffect(FCollectionView<T> optionList, DelayedReveal delayedReveal, SpellAbility sa, String title, boolean isOptional, Player targetedPlayer, Map<String, Object> params) {
+        return choose("chooseSingleEntityForEffect", optionList,
+                () -> super.chooseSingleEntityForEffect(optionList, delayedReveal, sa, title, isOptional, targetedPlayer, params), among(optionList));
+    }
+
+    @Override
+    public <T extends GameEntity> List<T> chooseEntitiesForEffect(FCollectionView<T> optionList, int min, int max, DelayedReveal delayedReveal, SpellAbility sa, String title, Player targetedPlayer, Map<String, Object> params) {
+        return choose("chooseEntitiesForEffect", optionList,
+                () -> super.chooseEntitiesForEffect(optionList, min, max, delayedReveal, sa, title, targetedPlayer, params), value -> {
+                    final List<T> result = new ArrayList<>();
+                    for (final Object o : (List<?>) value) {
+                        result.add(ScriptedPlayerController.<T>among(optionList).apply(o));
+                    }
+                    return result;
+                });
+    }
+
+    @Override
+    public List<SpellAbility> chooseSpellAbilitiesForEffect(List<SpellAbility> spells, SpellAbility sa, String title, int num, Map<String, Object> params) {
+        return choose("chooseSpellAbilitiesForEffect", spells, () -> super.chooseSpellAbilitiesForEffect(spells, sa, title, num, params),
+                allAmong(spells, SpellAbility.class));
+    }
+
+    @Override
+    public SpellAbility chooseSingleSpellForEffect(List<SpellAbility> spells, SpellAbility sa, String title, Map<String, Object> params) {
+        return choose("chooseSingleSpellForEffect", spells, () -> super.chooseSingleSpellForEffect(spells, sa, title, params), among(spells));
+    }
+
+    @Override
+    public boolean confirmAction(SpellAbility sa, PlayerActionConfirmMode mode, String message, List<String> options, Card cardToShow, Map<String, Object> params) {
+        return choose("confirmAction", null, () -> super.confirmAction(sa, mode, message, options, cardToShow, params), asBoolean());
+    }
+
+    @Override
+    public boolean confirmBidAction(SpellAbility sa, PlayerActionConfirmMode mode, String string, int bid, Player winner) {
+        return choose("confirmBidAction", null, () -> super.confirmBidAction(sa, mode, string, bid, winner), asBoolean());
+    }
+
+    @Override
+    public boolean confirmStaticApplication(Card hostCard, PlayerActionConfirmMode mode, String message, String logic) {
+        return choose("confirmStaticApplication", null, () -> super.confirmStaticApplication(hostCard, mode, message, logic), asBoolean());
+    }
+
+    @Override
+    public boolean confirmTrigger(WrappedAbility wrapper) {
+        return choose("confirmTrigger", null, () -> super.confirmTrigger(wrapper), asBoolean());
+    }
+
+    @Override
+    public Player chooseStartingPlayer(boolean isFirstgame) {
+        return choose("chooseStartingPlayer", null, () -> super.chooseStartingPlayer(isFirstgame), Player.class::cast);
+    }
+
+    @Override
+    public CardCollection orderBlockers(Card attacker, CardCollection blockers) {
+        return choose("orderBlockers", blockers, () -> super.orderBlockers(attacker, blockers), cardsAmong(blockers));
+    }
+
+    @Override
+    public List<Card> exertAttackers(List<Card> attackers) {
+        return choose("exertAttackers", attackers, () -> super.exertAttackers(attackers), allAmong(attackers, Card.class));
+    }
+
+    @Override
+    public List<Card> enlistAttackers(List<Card> attackers) {
+        return choose("enlistAttackers", attackers, () -> super.enlistAttackers(attackers), allAmong(attackers, Card.class));
+    }
+
+    @Override
+    public CardCollection orderBlocker(Card attacker, Card blocker, CardCollection oldBlockers) {
+        final CardCollection options = new CardCollection(oldBlockers);
+        options.add(blocker);
+        return choose("orderBlocker", options, () -> super.orderBlocker(attacker, blocker, oldBlockers), cardsAmong(options));
+    }
+
+    @Override
+    public CardCollection orderAttackers(Card blocker, CardCollection attackers) {
+        return choose("orderAttackers", attackers, () -> super.orderAttackers(blocker, attackers), cardsAmong(attackers));
+    }
+
+    @Override
+    public ImmutablePair<CardCollection, CardCollection> arrangeForScry(CardCollection topN) {
+        return choose("arrangeForScry", topN, () -> super.arrangeForScry(topN), piles(topN));
+    }
+
+    @Override
+    public ImmutablePair<CardCollection, CardCollection> arrangeForSurveil(CardCollection topN) {
+        return choose("arrangeForSurveil", topN, () -> super.arrangeForSurveil(topN), piles(topN));
+    }
+
+    @Override
+    public boolean willPutCardOnTop(Card c) {
+        return choose("willPutCardOnTop", null, () -> super.willPutCardOnTop(c), asBoolean());
+    }
+
+    @Override
+    public CardCollectionView orderMoveToZoneList(CardCollectionView cards, ZoneType destinationZone, SpellAbility source) {
+        return choose("orderMoveToZoneList", cards, () -> super.orderMoveToZoneList(cards, destinationZone, source), cardsAmong(cards)::apply);
+    }
+
+    @Override
+    public CardCollection chooseCardsToDiscardFrom(Player p, SpellAbility sa, CardCollection validCards, int min, int max) {
+        return choose("chooseCardsToDiscardFrom", validCards, () -> super.chooseCardsToDiscardFrom(p, sa, validCards, min, max), cardsAmong(validCards));
+    }
+
+    @Override
+    public CardCollectionView chooseCardsToDelve(int genericAmount, CardCollection grave) {
+        return choose("chooseCardsToDelve", grave, () -> super.chooseCardsToDelve(genericAmount, grave), cardsAmong(grave)::apply);
+    }
+
+    @Override
+    public CardCollectionView chooseCardsToDiscardUnlessType(int num, CardCollectionView hand, String uType, SpellAbility sa) {
+        return choose("chooseCardsToDiscardUnlessType", hand, () -> super.chooseCardsToDiscardUnlessType(num, hand, uType, sa), cardsAmong(hand)::apply);
+    }
+
+    @Override
+    public Mana chooseManaFromPool(List<Mana> manaChoices) {
+        return choose("chooseManaFromPool", manaChoices, () -> super.chooseManaFromPool(manaChoices), among(manaChoices));
+    }
+
+    @Override
+    public String chooseSomeType(String kindOfType, SpellAbility sa, Collection<String> validTypes, List<String> invalidTypes, boolean isOptional) {
+        return choose("chooseSomeType", validTypes, () -> super.chooseSomeType(kindOfType, sa, validTypes, invalidTypes, isOptional), asString());
+    }
+
+    @Override
+    public Object vote(SpellAbility sa, String prompt, List<Object> options, ListMultimap<Object, Player> votes, Player forPlayer) {
+        return choose("vote", options, () -> super.vote(sa, prompt, options, votes, forPlayer), among(options));
+    }
+
+    @Override
+    public String chooseSector(Card assignee, String ai, List<String> sectors) {
+        return choose("chooseSector", sectors, () -> super.chooseSector(assignee, ai, sectors), among(sectors));
+    }
+
+    @Override
+    public PlanarDice choosePDRollToIgnore(List<PlanarDice> rolls) {
+        return choose("choosePDRollToIgnore", rolls, () -> super.choosePDRollToIgnore(rolls), among(rolls));
+    }
+
+    @Override
+    public Integer chooseRollToIgnore(List<Integer> rolls) {
+        return choose("chooseRollToIgnore", rolls, () -> super.chooseRollToIgnore(rolls), among(rolls));
+    }
+
+    @Override
+    public boolean mulliganKeepHand(Player firstPlayer, int cardsToReturn) {
+        return choose("mulliganKeepHand", null, () -> super.mulliganKeepHand(firstPlayer, cardsToReturn), asBoolean());
+    }
+
+    @Override
+    public CardCollectionView londonMulliganReturnCards(final Player mulliganingPlayer, int cardsToReturn) {
+        final CardCollectionView hand = mulliganingPlayer.getCardsIn(ZoneType.Hand);
+        return choose("londonMulliganReturnCards", hand, () -> super.londonMulliganReturnCards(mulliganingPlayer, cardsToReturn),
+                cardsAmong(hand)::apply);
+    }
+
+    @Override
+    public void declareAttackers(Player attacker, Combat combat) {
+        choose("declareAttackers", null, () -> {
+            super.declareAttackers(attacker, combat);
+            return combat;
+        }, value -> {
+            final List<Pair<Card, GameEntity>> attacks = new ArrayList<>();
+            for (final Object o : (List<?>) value) {
+                final Pair<?, ?> attack = (Pair<?, ?>) o;
+                attacks.add(Pair.of((Card) attack.getLeft(), (GameEntity) attack.getRight()));
+            }
+            for (final Pair<Card, GameEntity> attack : attacks) {
+                combat.addAttacker(attack.getLeft(), attack.getRight());
+            }
+            return combat;
+        }, PlayerChoiceLog::attacksOf);
+    }
+
+    @Override
+    public void declareBlockers(Player defender, Combat combat) {
+        choose("declareBlockers", null, () -> {
+            super.declareBlockers(defender, combat);
+            return combat;
+        }, value -> {
+            final List<Pair<Card, Card>> blocks = new ArrayList<>();
+            for (final Object o : (List<?>) value) {
+                final Pair<?, ?> block = (Pair<?, ?>) o;
+                blocks.add(Pair.of((Card) block.getLeft(), (Card) block.getRight()));
+            }
+            for (final Pair<Card, Card> block : blocks) {
+                combat.addBlocker(block.getRight(), block.getLeft());
+            }
+            return combat;
+        }, c -> PlayerChoiceLog.blocksOf(c, defender));
+    }
+
+    @Override
+    public List<SpellAbility> chooseSpellAbilityToPlay() {
+        return choose("chooseSpellAbilityToPlay", null, super::chooseSpellAbilityToPlay, value -> {
+            if (value == null) {
+                return null;
+            }
+            final List<SpellAbility> result = new ArrayList<>();
+            for (final Object key : (List<?>) value) {
+                if (key == null) {
+                    throw new IllegalArgumentException("Chosen to play what can't be played again");
+                }
+                result.add(log.fromKey((List<?>) key));
+            }
+            return result;
+        }, log::keysOf);
+    }
+
+    @Override
+    public boolean playChosenSpellAbility(SpellAbility sa) {
+        return act("playChosenSpellAbility", () -> super.playChosenSpellAbility(sa), outcome -> {
+            if (!Boolean.TRUE.equals(outcome.get(0))) {
+                return false;
+            }
+            SpellAbility playing = sa;
+            final List<OptionalCostValue> optionalCosts = GameActionUtil.getOptionalCostValues(sa);
+            if (Iterables.isEmpty(sa.getOptionalCosts()) && !optionalCosts.isEmpty()) {
+                // chosen while playing it, when it isn't chosen with the spell
+                playing = GameActionUtil.addOptionalCosts(sa, choose("chooseOptionalCosts", optionalCosts,
+                        Collections::<OptionalCostValue>emptyList, allAmong(optionalCosts, OptionalCostValue.class)));
+            }
+            if (outcome.get(1) != null) {
+                playing.setXManaCostPaid((Integer) outcome.get(1));
+            }
+            if (playing instanceof LandAbility) {
+                if (playing.canPlay()) {
+                    playing.resolve();
+                }
+            } else {
+                final SpellAbility toPlay = playing;
+                ComputerUtil.handlePlayingSpellAbility(player, toPlay, getGame(), () -> PlayerChoiceLog.setTargets(toPlay, (List<?>) outcome.get(2)));
+            }
+            return true;
+        }, played -> PlayerChoiceLog.outcomeOf(played, PlayerChoiceLog.onStack(sa)));
+    }
+
+    @Override
+    public CardCollection chooseCardsToDiscardToMaximumHandSize(int numDiscard) {
+        final CardCollectionView hand = player.getCardsIn(ZoneType.Hand);
+        return choose("chooseCardsToDiscardToMaximumHandSize", hand, () -> super.chooseCardsToDiscardToMaximumHandSize(numDiscard), cardsAmong(hand));
+    }
+
+    @Override
+    public CardCollection chooseCardsToRevealFromHand(int min, int max, CardCollectionView valid) {
+        return choose("chooseCardsToRevealFromHand", valid, () -> super.chooseCardsToRevealFromHand(min, max, valid), cardsAmong(valid));
+    }
+
+    @Override
+    public boolean payManaOptional(Card c, Cost cost, SpellAbility sa, String prompt, ManaPaymentPurpose purpose) {
+        return act("payManaOptional", () -> super.payManaOptional(c, cost, sa, prompt, purpose),
+                outcome -> Boolean.TRUE.equals(outcome.get(0)) && super.payManaOptional(c, cost, sa, prompt, purpose), Collections::singletonList);
+    }
+
+    @Override
+    public List<SpellAbility> chooseSaToActivateFromOpeningHand(List<SpellAbility> usableFromOpeningHand) {
+        return choose("chooseSaToActivateFromOpeningHand", usableFromOpeningHand, () -> super.chooseSaToActivateFromOpeningHand(usableFromOpeningHand),
+                allAmong(usableFromOpeningHand, SpellAbility.class));
+    }
+
+    @Override
+    public int chooseNumber(SpellAbility sa, String title, int min, int max) {
+        return choose("chooseNumber", null, () -> super.chooseNumber(sa, title, min, max), asInteger());
+    }
+
+    @Override
+    public int chooseNumber(SpellAbility sa, String string, int min, int max, Map<String, Object> params) {
+        return choose("chooseNumber", null, () -> super.chooseNumber(sa, string, min, max, params), asInteger());
+    }
+
+    @Override
+    public int chooseNumber(SpellAbility sa, String title, List<Integer> options, Player relatedPlayer) {
+        return choose("chooseNumber", null, () -> super.chooseNumber(sa, title, options, relatedPlayer), asInteger());
+    }
+
+    @Override
+    public boolean chooseFlipResult(SpellAbility sa, Player flipper, boolean[] results, boolean call) {
+        return choose("chooseFlipResult", null, () -> super.chooseFlipResult(sa, flipper, results, call), asBoolean());
+    }
+
+    @Override
+    public Pair<SpellAbilityStackInstance, GameObject> chooseTarget(SpellAbility saSrc, List<Pair<SpellAbilityStackInstance, GameObject>> allTargets) {
+        return choose("chooseTarget", allTargets, () -> super.chooseTarget(saSrc, allTargets), among(allTargets));
+    }
+
+    @Override
+    public boolean chooseBinary(SpellAbility sa, String question, BinaryChoiceType kindOfChoice, Boolean defaultVal) {
+        return choose("chooseBinary", null, () -> super.chooseBinary(sa, question, kindOfChoice, defaultVal), asBoolean());
+    }
+
+    @Override
+    public boolean chooseBinary(SpellAbility sa, String question, BinaryChoiceType kindOfChoice, Map<String, Object> params) {
+        return choose("chooseBinary", null, () -> super.chooseBinary(sa, question, kindOfChoice, params), asBoolean());
+    }
+
+    @Override
+    public List<AbilitySub> chooseModeForAbility(SpellAbility sa, List<AbilitySub> possible, int min, int num, boolean allowRepeat) {
+        return choose("chooseModeForAbility", possible, () -> super.chooseModeForAbility(sa, possible, min, num, allowRepeat),
+                allAmong(possible, AbilitySub.class));
+    }
+
+    @Override
+    public byte chooseColorAllowColorless(String message, Card card, ColorSet colors) {
+        return choose("chooseColorAllowColorless", null, () -> super.chooseColorAllowColorless(message, card, colors), asByte());
+    }
+
+    @Override
+    public byte chooseColor(String message, SpellAbility sa, ColorSet colors) {
+        return choose("chooseColor", null, () -> super.chooseColor(message, sa, colors), asByte());
+    }
+
+    @Override
+    public List<String> chooseColors(String message, SpellAbility sa, int min, int max, List<String> options) {
+        return choose("chooseColors", options, () -> super.chooseColors(message, sa, min, max, options), allAmong(options, String.class));
+    }
+
+    @Override
+    public CounterType chooseCounterType(List<CounterType> options, SpellAbility sa, String prompt, Map<String, Object> params) {
+        return choose("chooseCounterType", options, () -> super.chooseCounterType(options, sa, prompt, params), among(options));
+    }
+
+    @Override
+    public String chooseKeywordForPump(final List<String> options, final SpellAbility sa, final String prompt, final Card tgtCard) {
+        return choose("chooseKeywordForPump", options, () -> super.chooseKeywordForPump(options, sa, prompt, tgtCard), among(options));
+    }
+
+    @Override
+    public boolean confirmPayment(CostPart costPart, String prompt, SpellAbility sa) {
+        return choose("confirmPayment", null, () -> super.confirmPayment(costPart, prompt, sa), asBoolean());
+    }
+
+    @Override
+    public boolean confirmReplacementEffect(ReplacementEffect replacementEffect, SpellAbility effectSA, GameEntity affected, String question) {
+        return choose("confirmReplacementEffect", null, () -> super.confirmReplacementEffect(replacementEffect, effectSA, affected, question), asBoolean());
+    }
+
+    @Override
+    public ReplacementEffect chooseSingleReplacementEffect(String prompt, List<ReplacementEffect> possibleReplacers) {
+        return choose("chooseSingleReplacementEffect", possibleReplacers, () -> super.chooseSingleReplacementEffect(prompt, possibleReplacers),
+                among(possibleReplacers));
+    }
+
+    @Override
+    public StaticAbility chooseSingleStaticAbility(String prompt, List<StaticAbility> possibleStatics) {
+        return choose("chooseSingleStaticAbility", possibleStatics, () -> super.chooseSingleStaticAbility(prompt, possibleStatics), among(possibleStatics));
+    }
+
+    @Override
+    public String chooseProtectionType(String string, SpellAbility sa, List<String> choices) {
+        return choose("chooseProtectionType", choices, () -> super.chooseProtectionType(string, sa, choices), among(choices));
+    }
+
+    @Override
+    public boolean payCostToPreventEffect(Cost cost, SpellAbility sa, boolean alreadyPaid, FCollectionView<Player> allPayers) {
+        return act("payCostToPreventEffect", () -> super.payCostToPreventEffect(cost, sa, alreadyPaid, allPayers),
+                outcome -> Boolean.TRUE.equals(outcome.get(0)) && super.payCostToPreventEffect(cost, sa, alreadyPaid, allPayers), Collections::singletonList);
+    }
+
+    @Override
+    public void playSpellAbilityForFree(SpellAbility copySA, boolean mayChooseNewTargets) {
+        act("playSpellAbilityForFree", () -> {
+            super.playSpellAbilityForFree(copySA, mayChooseNewTargets);
+            return copySA;
+        }, outcome -> {
+            if (mayChooseNewTargets) {
+                PlayerChoiceLog.setTargets(copySA, outcome);
+            }
+            ComputerUtil.playSpellAbilityForFree(player, copySA);
+            return copySA;
+        }, PlayerChoiceLog::targetsOf);
+    }
+
+    @Override
+    protected void chooseTargetsForFree(SpellAbility copySA) {
+        log.decide(() -> {
+            super.chooseTargetsForFree(copySA);
+            return null;
+        });
+    }
+
+    @Override
+    public void playSpellAbilityNoStack(SpellAbility effectSA, boolean canSetupTargets) {
+        act("playSpellAbilityNoStack", () -> {
+            if (canSetupTargets) {
+                log.decide(() -> getAi().doTrigger(effectSA, true));
+            }
+            ComputerUtil.playNoStack(player, effectSA, getGame(), true);
+            return effectSA;
+        }, outcome -> {
+            if (canSetupTargets) {
+                PlayerChoiceLog.setTargets(effectSA, outcome);
+            }
+            ComputerUtil.playNoStack(player, effectSA, getGame(), true);
+            return effectSA;
+        }, PlayerChoiceLog::targetsOf);
+    }
+
+    @Override
+    public void orderAndPlaySimultaneousSa(List<SpellAbility> activePlayerSAs) {
+        act("orderAndPlaySimultaneousSa", () -> {
+            for (final SpellAbility sa : log.decide(() -> getAi().orderPlaySa(activePlayerSAs))) {
+                playSimultaneousSa(sa);
+            }
+            return activePlayerSAs;
+        }, outcome -> {
+            for (final Object o : outcome) {
+                final List<?> stacked = (List<?>) o;
+                final SpellAbility sa = activePlayerSAs.get((Integer) stacked.get(0));
+                if (sa.isTrigger() && !sa.isCopied()) {
+                    if (sa.getApi() == ApiType.Charm) {
+                        CharmEffect.makeChoices(sa);
+                    }
+                    PlayerChoiceLog.setTargets(sa, (List<?>) stacked.get(1));
+                    ComputerUtil.playStack(sa, player, getGame());
+                } else {
+                    playSimultaneousSa(sa);
+                }
+            }
+            return activePlayerSAs;
+        }, sas -> PlayerChoiceLog.stackedOutcome(getGame(), sas));
+    }
+
+    @Override
+    protected boolean prepareSingleSa(final Card host, final SpellAbility sa, boolean isMandatory) {
+        if (sa.getApi() == ApiType.Charm || sa.hasParam("TargetingPlayer")) {
+            // the modes, or the targets of another player, are choices to log
+            return super.prepareSingleSa(host, sa, isMandatory);
+        }
+        return log.decide(() -> super.prepareSingleSa(host, sa, isMandatory));
+    }
+
+    @Override
+    public boolean playTrigger(Card host, WrappedAbility wrapperAbility, boolean isMandatory) {
+        return act("playTrigger", () -> super.playTrigger(host, wrapperAbility, isMandatory), outcome -> {
+            if (!Boolean.TRUE.equals(outcome.get(0))) {
+                return false;
+            }
+            if (wrapperAbility.getApi() == ApiType.Charm) {
+                CharmEffect.makeChoices(wrapperAbility);
+            }
+            PlayerChoiceLog.setTargets(wrapperAbility, (List<?>) outcome.get(1));
+            return ComputerUtil.playNoStack(wrapperAbility.getActivatingPlayer(), wrapperAbility, getGame(), true);
+        }, played -> Lists.newArrayList(played, PlayerChoiceLog.targetsOf(wrapperAbility)));
+    }
+
+    @Override
+    public boolean playSaFromPlayEffect(SpellAbility tgtSA) {
+        return act("playSaFromPlayEffect", () -> super.playSaFromPlayEffect(tgtSA), outcome -> {
+            if (!Boolean.TRUE.equals(outcome.get(0))) {
+                return false;
+            }
+            if (outcome.get(1) != null) {
+                tgtSA.setXManaCostPaid((Integer) outcome.get(1));
+            }
+            PlayerChoiceLog.setTargets(tgtSA, (List<?>) outcome.get(2));
+            return !(tgtSA instanceof Spell) || playFromEffect(tgtSA);
+        }, played -> PlayerChoiceLog.outcomeOf(played, tgtSA));
+    }
+
+    @Override
+    protected boolean willPlayFromEffect(Spell spell) {
+        return log.decide(() -> super.willPlayFromEffect(spell));
+    }
+
+    @Override
+    public boolean chooseTargetsFor(SpellAbility currentAbility) {
+        return choose("chooseTargetsFor", null, () -> super.chooseTargetsFor(currentAbility), value -> {
+            final List<?> chosen = (List<?>) value;
+            PlayerChoiceLog.setTargets(currentAbility, (List<?>) chosen.get(1));
+            return (Boolean) chosen.get(0);
+        }, chosen -> Lists.newArrayList(chosen, PlayerChoiceLog.targetsOf(currentAbility)));
+    }
+
+    @Override
+    public TargetChoices chooseNewTargetsFor(SpellAbility ability, Predicate<GameObject> filter, boolean optional) {
+        return choose("chooseNewTargetsFor", null, () -> super.chooseNewTargetsFor(ability, filter, optional), value -> {
+            if (value == null) {
+                return null;
+            }
+            final TargetChoices result = new TargetChoices();
+            for (final Object o : (List<?>) value) {
+                result.add((GameObject) o);
+            }
+            return result;
+        }, chosen -> chosen == null ? null : Lists.newArrayList(chosen));
+    }
+
+    @Override
+    public boolean chooseCardsPile(SpellAbility sa, CardCollectionView pile1, CardCollectionView pile2, String faceUp) {
+        return choose("chooseCardsPile", null, () -> super.chooseCardsPile(sa, pile1, pile2, faceUp), asBoolean());
+    }
+
+    @Override
+    public Map<Card, ManaCostShard> chooseCardsForConvokeOrImprovise(SpellAbility sa, ManaCost manaCost, CardCollectionView untappedCards, boolean improvise) {
+        return choose("chooseCardsForConvokeOrImprovise", untappedCards, () -> super.chooseCardsForConvokeOrImprovise(sa, manaCost, untappedCards, improvise),
+                mapOf(Card.class, ManaCostShard.class));
+    }
+
+    @Override
+    public String chooseCardName(SpellAbility sa, Predicate<ICardFace> cpp, String valid, String message) {
+        return choose("chooseCardName", null, () -> super.chooseCardName(sa, cpp, valid, message), asString());
+    }
+
+    @Override
+    public String chooseCardName(SpellAbility sa, List<ICardFace> faces, String message) {
+        return choose("chooseCardName", null, () -> super.chooseCardName(sa, faces, message), asString());
+    }
+
+    @Override
+    public Card chooseSingleCardForZoneChange(ZoneType destination, List<ZoneType> origin, SpellAbility sa, CardCollection fetchList, DelayedReveal delayedReveal, String selectPrompt, boolean isOptional, Player decider) {
+        return choose("chooseSingleCardForZoneChange", fetchList,
+                () -> super.chooseSingleCardForZoneChange(destination, origin, sa, fetchList, delayedReveal, selectPrompt, isOptional, decider), among(fetchList));
+    }
+
+    @Override
+    public List<Card> chooseCardsForZoneChange(ZoneType destination, List<ZoneType> origin, SpellAbility sa, CardCollection fetchList, int min, int max, DelayedReveal delayedReveal, String selectPrompt, Player decider) {
+        return choose("chooseCardsForZoneChange", fetchList,
+                () -> super.chooseCardsForZoneChange(destination, origin, sa, fetchList, min, max, delayedReveal, selectPrompt, decider), allAmong(fetchList, Card.class));
+    }
+
+    @Override
+    public List<Card> chooseCardsForSplice(SpellAbility sa, List<Card> cards) {
+        return choose("chooseCardsForSplice", cards, () -> super.chooseCardsForSplice(sa, cards), allAmong(cards, Card.class));
+    }
+
+    @Override
+    public List<OptionalCostValue> chooseOptionalCosts(SpellAbility chosen, List<OptionalCostValue> optionalCostValues) {
+        return choose("chooseOptionalCosts", optionalCostValues, () -> super.chooseOptionalCosts(chosen, optionalCostValues),
+                allAmong(optionalCostValues, OptionalCostValue.class));
+    }
+
+    @Override
+    public boolean confirmMulliganScry(Player p) {
+        return choose("confirmMulliganScry", null, () -> super.confirmMulliganScry(p), asBoolean());
+    }
+
+    @Override
+    public int chooseNumberForKeywordCost(SpellAbility sa, Cost cost, KeywordInterface keyword, String prompt, int max) {
+        return choose("chooseNumberForKeywordCost", null, () -> super.chooseNumberForKeywordCost(sa, cost, keyword, prompt, max), asInteger());
+    }
+
+    @Override
+    public int chooseNumberForCostReduction(final SpellAbility sa, final int min, final int max) {
+        return choose("chooseNumberForCostReduction", null, () -> super.chooseNumberForCostReduction(sa, min, max), asInteger());
+    }
+
+    @Override
+    public CardCollection chooseCardsForEffectMultiple(Map<String, CardCollection> validMap, SpellAbility sa, String title, boolean isOptional) {
+        return choose("chooseCardsForEffectMultiple", null, () -> super.chooseCardsForEffectMultiple(validMap, sa, title, isOptional), cardsAmong(null));
+    }
+}
@@ -320,7 +320,7 @@ public class SpecialCardAi {
             best = ComputerUtilCard.getBestCreatureAI(cardlist);
             if (best == null) {
                 // If nothing on the battlefield has a nonmana ability choose something
-                Collections.shuffle(cardlist);
+                Collections.shuffle(cardlist, MyRandom.getRandom());
                 best = cardlist.getFirst();
             }
 
@@ -633,7 +633,7 @@ public class SpecialCardAi {
                 return false;
             }
 
-            CardCollection oppList = CardLists.filter(ai.getGame().getCardsIn(ZoneType.Battlefield),
+            CardCollection oppList = CardLists.filter(ai.getGame().viewCardsIn(ZoneType.Battlefield),
                     CardPredicates.Presets.CREATURES, CardPredicates.isControlledByAnyOf(ai.getOpponents()));
 
             oppList = CardLists.filterPower(oppList, lowest.getNetPower() + 1);
@@ -1158,7 +1158,7 @@ public class SpecialCardAi {
             }
 
             // TODO: Any other bad effects like that?
-            boolean blackViseOTB = Iterables.any(game.getCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals("Black Vise"));
+            boolean blackViseOTB = Iterables.any(game.viewCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals("Black Vise"));
 
             if (ph.getNextTurn().equals(ai) && ph.is(PhaseType.MAIN2)
                     && ai.getSpellsCastLastTurn() == 0 
@@ -1772,7 +1772,7 @@ public class SpecialCardAi {
             Card single = null;
             for (int i = 0; i < loyalty; i++) {
                 sa.setXManaCostPaid(i);
-                oppType = CardLists.filterControlledBy(game.getCardsIn(origin), ai.getOpponents());
+                oppType = CardLists.filterControlledBy(game.viewCardsIn(origin), ai.getOpponents());
                 oppType = AbilityUtils.filterListByType(oppType, sa.getParam("ChangeType"), sa);
                 computerType = AbilityUtils.filterListByType(ai.getCardsIn(origin), sa.getParam("ChangeType"), sa);
                 int net = ComputerUtilCard.evaluatePermanentList(oppType) - ComputerUtilCard.evaluatePermanentList(computerType) - i;
@@ -1829,7 +1829,7 @@ public class SpecialCardAi {
             int maxHandSize = ai.getMaxHandSize();
 
             // TODO: Any other bad effects like that?
-            boolean blackViseOTB = Iterables.any(game.getCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals("Black Vise"));
+            boolean blackViseOTB = Iterables.any(game.viewCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals("Black Vise"));
 
             // TODO: Consider effects like "whenever a player draws a card, he loses N life" (e.g. Nekusar, the Mindraiser),
             //       and effects that draw an additional card whenever a card is drawn.
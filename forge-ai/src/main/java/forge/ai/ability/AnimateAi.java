@@ -282,7 +282,7 @@ public class AnimateAi extends SpellAbilityAi {
         // something is used for animate into creature
         if (types.isCreature()) {
             final Game game = ai.getGame();
-            CardCollection list = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+            CardCollection list = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
 
             // Filter AI-specific targets if provided
             list = ComputerUtil.filterAITgts(sa, ai, list, false);
@@ -402,7 +402,7 @@ public class AnimateAi extends SpellAbilityAi {
         if (logic.equals("ValuableAttackerOrBlocker")) {
             if (ph.inCombat()) {
                 final Combat combat = ph.getCombat();
-                CardCollection list = CardLists.getTargetableCards(ai.getGame().getCardsIn(ZoneType.Battlefield), sa);
+                CardCollection list = CardLists.getTargetableCards(ai.getGame().viewCardsIn(ZoneType.Battlefield), sa);
                 for (Card c : list) {
                     Card animated = becomeAnimated(c, sa);
                     boolean isValuableAttacker = ph.is(PhaseType.MAIN1, ai) && ComputerUtilCard.doesSpecifiedCreatureAttackAI(ai, animated);
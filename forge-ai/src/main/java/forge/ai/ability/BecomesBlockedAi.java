@@ -28,7 +28,7 @@ public class BecomesBlockedAi extends SpellAbilityAi {
 
         if (tgt != null) {
         	sa.resetTargets();
-	        CardCollection list = CardLists.filterControlledBy(game.getCardsIn(ZoneType.Battlefield), aiPlayer.getOpponents());
+	        CardCollection list = CardLists.filterControlledBy(game.viewCardsIn(ZoneType.Battlefield), aiPlayer.getOpponents());
 	        list = CardLists.getTargetableCards(list, sa);
 	        list = CardLists.getNotKeyword(list, Keyword.TRAMPLE);
 
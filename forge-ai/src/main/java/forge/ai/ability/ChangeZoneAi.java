@@ -111,7 +111,7 @@ public class ChangeZoneAi extends SpellAbilityAi {
             } else if (sa.hasParam("TgtZone")) {
                 origin.addAll(ZoneType.listValueOf(sa.getParam("TgtZone")));
             }
-            CardCollection list = CardLists.getValidCards(ai.getGame().getCardsIn(origin),
+            CardCollection list = CardLists.getValidCards(ai.getGame().viewCardsIn(origin),
                     sa.getTargetRestrictions().getValidTgts(), ai, sa.getHostCard(), sa);
 
             final List<String> creatureTypes = Lists.newArrayList();
@@ -905,7 +905,7 @@ public class ChangeZoneAi extends SpellAbilityAi {
             // TODO need to set XManaCostPaid for targets, maybe doesn't need PayX anymore?
             sa.setXManaCostPaid(xPay);
         }
-        CardCollection list = CardLists.getTargetableCards(game.getCardsIn(origin), sa);
+        CardCollection list = CardLists.getTargetableCards(game.viewCardsIn(origin), sa);
 
         // Filter AI-specific targets if provided
         list = ComputerUtil.filterAITgts(sa, ai, list, true);
@@ -25,7 +25,7 @@ public class ChooseDirectionAi extends SpellAbilityAi {
             return false;
         } else {
             if ("Aminatou".equals(logic)) {
-                CardCollection all = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), Presets.NONLAND_PERMANENTS);
+                CardCollection all = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), Presets.NONLAND_PERMANENTS);
                 CardCollection aiPermanent = CardLists.filterControlledBy(all, ai);
                 aiPermanent.remove(sa.getHostCard());
                 int aiValue = Aggregates.sum(aiPermanent, CardPredicates.Accessors.fnGetCmc);
@@ -103,7 +103,7 @@ public class CloneAi extends SpellAbilityAi {
             chance = cloneTgtAI(sa);
         } else {
             if (sa.hasParam("Choices")) {
-                CardCollectionView choices = CardLists.getValidCards(host.getGame().getCardsIn(ZoneType.Battlefield),
+                CardCollectionView choices = CardLists.getValidCards(host.getGame().viewCardsIn(ZoneType.Battlefield),
                         sa.getParam("Choices"), host.getController(), host, sa);
 
                 chance = !choices.isEmpty();
@@ -136,7 +136,7 @@ public class CloneAi extends SpellAbilityAi {
             sa.getTargets().add(ComputerUtilCard.getBestCreatureAI(valid));
             return true;
         } else if ("CloneBestCreature".equals(sa.getParam("AILogic"))) {
-            CardCollection valid = CardLists.getValidCards(sa.getHostCard().getController().getGame().getCardsIn(ZoneType.Battlefield), sa.getParam("ValidTgts"), sa.getHostCard().getController(), sa.getHostCard(), sa);
+            CardCollection valid = CardLists.getValidCards(sa.getHostCard().getController().getGame().viewCardsIn(ZoneType.Battlefield), sa.getParam("ValidTgts"), sa.getHostCard().getController(), sa.getHostCard(), sa);
             sa.getTargets().add(ComputerUtilCard.getBestCreatureAI(valid));
             return true;
         }
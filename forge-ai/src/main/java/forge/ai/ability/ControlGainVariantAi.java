@@ -49,7 +49,7 @@ public class ControlGainVariantAi extends SpellAbilityAi {
         String logic = sa.getParam("AILogic");
 
         if ("GainControlOwns".equals(logic)) {
-            List<Card> list = CardLists.filter(ai.getGame().getCardsIn(ZoneType.Battlefield), new Predicate<Card>() {
+            List<Card> list = CardLists.filter(ai.getGame().viewCardsIn(ZoneType.Battlefield), new Predicate<Card>() {
                 @Override
                 public boolean apply(final Card crd) {
                     return crd.isCreature() && !crd.getController().equals(crd.getOwner());
@@ -126,7 +126,7 @@ public class CountersMoveAi extends SpellAbilityAi {
 
             if (!sa.isTargetNumberValid() && mandatory) {
                 final Game game = ai.getGame();
-                List<Card> tgtCards = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+                List<Card> tgtCards = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
 
                 if (tgtCards.isEmpty()) {
                     return false;
@@ -239,7 +239,7 @@ public class CountersMoveAi extends SpellAbilityAi {
         final String type = sa.getParam("CounterType");
         final CounterType cType = "Any".equals(type) || "All".equals(type) ? null : CounterType.getType(type);
 
-        List<Card> tgtCards = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+        List<Card> tgtCards = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
 
         if (sa.hasParam("Defined")) {
             final int amount = calcAmount(sa, cType);
@@ -106,7 +106,7 @@ public class CountersMultiplyAi extends SpellAbilityAi {
         if (setTargets(ai, sa)) {
             return true;
         } else if (mandatory) {
-            CardCollection list = CardLists.getTargetableCards(ai.getGame().getCardsIn(ZoneType.Battlefield), sa);
+            CardCollection list = CardLists.getTargetableCards(ai.getGame().viewCardsIn(ZoneType.Battlefield), sa);
             if (list.isEmpty()) {
                 return false;
             }
@@ -134,7 +134,7 @@ public class CountersMultiplyAi extends SpellAbilityAi {
 
         final Game game = ai.getGame();
 
-        CardCollection list = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+        CardCollection list = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
 
         // pre filter targetable cards with counters and can receive one of them
         list = CardLists.filter(list, new Predicate<Card>() {
@@ -696,7 +696,7 @@ public class CountersPutAi extends CountersAi {
 
             if (list.isEmpty() && isMandatoryTrigger) {
                 // broaden the scope of possible targets if we are resolving a mandatory trigger
-                list = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+                list = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
             }
 
             sa.resetTargets();
@@ -72,7 +72,7 @@ public class CountersPutOrRemoveAi extends SpellAbilityAi {
         // remove counter with Time might use Exile Zone too
         final TargetRestrictions tgt = sa.getTargetRestrictions();
         // need to targetable
-        CardCollection list = CardLists.getTargetableCards(game.getCardsIn(tgt.getZone()), sa);
+        CardCollection list = CardLists.getTargetableCards(game.viewCardsIn(tgt.getZone()), sa);
 
         if (list.isEmpty()) {
             return false;
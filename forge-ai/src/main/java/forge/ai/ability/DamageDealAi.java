@@ -444,7 +444,7 @@ public class DamageDealAi extends DamageAiBase {
     }
 
     private List<Card> getTargetableCards(Player ai, SpellAbility sa, Player pl, TargetRestrictions tgt, Player activator, Card source, Game game) {
-        List<Card> hPlay = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), tgt.getValidTgts(), activator, source, sa);
+        List<Card> hPlay = CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield), tgt.getValidTgts(), activator, source, sa);
 
         if (activator.equals(ai)) {
             hPlay = CardLists.filterControlledBy(hPlay, pl);
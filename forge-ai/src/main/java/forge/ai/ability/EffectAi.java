@@ -276,7 +276,7 @@ public class EffectAi extends SpellAbilityAi {
                 }
                 return true;
             } else if (logic.equals("ReplaySpell")) {
-                CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Graveyard), sa.getTargetRestrictions().getValidTgts(), ai, sa.getHostCard(), sa);
+                CardCollection list = CardLists.getValidCards(game.viewCardsIn(ZoneType.Graveyard), sa.getTargetRestrictions().getValidTgts(), ai, sa.getHostCard(), sa);
                 if (!ComputerUtil.targetPlayableSpellCard(ai, list, sa, false, false)) {
                     return false;
                 }
@@ -25,7 +25,7 @@ public class GoadAi extends SpellAbilityAi {
         // use this part only for targeting
         if (sa.usesTargeting()) {
             // get all possible targets
-            List<Card> list = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+            List<Card> list = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
 
             if (list.isEmpty())
                 return false;
@@ -114,7 +114,7 @@ public class GoadAi extends SpellAbilityAi {
                     return true;
                 }
             } else {
-                List<Card> list = CardLists.getTargetableCards(ai.getGame().getCardsIn(ZoneType.Battlefield), sa);
+                List<Card> list = CardLists.getTargetableCards(ai.getGame().viewCardsIn(ZoneType.Battlefield), sa);
 
                 if (list.isEmpty())
                     return false;
@@ -19,7 +19,7 @@ public class HauntAi extends SpellAbilityAi {
         final Card card = sa.getHostCard();
         final Game game = ai.getGame();
         if (sa.usesTargeting() && !card.isToken()) {
-            final List<Card> creats = CardLists.filter(game.getCardsIn(ZoneType.Battlefield),
+            final List<Card> creats = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield),
                     CardPredicates.Presets.CREATURES);
 
             // nothing to haunt
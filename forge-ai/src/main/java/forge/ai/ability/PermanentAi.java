@@ -123,7 +123,7 @@ public class PermanentAi extends SpellAbilityAi {
 
         if ("ChaliceOfTheVoid".equals(source.getSVar("AICurseEffect"))) {
             int maxX = sa.getXManaCostPaid(); // as set above
-            CardCollection otherChalices = CardLists.filter(ai.getGame().getCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals("Chalice of the Void"));
+            CardCollection otherChalices = CardLists.filter(ai.getGame().viewCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals("Chalice of the Void"));
             outer: for (int i = 0; i <= maxX; i++) {
                 for (Card chalice : otherChalices) {
                     if (chalice.getCounters(CounterEnumType.CHARGE) == i) {
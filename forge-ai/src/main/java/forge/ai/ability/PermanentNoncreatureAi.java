@@ -59,7 +59,7 @@ public class PermanentNoncreatureAi extends PermanentAi {
             SpellAbility effectExile = AbilityFactory.getAbility(host.getSVar("TrigExile"), host);
             final ZoneType origin = ZoneType.listValueOf(effectExile.getParamOrDefault("Origin", "Battlefield")).get(0);
             effectExile.setActivatingPlayer(ai, true);
-            CardCollection targets = CardLists.getTargetableCards(game.getCardsIn(origin), effectExile);
+            CardCollection targets = CardLists.getTargetableCards(game.viewCardsIn(origin), effectExile);
             if (sourceName.equals("Suspension Field") 
                     || sourceName.equals("Detention Sphere")) {
                 // existing "exile until leaves" enchantments only target opponent's permanents
@@ -112,7 +112,7 @@ public class PhasesAi extends SpellAbilityAi {
     private boolean phasesUnpreferredTargeting(final Game game, final SpellAbility sa, final boolean mandatory) {
         final Card source = sa.getHostCard();
 
-        CardCollectionView list = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+        CardCollectionView list = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
 
         // in general, if it's our own creature, choose the weakest one, if it's the opponent's creature,
         // choose the strongest one
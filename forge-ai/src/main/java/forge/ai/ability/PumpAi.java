@@ -44,7 +44,7 @@ public class PumpAi extends PumpAiBase {
     protected boolean checkAiLogic(final Player ai, final SpellAbility sa, final String aiLogic) {
         if ("MoveCounter".equals(aiLogic)) {
             final Game game = ai.getGame();
-            List<Card> tgtCards = CardLists.filter(game.getCardsIn(ZoneType.Battlefield),
+            List<Card> tgtCards = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield),
                     CardPredicates.isTargetableBy(sa));
             if (tgtCards.isEmpty()) {
                 return false;
@@ -206,7 +206,7 @@ public class PumpAi extends PumpAiBase {
             } else {
                 final boolean sameCtrl = moveSA.getTargetRestrictions().isSameController();
 
-                List<Card> list = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+                List<Card> list = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
                 if (cType != null) {
                     list = CardLists.filter(list, CardPredicates.hasCounter(cType));
                     if (list.isEmpty()) {
@@ -429,7 +429,7 @@ public class PumpAi extends PumpAiBase {
         CardCollection list;
         if (sa.hasParam("AILogic")) {
             if (sa.getParam("AILogic").equals("HighestPower") || sa.getParam("AILogic").equals("ContinuousBonus")) {
-                list = CardLists.getValidCards(CardLists.filter(game.getCardsIn(ZoneType.Battlefield), Presets.CREATURES), tgt.getValidTgts(), ai, source, sa);
+                list = CardLists.getValidCards(CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), Presets.CREATURES), tgt.getValidTgts(), ai, source, sa);
                 list = CardLists.getTargetableCards(list, sa);
                 CardLists.sortByPowerDesc(list);
 
@@ -467,7 +467,7 @@ public class PumpAi extends PumpAiBase {
                 // the best for opponents
                 return SacrificeAi.doSacOneEachLogic(ai, sa);
             } else if (sa.getParam("AILogic").equals("Destroy")) {
-                List<Card> tgts = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+                List<Card> tgts = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
                 if (tgts.isEmpty()) {
                     return false;
                 }
@@ -513,7 +513,7 @@ public class PumpAi extends PumpAiBase {
                 list = getPumpCreatures(ai, sa, defense, attack, keywords, immediately);
             } else {
                 ZoneType zone = tgt.getZone().get(0);
-                list = CardLists.getTargetableCards(game.getCardsIn(zone), sa);
+                list = CardLists.getTargetableCards(game.viewCardsIn(zone), sa);
             }
         }
 
@@ -797,7 +797,7 @@ public class PumpAi extends PumpAiBase {
         final Card source = sa.getHostCard();
         final TargetRestrictions tgt = sa.getTargetRestrictions();
         final ZoneType origin = ZoneType.listValueOf(sa.getSubAbility().getParam("Origin")).get(0);
-        CardCollection list = CardLists.getValidCards(game.getCardsIn(origin), tgt.getValidTgts(), aiPlayer,
+        CardCollection list = CardLists.getValidCards(game.viewCardsIn(origin), tgt.getValidTgts(), aiPlayer,
                 source, sa);
         list = CardLists.filterControlledBy(list, aiPlayer.getOpponents());
         if (list.isEmpty()) {
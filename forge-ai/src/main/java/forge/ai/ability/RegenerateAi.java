@@ -150,7 +150,7 @@ public class RegenerateAi extends SpellAbilityAi {
         final Game game = ai.getGame();
         sa.resetTargets();
         // filter AIs battlefield by what I can target
-        CardCollectionView targetables = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+        CardCollectionView targetables = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
         final List<Card> compTargetables = CardLists.filterControlledBy(targetables, ai);
 
         if (targetables.isEmpty()) {
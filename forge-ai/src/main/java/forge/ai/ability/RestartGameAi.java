@@ -26,7 +26,7 @@ public class RestartGameAi extends SpellAbilityAi {
         }
 
         // check if enough good permanents will be available to be returned, so AI can "autowin"
-        CardCollection exiled = CardLists.getValidCards(ai.getGame().getCardsIn(ZoneType.Exile), "Permanent.nonAura+IsRemembered", ai, sa.getHostCard(), sa);
+        CardCollection exiled = CardLists.getValidCards(ai.getGame().viewCardsIn(ZoneType.Exile), "Permanent.nonAura+IsRemembered", ai, sa.getHostCard(), sa);
         if (ComputerUtilCard.evaluatePermanentList(exiled) > 20) {
             return true;
         }
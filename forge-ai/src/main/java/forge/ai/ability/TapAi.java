@@ -60,7 +60,7 @@ public class TapAi extends TapAiBase {
         if (!sa.usesTargeting()) {
             CardCollection untap;
             if (sa.hasParam("CardChoices")) {
-                untap = CardLists.getValidCards(source.getGame().getCardsIn(ZoneType.Battlefield), sa.getParam("CardChoices"), ai, source, sa);
+                untap = CardLists.getValidCards(source.getGame().viewCardsIn(ZoneType.Battlefield), sa.getParam("CardChoices"), ai, source, sa);
             } else {
                 untap = AbilityUtils.getDefinedCards(source, sa.getParam("Defined"), sa);
             }
@@ -260,7 +260,7 @@ public abstract class TapAiBase extends SpellAbilityAi {
         final Card source = sa.getHostCard();
         final Game game = ai.getGame();
 
-        CardCollection list = CardLists.getTargetableCards(game.getCardsIn(ZoneType.Battlefield), sa);
+        CardCollection list = CardLists.getTargetableCards(game.viewCardsIn(ZoneType.Battlefield), sa);
 
         // try to tap anything controlled by the computer
         CardCollection tapList = CardLists.filterControlledBy(list, ai.getOpponents());
@@ -23,7 +23,7 @@ public class VoteAi extends SpellAbilityAi {
         if ("Always".equals(logic)) {
             return true;
         } else if ("Judgment".equals(logic)) {
-            return !CardLists.getValidCards(host.getGame().getCardsIn(ZoneType.Battlefield),
+            return !CardLists.getValidCards(host.getGame().viewCardsIn(ZoneType.Battlefield),
                     sa.getParam("VoteCard"), host.getController(), host, sa).isEmpty();
         } else if ("Torture".equals(logic)) {
             return aiPlayer.getGame().getPhaseHandler().getPhase().isAfter(PhaseType.MAIN1);
@@ -18,6 +18,7 @@ import forge.card.CardRarity;
 import forge.card.CardRules;
 import forge.game.Game;
 import forge.game.GameEntity;
+import forge.game.GameMetrics;
 import forge.game.GameObject;
 import forge.game.GameObjectMap;
 import forge.game.GameRules;
@@ -74,15 +75,42 @@ public class GameCopier {
         return makeCopy(null, null);
     }
     public Game makeCopy(PhaseType advanceToPhase, Player aiPlayer) {
+        final GameMetrics metrics = origGame.getMetrics();
+        final long copyStart = metrics.start(GameMetrics.Metric.GAME_COPIES);
+        final Game newGame;
+        try {
+            newGame = copyGame(metrics, aiPlayer);
+        } finally {
+            metrics.stop(GameMetrics.Metric.GAME_COPIES, copyStart);
+        }
+
+        if (advanceToPhase != null) {
+            newGame.getPhaseHandler().devAdvanceToPhase(advanceToPhase, new Runnable() {
+                @Override
+                public void run() {
+                    GameSimulator.resolveStack(newGame, aiPlayer.getWeakestOpponent());
+                }
+            });
+        }
+
+        return newGame;
+    }
+
+    private Game copyGame(final GameMetrics metrics, final Player aiPlayer) {
         List<RegisteredPlayer> origPlayers = origGame.getMatch().getPlayers();
         List<RegisteredPlayer> newPlayers = new ArrayList<>();
         for (RegisteredPlayer p : origPlayers) {
             newPlayers.add(clonePlayer(p));
         }
 
-        GameRules currentRules = origGame.getRules();
+        GameRules currentRules = origGame.getRules().forSimulation();
         Match newMatch = new Match(currentRules, newPlayers, origGame.getView().getTitle());
         Game newGame = new Game(newPlayers, currentRules, newMatch);
+        // copied abilities keep their ids, new ones must not take them
+        newGame.continueTraitIds(origGame);
+        // nobody looks at the views of a simulated game
+        newGame.getTracker().setHeadless(true);
+        newGame.setMetrics(metrics.forCopy());
 
         for (int i = 0; i < origGame.getPlayers().size(); i++) {
             Player origPlayer = origGame.getPlayers().get(i);
@@ -191,15 +219,6 @@ public class GameCopier {
 
         // TODO update thisTurnCast
 
-        if (advanceToPhase != null) {
-            newGame.getPhaseHandler().devAdvanceToPhase(advanceToPhase, new Runnable() {
-                @Override
-                public void run() {
-                    GameSimulator.resolveStack(newGame, aiPlayer.getWeakestOpponent());
-                }
-            });
-        }
-
         return newGame;
     }
 
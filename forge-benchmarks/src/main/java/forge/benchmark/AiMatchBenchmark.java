@@ -0,0 +1,105 @@
+package forge.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.player.GamePlayerUtil;
+import forge.util.MyRandom;
+
+/**
+ * Whole AI vs. AI games between two fixed decks, headless as in simulation mode.
+ * Reported as games per minute; the shuffles are seeded per iteration so that every run plays the same games.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 20)
+@Measurement(iterations = 5, time = 30)
+@Fork(1)
+public class AiMatchBenchmark {
+    @Param({"true", "false"})
+    public boolean headless;
+
+    private List<RegisteredPlayer> players;
+    private GameRules rules;
+    private int iteration = 0;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.initialize();
+        players = Lists.newArrayList();
+        players.add(new RegisteredPlayer(redDeck()).setPlayer(GamePlayerUtil.createAiPlayer("Red", 0)));
+        players.add(new RegisteredPlayer(greenDeck()).setPlayer(GamePlayerUtil.createAiPlayer("Green", 1)));
+        rules = new GameRules(GameType.Constructed);
+        rules.setGamesPerMatch(1);
+        rules.setHeadless(headless);
+    }
+
+    @Setup(Level.Iteration)
+    public void seed() {
+        MyRandom.setRandom(new Random(++iteration));
+    }
+
+    @Benchmark
+    public Game playGame() {
+        final Match match = new Match(rules, players, "Benchmark");
+        final Game game = match.createGame();
+        match.startGame(game);
+        return game;
+    }
+
+    static Deck redDeck() {
+        final Deck deck = new Deck("Red");
+        deck.getMain().add("Mountain", 22);
+        deck.getMain().add("Goblin Guide", 4);
+        deck.getMain().add("Monastery Swiftspear", 4);
+        deck.getMain().add("Lightning Bolt", 4);
+        deck.getMain().add("Shock", 4);
+        deck.getMain().add("Keldon Raider", 4);
+        deck.getMain().add("Hill Giant", 4);
+        deck.getMain().add("Lava Axe", 4);
+        deck.getMain().add("Fireball", 2);
+        deck.getMain().add("Shivan Dragon", 2);
+        deck.getMain().add("Volcanic Hammer", 2);
+        deck.getMain().add("Lightning Strike", 4);
+        return deck;
+    }
+
+    static Deck greenDeck() {
+        final Deck deck = new Deck("Green");
+        deck.getMain().add("Forest", 22);
+        deck.getMain().add("Llanowar Elves", 4);
+        deck.getMain().add("Grizzly Bears", 4);
+        deck.getMain().add("Kalonian Tusker", 4);
+        deck.getMain().add("Giant Growth", 4);
+        deck.getMain().add("Centaur Courser", 4);
+        deck.getMain().add("Garruk's Companion", 4);
+        deck.getMain().add("Craw Wurm", 4);
+        deck.getMain().add("Prey Upon", 4);
+        deck.getMain().add("Rampant Growth", 2);
+        deck.getMain().add("Colossal Dreadmaw", 4);
+        return deck;
+    }
+}
@@ -0,0 +1,100 @@
+package forge.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Lists;
+
+import forge.GuiDesktop;
+import forge.ai.AIOption;
+import forge.ai.GameState;
+import forge.ai.LobbyPlayerAi;
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameRules;
+import forge.game.GameStage;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.gamemodes.puzzle.PuzzleIO;
+import forge.gui.GuiBase;
+import forge.item.IPaperCard;
+import forge.localinstance.properties.ForgeConstants;
+import forge.localinstance.properties.ForgePreferences;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+import forge.util.FileUtil;
+
+/**
+ * Shared setup of the benchmarks: loads the card database once per forked JVM,
+ * and builds two player AI games, optionally set up from the [state] section of a puzzle in res/puzzle.
+ */
+public final class BenchmarkEnvironment {
+    private static boolean initialized = false;
+
+    private BenchmarkEnvironment() {
+    }
+
+    public static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        GuiBase.setInterface(new GuiDesktop());
+        FModel.initialize(null, new Function<ForgePreferences, Void>() {
+            @Override
+            public Void apply(ForgePreferences preferences) {
+                preferences.setPref(FPref.LOAD_CARD_SCRIPTS_LAZILY, false);
+                preferences.setPref(FPref.UI_LANGUAGE, "en-US");
+                return null;
+            }
+        });
+        initialized = true;
+    }
+
+    /**
+     * @param headless whether the game skips view updates, as simulated games do
+     */
+    public static Game createGame(final boolean headless) {
+        initialize();
+        final List<RegisteredPlayer> players = Lists.newArrayList();
+        final Set<AIOption> options = new HashSet<>();
+        options.add(AIOption.USE_SIMULATION);
+        players.add(new RegisteredPlayer(new Deck()).setPlayer(new LobbyPlayerAi("p1", options)));
+        players.add(new RegisteredPlayer(new Deck()).setPlayer(new LobbyPlayerAi("p2", null)));
+        final GameRules rules = new GameRules(GameType.Constructed);
+        rules.setHeadless(headless);
+        final Match match = new Match(rules, players, "Benchmark");
+        final Game game = new Game(players, rules, match);
+        game.setAge(GameStage.Play);
+        return game;
+    }
+
+    /**
+     * Creates a game with the board of the named puzzle, its "human" being the first player.
+     */
+    public static Game createGame(final String puzzleName, final boolean headless) {
+        final Game game = createGame(headless);
+        final Map<String, List<String>> sections = PuzzleIO.parsePuzzleSections(
+                FileUtil.readFile(ForgeConstants.PUZZLE_DIR + puzzleName + PuzzleIO.SUFFIX_DATA));
+        final BoardState state = new BoardState();
+        state.parse(sections.get("state"));
+        state.applyNow(game);
+        game.getAction().checkStateEffects(true);
+        return game;
+    }
+
+    private static class BoardState extends GameState {
+        @Override
+        public IPaperCard getPaperCard(final String cardName, final String setCode, final int artID) {
+            return FModel.getMagicDb().getCommonCards().getCard(cardName, setCode, artID);
+        }
+
+        // applyToGame hands the work to the game thread, the benchmarks want the board ready when this returns
+        void applyNow(final Game game) {
+            applyGameOnThread(game);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package forge.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.card.CardDb;
+import forge.item.PaperCard;
+import forge.model.FModel;
+
+/**
+ * Card database lookups, over a fixed random sample of the cards so that the results don't depend on a few hash buckets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardDbBenchmark {
+    private static final int SAMPLE_SIZE = 4096;
+
+    private CardDb cardDb;
+    private final List<String> names = new ArrayList<>();
+    private final List<String> editions = new ArrayList<>();
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.initialize();
+        cardDb = FModel.getMagicDb().getCommonCards();
+        final List<PaperCard> cards = new ArrayList<>(cardDb.getAllCards());
+        Collections.shuffle(cards, new Random(1));
+        for (final PaperCard card : cards.subList(0, Math.min(SAMPLE_SIZE, cards.size()))) {
+            names.add(card.getName());
+            editions.add(card.getEdition());
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % names.size();
+        return next;
+    }
+
+    @Benchmark
+    public PaperCard getCardByName() {
+        return cardDb.getCard(names.get(nextIndex()));
+    }
+
+    @Benchmark
+    public PaperCard getCardByNameAndEdition() {
+        final int i = nextIndex();
+        return cardDb.getCard(names.get(i), editions.get(i));
+    }
+
+    @Benchmark
+    public List<PaperCard> getAllPrintings() {
+        return cardDb.getAllCards(names.get(nextIndex()));
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return cardDb.contains(names.get(nextIndex()));
+    }
+}
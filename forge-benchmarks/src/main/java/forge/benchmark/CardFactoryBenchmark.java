@@ -0,0 +1,59 @@
+package forge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardFactory;
+import forge.game.player.Player;
+import forge.item.PaperCard;
+import forge.model.FModel;
+
+/**
+ * Turning a paper card into a game card, for cards with few and with many abilities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardFactoryBenchmark {
+    @Param({"Grizzly Bears", "Teferi, Time Raveler", "Delver of Secrets", "Jace, the Mind Sculptor", "Emrakul, the Aeons Torn"})
+    public String cardName;
+
+    private PaperCard paperCard;
+    private Game game;
+    private Player owner;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.initialize();
+        paperCard = FModel.getMagicDb().getCommonCards().getCard(cardName);
+    }
+
+    // a fresh game every iteration, so that the cards made earlier don't pile up in it
+    @Setup(Level.Iteration)
+    public void newGame() {
+        game = BenchmarkEnvironment.createGame(true);
+        owner = game.getPlayers().get(0);
+    }
+
+    @Benchmark
+    public Card getCard() {
+        return CardFactory.getCard(paperCard, owner, game);
+    }
+}
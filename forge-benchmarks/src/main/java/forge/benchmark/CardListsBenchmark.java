@@ -0,0 +1,50 @@
+package forge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
+import forge.game.card.CardLists;
+import forge.game.zone.ZoneType;
+
+/**
+ * Filtering the battlefield by a restriction string, as targeting and most "each creature" effects do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardListsBenchmark {
+    @Param({"Creature", "Creature.OppCtrl", "Permanent.nonLand+YouCtrl", "Creature.withFlying+powerGE2"})
+    public String restriction;
+
+    private CardCollectionView battlefield;
+    private Card source;
+
+    @Setup
+    public void setup(final PuzzleBoard board) {
+        battlefield = board.game.getCardsIn(ZoneType.Battlefield);
+        // any permanent of the active player will do as the source
+        source = board.player.getCardsIn(ZoneType.Battlefield).getFirst();
+    }
+
+    @Benchmark
+    public CardCollection getValidCards(final PuzzleBoard board) {
+        return CardLists.getValidCards(battlefield, restriction, board.player, source, null);
+    }
+}
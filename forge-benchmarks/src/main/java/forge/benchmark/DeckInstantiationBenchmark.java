@@ -0,0 +1,86 @@
+package forge.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.player.Player;
+import forge.item.PaperCard;
+
+/**
+ * Making the game cards of a whole 60 card deck, as every game does for each player when it starts.
+ * The red deck is mostly vanilla creatures and burn, the other one has planeswalkers, double faced, split,
+ * adventure and modal cards, with several abilities each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeckInstantiationBenchmark {
+    @Param({"red", "abilities"})
+    public String deck;
+
+    private List<PaperCard> cards;
+    private Game game;
+    private Player owner;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.initialize();
+        cards = ("red".equals(deck) ? AiMatchBenchmark.redDeck() : abilitiesDeck()).getMain().toFlatList();
+    }
+
+    // a fresh game every iteration, so that the cards made earlier don't pile up in it
+    @Setup(Level.Iteration)
+    public void newGame() {
+        game = BenchmarkEnvironment.createGame(true);
+        owner = game.getPlayers().get(0);
+    }
+
+    @Benchmark
+    public CardCollection instantiateDeck() {
+        final CardCollection result = new CardCollection();
+        for (final PaperCard pc : cards) {
+            result.add(Card.fromPaperCard(pc, owner));
+        }
+        return result;
+    }
+
+    private static Deck abilitiesDeck() {
+        final Deck deck = new Deck("Abilities");
+        deck.getMain().add("Island", 12);
+        deck.getMain().add("Mountain", 6);
+        deck.getMain().add("Spirebluff Canal", 4);
+        deck.getMain().add("Delver of Secrets", 4);
+        deck.getMain().add("Snapcaster Mage", 4);
+        deck.getMain().add("Bonecrusher Giant", 4);
+        deck.getMain().add("Brazen Borrower", 2);
+        deck.getMain().add("Jace, the Mind Sculptor", 2);
+        deck.getMain().add("Teferi, Time Raveler", 2);
+        deck.getMain().add("Fire // Ice", 4);
+        deck.getMain().add("Valakut Awakening", 2);
+        deck.getMain().add("Lightning Bolt", 4);
+        deck.getMain().add("Brainstorm", 4);
+        deck.getMain().add("Counterspell", 4);
+        deck.getMain().add("Force of Will", 2);
+        return deck;
+    }
+}
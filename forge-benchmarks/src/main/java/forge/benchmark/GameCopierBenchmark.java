@@ -0,0 +1,30 @@
+package forge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.ai.simulation.GameCopier;
+import forge.game.Game;
+
+/**
+ * Copying a game, which the simulating AI does for every option it looks at.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameCopierBenchmark {
+
+    @Benchmark
+    public Game makeCopy(final PuzzleBoard board) {
+        return new GameCopier(board.game).makeCopy();
+    }
+}
@@ -0,0 +1,80 @@
+package forge.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.GameReplayer;
+import forge.game.Game;
+import forge.game.GameReplay;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.player.GamePlayerUtil;
+import forge.util.FileUtil;
+import forge.util.MyRandom;
+
+/**
+ * A recorded AI vs. AI game played again from its replay. A game that was slow elsewhere can be benchmarked with
+ * -p replay=&lt;file&gt;, from the files the simulation mode writes with -l; by default a game between the decks of
+ * {@link AiMatchBenchmark} is recorded first. Fails if the replayed game doesn't go the way it was recorded,
+ * as the timings would no longer be of the same game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GameReplayBenchmark {
+    @Param({""})
+    public String replay;
+
+    private GameReplay recorded;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.initialize();
+        recorded = replay.isEmpty() ? recordGame() : GameReplay.parse(FileUtil.readFile(replay));
+    }
+
+    private static GameReplay recordGame() {
+        final List<RegisteredPlayer> players = Lists.newArrayList();
+        players.add(new RegisteredPlayer(AiMatchBenchmark.redDeck()).setPlayer(GamePlayerUtil.createAiPlayer("Red", 0)));
+        players.add(new RegisteredPlayer(AiMatchBenchmark.greenDeck()).setPlayer(GamePlayerUtil.createAiPlayer("Green", 1)));
+        final GameRules rules = new GameRules(GameType.Constructed);
+        rules.setGamesPerMatch(1);
+        rules.setHeadless(true);
+        rules.setRecordReplay(true);
+        MyRandom.setRandom(new Random(1));
+        final Match match = new Match(rules, players, "Benchmark");
+        final Game game = match.createGame();
+        match.startGame(game);
+        return game.getReplay();
+    }
+
+    @Benchmark
+    public Game replayGame() {
+        final Game game = GameReplayer.replay(recorded);
+        final int diverged = recorded.findDivergence(game.getReplay());
+        if (diverged >= 0) {
+            throw new IllegalStateException("Replayed game diverged at log entry " + diverged + ", " + recorded.getTurnOf(diverged));
+        }
+        return game;
+    }
+}
@@ -0,0 +1,115 @@
+package forge.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import forge.lda.dataset.BagOfWords;
+import forge.lda.dataset.Dataset;
+import forge.lda.dataset.Vocabularies;
+import forge.lda.dataset.Vocabulary;
+import forge.lda.lda.LDA;
+import forge.lda.lda.inference.InferenceMethod;
+
+/**
+ * Training the archetype model of LDAModelGenetrator (100 iterations of collapsed Gibbs sampling) on synthetic
+ * decks: each topic has cards of its own, and each deck is drawn mostly from one topic and partly from another.
+ * After every trial the perplexity of the last model and the number of topics it recovered are printed, so that
+ * partitioned sampling can be checked to converge as well as sampling the decks in one go.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LdaBenchmark {
+    private static final int NUM_TOPICS = 8;
+    private static final int CARDS_PER_TOPIC = 50;
+    private static final int NUM_DECKS = 2000;
+    private static final int DECK_SIZE = 60;
+
+    @Param({"1", "4"})
+    public int partitions;
+
+    private Dataset dataset;
+    private LDA lda;
+
+    @Setup
+    public void setup() {
+        final List<Vocabulary> cards = new ArrayList<>();
+        for (int i = 0; i < NUM_TOPICS * CARDS_PER_TOPIC; i++) {
+            cards.add(new Vocabulary(i, "Card " + i));
+        }
+        final Random random = new Random(1);
+        final List<List<Integer>> decks = new ArrayList<>();
+        for (int d = 0; d < NUM_DECKS; d++) {
+            final int main = random.nextInt(NUM_TOPICS);
+            final int splash = random.nextInt(NUM_TOPICS);
+            final List<Integer> deck = new ArrayList<>();
+            for (int c = 0; c < DECK_SIZE; c++) {
+                final int topic = random.nextInt(4) == 0 ? splash : main;
+                deck.add(topic * CARDS_PER_TOPIC + random.nextInt(CARDS_PER_TOPIC));
+            }
+            decks.add(deck);
+        }
+        dataset = new Dataset(new BagOfWords(new Vocabularies(cards), decks));
+    }
+
+    @Benchmark
+    public LDA train() {
+        lda = new LDA(0.1, 0.1, NUM_TOPICS, dataset, InferenceMethod.CGS);
+        lda.setNumPartitions(partitions);
+        lda.run();
+        return lda;
+    }
+
+    @TearDown
+    public void printConvergence() {
+        System.out.printf("%n%d partition(s): perplexity %.2f, %d of %d topics recovered%n",
+                partitions, lda.computePerplexity(dataset), recoveredTopics(), NUM_TOPICS);
+    }
+
+    // a topic is recovered when the cards it gives the most weight to are those of a single planted topic
+    private int recoveredTopics() {
+        final boolean[] found = new boolean[NUM_TOPICS];
+        for (int t = 0; t < NUM_TOPICS; t++) {
+            final List<Pair<String, Double>> sorted = lda.getVocabsSortedByPhi(t);
+            final int planted = plantedTopic(sorted.get(0).getKey());
+            boolean pure = true;
+            for (int rank = 1; rank < CARDS_PER_TOPIC / 2 && pure; rank++) {
+                pure = plantedTopic(sorted.get(rank).getKey()) == planted;
+            }
+            if (pure) {
+                found[planted] = true;
+            }
+        }
+        int recovered = 0;
+        for (boolean f : found) {
+            if (f) {
+                recovered++;
+            }
+        }
+        return recovered;
+    }
+
+    private static int plantedTopic(String card) {
+        return Integer.parseInt(card.substring("Card ".length())) / CARDS_PER_TOPIC;
+    }
+}
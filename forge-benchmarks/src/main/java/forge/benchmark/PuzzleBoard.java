@@ -0,0 +1,37 @@
+package forge.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import forge.game.Game;
+import forge.game.player.Player;
+
+/**
+ * A game set up from one of the puzzles, shared by the benchmarks that work on a given board.
+ * PS_M204 is a small board with a few static abilities, PS_THB9 has planeswalkers and equipment,
+ * PS_UMA has thirty permanents. PS_STX5, with over eighty creatures on one side, can be run with -p puzzle=PS_STX5,
+ * but a single static ability check on it takes seconds.
+ * Headless boards skip the view updates, as the AI's simulated games do.
+ */
+@State(Scope.Thread)
+public class PuzzleBoard {
+    @Param({"PS_M204", "PS_THB9", "PS_UMA"})
+    public String puzzle;
+
+    @Param({"false", "true"})
+    public boolean headless;
+
+    public Game game;
+    // the puzzle's "human", who has the turn
+    public Player player;
+    public Player opponent;
+
+    @Setup
+    public void setup() {
+        game = BenchmarkEnvironment.createGame(puzzle, headless);
+        player = game.getPlayers().get(0);
+        opponent = game.getPlayers().get(1);
+    }
+}
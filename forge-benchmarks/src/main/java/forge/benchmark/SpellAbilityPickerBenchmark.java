@@ -0,0 +1,41 @@
+package forge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.ai.simulation.GameStateEvaluator;
+import forge.ai.simulation.SimulationController;
+import forge.ai.simulation.SpellAbilityPicker;
+import forge.game.spellability.SpellAbility;
+
+/**
+ * One decision of the simulating AI on the puzzle's opening position, looking a single action ahead:
+ * every candidate is played out on a copy of the game and scored, so the board itself isn't changed.
+ * The full plan search multiplies this by the branching factor at each level, and can run for minutes on these boards.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpellAbilityPickerBenchmark {
+
+    @Benchmark
+    public SpellAbility chooseSpellAbilityToPlay(final PuzzleBoard board) {
+        final SimulationController controller = new SimulationController(
+                new GameStateEvaluator().getScoreForGameState(board.game, board.player)) {
+            @Override
+            public boolean shouldRecurse() {
+                return false;
+            }
+        };
+        return new SpellAbilityPicker(board.game, board.player).chooseSpellAbilityToPlay(controller);
+    }
+}
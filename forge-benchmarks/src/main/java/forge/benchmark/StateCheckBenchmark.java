@@ -0,0 +1,33 @@
+package forge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Static ability layers and state based actions, which run every time a player would get priority.
+ * The board is already settled, so this measures the cost of a check that finds nothing to do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StateCheckBenchmark {
+
+    @Benchmark
+    public void checkStaticAbilities(final PuzzleBoard board) {
+        board.game.getAction().checkStaticAbilities();
+    }
+
+    @Benchmark
+    public boolean checkStateEffects(final PuzzleBoard board) {
+        return board.game.getAction().checkStateEffects(true);
+    }
+}
@@ -0,0 +1,105 @@
+package forge.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Color;
+
+import forge.adventure.world.ColorMap;
+import forge.adventure.world.OverlappingModel;
+
+/**
+ * Wave function collapse of a block of an adventure structure, the way the world generator fills a biome with
+ * them, from one of the samples in res/adventure/common/world/structures/models (or any image given with
+ * -p sample=&lt;file&gt;). Each invocation collapses a block with the next seed; the contradictions met and the
+ * blocks given up on are printed per sample after every iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WaveFunctionCollapseBenchmark {
+    private static final String MODELS_DIR = "../forge-gui/res/adventure/common/world/structures/models/";
+
+    @Param({"forest", "black", "desert_river"})
+    public String sample;
+
+    @Param({"10", "30"})
+    public int size;
+
+    @Param({"2", "3"})
+    public int n;
+
+    private OverlappingModel patterns;
+    private int seed;
+    private long blocks, contradictions, failures;
+
+    @Setup
+    public void setup() throws IOException {
+        final File file = sample.contains(".") ? new File(sample) : new File(MODELS_DIR + sample + ".png");
+        patterns = new OverlappingModel(readSample(file), n, size, size, true, true, 8, 0);
+    }
+
+    private static ColorMap readSample(final File file) throws IOException {
+        final BufferedImage image = ImageIO.read(file);
+        if (image == null) {
+            throw new IOException("Not an image: " + file);
+        }
+        final ColorMap map = new ColorMap(image.getWidth(), image.getHeight());
+        final Color color = new Color();
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                // ARGB as read, RGBA as the game reads it through a Pixmap
+                final int argb = image.getRGB(x, y);
+                Color.rgba8888ToColor(color, (argb << 8) | (argb >>> 24));
+                map.setColor(x, y, color);
+            }
+        }
+        return map;
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounts() {
+        blocks = 0;
+        contradictions = 0;
+        failures = 0;
+    }
+
+    @Benchmark
+    public boolean collapse() {
+        final OverlappingModel model = new OverlappingModel(patterns, size, size);
+        final boolean success = model.run(seed++, 0);
+        blocks++;
+        contradictions += model.getContradictions();
+        if (!success) {
+            failures++;
+        }
+        return success;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounts() {
+        System.out.printf("%n%s %dx%d, N=%d: %.3f contradictions per sample, %d of %d samples given up on%n",
+                sample, size, size, n, blocks == 0 ? 0.0 : (double) contradictions / blocks, failures, blocks);
+    }
+}
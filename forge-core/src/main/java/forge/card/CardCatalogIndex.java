@@ -0,0 +1,686 @@
+package forge.card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.common.base.Predicate;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.primitives.Ints;
+
+import forge.card.CardRulesPredicates.LeafNumber;
+import forge.card.CardRulesPredicates.PredicateCoreType;
+import forge.item.PaperCard;
+import forge.util.CardTranslation;
+import forge.util.ComparableOp;
+
+/**
+ * Columnar, read-only index over a fixed set of printings, used to answer card filters with
+ * bitset operations instead of testing every {@link PaperCard} against a predicate chain.
+ * <br><br>
+ * Printings are numbered by edition so each set occupies a contiguous ordinal range. Attributes
+ * that only depend on {@link CardRules} (colors, types, mana value, power, toughness, text) are
+ * stored once per distinct rules object and expanded to printings when a query is evaluated.
+ * The index is immutable once built and may be queried from any thread.
+ */
+public final class CardCatalogIndex {
+    private final PaperCard[] cards;
+    private final Map<PaperCard, Integer> cardOrdinals;
+
+    // rules columns
+    private final CardRules[] rules;
+    private final int[] rulesOfCard;
+    private final int[] cardsOfRulesStart;
+    private final int[] cardsOfRules;
+
+    private final BitSet[] colorBits = new BitSet[MagicColor.WUBRG.length];
+    private final BitSet colorlessBits = new BitSet();
+    private final BitSet multicolorBits = new BitSet();
+    private final Map<CardType.CoreType, BitSet> typeBits = new EnumMap<>(CardType.CoreType.class);
+    private final NumericColumn cmcColumn;
+    private final NumericColumn powerColumn;
+    private final NumericColumn toughnessColumn;
+
+    // printing columns
+    private final Map<CardRarity, BitSet> rarityBits = new EnumMap<>(CardRarity.class);
+    private final Map<String, int[]> editionRanges = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    // text: token -> sorted rules ordinals
+    private final String[] tokens;
+    private final int[][] tokenPostings;
+
+    private final Cache<Predicate<? super PaperCard>, BitSet> predicateCache = CacheBuilder.newBuilder().weakKeys().build();
+
+    public CardCatalogIndex(final Collection<PaperCard> printings) {
+        final Set<PaperCard> unique = new LinkedHashSet<>(printings);
+        cards = unique.toArray(new PaperCard[0]);
+        Arrays.sort(cards, new Comparator<PaperCard>() {
+            @Override
+            public int compare(PaperCard a, PaperCard b) {
+                int result = a.getEdition().compareToIgnoreCase(b.getEdition());
+                return result != 0 ? result : a.getName().compareTo(b.getName());
+            }
+        });
+
+        cardOrdinals = new HashMap<>(cards.length * 2);
+        final Map<CardRules, Integer> rulesOrdinals = new HashMap<>();
+        final List<CardRules> rulesList = new ArrayList<>();
+        rulesOfCard = new int[cards.length];
+        for (int i = 0; i < cards.length; i++) {
+            final PaperCard pc = cards[i];
+            cardOrdinals.put(pc, i);
+
+            Integer r = rulesOrdinals.get(pc.getRules());
+            if (r == null) {
+                r = rulesList.size();
+                rulesOrdinals.put(pc.getRules(), r);
+                rulesList.add(pc.getRules());
+            }
+            rulesOfCard[i] = r;
+
+            BitSet rarity = rarityBits.get(pc.getRarity());
+            if (rarity == null) {
+                rarity = new BitSet(cards.length);
+                rarityBits.put(pc.getRarity(), rarity);
+            }
+            rarity.set(i);
+
+            final int[] range = editionRanges.get(pc.getEdition());
+            if (range == null) {
+                editionRanges.put(pc.getEdition(), new int[] { i, i + 1 });
+            }
+            else {
+                range[1] = i + 1;
+            }
+        }
+        rules = rulesList.toArray(new CardRules[0]);
+
+        // compressed rules -> printings mapping
+        cardsOfRulesStart = new int[rules.length + 1];
+        for (final int r : rulesOfCard) {
+            cardsOfRulesStart[r + 1]++;
+        }
+        for (int r = 0; r < rules.length; r++) {
+            cardsOfRulesStart[r + 1] += cardsOfRulesStart[r];
+        }
+        cardsOfRules = new int[cards.length];
+        final int[] fill = Arrays.copyOf(cardsOfRulesStart, rules.length);
+        for (int i = 0; i < cards.length; i++) {
+            cardsOfRules[fill[rulesOfCard[i]]++] = i;
+        }
+
+        for (int c = 0; c < colorBits.length; c++) {
+            colorBits[c] = new BitSet(rules.length);
+        }
+        for (final CardType.CoreType type : CardType.CoreType.values()) {
+            typeBits.put(type, new BitSet(rules.length));
+        }
+        final int[] cmc = new int[rules.length];
+        final int[] power = new int[rules.length];
+        final int[] toughness = new int[rules.length];
+        final Map<String, List<Integer>> postings = new HashMap<>();
+        for (int r = 0; r < rules.length; r++) {
+            final CardRules cr = rules[r];
+            final ColorSet color = cr.getColor();
+            for (int c = 0; c < colorBits.length; c++) {
+                if (color.hasAnyColor(MagicColor.WUBRG[c])) {
+                    colorBits[c].set(r);
+                }
+            }
+            if (color.isColorless()) {
+                colorlessBits.set(r);
+            }
+            else if (color.isMulticolor()) {
+                multicolorBits.set(r);
+            }
+            for (final CardType.CoreType type : cr.getType().getCoreTypes()) {
+                typeBits.get(type).set(r);
+            }
+            cmc[r] = cr.getManaCost().getCMC();
+            power[r] = cr.getIntPower();
+            toughness[r] = cr.getIntToughness();
+
+            for (final String token : tokenize(cr)) {
+                List<Integer> list = postings.get(token);
+                if (list == null) {
+                    list = new ArrayList<>(2);
+                    postings.put(token, list);
+                }
+                list.add(r);
+            }
+        }
+        cmcColumn = new NumericColumn(cmc);
+        powerColumn = new NumericColumn(power);
+        toughnessColumn = new NumericColumn(toughness);
+
+        tokens = postings.keySet().toArray(new String[0]);
+        Arrays.sort(tokens);
+        tokenPostings = new int[tokens.length][];
+        for (int t = 0; t < tokens.length; t++) {
+            tokenPostings[t] = Ints.toArray(postings.get(tokens[t]));
+        }
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    public PaperCard getCard(final int ordinal) {
+        return cards[ordinal];
+    }
+
+    /**
+     * @return the ordinal of the given printing, or -1 if it isn't part of this index
+     */
+    public int getOrdinal(final PaperCard card) {
+        final Integer ordinal = cardOrdinals.get(card);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public BitSet evaluate(final Query query) {
+        return query.evaluate(this);
+    }
+
+    /**
+     * Wrap the result of a query as a predicate. Items that aren't printings known to this index
+     * (tokens, foil copies, non-card items) are tested with the fallback predicate instead.
+     */
+    public <T> Predicate<T> asPredicate(final BitSet selection, final Predicate<? super T> fallback) {
+        return new Predicate<T>() {
+            @Override
+            public boolean apply(T input) {
+                if (input instanceof PaperCard) {
+                    final int ordinal = getOrdinal((PaperCard) input);
+                    if (ordinal >= 0) {
+                        return selection.get(ordinal);
+                    }
+                }
+                return fallback.apply(input);
+            }
+        };
+    }
+
+    private BitSet all() {
+        final BitSet result = new BitSet(cards.length);
+        result.set(0, cards.length);
+        return result;
+    }
+
+    private BitSet expandRules(final BitSet rulesSelection) {
+        final BitSet result = new BitSet(cards.length);
+        for (int r = rulesSelection.nextSetBit(0); r >= 0; r = rulesSelection.nextSetBit(r + 1)) {
+            for (int i = cardsOfRulesStart[r]; i < cardsOfRulesStart[r + 1]; i++) {
+                result.set(cardsOfRules[i]);
+            }
+        }
+        return result;
+    }
+
+    private BitSet filterRules(final BitSet candidates, final Predicate<CardRules> predicate) {
+        final BitSet result = new BitSet(rules.length);
+        if (candidates == null) {
+            for (int r = 0; r < rules.length; r++) {
+                if (predicate.apply(rules[r])) {
+                    result.set(r);
+                }
+            }
+        }
+        else {
+            for (int r = candidates.nextSetBit(0); r >= 0; r = candidates.nextSetBit(r + 1)) {
+                if (predicate.apply(rules[r])) {
+                    result.set(r);
+                }
+            }
+        }
+        return result;
+    }
+
+    private BitSet filterCards(final Predicate<? super PaperCard> predicate) {
+        BitSet result = predicateCache.getIfPresent(predicate);
+        if (result == null) {
+            result = new BitSet(cards.length);
+            for (int i = 0; i < cards.length; i++) {
+                if (predicate.apply(cards[i])) {
+                    result.set(i);
+                }
+            }
+            predicateCache.put(predicate, result);
+        }
+        return (BitSet) result.clone();
+    }
+
+    /**
+     * Rules whose text contains every alphanumeric run of the given term somewhere in a token.
+     * This is a superset of the rules that contain the term itself, or null if the term has no
+     * runs to look up.
+     */
+    private BitSet textCandidates(final String term) {
+        BitSet result = null;
+        for (final String run : splitTokens(term)) {
+            final BitSet matches = new BitSet(rules.length);
+            for (int t = 0; t < tokens.length; t++) {
+                if (tokens[t].contains(run)) {
+                    for (final int r : tokenPostings[t]) {
+                        matches.set(r);
+                    }
+                }
+            }
+            if (result == null) {
+                result = matches;
+            }
+            else {
+                result.and(matches);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> tokenize(final CardRules cr) {
+        final Set<String> result = new LinkedHashSet<>();
+        addTokens(result, cr.getName());
+        addTokens(result, cr.getType().toString());
+        addTokens(result, CardTranslation.getTranslatedType(cr.getName(), cr.getType().toString()));
+        addTokens(result, cr.getManaCost().toString());
+        for (final ICardFace face : cr.getAllFaces()) {
+            if (face == null) {
+                continue;
+            }
+            addTokens(result, face.getName());
+            addTokens(result, StringUtils.stripAccents(face.getName()));
+            addTokens(result, CardTranslation.getTranslatedName(face.getName()));
+            addTokens(result, face.getOracleText());
+            addTokens(result, CardTranslation.getTranslatedOracle(face.getName()));
+            addTokens(result, face.getType().toString());
+            addTokens(result, CardTranslation.getTranslatedType(face.getName(), face.getType().toString()));
+        }
+        return result;
+    }
+
+    private static void addTokens(final Set<String> result, final String text) {
+        if (text != null) {
+            result.addAll(splitTokens(text));
+        }
+    }
+
+    /**
+     * Split text into case-folded runs of letters and digits. Folding matches the per-character
+     * comparison of {@link StringUtils#containsIgnoreCase}, so any string that contains a search
+     * term ignoring case has a token containing each run of the folded term.
+     */
+    static List<String> splitTokens(final String text) {
+        final List<String> result = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            final char ch = text.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                sb.append(Character.toLowerCase(Character.toUpperCase(ch)));
+            }
+            else if (sb.length() > 0) {
+                result.add(sb.toString());
+                sb.setLength(0);
+            }
+        }
+        if (sb.length() > 0) {
+            result.add(sb.toString());
+        }
+        return result;
+    }
+
+    /**
+     * Rules ordinals sorted by a numeric attribute, for range lookups by binary search.
+     * Integer.MAX_VALUE marks a missing value (e.g. non-numeric power) and never matches.
+     */
+    private static final class NumericColumn {
+        private final int[] sortedValues;
+        private final int[] sortedOrdinals;
+
+        private NumericColumn(final int[] values) {
+            final Integer[] order = new Integer[values.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return Integer.compare(values[a], values[b]);
+                }
+            });
+            sortedValues = new int[values.length];
+            sortedOrdinals = new int[values.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedOrdinals[i] = order[i];
+                sortedValues[i] = values[order[i]];
+            }
+        }
+
+        /** Index of the first entry with a value >= the given one. */
+        private int lowerBound(final int value) {
+            int lo = 0, hi = sortedValues.length;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (sortedValues[mid] < value) {
+                    lo = mid + 1;
+                }
+                else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private BitSet select(final ComparableOp op, final int value, final int size) {
+            final int known = lowerBound(Integer.MAX_VALUE);
+            final int from, to;
+            switch (op) {
+            case EQUALS:
+                from = lowerBound(value);
+                to = value == Integer.MAX_VALUE ? from : Math.min(lowerBound(value + 1), known);
+                break;
+            case GREATER_THAN:
+                from = value == Integer.MAX_VALUE ? known : lowerBound(value + 1);
+                to = known;
+                break;
+            case GT_OR_EQUAL:
+                from = lowerBound(value);
+                to = known;
+                break;
+            case LESS_THAN:
+                from = 0;
+                to = Math.min(lowerBound(value), known);
+                break;
+            case LT_OR_EQUAL:
+                from = 0;
+                to = value == Integer.MAX_VALUE ? known : Math.min(lowerBound(value + 1), known);
+                break;
+            case NOT_EQUALS:
+                final BitSet result = select(ComparableOp.LESS_THAN, value, size);
+                result.or(select(ComparableOp.GREATER_THAN, value, size));
+                return result;
+            default:
+                return new BitSet(size);
+            }
+            final BitSet result = new BitSet(size);
+            for (int i = from; i < to; i++) {
+                result.set(sortedOrdinals[i]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A filter expression that can be evaluated against the index. Every evaluation returns a new
+     * bitset of printing ordinals which callers are free to modify.
+     */
+    public static abstract class Query {
+        abstract BitSet evaluate(CardCatalogIndex index);
+
+        public static Query all() {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    return index.all();
+                }
+            };
+        }
+
+        public static Query and(final List<Query> queries) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    BitSet result = null;
+                    for (final Query q : queries) {
+                        if (result == null) {
+                            result = q.evaluate(index);
+                        }
+                        else if (!result.isEmpty()) {
+                            result.and(q.evaluate(index));
+                        }
+                    }
+                    return result == null ? index.all() : result;
+                }
+            };
+        }
+
+        public static Query or(final List<Query> queries) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    final BitSet result = new BitSet(index.cards.length);
+                    for (final Query q : queries) {
+                        result.or(q.evaluate(index));
+                    }
+                    return result;
+                }
+            };
+        }
+
+        public static Query and(final Query... queries) {
+            return and(Arrays.asList(queries));
+        }
+
+        public static Query or(final Query... queries) {
+            return or(Arrays.asList(queries));
+        }
+
+        public static Query not(final Query query) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    final BitSet result = query.evaluate(index);
+                    result.flip(0, index.cards.length);
+                    return result;
+                }
+            };
+        }
+
+        /** Cards having any of the given colors; MagicColor.COLORLESS selects colorless cards. */
+        public static Query color(final byte color) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    if (color == MagicColor.COLORLESS) {
+                        return index.expandRules(index.colorlessBits);
+                    }
+                    final BitSet result = new BitSet(index.rules.length);
+                    for (int c = 0; c < MagicColor.WUBRG.length; c++) {
+                        if ((color & MagicColor.WUBRG[c]) != 0) {
+                            result.or(index.colorBits[c]);
+                        }
+                    }
+                    return index.expandRules(result);
+                }
+            };
+        }
+
+        public static Query multicolor() {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    return index.expandRules(index.multicolorBits);
+                }
+            };
+        }
+
+        public static Query type(final CardType.CoreType type) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    return index.expandRules(index.typeBits.get(type));
+                }
+            };
+        }
+
+        public static Query rarity(final CardRarity rarity) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    final BitSet bits = index.rarityBits.get(rarity);
+                    return bits == null ? new BitSet() : (BitSet) bits.clone();
+                }
+            };
+        }
+
+        /** Printings from any of the given editions. */
+        public static Query edition(final Collection<String> editionCodes) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    final BitSet result = new BitSet(index.cards.length);
+                    for (final String code : editionCodes) {
+                        final int[] range = index.editionRanges.get(code);
+                        if (range != null) {
+                            result.set(range[0], range[1]);
+                        }
+                    }
+                    return result;
+                }
+            };
+        }
+
+        public static Query cmc(final ComparableOp op, final int value) {
+            return number(LeafNumber.CardField.CMC, op, value);
+        }
+
+        public static Query power(final ComparableOp op, final int value) {
+            return number(LeafNumber.CardField.POWER, op, value);
+        }
+
+        public static Query toughness(final ComparableOp op, final int value) {
+            return number(LeafNumber.CardField.TOUGHNESS, op, value);
+        }
+
+        private static Query number(final LeafNumber.CardField field, final ComparableOp op, final int value) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    final NumericColumn column;
+                    switch (field) {
+                    case CMC:
+                        column = index.cmcColumn;
+                        break;
+                    case POWER:
+                        column = index.powerColumn;
+                        break;
+                    default:
+                        column = index.toughnessColumn;
+                        break;
+                    }
+                    return index.expandRules(column.select(op, value, index.rules.length));
+                }
+            };
+        }
+
+        /**
+         * Compile a rules predicate. Mana value, power, toughness and core type leaves are answered
+         * from their columns; anything else is tested once per distinct rules object rather than
+         * once per printing.
+         */
+        public static Query rules(final Predicate<CardRules> predicate) {
+            if (predicate instanceof LeafNumber) {
+                final LeafNumber leaf = (LeafNumber) predicate;
+                if (leaf.field != LeafNumber.CardField.GENERIC_COST) {
+                    return number(leaf.field, leaf.operator, leaf.operand);
+                }
+            }
+            else if (predicate instanceof PredicateCoreType) {
+                final PredicateCoreType leaf = (PredicateCoreType) predicate;
+                final Query query = type(leaf.operand);
+                return leaf.shouldBeEqual ? query : not(query);
+            }
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    return index.expandRules(index.filterRules(null, predicate));
+                }
+            };
+        }
+
+        /**
+         * Cards whose name, type, cost or rules text may contain the given term, narrowed through
+         * the token index and then confirmed with the given predicate.
+         */
+        public static Query text(final String term, final Predicate<CardRules> predicate) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    return index.expandRules(index.filterRules(index.textCandidates(term), predicate));
+                }
+            };
+        }
+
+        /**
+         * A predicate over printings, evaluated once per index and cached for as long as the
+         * predicate object itself is reachable. Only use with predicates whose result doesn't change.
+         */
+        public static Query cards(final Predicate<? super PaperCard> predicate) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    return index.filterCards(predicate);
+                }
+            };
+        }
+
+        /** The first query, or the fallback where the first one matches nothing at all. */
+        public static Query orElse(final Query query, final Query fallback) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    final BitSet result = query.evaluate(index);
+                    return result.isEmpty() ? fallback.evaluate(index) : result;
+                }
+            };
+        }
+
+        /**
+         * Cards named like the single closest name to the given, presumably misspelt, one.
+         * The name index is only searched when the query is evaluated.
+         */
+        public static Query closestName(final String name, final CardNameIndex names) {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    final String closest = names.getClosest(name);
+                    if (closest == null) {
+                        return new BitSet(index.cards.length);
+                    }
+                    return index.expandRules(index.filterRules(null, new Predicate<CardRules>() {
+                        @Override
+                        public boolean apply(CardRules cr) {
+                            if (cr.getName().equalsIgnoreCase(closest)) {
+                                return true;
+                            }
+                            for (final ICardFace face : cr.getAllFaces()) {
+                                if (face != null && face.getName().equalsIgnoreCase(closest)) {
+                                    return true;
+                                }
+                            }
+                            return false;
+                        }
+                    }));
+                }
+            };
+        }
+
+        public static Query none() {
+            return new Query() {
+                @Override
+                BitSet evaluate(CardCatalogIndex index) {
+                    return new BitSet(index.cards.length);
+                }
+            };
+        }
+    }
+}
@@ -27,6 +27,7 @@ import forge.card.CardEdition.Type;
 import forge.deck.generation.IDeckGenPool;
 import forge.item.IPaperCard;
 import forge.item.PaperCard;
+import forge.util.CardTranslation;
 import forge.util.CollectionSuppliers;
 import forge.util.Lang;
 import forge.util.TextUtil;
@@ -58,6 +59,10 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
 
     private Map<String, Boolean> nonLegendaryCreatureNames = Maps.newHashMap();
 
+    // built on first use, dropped whenever a printing is added
+    private volatile CardCatalogIndex catalogIndex;
+    private volatile CardNameIndex nameIndex;
+
     public enum CardArtPreference {
         LATEST_ART_ALL_EDITIONS(false, true),
         LATEST_ART_CORE_EXPANSIONS_REPRINT_ONLY(true, true),
@@ -407,6 +412,8 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
             return;
 
         allCardsByName.put(paperCard.getName(), paperCard);
+        catalogIndex = null;
+        nameIndex = null;
 
         if (paperCard.getRules().getSplitType() == CardSplitType.None) {
             return;
@@ -920,6 +927,42 @@ public final class CardDb implements ICardDatabase, IDeckGenPool {
         return Collections.unmodifiableCollection(allCardsByName.values());
     }
 
+    /**
+     * @return a columnar index over all printings in this database, built on first request
+     */
+    public CardCatalogIndex getCatalogIndex() {
+        CardCatalogIndex index = catalogIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = catalogIndex;
+                if (index == null) {
+                    index = new CardCatalogIndex(allCardsByName.values());
+                    catalogIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return a trie over the names (and their translations) cards can be looked up by, built on first request
+     * and again once cards are added or the language of card names changes
+     */
+    public CardNameIndex getNameIndex() {
+        final String language = CardTranslation.getLanguageSelected();
+        CardNameIndex index = nameIndex;
+        if (index == null || !index.getLanguage().equals(language)) {
+            synchronized (this) {
+                index = nameIndex;
+                if (index == null || !index.getLanguage().equals(language)) {
+                    index = new CardNameIndex(allCardsByName.keySet());
+                    nameIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
     public Collection<PaperCard> getAllCardsNoAlt() {
         return Multimaps.filterEntries(allCardsByName, new Predicate<Entry<String, PaperCard>>() {
             @Override
@@ -0,0 +1,335 @@
+package forge.card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import forge.util.CardTranslation;
+
+/**
+ * Read-only compressed trie over card names, answering exact, prefix and misspelt lookups.
+ * <br><br>
+ * Every name is stored under a folded key (no accents, case folded) together with the key of its
+ * translation in the language selected when it is built, and each key resolves to the name the card database
+ * knows the card by. Misspelt lookups walk the trie with one row of the edit distance table per
+ * character, so whole subtrees are dropped as soon as they can't get within the bound.
+ * The index is immutable once built and may be queried from any thread.
+ */
+public final class CardNameIndex {
+    private final Node root;
+    private final int maxKeyLength;
+    private final String language;
+
+    public CardNameIndex(final Collection<String> cardNames) {
+        language = CardTranslation.getLanguageSelected();
+        // card names go in before translations so that they win if both fold to the same key
+        final Map<String, String> keys = new TreeMap<>();
+        for (final String name : cardNames) {
+            putIfAbsent(keys, fold(name), name);
+        }
+        for (final String name : cardNames) {
+            putIfAbsent(keys, fold(CardTranslation.getTranslatedName(name)), name);
+        }
+        keys.remove("");
+
+        final String[] sortedKeys = keys.keySet().toArray(new String[0]);
+        final String[] names = keys.values().toArray(new String[0]);
+        int longest = 0;
+        for (final String key : sortedKeys) {
+            longest = Math.max(longest, key.length());
+        }
+        maxKeyLength = longest;
+        root = build(sortedKeys, names, 0, sortedKeys.length, 0);
+    }
+
+    /**
+     * @return the language of the translated names in the index
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    private static void putIfAbsent(final Map<String, String> keys, final String key, final String name) {
+        if (!keys.containsKey(key)) {
+            keys.put(key, name);
+        }
+    }
+
+    /**
+     * Fold a name the way keys are stored: accents stripped and case folded, so that "Lim-Dûl"
+     * and "LIM-DUL" end up under the same key.
+     */
+    static String fold(final String name) {
+        final String stripped = StringUtils.stripAccents(name.trim());
+        final StringBuilder sb = new StringBuilder(stripped.length());
+        for (int i = 0; i < stripped.length(); i++) {
+            sb.append(Character.toLowerCase(Character.toUpperCase(stripped.charAt(i))));
+        }
+        return sb.toString();
+    }
+
+    /** Build the node for the sorted keys in [lo, hi), which all share their first depth characters. */
+    private static Node build(final String[] keys, final String[] names, int lo, final int hi, final int depth) {
+        String name = null;
+        if (lo < hi && keys[lo].length() == depth) {
+            name = names[lo];
+            lo++;
+        }
+        final List<String> labels = new ArrayList<>();
+        final List<Node> children = new ArrayList<>();
+        int i = lo;
+        while (i < hi) {
+            final char first = keys[i].charAt(depth);
+            int j = i + 1;
+            while (j < hi && keys[j].charAt(depth) == first) {
+                j++;
+            }
+            // keys are sorted, so what the first and last key of the group share is shared by all of them
+            final String a = keys[i], b = keys[j - 1];
+            int end = depth + 1;
+            while (end < a.length() && end < b.length() && a.charAt(end) == b.charAt(end)) {
+                end++;
+            }
+            labels.add(a.substring(depth, end));
+            children.add(build(keys, names, i, j, end));
+            i = j;
+        }
+        return new Node(name, labels.toArray(new String[0]), children.toArray(new Node[0]));
+    }
+
+    /**
+     * @return the card name stored under the same key as the given name or translation, or null
+     */
+    public String getExact(final String name) {
+        if (name == null) {
+            return null;
+        }
+        final String key = fold(name);
+        Node node = root;
+        int pos = 0;
+        while (pos < key.length()) {
+            final int c = node.indexOf(key.charAt(pos));
+            if (c < 0 || !key.startsWith(node.labels[c], pos)) {
+                return null;
+            }
+            pos += node.labels[c].length();
+            node = node.children[c];
+        }
+        return node.name;
+    }
+
+    /**
+     * @return up to limit card names whose name or translation starts with the given text,
+     * shortest first and then alphabetically by key
+     */
+    public List<String> startingWith(final String prefix, final int limit) {
+        final String key = fold(prefix);
+        Node node = root;
+        String path = "";
+        int pos = 0;
+        while (pos < key.length()) {
+            final int c = node.indexOf(key.charAt(pos));
+            if (c < 0) {
+                return Collections.emptyList();
+            }
+            final String label = node.labels[c];
+            final int rest = Math.min(label.length(), key.length() - pos);
+            if (!key.regionMatches(pos, label, 0, rest)) {
+                return Collections.emptyList();
+            }
+            path += label;
+            pos += label.length();
+            node = node.children[c];
+        }
+
+        final List<String> result = new ArrayList<>();
+        final PriorityQueue<Entry> queue = new PriorityQueue<>(16, Entry.BY_KEY);
+        queue.add(new Entry(node, path));
+        while (!queue.isEmpty() && result.size() < limit) {
+            final Entry entry = queue.poll();
+            if (entry.node.name != null && !result.contains(entry.node.name)) {
+                result.add(entry.node.name);
+            }
+            for (int c = 0; c < entry.node.children.length; c++) {
+                queue.add(new Entry(entry.node.children[c], entry.path + entry.node.labels[c]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Card names within maxEdits insertions, deletions, substitutions or swaps of adjacent
+     * characters of the given name or of their translation, closest first. Ties go to the name
+     * whose key length is nearest to that of the request, then alphabetically.
+     */
+    public List<Match> find(final String name, final int maxEdits, final int limit) {
+        final String query = fold(name);
+        final int m = query.length();
+        final int[][] rows = new int[maxKeyLength + 1][];
+        rows[0] = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            rows[0][j] = j;
+        }
+        final Map<String, Match> found = new HashMap<>();
+        search(root, 0, query, maxEdits, rows, new char[maxKeyLength], found);
+
+        final List<Match> result = new ArrayList<>(found.values());
+        Collections.sort(result);
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    private static void search(final Node node, final int depth, final String query, final int maxEdits,
+            final int[][] rows, final char[] path, final Map<String, Match> found) {
+        final int m = query.length();
+        for (int c = 0; c < node.children.length; c++) {
+            final String label = node.labels[c];
+            int d = depth;
+            boolean reachable = true;
+            for (int k = 0; k < label.length() && reachable; k++, d++) {
+                final char ch = label.charAt(k);
+                path[d] = ch;
+                final int[] prev = rows[d];
+                int[] row = rows[d + 1];
+                if (row == null) {
+                    row = rows[d + 1] = new int[m + 1];
+                }
+                row[0] = d + 1;
+                int min = row[0];
+                for (int j = 1; j <= m; j++) {
+                    int value = Math.min(prev[j] + 1, row[j - 1] + 1);
+                    value = Math.min(value, prev[j - 1] + (query.charAt(j - 1) == ch ? 0 : 1));
+                    if (d > 0 && j > 1 && ch == query.charAt(j - 2) && path[d - 1] == query.charAt(j - 1)) {
+                        value = Math.min(value, rows[d - 1][j - 2] + 1);
+                    }
+                    row[j] = value;
+                    min = Math.min(min, value);
+                }
+                reachable = min <= maxEdits;
+            }
+            if (!reachable) {
+                continue;
+            }
+            final Node child = node.children[c];
+            if (child.name != null && rows[d][m] <= maxEdits) {
+                final Match match = new Match(child.name, rows[d][m], Math.abs(d - m));
+                final Match previous = found.get(child.name);
+                if (previous == null || match.compareTo(previous) < 0) {
+                    found.put(child.name, match);
+                }
+            }
+            search(child, d, query, maxEdits, rows, path, found);
+        }
+    }
+
+    /**
+     * @return the only card name closest to the given misspelt one, allowing more edits the
+     * longer the name is, or null if there is none or the closest ones are a tie
+     */
+    public String getClosest(final String name) {
+        final String exact = getExact(name);
+        if (exact != null) {
+            return exact;
+        }
+        final int length = fold(name).length();
+        final int maxEdits = length < 5 ? 0 : length < 10 ? 1 : 2;
+        if (maxEdits == 0) {
+            return null;
+        }
+        final List<Match> closest = find(name, maxEdits, 2);
+        if (closest.isEmpty()) {
+            return null;
+        }
+        if (closest.size() > 1 && closest.get(1).getDistance() == closest.get(0).getDistance()) {
+            return null;
+        }
+        return closest.get(0).getName();
+    }
+
+    public static final class Match implements Comparable<Match> {
+        private final String name;
+        private final int distance;
+        private final int lengthDelta;
+
+        private Match(final String name, final int distance, final int lengthDelta) {
+            this.name = name;
+            this.distance = distance;
+            this.lengthDelta = lengthDelta;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        @Override
+        public int compareTo(final Match other) {
+            if (distance != other.distance) {
+                return Integer.compare(distance, other.distance);
+            }
+            if (lengthDelta != other.lengthDelta) {
+                return Integer.compare(lengthDelta, other.lengthDelta);
+            }
+            return name.compareTo(other.name);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + distance + ")";
+        }
+    }
+
+    private static final class Node {
+        private final String name;
+        private final char[] firstChars;
+        private final String[] labels;
+        private final Node[] children;
+
+        private Node(final String name, final String[] labels, final Node[] children) {
+            this.name = name;
+            this.labels = labels;
+            this.children = children;
+            firstChars = new char[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                firstChars[i] = labels[i].charAt(0);
+            }
+        }
+
+        /** Children are built from sorted keys, so their first characters are sorted too. */
+        private int indexOf(final char ch) {
+            final int i = Arrays.binarySearch(firstChars, ch);
+            return i < 0 ? -1 : i;
+        }
+    }
+
+    private static final class Entry {
+        private static final Comparator<Entry> BY_KEY = new Comparator<Entry>() {
+            @Override
+            public int compare(Entry a, Entry b) {
+                if (a.path.length() != b.path.length()) {
+                    return Integer.compare(a.path.length(), b.path.length());
+                }
+                return a.path.compareTo(b.path);
+            }
+        };
+
+        private final Node node;
+        private final String path;
+
+        private Entry(final Node node, final String path) {
+            this.node = node;
+            this.path = path;
+        }
+    }
+}
@@ -473,9 +473,9 @@ public final class CardRulesPredicates {
             CMC, GENERIC_COST, POWER, TOUGHNESS
         }
 
-        private final LeafNumber.CardField field;
-        private final ComparableOp operator;
-        private final int operand;
+        final LeafNumber.CardField field;
+        final ComparableOp operator;
+        final int operand;
 
         public LeafNumber(final LeafNumber.CardField field, final ComparableOp op, final int what) {
             this.field = field;
@@ -522,9 +522,9 @@ public final class CardRulesPredicates {
         }
     }
 
-    private static class PredicateCoreType implements Predicate<CardRules> {
-        private final CardType.CoreType operand;
-        private final boolean shouldBeEqual;
+    static class PredicateCoreType implements Predicate<CardRules> {
+        final CardType.CoreType operand;
+        final boolean shouldBeEqual;
 
         @Override
         public boolean apply(final CardRules card) {
@@ -1,10 +1,14 @@
 package forge.card;
 
 import java.io.File;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
 
 import com.google.common.base.Function;
 
@@ -41,6 +45,9 @@ public class PrintSheet {
     private final ItemPool<PaperCard> cardsWithWeights;
 
     private final String name;
+    // built on first pick, and dropped whenever cards are added or removed
+    private volatile Sampler sampler;
+
     public PrintSheet(String name0) {
         this(name0, null);
     }
@@ -56,6 +63,7 @@ public class PrintSheet {
 
     public void add(PaperCard card, int weight) {
         cardsWithWeights.add(card, weight);
+        sampler = null;
     }
 
     public void addAll(Iterable<PaperCard> cards) {
@@ -65,6 +73,7 @@ public class PrintSheet {
     public void addAll(Iterable<PaperCard> cards, int weight) {
         for (PaperCard card : cards)
             cardsWithWeights.add(card, weight);
+        sampler = null;
     }
 
     /** Cuts cards out of a sheet - they won't be printed again.
@@ -72,23 +81,71 @@ public class PrintSheet {
     public void removeAll(Iterable<PaperCard> cards) {
         for(PaperCard card : cards)
             cardsWithWeights.remove(card);
-    }
-
-    private PaperCard fetchRoulette(int start, int roulette, Collection<PaperCard> toSkip) {
-        int sum = start;
-        boolean isSecondRun = start > 0;
-        for (Entry<PaperCard, Integer> cc : cardsWithWeights ) {
-            sum += cc.getValue();
-            if (sum > roulette) {
-                if (toSkip != null && toSkip.contains(cc.getKey()))
-                    continue;
-                return cc.getKey();
+        sampler = null;
+    }
+
+    /**
+     * Picks a card by its weight in constant time, with Vose's alias method: every card gets a column of the same
+     * height, the total weight, filled with its own weight and topped up with the weight of one heavier card.
+     * The heights are integers, so the odds of each card are exactly its weight over the total weight.
+     */
+    static final class Sampler {
+        final PaperCard[] cards;
+        final int[] threshold;
+        final int[] alias;
+        final int totalWeight;
+
+        Sampler(ItemPool<PaperCard> pool) {
+            List<Entry<PaperCard, Integer>> entries = new ArrayList<>();
+            for (Entry<PaperCard, Integer> kv : pool) {
+                entries.add(kv);
+            }
+            int n = entries.size();
+            cards = new PaperCard[n];
+            long[] scaled = new long[n];
+            int total = 0, i = 0;
+            for (Entry<PaperCard, Integer> kv : entries) {
+                cards[i] = kv.getKey();
+                scaled[i++] = kv.getValue();
+                total += kv.getValue();
+            }
+            totalWeight = total;
+            threshold = new int[n];
+            alias = new int[n];
+
+            Deque<Integer> small = new ArrayDeque<>(), large = new ArrayDeque<>();
+            for (i = 0; i < n; i++) {
+                scaled[i] *= n;
+                (scaled[i] < total ? small : large).push(i);
+            }
+            while (!small.isEmpty() && !large.isEmpty()) {
+                int s = small.pop(), l = large.pop();
+                threshold[s] = (int) scaled[s];
+                alias[s] = l;
+                scaled[l] -= total - scaled[s];
+                (scaled[l] < total ? small : large).push(l);
+            }
+            // what's left is exactly full
+            for (int r : small) {
+                threshold[r] = total;
+            }
+            for (int r : large) {
+                threshold[r] = total;
             }
         }
-        if (isSecondRun)
-            throw new IllegalStateException("Print sheet does not have enough unique cards");
 
-        return fetchRoulette(sum + 1, roulette, toSkip); // start over from beginning, in case last cards were to skip
+        int next(Random random) {
+            int column = random.nextInt(cards.length);
+            return random.nextInt(totalWeight) < threshold[column] ? column : alias[column];
+        }
+    }
+
+    Sampler getSampler() {
+        Sampler result = sampler;
+        if (result == null) {
+            sampler = result = new Sampler(cardsWithWeights);
+        }
+        return result;
     }
 
     public List<PaperCard> all() {
@@ -135,13 +192,22 @@ public class PrintSheet {
             number -= uniqueCards;
         }
 
-        List<PaperCard> uniques = wantUnique ? new ArrayList<>() : null;
+        Sampler sampler = getSampler();
+        Random random = MyRandom.getRandom();
+        Set<PaperCard> uniques = wantUnique ? new HashSet<>() : null;
         for (int iC = 0; iC < number; iC++) {
-            int index = MyRandom.getRandom().nextInt(totalWeight);
-            PaperCard toAdd = fetchRoulette(0, index, wantUnique ? uniques : null);
-            result.add(toAdd);
-            if (wantUnique)
-                uniques.add(toAdd);
+            int index = sampler.next(random);
+            if (wantUnique) {
+                // a card already picked gives its turn to the next one on the sheet
+                int tries = 0;
+                while (uniques.contains(sampler.cards[index])) {
+                    if (++tries == sampler.cards.length)
+                        throw new IllegalStateException("Print sheet does not have enough unique cards");
+                    index = (index + 1) % sampler.cards.length;
+                }
+                uniques.add(sampler.cards[index]);
+            }
+            result.add(sampler.cards[index]);
         }
         return result;
     }
@@ -19,6 +19,7 @@ package forge.deck;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
 import com.google.common.collect.Lists;
 import forge.StaticData;
 import forge.card.CardDb;
@@ -30,6 +31,8 @@ import forge.item.PaperCard;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -49,6 +52,8 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
     // Supports deferring loading a deck until we actually need its contents. This works in conjunction with
     // the lazy card load feature to ensure we don't need to load all cards on start up.
     private Map<String, List<String>> deferredSections = null;
+    // When set, the sections themselves are only read (e.g. from the deck file) the first time they are needed.
+    private transient Supplier<Map<String, List<String>>> deferredSectionsSource = null;
     private Map<String, List<String>> loadedSections = null;
     private String lastCardArtPreferenceUsed = "";
     private Boolean lastCardArtOptimisationOptionUsed = null;
@@ -192,6 +197,32 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
 
     public void setDeferredSections(Map<String, List<String>> deferredSections) {
         this.deferredSections = deferredSections;
+        this.deferredSectionsSource = null;
+    }
+
+    /**
+     * Defers reading the deck sections until the deck contents are first accessed.
+     *
+     * @param source supplies the raw sections, as they would be passed to {@link #setDeferredSections(Map)}
+     */
+    public void setDeferredSections(Supplier<Map<String, List<String>>> source) {
+        this.deferredSections = null;
+        this.deferredSectionsSource = source;
+    }
+
+    private void readDeferredSectionsSource() {
+        if (deferredSectionsSource == null)
+            return;
+        Map<String, List<String>> sections = deferredSectionsSource.get();
+        deferredSectionsSource = null;
+        if (sections != null && !sections.isEmpty())
+            deferredSections = sections;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // the source is not serializable, so ship the raw sections instead
+        readDeferredSectionsSource();
+        out.defaultWriteObject();
     }
 
     /* (non-Javadoc)
@@ -220,6 +251,7 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
     }
 
     private void loadDeferredSections() {
+        readDeferredSectionsSource();
         if (deferredSections == null && loadedSections == null)
             return;
 
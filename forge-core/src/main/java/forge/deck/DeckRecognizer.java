@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import forge.StaticData;
 import forge.card.CardDb;
 import forge.card.CardEdition;
+import forge.card.CardNameIndex;
 import forge.card.CardType;
 import forge.card.MagicColor;
 import forge.item.IPaperCard;
@@ -87,6 +88,8 @@ public class DeckRecognizer {
         // This will be used to mark tokens that could be further processed by
         // card art optimisation (if enabled)
         private boolean cardRequestHasSetCode = true;
+        // the name as typed, when it matched no card and the closest card name was taken instead
+        private String misspeltName = null;
 
 
         public static Token LegalCard(final PaperCard card, final int count,
@@ -220,6 +223,12 @@ public class DeckRecognizer {
 
         public final DeckSection getTokenSection() { return this.tokenSection; }
 
+        /**
+         * @return the card name as it was typed, if it matched no card and was read as the closest card name
+         * instead; null if the card was found by its name
+         */
+        public final String getMisspeltName() { return this.misspeltName; }
+
         public void resetTokenSection(DeckSection referenceDeckSection) {
             this.tokenSection = referenceDeckSection != null ? referenceDeckSection : DeckSection.Main;
         }
@@ -462,6 +471,10 @@ public class DeckRecognizer {
             "(%s\\s*:\\s*)?(%s\\s)?\\s*%s\\s*%s", REX_DECKSEC_XMAGE, REX_CARD_COUNT, REX_CARD_NAME, REX_FOIL_MTGGOLDFISH);
     public static final Pattern CARD_ONLY_PATTERN = Pattern.compile(REX_CARDONLY);
 
+    private static final Pattern URL_PATTERN = Pattern.compile(
+            "(?<protocol>((https|ftp|file|http):))(?<sep>((//|\\\\)+))(?<url>([\\w\\d:#@%/;$~_?+-=\\\\.&]*))",
+            Pattern.CASE_INSENSITIVE);
+
     // CoreTypes (to recognise Tokens of type CardType
     private static final CharSequence[] CARD_TYPES = allCardTypes();
     private static final CharSequence[] DECK_SECTION_NAMES = {
@@ -599,12 +612,10 @@ public class DeckRecognizer {
     }
 
     public static String purgeAllLinks(String line){
-        String urlPattern = "(?<protocol>((https|ftp|file|http):))(?<sep>((//|\\\\)+))(?<url>([\\w\\d:#@%/;$~_?+-=\\\\.&]*))";
-        Pattern p = Pattern.compile(urlPattern, Pattern.CASE_INSENSITIVE);
-        Matcher m = p.matcher(line);
+        Matcher m = URL_PATTERN.matcher(line);
 
         while (m.find()) {
-            line = line.replaceAll(m.group(), "").trim();
+            line = line.replace(m.group(), "").trim();
         }
         if (StringUtils.endsWith(line, "()"))
             return line.substring(0, line.length()-2);
@@ -612,19 +623,41 @@ public class DeckRecognizer {
     }
 
     public Token recogniseCardToken(final String text, final DeckSection currentDeckSection) {
+        Token result = recogniseCardToken(text, currentDeckSection, false);
+        if ((result == null || result.getType() == TokenType.UNKNOWN_CARD) && recogniseNonCardToken(text.trim()) == null) {
+            // Nothing matched as it was typed: give misspelt card names a second chance
+            Token corrected = recogniseCardToken(text, currentDeckSection, true);
+            if (corrected != null && corrected.getCard() != null)
+                return corrected;
+        }
+        return result;
+    }
+
+    private Token recogniseCardToken(final String text, final DeckSection currentDeckSection, final boolean closestName) {
         String line = text.trim();
         Token unknownCardToken = null;
         StaticData data = StaticData.instance();
+        CardNameIndex nameIndex = data.getCommonCards().getNameIndex();
         List<Matcher> cardMatchers = getRegExMatchers(line);
         for (Matcher matcher : cardMatchers) {
             String cardName = getRexGroup(matcher, REGRP_CARD);
             if (cardName == null)
                 continue;
             cardName = cardName.trim();
+            String misspeltName = null;
             //Avoid hit the DB - check whether cardName is contained in the DB
             if (!data.isMTGCard(cardName)){
+                // names in the current language, or spelt with different accents
+                String knownName = nameIndex.getExact(cardName);
                 // check the case for double-sided cards
-                cardName = checkDoubleSidedCard(cardName);
+                if (knownName == null)
+                    knownName = checkDoubleSidedCard(cardName);
+                if (knownName == null && closestName) {
+                    knownName = nameIndex.getClosest(cardName);
+                    if (knownName != null)
+                        misspeltName = cardName;
+                }
+                cardName = knownName;
             }
             String ccount = getRexGroup(matcher, REGRP_CARDNO);
             String setCode = getRexGroup(matcher, REGRP_SET);
@@ -664,8 +697,8 @@ public class DeckRecognizer {
                 PaperCard pc = data.getCardFromSet(cardName, edition, collectorNumber, artIndex, isFoil);
                 if (pc != null)
                     // ok so the card has been found - let's see if there's any restriction on the set
-                    return checkAndSetCardToken(pc, edition, cardCount, deckSecFromCardLine,
-                                                currentDeckSection, true);
+                    return withMisspeltName(checkAndSetCardToken(pc, edition, cardCount, deckSecFromCardLine,
+                                                currentDeckSection, true), misspeltName);
                 // UNKNOWN card as in the Counterspell|FEM case
                 return Token.UnknownCard(cardName, setCode, cardCount);
             }
@@ -684,13 +717,18 @@ public class DeckRecognizer {
 
             if (pc != null) {
                 CardEdition edition = StaticData.instance().getCardEdition(pc.getEdition());
-                return checkAndSetCardToken(pc, edition, cardCount, deckSecFromCardLine,
-                                            currentDeckSection, false);
+                return withMisspeltName(checkAndSetCardToken(pc, edition, cardCount, deckSecFromCardLine,
+                                            currentDeckSection, false), misspeltName);
             }
         }
         return unknownCardToken;  // either null or unknown card
     }
 
+    private static Token withMisspeltName(Token cardToken, String misspeltName) {
+        cardToken.misspeltName = misspeltName;
+        return cardToken;
+    }
+
     private String checkDoubleSidedCard(final String cardName){
         if (!cardName.contains("//"))
             return null;
@@ -805,6 +843,14 @@ public class DeckRecognizer {
 
     private List<Matcher> getRegExMatchers(String line) {
         List<Matcher> matchers = new ArrayList<>();
+        // Most lines are just a card name, with or without a count: skip the patterns looking for set codes
+        if (isCardNameWithCount(line)) {
+            Matcher matcher = CARD_ONLY_PATTERN.matcher(line);
+            if (matcher.matches()) {
+                matchers.add(matcher);
+                return matchers;
+            }
+        }
         Pattern[] patternsWithCollNumber = new Pattern[] {
                 CARD_SET_COLLNO_PATTERN,
                 SET_CARD_COLLNO_PATTERN,
@@ -830,6 +876,21 @@ public class DeckRecognizer {
         return matchers;
     }
 
+    private static boolean isCardNameWithCount(String line) {
+        int start = 0;
+        while (start < line.length() && start < 2 && Character.isDigit(line.charAt(start)))
+            start++;
+        if (start > 0 && start < line.length() && line.charAt(start) == 'x')
+            start++;
+        if (start > 0 && (start == line.length() || !Character.isWhitespace(line.charAt(start))))
+            start = 0;  // not a count, e.g. a card name starting with a number
+        String cardName = line.substring(start).trim();
+        if (cardName.isEmpty())
+            return false;
+        StaticData data = StaticData.instance();
+        return data.isMTGCard(cardName) || data.getCommonCards().getNameIndex().getExact(cardName) != null;
+    }
+
     public Token recogniseNonCardToken(final String text) {
         if (isDeckSectionName(text)) {
             String tokenText = nonCardTokenMatch(text);
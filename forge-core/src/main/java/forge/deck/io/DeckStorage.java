@@ -19,8 +19,16 @@ package forge.deck.io;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.common.base.Supplier;
 
 import forge.deck.Deck;
 import forge.util.FileSection;
@@ -35,9 +43,17 @@ import forge.util.storage.StorageReaderFolder;
 public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSerializer<Deck> {
     public static final String FILE_EXTENSION = ".dck";
 
+    /** Name of the file caching the headers of the decks in a folder, so that unchanged decks need not be parsed on startup. */
+    public static final String INDEX_FILE_NAME = ".deckindex";
+    private static final String INDEX_VERSION = "# forge deck index v1";
+
     private final String rootDir;
     private final boolean moveWronglyNamedDecks;
 
+    // file name => header of that file, as of its last recorded size and modification time
+    private final ConcurrentMap<String, IndexEntry> index = new ConcurrentHashMap<>();
+    private volatile boolean indexChanged;
+
     /** Constant <code>DCKFileFilter</code>. */
     public static final FilenameFilter DCK_FILE_FILTER = new FilenameFilter() {
         @Override
@@ -80,8 +96,29 @@ public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSeria
         return new File(this.directory, deck.getBestFileName() + FILE_EXTENSION);
     }
 
+    @Override
+    public Map<String, Deck> readAll() {
+        readIndex();
+        final Map<String, Deck> result = super.readAll();
+        if (index.keySet().retainAll(listDeckFileNames())) {
+            indexChanged = true;
+        }
+        if (indexChanged) {
+            writeIndex();
+        }
+        return result;
+    }
+
     @Override
     protected Deck read(final File file) {
+        final IndexEntry cached = index.get(file.getName());
+        if (cached != null && cached.matches(file)) {
+            // unchanged since it was indexed: the contents are only read once the deck is used
+            final Deck result = cached.toDeck(file);
+            result.setDirectory(file.getParent().substring(rootDir.length()));
+            return result;
+        }
+
         final Map<String, List<String>> sections = FileSection.parseSections(FileUtil.readFile(file));
         Deck result = DeckSerializer.fromSections(sections);
 
@@ -91,10 +128,159 @@ public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSeria
 
         if (result != null) {
             result.setDirectory(file.getParent().substring(rootDir.length()));
+            if (file.exists()) { // could have been moved
+                index.put(file.getName(), new IndexEntry(file, result));
+                indexChanged = true;
+            }
         }
         return result;
     }
 
+    @Override
+    protected boolean canReadInParallel() {
+        return true;
+    }
+
+    private List<String> listDeckFileNames() {
+        final String[] names = directory.list(DCK_FILE_FILTER);
+        final List<String> result = new ArrayList<>();
+        if (names != null) {
+            Collections.addAll(result, names);
+        }
+        return result;
+    }
+
+    private void readIndex() {
+        index.clear();
+        indexChanged = false;
+        final File indexFile = new File(directory, INDEX_FILE_NAME);
+        if (!indexFile.isFile()) {
+            return;
+        }
+        final List<String> lines = FileUtil.readFile(indexFile);
+        if (lines.isEmpty() || !INDEX_VERSION.equals(lines.get(0))) {
+            return; // unknown format, will be rebuilt
+        }
+        for (int i = 1; i < lines.size(); i++) {
+            final IndexEntry entry = IndexEntry.parse(lines.get(i));
+            if (entry != null) {
+                index.put(entry.fileName, entry);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        if (!directory.canWrite()) {
+            return;
+        }
+        final List<String> lines = new ArrayList<>(index.size() + 1);
+        lines.add(INDEX_VERSION);
+        for (final IndexEntry entry : index.values()) {
+            lines.add(entry.toString());
+        }
+        try {
+            FileUtil.writeFile(new File(directory, INDEX_FILE_NAME), lines);
+            indexChanged = false;
+        } catch (final RuntimeException e) {
+            // the index is only a cache, the decks will simply be parsed again next time
+            System.err.println("DeckStorage: could not write deck index for " + directory.getPath() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The part of a deck file needed to list the deck without reading its cards:
+     * name, comment and tags, keyed by file name and valid for a given size and modification time.
+     */
+    private static final class IndexEntry {
+        private static final char SEPARATOR = '\t';
+
+        private final String fileName;
+        private final long length;
+        private final long lastModified;
+        private final String name;
+        private final String comment;
+        private final String tags;
+
+        private IndexEntry(final String fileName0, final long length0, final long lastModified0, final String name0, final String comment0, final String tags0) {
+            fileName = fileName0;
+            length = length0;
+            lastModified = lastModified0;
+            name = name0;
+            comment = comment0;
+            tags = tags0;
+        }
+
+        private IndexEntry(final File file, final Deck deck) {
+            this(file.getName(), file.length(), file.lastModified(), deck.getName(), deck.getComment(),
+                    StringUtils.join(deck.getTags(), DeckFileHeader.TAGS_SEPARATOR));
+        }
+
+        private boolean matches(final File file) {
+            return file.length() == length && file.lastModified() == lastModified;
+        }
+
+        private Deck toDeck(final File file) {
+            final Deck deck = new Deck(name);
+            deck.setComment(comment);
+            if (!tags.isEmpty()) {
+                for (final String tag : tags.split(DeckFileHeader.TAGS_SEPARATOR)) {
+                    deck.getTags().add(tag);
+                }
+            }
+            deck.setDeferredSections(new Supplier<Map<String, List<String>>>() {
+                @Override
+                public Map<String, List<String>> get() {
+                    return FileSection.parseSections(FileUtil.readFile(file));
+                }
+            });
+            return deck;
+        }
+
+        private static IndexEntry parse(final String line) {
+            final String[] fields = StringUtils.splitPreserveAllTokens(line, SEPARATOR);
+            if (fields.length != 6) {
+                return null;
+            }
+            try {
+                return new IndexEntry(unescape(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                        unescape(fields[3]), fields[4].isEmpty() ? null : unescape(fields[4]), unescape(fields[5]));
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return StringUtils.join(new Object[] { escape(fileName), length, lastModified, escape(name),
+                    comment == null ? "" : escape(comment), escape(tags) }, SEPARATOR);
+        }
+
+        private static String escape(final String value) {
+            return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+        }
+
+        private static String unescape(final String value) {
+            if (value.indexOf('\\') < 0) {
+                return value;
+            }
+            final StringBuilder sb = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                if (ch == '\\' && i + 1 < value.length()) {
+                    ch = value.charAt(++i);
+                    switch (ch) {
+                        case 't': ch = '\t'; break;
+                        case 'n': ch = '\n'; break;
+                        case 'r': ch = '\r'; break;
+                        default: break;
+                    }
+                }
+                sb.append(ch);
+            }
+            return sb.toString();
+        }
+    }
+
     private static void adjustFileLocation(final File file, final Deck result) {
         if (result == null) {
             file.delete();
@@ -23,9 +23,12 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -61,11 +64,19 @@ import forge.util.TextUtil;
  */
 public class BoosterGenerator {
 
-    private final static Map<String, PrintSheet> cachedSheets = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    private static synchronized PrintSheet getPrintSheet(String key) {
-        if (!cachedSheets.containsKey(key))
-            cachedSheets.put(key, makeSheet(key, StaticData.instance().getCommonCards().getAllCards()));
-        return cachedSheets.get(key);
+    // by lower case key; packs are generated in parallel, and a sheet made twice by a race is only wasted work
+    private final static ConcurrentMap<String, PrintSheet> cachedSheets = new ConcurrentHashMap<>();
+    private static PrintSheet getPrintSheet(String key) {
+        String cacheKey = key.toLowerCase(Locale.ROOT);
+        PrintSheet sheet = cachedSheets.get(cacheKey);
+        if (sheet == null) {
+            sheet = makeSheet(key, StaticData.instance().getCommonCards().getAllCards());
+            PrintSheet made = cachedSheets.putIfAbsent(cacheKey, sheet);
+            if (made != null) {
+                sheet = made;
+            }
+        }
+        return sheet;
     }
 
     private static PaperCard generateFoilCard(PrintSheet sheet) {
@@ -79,6 +90,47 @@ public class BoosterGenerator {
         return randomCard.getFoiled();
     }
 
+    /**
+     * Generates n packs of a template one at a time, as they are iterated, e.g. for statistics over many sealed pools
+     * or drafts. Each pack only depends on the seed and its index, see {@link #getBoosterPack(SealedProduct.Template, long, int)},
+     * so the same seed gives the same packs, and a range of them can be generated on another thread.
+     */
+    public static Iterable<List<PaperCard>> generateBoosters(final SealedProduct.Template template, final int n, final long seed) {
+        return new Iterable<List<PaperCard>>() {
+            @Override
+            public Iterator<List<PaperCard>> iterator() {
+                return new Iterator<List<PaperCard>>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < n;
+                    }
+
+                    @Override
+                    public List<PaperCard> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return getBoosterPack(template, seed, index++);
+                    }
+                };
+            }
+        };
+    }
+
+    /** The pack at an index of {@link #generateBoosters(SealedProduct.Template, int, long)}. */
+    public static List<PaperCard> getBoosterPack(SealedProduct.Template template, long seed, int index) {
+        Random previous = MyRandom.getThreadRandom();
+        // a different stream per index, from the golden ratio increment of SplittableRandom
+        MyRandom.setThreadRandom(new Random(seed + index * 0x9E3779B97F4A7C15L));
+        try {
+            return getBoosterPack(template);
+        } finally {
+            MyRandom.setThreadRandom(previous);
+        }
+    }
+
     public static List<PaperCard> getBoosterPack(SealedProduct.Template template) {
         // TODO: tweak the chances of generating Masterpieces to be more authentic
         // (currently merely added to the Rare/Mythic Rare print sheet via ExtraFoilSheetKey)
@@ -222,6 +222,13 @@ public class CardTranslation {
         return translations;
     }
 
+    /**
+     * @return the language card names are translated to, as last given to preloadTranslation
+     */
+    public static String getLanguageSelected() {
+        return languageSelected;
+    }
+
     private static boolean needsTranslation() {
         return !languageSelected.equals("en-US");
     }
@@ -20,17 +20,18 @@ package forge.util;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 /**
  * TODO: Write javadoc for this type.
@@ -68,30 +69,42 @@ public class FileSection {
 
     private static final String BAR_PAIR_SPLITTER = Pattern.quote("|");
 
-    private static Table<String, Pattern, Map<String, String>> parseToMapCache = HashBasedTable.create();
+    // parsed ability and trigger strings get reused by every copy of a card, but there is no need to keep all of them forever
+    private static final int PARSE_TO_MAP_CACHE_SIZE = 100000;
+    private static final ConcurrentMap<Pattern, Cache<String, Map<String, String>>> parseToMapCache = new ConcurrentHashMap<>();
 
+    /**
+     * Parses a line of "|" separated key-value pairs, like the parameters of an ability.
+     * The result is immutable and may be shared between callers, its keys are case-insensitive.
+     */
     public static Map<String, String> parseToMap(final String line, final Pattern kvSeparator) {
-        Map<String, String> result = parseToMapCache.get(line, kvSeparator);
-        if (result != null) {
-            return result;
+        if (StringUtils.isEmpty(line)) {
+            return ParamMap.EMPTY;
+        }
+        Cache<String, Map<String, String>> cache = parseToMapCache.get(kvSeparator);
+        if (cache == null) {
+            cache = CacheBuilder.newBuilder().maximumSize(PARSE_TO_MAP_CACHE_SIZE).<String, Map<String, String>>build();
+            final Cache<String, Map<String, String>> existing = parseToMapCache.putIfAbsent(kvSeparator, cache);
+            if (existing != null) {
+                cache = existing;
+            }
+        }
+        Map<String, String> result = cache.getIfPresent(line);
+        if (result == null) {
+            result = parseToMapImpl(line, kvSeparator);
+            cache.put(line, result);
         }
-        result = parseToMapImpl(line, kvSeparator);
-        parseToMapCache.put(line, kvSeparator, result);
         return result;
     }
 
     private static Map<String, String> parseToMapImpl(final String line, final Pattern kvSeparator) {
-        if (StringUtils.isEmpty(line)) {
-            return Collections.emptyMap();
-        }
-
         final Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         final String[] pairs = line.split(BAR_PAIR_SPLITTER);
         for (final String dd : pairs) {
             final String[] v = kvSeparator.split(dd, 2);
             result.put(v[0].trim(), v.length > 1 ? v[1].trim() : "");
         }
-        return Collections.unmodifiableMap(result);
+        return ParamMap.copyOf(result);
     }
 
     /**
@@ -32,6 +32,8 @@ import java.util.Random;
 public class MyRandom {
     /** Constant <code>random</code>. */
     private static Random random = new SecureRandom();
+    // replaces the shared random on one thread, so that a game played there can be repeated, see setThreadRandom
+    private static final ThreadLocal<Random> threadRandom = new ThreadLocal<>();
 
     /**
      * <p>
@@ -52,22 +54,48 @@ public class MyRandom {
      * @return the random
      */
     public static Random getRandom() {
-        return MyRandom.random;
+        final Random r = threadRandom.get();
+        return r != null ? r : MyRandom.random;
     }
 
     /**
      * Sets the random provider. Used for deterministic simulation.
+     * Replaces the random of the current thread instead when it has one of its own.
      * @param random the random
      */
     public static void setRandom(Random random) {
-        MyRandom.random = random;
+        if (threadRandom.get() != null) {
+            threadRandom.set(random);
+        } else {
+            MyRandom.random = random;
+        }
+    }
+
+    /**
+     * @return the random of the current thread's own, or null if it uses the shared one.
+     */
+    public static Random getThreadRandom() {
+        return threadRandom.get();
+    }
+
+    /**
+     * Gives the current thread a random of its own, e.g. a seeded one to replay a game while other games
+     * keep using the shared random. Pass null to go back to the shared one.
+     * @param random the random
+     */
+    public static void setThreadRandom(Random random) {
+        if (random == null) {
+            threadRandom.remove();
+        } else {
+            threadRandom.set(random);
+        }
     }
 
     public static int[] splitIntoRandomGroups(final int value, final int numGroups) {
         int[] groups = new int[numGroups];
         
         for (int i = 0; i < value; i++) {
-            groups[random.nextInt(numGroups)]++;
+            groups[getRandom().nextInt(numGroups)]++;
         }
 
         return groups;
@@ -0,0 +1,165 @@
+/*
+ * Forge: Play Magic: the Gathering.
+ * Copyright (C) 2011  Forge Team
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package forge.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable, compact map of ability parameters, as produced by {@link FileSection#parseToMap}.
+ * <p>
+ * Keys and values are kept in two parallel arrays, ordered like the keys of a case-insensitive TreeMap.
+ * Keys are interned, so the string literals used by the engine to look parameters up are usually the very
+ * same objects and are found by a reference comparison. Instances can be shared freely between cards,
+ * games and threads.
+ * <p>
+ * Like the TreeMap it replaces, {@link #get(Object)} and {@link #containsKey(Object)} ignore case;
+ * {@link #getExact(String)} and {@link #containsKeyExact(String)} don't.
+ */
+public final class ParamMap extends AbstractMap<String, String> {
+    public static final ParamMap EMPTY = new ParamMap(new String[0], new String[0]);
+
+    private final String[] keys;
+    private final String[] values;
+    private transient Set<Map.Entry<String, String>> entrySet;
+
+    private ParamMap(final String[] keys, final String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Creates a parameter map with the entries of the given map, keeping their iteration order.
+     */
+    public static ParamMap copyOf(final Map<String, String> map) {
+        if (map instanceof ParamMap) {
+            return (ParamMap) map;
+        }
+        if (map.isEmpty()) {
+            return EMPTY;
+        }
+        final String[] keys = new String[map.size()];
+        final String[] values = new String[keys.length];
+        int i = 0;
+        for (final Map.Entry<String, String> e : map.entrySet()) {
+            keys[i] = e.getKey().intern();
+            values[i] = e.getValue();
+            i++;
+        }
+        return new ParamMap(keys, values);
+    }
+
+    private int indexOf(final String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOfIgnoreCase(final Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        final int exact = indexOf((String) key);
+        if (exact >= 0) {
+            return exact;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equalsIgnoreCase((String) key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public String getExact(final String key) {
+        final int i = indexOf(key);
+        return i < 0 ? null : values[i];
+    }
+
+    public boolean containsKeyExact(final String key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(final Object key) {
+        final int i = indexOfIgnoreCase(key);
+        return i < 0 ? null : values[i];
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOfIgnoreCase(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<String, String>>() {
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new Iterator<Map.Entry<String, String>>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < keys.length;
+                        }
+
+                        @Override
+                        public Map.Entry<String, String> next() {
+                            if (next >= keys.length) {
+                                throw new NoSuchElementException();
+                            }
+                            final Map.Entry<String, String> e = new SimpleImmutableEntry<>(keys[next], values[next]);
+                            next++;
+                            return e;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+            };
+        }
+        return entrySet;
+    }
+}
@@ -0,0 +1,168 @@
+package forge.util.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A map from primitive int keys to non-null values, using open addressing.
+ * Avoids boxing the keys and the entry objects of a {@link java.util.HashMap}, for lookups of game objects by id.
+ * Not thread-safe.
+ */
+public final class IntObjectMap<V> {
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values; // null marks a free slot
+    private int size = 0;
+
+    public IntObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public IntObjectMap(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 < expectedSize * 4) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new Object[capacity];
+    }
+
+    private static int mix(final int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int slotOf(final int key) {
+        final int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1 - i; // free slot where the key would go
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(final int key) {
+        final int i = slotOf(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    public boolean containsKey(final int key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * @return the value previously associated with the key, or null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final int key, final V value) {
+        if (value == null) {
+            throw new NullPointerException("IntObjectMap does not support null values");
+        }
+        int i = slotOf(key);
+        if (i >= 0) {
+            final V old = (V) values[i];
+            values[i] = value;
+            return old;
+        }
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length << 1);
+            i = slotOf(key);
+        }
+        i = -1 - i;
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * @return the value that was associated with the key, or null.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final int key) {
+        int i = slotOf(key);
+        if (i < 0) {
+            return null;
+        }
+        final V old = (V) values[i];
+        // shift back the entries that probed past the freed slot
+        final int mask = keys.length - 1;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == null) {
+                break;
+            }
+            final int home = mix(keys[j]) & mask;
+            // move entry j into i unless its home lies cyclically in (i, j]
+            if (i <= j ? (home <= i || home > j) : (home <= i && home > j)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        values[i] = null;
+        size--;
+        return old;
+    }
+
+    /**
+     * Removes the key only while it is still associated with the given value (compared by identity).
+     */
+    public boolean remove(final int key, final V value) {
+        final int i = slotOf(key);
+        if (i < 0 || values[i] != value) {
+            return false;
+        }
+        remove(key);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        final List<V> result = new ArrayList<>(size);
+        for (final Object v : values) {
+            if (v != null) {
+                result.add((V) v);
+            }
+        }
+        return result;
+    }
+
+    private void resize(final int capacity) {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        final int mask = capacity - 1;
+        for (int k = 0; k < oldKeys.length; k++) {
+            if (oldValues[k] != null) {
+                int i = mix(oldKeys[k]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[k];
+                values[i] = oldValues[k];
+            }
+        }
+    }
+}
@@ -26,10 +26,15 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.google.common.base.Function;
 
 import forge.util.TextUtil;
+import forge.util.ThreadUtil;
 
 /**
  * This class treats every file in the given folder as a source for a named
@@ -82,6 +87,9 @@ public abstract class StorageReaderFolder<T> extends StorageReaderBase<T> {
 
     public final List<String> objectsThatFailedToLoad = new ArrayList<>();
 
+    /** Folders with fewer files than this are read on the calling thread. */
+    private static final int PARALLEL_READ_THRESHOLD = 64;
+
     /* (non-Javadoc)
      * @see forge.util.IItemReader#readAll()
      */
@@ -90,28 +98,82 @@ public abstract class StorageReaderFolder<T> extends StorageReaderBase<T> {
         final Map<String, T> result = createMap();
 
         final File[] files = this.directory.listFiles(this.getFileFilter());
+        final List<T> items = readFiles(files);
+        for (int i = 0; i < files.length; i++) {
+            final File file = files[i];
+            final T newDeck = items.get(i);
+            if (newDeck == null) {
+                continue; // failed to load, already reported
+            }
+
+            String newKey = keySelector.apply(newDeck);
+            if (result.containsKey(newKey)) {
+                newKey += "-" + file.getName();
+            }
+            if (result.containsKey(newKey)) {
+                System.err.println("StorageReaderFolder: Overwriting an object with key " + newKey);
+            }
+            result.put(newKey, newDeck);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the given files, in parallel when there are enough of them to be worth it.
+     * Items are returned in the order of the files, with null for those that failed to load.
+     */
+    private List<T> readFiles(final File[] files) {
+        final List<T> items = new ArrayList<>(files.length);
+        if (files.length < PARALLEL_READ_THRESHOLD || !canReadInParallel() || !ThreadUtil.isMultiCoreSystem()) {
+            for (final File file : files) {
+                items.add(readFile(file));
+            }
+            return items;
+        }
+
+        final List<Callable<T>> tasks = new ArrayList<>(files.length);
         for (final File file : files) {
-            try {
-                final T newDeck = this.read(file);
-                if (null == newDeck) {
-                    final String msg = "An object stored in " + file.getPath() + " failed to load.\nPlease submit this as a bug with the mentioned file/directory attached.";
-                    throw new RuntimeException(msg);
+            tasks.add(new Callable<T>() {
+                @Override
+                public T call() {
+                    return readFile(file);
                 }
+            });
+        }
+        final ExecutorService executor = ThreadUtil.getComputingPool(0.5f);
+        try {
+            for (final Future<T> item : executor.invokeAll(tasks)) {
+                items.add(item.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("StorageReaderFolder.readAll() interrupted while reading " + directory.getPath());
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        return items;
+    }
 
-                String newKey = keySelector.apply(newDeck);
-                if (result.containsKey(newKey)) {
-                    newKey += "-" + file.getName();
-                }
-                if (result.containsKey(newKey)) {
-                    System.err.println("StorageReaderFolder: Overwriting an object with key " + newKey);
-                }
-                result.put(newKey, newDeck);
-            } catch (final NoSuchElementException ex) {
-                final String message = TextUtil.concatWithSpace( file.getName(),"failed to load because ----", ex.getMessage());
+    private T readFile(final File file) {
+        try {
+            final T newDeck = this.read(file);
+            if (null == newDeck) {
+                final String msg = "An object stored in " + file.getPath() + " failed to load.\nPlease submit this as a bug with the mentioned file/directory attached.";
+                throw new RuntimeException(msg);
+            }
+            return newDeck;
+        } catch (final NoSuchElementException ex) {
+            final String message = TextUtil.concatWithSpace( file.getName(),"failed to load because ----", ex.getMessage());
+            synchronized (objectsThatFailedToLoad) {
                 objectsThatFailedToLoad.add(message);
             }
+            return null;
         }
-        return result;
     }
 
     /**
@@ -122,6 +184,16 @@ public abstract class StorageReaderFolder<T> extends StorageReaderBase<T> {
      */
     protected abstract T read(File file);
 
+    /**
+     * Readers whose read method is safe to call from several threads at once may
+     * override this so that large folders are parsed on a thread pool.
+     *
+     * @return true if files of this folder may be read in parallel
+     */
+    protected boolean canReadInParallel() {
+        return false;
+    }
+
     /**
      * TODO: Write javadoc for this method.
      *
@@ -40,8 +40,8 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
     protected KeywordInterface keyword = null;
 
     /** The map params. */
-    protected Map<String, String> originalMapParams = Maps.newHashMap(),
-            mapParams = Maps.newHashMap();
+    protected Map<String, String> originalMapParams = new TraitParamMap(),
+            mapParams = new TraitParamMap();
 
     /** The is intrinsic. */
     protected boolean intrinsic;
@@ -675,7 +675,7 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
             }
         }
         // this does overwrite the original MapParams
-        this.originalMapParams = Maps.newHashMap(this.mapParams);
+        this.originalMapParams = new TraitParamMap(this.mapParams);
     }
 
     public void changeText() {
@@ -707,8 +707,8 @@ public abstract class CardTraitBase extends GameObject implements IHasCardView,
         copyHelper(copy, host, false);
     }
     protected void copyHelper(CardTraitBase copy, Card host, boolean keepTextChanges) {
-        copy.originalMapParams = Maps.newHashMap(originalMapParams);
-        copy.mapParams = Maps.newHashMap(keepTextChanges ? mapParams : originalMapParams);
+        copy.originalMapParams = new TraitParamMap(originalMapParams);
+        copy.mapParams = new TraitParamMap(keepTextChanges ? mapParams : originalMapParams);
         copy.setSVars(sVars);
         copy.setCardState(cardState);
         // dont use setHostCard to not trigger the not copied parts yet
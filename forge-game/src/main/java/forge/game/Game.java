@@ -49,17 +49,19 @@ import forge.util.Aggregates;
 import forge.util.MyRandom;
 import forge.util.Visitor;
 import forge.util.collect.FCollection;
+import forge.util.collect.IntObjectMap;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents the state of a <i>single game</i>, a new instance is created for each game.
  */
 public class Game {
 
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /** The ID. */
     private int id;
@@ -115,14 +117,24 @@ public class Game {
     private Boolean daytime = null;
 
     private long timestamp = 0;
+    private int cardTypesVersion = 0;
     public final GameAction action;
     private final Match match;
     private GameStage age = GameStage.BeforeMulligan;
     private GameOutcome outcome;
     private final Game maingame;
 
+    // ids of the spell abilities, triggers, static abilities and replacement effects of this game's cards. They tell
+    // those apart in equals and hashCode, so they are counted per game and never rewound; a subgame counts on with the
+    // ones of its main game
+    private final AtomicInteger spellAbilityIds, triggerIds, staticAbilityIds, replacementEffectIds;
+    // where the ids come from instead while a player makes up their mind, see PlayerChoiceLog
+    private AtomicInteger decisionIds;
+
     private final GameView view;
     private final Tracker tracker = new Tracker();
+    private GameMetrics metrics;
+    private final GameReplay replay;
 
     /**
      * Gets the id.
@@ -225,7 +237,7 @@ public class Game {
     }
 
     // methods that deal with saving, retrieving and clearing LKI information about cards on zone change
-    private final HashMap<Integer, Card> changeZoneLKIInfo = new HashMap<>();
+    private final IntObjectMap<Card> changeZoneLKIInfo = new IntObjectMap<>();
     public final void addChangeZoneLKIInfo(Card lki) {
         if (lki == null) {
             return;
@@ -236,7 +248,8 @@ public class Game {
         if (c == null) {
             return null;
         }
-        return changeZoneLKIInfo.getOrDefault(c.getId(), c);
+        final Card lki = changeZoneLKIInfo.get(c.getId());
+        return lki == null ? c : lki;
     }
     public final void clearChangeZoneLKIInfo() {
         changeZoneLKIInfo.clear();
@@ -272,6 +285,29 @@ public class Game {
         match = match0;
         maingame = maingame0;
         this.id = nextId();
+        if (maingame != null) {
+            spellAbilityIds = maingame.spellAbilityIds;
+            triggerIds = maingame.triggerIds;
+            staticAbilityIds = maingame.staticAbilityIds;
+            replacementEffectIds = maingame.replacementEffectIds;
+        } else {
+            spellAbilityIds = new AtomicInteger();
+            triggerIds = new AtomicInteger();
+            staticAbilityIds = new AtomicInteger();
+            replacementEffectIds = new AtomicInteger();
+        }
+        tracker.setHeadless(rules.isHeadless());
+        if (maingame != null) {
+            metrics = maingame.getMetrics().forCopy();
+        } else {
+            metrics = rules.isCollectMetrics() ? new GameMetrics(true) : GameMetrics.DISABLED;
+        }
+        if (maingame == null && rules.isRecordReplay()) {
+            final GameReplay recorded = rules.getReplayOf();
+            replay = new GameReplay(recorded != null ? recorded.getSeed() : MyRandom.getRandom().nextLong(), rules.getGameType());
+        } else {
+            replay = null;
+        }
 
         int highestTeam = -1;
         for (RegisteredPlayer psc : players0) {
@@ -311,6 +347,9 @@ public class Game {
             }
 
             pl.setTeam(teamNum);
+            if (replay != null) {
+                replay.addPlayer(pl.getId(), psc);
+            }
         }
 
         action = new GameAction(this);
@@ -329,6 +368,9 @@ public class Game {
         view.updatePlayers(this);
 
         subscribeToEvents(gameLog.getEventVisitor());
+        if (replay != null) {
+            subscribeToEvents(replay.createRecorder());
+        }
     }
 
     public GameView getView() {
@@ -339,6 +381,20 @@ public class Game {
         return tracker;
     }
 
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+    public void setMetrics(final GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the log to play this game again, or null when it isn't recorded.
+     */
+    public GameReplay getReplay() {
+        return replay;
+    }
+
     /**
      * Gets the players who are still fighting to win.
      */
@@ -497,6 +553,17 @@ public class Game {
         return timestamp;
     }
 
+    /**
+     * Called whenever the types of a card change or a permanent phases in or out,
+     * invalidating the indexes kept by the battlefields.
+     */
+    public final void cardTypesChanged() {
+        cardTypesVersion++;
+    }
+    public final int getCardTypesVersion() {
+        return cardTypesVersion;
+    }
+
     public final GameOutcome getOutcome() {
         return outcome;
     }
@@ -514,6 +581,9 @@ public class Game {
     }
 
     public synchronized void setGameOver(GameEndReason reason) {
+        if (age != GameStage.GameOver) {
+            metrics.finishTurn(getPhaseHandler().getTurn());
+        }
         for (Player p : allPlayers) {
             p.clearController();
         }
@@ -550,6 +620,33 @@ public class Game {
         return getPlayers().getCardsIn(zone);
     }
 
+    /**
+     * Like {@link #getCardsIn(ZoneType)}, but backed by the players' zones instead of copying them.
+     * Use it right away, e.g. to filter or count cards, and don't move cards while iterating over it.
+     */
+    public CardCollectionView viewCardsIn(final ZoneType zone) {
+        if (zone == ZoneType.Stack) {
+            return getStackZone().getCards();
+        }
+        final List<CardCollectionView> views = Lists.newArrayListWithCapacity(getPlayers().size());
+        for (final Player p : getPlayers()) {
+            views.add(p.getCardsIn(zone));
+        }
+        return CardCollection.concat(views);
+    }
+
+    /**
+     * Like {@link #getCardsIn(Iterable)}, but backed by the zones instead of copying them.
+     * Use it right away, e.g. to filter or count cards, and don't move cards while iterating over it.
+     */
+    public CardCollectionView viewCardsIn(final Iterable<ZoneType> zones) {
+        final List<CardCollectionView> views = Lists.newArrayList();
+        for (final ZoneType z : zones) {
+            views.add(viewCardsIn(z));
+        }
+        return CardCollection.concat(views);
+    }
+
     public CardCollectionView getCardsIncludePhasingIn(final ZoneType zone) {
         if (zone == ZoneType.Stack) {
             return getStackZone().getCards();
@@ -579,15 +676,15 @@ public class Game {
     }
 
     public boolean isCardExiled(final Card c) {
-        return getCardsIn(ZoneType.Exile).contains(c);
+        return viewCardsIn(ZoneType.Exile).contains(c);
     }
 
     public boolean isCardInPlay(final String cardName) {
-        return Iterables.any(getCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals(cardName));
+        return Iterables.any(viewCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals(cardName));
     }
 
     public boolean isCardInCommand(final String cardName) {
-        return Iterables.any(getCardsIn(ZoneType.Command), CardPredicates.nameEquals(cardName));
+        return Iterables.any(viewCardsIn(ZoneType.Command), CardPredicates.nameEquals(cardName));
     }
 
     public CardCollectionView getColoredCardsInPlay(final String color) {
@@ -623,6 +720,10 @@ public class Game {
         return getCardState(card, card);
     }
     public Card getCardState(final Card card, final Card notFound) {
+        final Card found = lookupCard(card.getId());
+        if (found != null) {
+            return found;
+        }
         CardStateVisitor visit = new CardStateVisitor(card);
         this.forEachCardInGame(visit);
         return visit.getFound(notFound);
@@ -653,23 +754,114 @@ public class Game {
         if (view == null) {
             return null;
         }
-        CardIdVisitor visit = new CardIdVisitor(view.getId());
+        final Zone zone;
         if (ZoneType.Stack.equals(view.getZone())) {
-            visit.visitAll(getStackZone());
+            zone = getStackZone();
         } else if (view.getController() != null && view.getZone() != null) {
-            visit.visitAll(getPlayer(view.getController()).getZone(view.getZone()));
+            zone = getPlayer(view.getController()).getZone(view.getZone());
         } else { // fallback if view doesn't has controller or zone set for some reason
+            zone = null;
+        }
+        final Card found = lookupCard(view.getId());
+        if (found != null && (zone == null || found.getZone() == zone)) {
+            return found;
+        }
+        CardIdVisitor visit = new CardIdVisitor(view.getId());
+        if (zone != null) {
+            visit.visitAll(zone);
+        } else {
             forEachCardInGame(visit);
         }
         return visit.getFound();
     }
 
     public Card findById(int id) {
+        final Card found = lookupCard(id);
+        if (found != null) {
+            return found;
+        }
         CardIdVisitor visit = new CardIdVisitor(id);
         this.forEachCardInGame(visit);
         return visit.getFound();
     }
 
+    // The cards in the zones visited by forEachCardInGame, by id. Inbound tokens aren't in here,
+    // lookups that miss still scan the game, so those are found the slow way.
+    private final IntObjectMap<Card> cardsById = new IntObjectMap<>(256);
+    private int lookupTurn = -1;
+    private int lookupsThisTurn = 0;
+    private int lookupScansThisTurn = 0;
+
+    private boolean isIndexedZone(final Zone zone) {
+        if (zone == stackZone) {
+            return true;
+        }
+        switch (zone.getZoneType()) {
+        case Graveyard:
+        case Hand:
+        case Library:
+        case Battlefield:
+        case Exile:
+        case Command:
+            final Player p = zone.getPlayer();
+            // leaves out zones that aren't part of the game, like last known information copies
+            return p != null && p.getZone(zone.getZoneType()) == zone;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Called by zones whenever a card was put into them, or just moved there without becoming part of the zone
+     * (tokens leaving the battlefield).
+     */
+    public final void onCardEnteredZone(final Card c, final Zone zone, final boolean inZone) {
+        if (inZone && isIndexedZone(zone)) {
+            cardsById.put(c.getId(), c);
+        } else {
+            cardsById.remove(c.getId(), c);
+        }
+    }
+
+    /**
+     * Called by zones whenever a card was taken out of them.
+     */
+    public final void onCardLeftZone(final Card c, final Zone zone) {
+        // when a card already moved on to its new zone, that zone decided about it
+        if (c.getZone() == zone || c.getZone() == null) {
+            cardsById.remove(c.getId(), c);
+        }
+    }
+
+    private Card lookupCard(final int id) {
+        final int turn = phaseHandler.getTurn();
+        if (turn != lookupTurn) {
+            lookupTurn = turn;
+            lookupsThisTurn = 0;
+            lookupScansThisTurn = 0;
+        }
+        lookupsThisTurn++;
+        final Card found = cardsById.get(id);
+        if (found == null) {
+            lookupScansThisTurn++;
+        }
+        return found;
+    }
+
+    /**
+     * @return how many times cards were looked up by id (findById, findByView and getCardState) this turn.
+     */
+    public int getCardLookupsThisTurn() {
+        return phaseHandler.getTurn() == lookupTurn ? lookupsThisTurn : 0;
+    }
+
+    /**
+     * @return how many of this turn's card lookups had to scan all zones of the game.
+     */
+    public int getCardLookupScansThisTurn() {
+        return phaseHandler.getTurn() == lookupTurn ? lookupScansThisTurn : 0;
+    }
+
     public void forEachCardInGame(Visitor<Card> visitor) {
         forEachCardInGame(visitor, false);
     }
@@ -958,12 +1150,53 @@ public class Game {
 
     private int cardIdCounter = 0, hiddenCardIdCounter = 0;
     public int nextCardId() {
-        return ++cardIdCounter;
+        final AtomicInteger ids = decisionIds;
+        return ids != null ? ids.incrementAndGet() : ++cardIdCounter;
     }
     public int nextHiddenCardId() {
         return ++hiddenCardIdCounter;
     }
 
+    public int nextSpellAbilityId() {
+        return idsFor(spellAbilityIds).incrementAndGet();
+    }
+    public int nextTriggerId() {
+        return idsFor(triggerIds).incrementAndGet();
+    }
+    public int nextStaticAbilityId() {
+        return idsFor(staticAbilityIds).incrementAndGet();
+    }
+    public int nextReplacementEffectId() {
+        return idsFor(replacementEffectIds).incrementAndGet();
+    }
+    private AtomicInteger idsFor(final AtomicInteger counter) {
+        final AtomicInteger ids = decisionIds;
+        return ids != null ? ids : counter;
+    }
+
+    /**
+     * Hands out the ids of the cards and traits made from now on from the given counter, or from the game's own ones
+     * again for null. Set while a player of a recorded game makes up their mind, so that however many copies they
+     * make of things to weigh their options, the game counts on the same way.
+     */
+    public void setDecisionIds(final AtomicInteger ids) {
+        decisionIds = ids;
+    }
+    public AtomicInteger getDecisionIds() {
+        return decisionIds;
+    }
+
+    /**
+     * Lets a copy of another game, made to simulate it, count on from that game's trait ids, since the traits it
+     * copies keep their ids.
+     */
+    public void continueTraitIds(final Game original) {
+        spellAbilityIds.accumulateAndGet(original.spellAbilityIds.get(), Math::max);
+        triggerIds.accumulateAndGet(original.triggerIds.get(), Math::max);
+        staticAbilityIds.accumulateAndGet(original.staticAbilityIds.get(), Math::max);
+        replacementEffectIds.accumulateAndGet(original.replacementEffectIds.get(), Math::max);
+    }
+
     public Multimap<Player, Card> chooseCardsForAnte(final boolean matchRarity) {
         Multimap<Player, Card> anteed = ArrayListMultimap.create();
 
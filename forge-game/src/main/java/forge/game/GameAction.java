@@ -60,6 +60,7 @@ import forge.util.collect.FCollectionView;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 /**
  * Methods for common actions performed during a game.
@@ -1071,6 +1072,15 @@ public class GameAction {
         checkStaticAbilities(runEvents, Sets.newHashSet(), CardCollection.EMPTY);
     }
     public final void checkStaticAbilities(final boolean runEvents, final Set<Card> affectedCards, final CardCollectionView preList) {
+        final GameMetrics metrics = game.getMetrics();
+        final long start = metrics.start(GameMetrics.Metric.STATIC_ABILITIES);
+        try {
+            checkStaticAbilitiesImpl(runEvents, affectedCards, preList);
+        } finally {
+            metrics.stop(GameMetrics.Metric.STATIC_ABILITIES, start);
+        }
+    }
+    private void checkStaticAbilitiesImpl(final boolean runEvents, final Set<Card> affectedCards, final CardCollectionView preList) {
         if (isCheckingStaticAbilitiesOnHold()) {
             return;
         }
@@ -1219,6 +1229,15 @@ public class GameAction {
         return checkStateEffects(runEvents, Sets.newHashSet());
     }
     public boolean checkStateEffects(final boolean runEvents, final Set<Card> affectedCards) {
+        final GameMetrics metrics = game.getMetrics();
+        final long start = metrics.start(GameMetrics.Metric.STATE_BASED_ACTIONS);
+        try {
+            return checkStateEffectsImpl(runEvents, affectedCards);
+        } finally {
+            metrics.stop(GameMetrics.Metric.STATE_BASED_ACTIONS, start);
+        }
+    }
+    private boolean checkStateEffectsImpl(final boolean runEvents, final Set<Card> affectedCards) {
         // sol(10/29) added for Phase updates, state effects shouldn't be
         // checked during Spell Resolution (except when persist-returning
         if (game.getStack().isResolving()) {
@@ -1324,7 +1343,7 @@ public class GameAction {
                 }
 
                 if (c.hasKeyword("The number of loyalty counters on CARDNAME is equal to the number of Beebles you control.")) {
-                    int beeble = CardLists.getValidCardCount(game.getCardsIn(ZoneType.Battlefield), "Beeble.YouCtrl", c.getController(), c, null);
+                    int beeble = CardLists.getValidCardCount(game.viewCardsIn(ZoneType.Battlefield), "Beeble.YouCtrl", c.getController(), c, null);
                     int loyal = c.getCounters(CounterEnumType.LOYALTY);
                     if (loyal < beeble) {
                         GameEntityCounterTable counterTable = new GameEntityCounterTable();
@@ -1838,7 +1857,7 @@ public class GameAction {
     }
 
     private boolean handleWorldRule(CardCollection noRegCreats) {
-        final List<Card> worlds = CardLists.getType(game.getCardsIn(ZoneType.Battlefield), "World");
+        final List<Card> worlds = CardLists.getType(game.viewCardsIn(ZoneType.Battlefield), "World");
         if (worlds.size() <= 1) {
             return false;
         }
@@ -2022,7 +2041,7 @@ public class GameAction {
 
         //shuffle
         List<Card> shuffledCards = Lists.newArrayList(p1.getZone(ZoneType.Library).getCards().threadSafeIterable());
-        Collections.shuffle(shuffledCards);
+        Collections.shuffle(shuffledCards, MyRandom.getRandom());
 
         //check a second hand
         List<Card> hand2 = shuffledCards.subList(0,p1.getMaxHandSize());
@@ -2065,60 +2084,106 @@ public class GameAction {
     public void startGame(GameOutcome lastGameOutcome, Runnable startGameHook) {
         Player first = determineFirstTurnPlayer(lastGameOutcome);
 
-        GameType gameType = game.getRules().getGameType();
         do {
-            if (game.isGameOver()) { break; } // conceded during "play or draw"
+            first = beginGame(first);
+            if (first == null) { break; }
 
-            // FControl should determine now if there are any human players.
-            // Where there are none, it should bring up speed controls
-            game.fireEvent(new GameEventGameStarted(gameType, first, game.getPlayers()));
+            game.getPhaseHandler().startFirstTurn(first, startGameHook);
+            first = endTurns();
+        } while (game.getAge() == GameStage.RestartedByKarn);
+    }
 
-            runPreOpeningHandActions(first);
+    /**
+     * Starts the game like {@link #startGame(GameOutcome, Runnable)}, but returns as soon as a player who answers later
+     * is asked what to play, see {@link forge.game.phase.PhaseHandler#startFirstTurn(Player, Runnable, Executor, Runnable)}.
+     *
+     * @param onGameOver run once the game is over, from this thread or a resumed one
+     */
+    public void startGame(GameOutcome lastGameOutcome, Runnable startGameHook, Executor resumer, Runnable onGameOver) {
+        startGame(determineFirstTurnPlayer(lastGameOutcome), startGameHook, resumer, onGameOver);
+    }
+    private void startGame(final Player goesFirst, final Runnable startGameHook, final Executor resumer, final Runnable onGameOver) {
+        final Player first = beginGame(goesFirst);
+        if (first == null) {
+            onGameOver.run();
+            return;
+        }
 
-            game.setAge(GameStage.Mulligan);
-            for (final Player p1 : game.getPlayers()) {
-                if (StaticData.instance().getFilteredHandsEnabled() ) {
-                    drawStartingHand(p1);
+        game.getPhaseHandler().startFirstTurn(first, startGameHook, resumer, new Runnable() {
+            @Override
+            public void run() {
+                final Player next = endTurns();
+                if (game.getAge() == GameStage.RestartedByKarn) {
+                    startGame(next, startGameHook, resumer, onGameOver);
                 } else {
-                    p1.drawCards(p1.getStartingHandSize());
+                    onGameOver.run();
                 }
-
-                // If pl has Backup Plan as a Conspiracy draw that many extra hands
             }
+        });
+    }
 
-            // Choose starting hand for each player with multiple hands
-            if (game.getRules().getGameType() != GameType.Puzzle) {
-                new MulliganService(first).perform();
-            }
-            if (game.isGameOver()) { break; } // conceded during "mulligan" prompt
+    /**
+     * Deals the opening hands and runs what happens before the first turn.
+     * @return the player who takes the first turn, or null if the game was over before it
+     */
+    private Player beginGame(Player first) {
+        if (game.isGameOver()) { return null; } // conceded during "play or draw"
 
-            game.setAge(GameStage.Play);
+        // FControl should determine now if there are any human players.
+        // Where there are none, it should bring up speed controls
+        game.fireEvent(new GameEventGameStarted(game.getRules().getGameType(), first, game.getPlayers()));
 
-            //<THIS CODE WILL WORK WITH PHASE = NULL>
-            if (game.getRules().hasAppliedVariant(GameType.Planechase)) {
-                first.initPlane();
-                for (final Player p1 : game.getPlayers()) {
-                    p1.createPlanechaseEffects(game);
-                }
+        runPreOpeningHandActions(first);
+
+        game.setAge(GameStage.Mulligan);
+        for (final Player p1 : game.getPlayers()) {
+            if (StaticData.instance().getFilteredHandsEnabled() ) {
+                drawStartingHand(p1);
+            } else {
+                p1.drawCards(p1.getStartingHandSize());
             }
 
-            first = runOpeningHandActions(first);
-            checkStateEffects(true); // why?
+            // If pl has Backup Plan as a Conspiracy draw that many extra hands
+        }
+
+        // Choose starting hand for each player with multiple hands
+        if (game.getRules().getGameType() != GameType.Puzzle) {
+            new MulliganService(first).perform();
+        }
+        if (game.isGameOver()) { return null; } // conceded during "mulligan" prompt
 
-            // Run Trigger beginning of the game
-            game.getTriggerHandler().runTrigger(TriggerType.NewGame, AbilityKey.newMap(), true);
-            //</THIS CODE WILL WORK WITH PHASE = NULL>
+        game.setAge(GameStage.Play);
 
-            game.setStartingPlayer(first);
-            game.getPhaseHandler().startFirstTurn(first, startGameHook);
-            //after game ends, ensure Auto-Pass canceled for all players so it doesn't apply to next game
-            for (Player p : game.getRegisteredPlayers()) {
-                p.setNumCardsInHandStartedThisTurnWith(p.getCardsIn(ZoneType.Hand).size());
-                p.getController().autoPassCancel();
+        //<THIS CODE WILL WORK WITH PHASE = NULL>
+        if (game.getRules().hasAppliedVariant(GameType.Planechase)) {
+            first.initPlane();
+            for (final Player p1 : game.getPlayers()) {
+                p1.createPlanechaseEffects(game);
             }
+        }
 
-            first = game.getPhaseHandler().getPlayerTurn(); // needed only for restart
-        } while (game.getAge() == GameStage.RestartedByKarn);
+        first = runOpeningHandActions(first);
+        checkStateEffects(true); // why?
+
+        // Run Trigger beginning of the game
+        game.getTriggerHandler().runTrigger(TriggerType.NewGame, AbilityKey.newMap(), true);
+        //</THIS CODE WILL WORK WITH PHASE = NULL>
+
+        game.setStartingPlayer(first);
+        return first;
+    }
+
+    /**
+     * @return the player whose turn it was, who goes first again if the game was restarted
+     */
+    private Player endTurns() {
+        //after game ends, ensure Auto-Pass canceled for all players so it doesn't apply to next game
+        for (Player p : game.getRegisteredPlayers()) {
+            p.setNumCardsInHandStartedThisTurnWith(p.getCardsIn(ZoneType.Hand).size());
+            p.getController().autoPassCancel();
+        }
+
+        return game.getPhaseHandler().getPlayerTurn(); // needed only for restart
     }
 
     private Player determineFirstTurnPlayer(final GameOutcome lastGameOutcome) {
@@ -2154,9 +2219,18 @@ public class GameAction {
         }
 
         boolean isFirstGame = lastGameOutcome == null;
-        if (isFirstGame) {
+        // a replayed game may have been a later game of its match, without a coin toss taking from the random
+        final GameReplay recorded = game.getReplay() == null ? null : game.getRules().getReplayOf();
+        final boolean coinToss = recorded != null ? recorded.isStartingCoinToss() : isFirstGame;
+        if (coinToss) {
             game.fireEvent(new GameEventFlipCoin()); // Play the Flip Coin sound
             goesFirst = Aggregates.random(game.getPlayers());
+        } else if (recorded != null) {
+            for (Player p : game.getPlayers()) {
+                if (p.getId() == recorded.getStartingChooser()) {
+                    goesFirst = p;
+                }
+            }
         } else {
             for (Player p : game.getPlayers()) {
                 if (!lastGameOutcome.isWinner(p.getRegisteredPlayer())) {
@@ -2172,6 +2246,11 @@ public class GameAction {
             goesFirst = game.getPlayers().get(0); // does not really matter who plays first - it's controlled from the same computer.
         }
 
+        final GameReplay replay = game.getReplay();
+        if (replay != null) {
+            replay.setStartingChooser(goesFirst.getId(), coinToss);
+        }
+
         for (Player p : game.getPlayers()) {
             if (p != goesFirst) {
                 p.getController().awaitNextInput(); //show "Waiting for opponent..." while first player chooses whether to go first or keep their hand
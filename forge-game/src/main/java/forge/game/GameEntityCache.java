@@ -2,16 +2,20 @@ package forge.game;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 
 import forge.trackable.TrackableObject;
+import forge.util.collect.IntObjectMap;
 
 public class GameEntityCache<Entity extends IIdentifiable, View extends TrackableObject> {
-    private HashMap<Integer, Entity> entityCache = new HashMap<>();
+    private final IntObjectMap<Entity> entityCache = new IntObjectMap<>();
  
     public void put(Integer id, Entity entity) {
-        entityCache.put(id, entity);
+        if (entity == null) {
+            entityCache.remove(id);
+        } else {
+            entityCache.put(id, entity);
+        }
     }
     public void putAll(Iterable<Entity> entities) {
         for (Entity e : entities) {
@@ -0,0 +1,292 @@
+package forge.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import forge.game.ability.ApiType;
+
+/**
+ * Counters and timers of the engine's hot paths, per turn and for the whole game, to find out where a slow game spends its time.
+ * Only collected when {@link GameRules#setCollectMetrics(boolean)} is set; otherwise every call returns after reading one field.
+ * <p>
+ * Timers are inclusive: a state-based actions check includes the static ability checks it makes, and AI decisions include
+ * the games the AI simulates. A metric reached again while it is already running is counted, but only timed once.
+ * Games copied for simulation record into the metrics of the game they were copied from, but never end its turns.
+ * Not thread-safe, the metrics are only used from the thread the game runs on.
+ */
+public final class GameMetrics {
+    public enum Metric {
+        /** A player being asked what to do with priority, timed until they answer. */
+        PRIORITY,
+        /** A player passing priority. Count only. */
+        PRIORITY_PASS,
+        STATE_BASED_ACTIONS,
+        STATIC_ABILITIES,
+        /** Triggers being matched and run for a game event. */
+        TRIGGERS,
+        /** Replacement effects being looked up and applied for an event. */
+        REPLACEMENT_EFFECTS,
+        /** The AI deciding whether to play a spell or ability, broken down by API in {@link Summary#getAiDecisionCount(ApiType)}. */
+        AI_DECISIONS,
+        GAME_COPIES,
+        /** Games the simulating AI plays out to evaluate an option. Count only. */
+        SIMULATION_NODES
+    }
+
+    private static final int METRICS = Metric.values().length;
+
+    public static final GameMetrics DISABLED = new GameMetrics(false);
+
+    private final boolean enabled;
+    private final boolean copy;
+    // of the turn in progress, shared with the metrics of copied games
+    private final long[] counts;
+    private final long[] nanos;
+    private final int[] depth;
+    private final Map<ApiType, long[]> aiDecisions;
+
+    private final long[] totalCounts;
+    private final long[] totalNanos;
+    private final Map<ApiType, long[]> totalAiDecisions;
+    private final List<Summary> turns;
+
+    public GameMetrics(final boolean enabled) {
+        this.enabled = enabled;
+        this.copy = false;
+        counts = new long[METRICS];
+        nanos = new long[METRICS];
+        depth = new int[METRICS];
+        aiDecisions = new EnumMap<>(ApiType.class);
+        totalCounts = new long[METRICS];
+        totalNanos = new long[METRICS];
+        totalAiDecisions = new EnumMap<>(ApiType.class);
+        turns = new ArrayList<>();
+    }
+
+    private GameMetrics(final GameMetrics original) {
+        enabled = true;
+        copy = true;
+        counts = original.counts;
+        nanos = original.nanos;
+        depth = original.depth;
+        aiDecisions = original.aiDecisions;
+        totalCounts = original.totalCounts;
+        totalNanos = original.totalNanos;
+        totalAiDecisions = original.totalAiDecisions;
+        turns = original.turns;
+    }
+
+    /**
+     * @return the metrics for a copy of this game, which add to these.
+     */
+    public GameMetrics forCopy() {
+        return enabled ? new GameMetrics(this) : DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing a metric, pass the result to {@link #stop(Metric, long)}, in a finally block if the code may throw.
+     */
+    public long start(final Metric metric) {
+        if (!enabled) {
+            return 0;
+        }
+        return depth[metric.ordinal()]++ == 0 ? System.nanoTime() : 0;
+    }
+
+    public void stop(final Metric metric, final long start) {
+        if (!enabled) {
+            return;
+        }
+        final int i = metric.ordinal();
+        counts[i]++;
+        if (--depth[i] == 0) {
+            nanos[i] += System.nanoTime() - start;
+        }
+    }
+
+    public void count(final Metric metric) {
+        if (!enabled) {
+            return;
+        }
+        counts[metric.ordinal()]++;
+    }
+
+    /**
+     * Stops an AI decision started with {@code start(Metric.AI_DECISIONS)}, also adding it to the decisions of the API.
+     */
+    public void stopAiDecision(final ApiType api, final long start) {
+        if (!enabled) {
+            return;
+        }
+        final boolean outermost = depth[Metric.AI_DECISIONS.ordinal()] == 1;
+        long[] decisions = aiDecisions.get(api);
+        if (decisions == null) {
+            decisions = new long[2];
+            aiDecisions.put(api, decisions);
+        }
+        decisions[0]++;
+        if (outermost) {
+            decisions[1] += System.nanoTime() - start;
+        }
+        stop(Metric.AI_DECISIONS, start);
+    }
+
+    /**
+     * Closes the turn in progress and adds it to the game totals.
+     * @return what happened during the turn, or null when the metrics are off or belong to a copied game.
+     */
+    public Summary finishTurn(final int turn) {
+        if (!enabled || copy) {
+            return null;
+        }
+        final Summary summary = new Summary(turn, counts, nanos, aiDecisions);
+        turns.add(summary);
+        for (int i = 0; i < METRICS; i++) {
+            totalCounts[i] += counts[i];
+            totalNanos[i] += nanos[i];
+        }
+        addAll(totalAiDecisions, aiDecisions);
+        Arrays.fill(counts, 0);
+        Arrays.fill(nanos, 0);
+        aiDecisions.clear();
+        return summary;
+    }
+
+    public List<Summary> getTurns() {
+        return Collections.unmodifiableList(turns);
+    }
+
+    /**
+     * @return the totals of the game so far, including the turn in progress.
+     */
+    public Summary getGameTotals() {
+        final long[] gameCounts = totalCounts.clone();
+        final long[] gameNanos = totalNanos.clone();
+        for (int i = 0; i < METRICS; i++) {
+            gameCounts[i] += counts[i];
+            gameNanos[i] += nanos[i];
+        }
+        final Map<ApiType, long[]> gameAiDecisions = new EnumMap<>(ApiType.class);
+        addAll(gameAiDecisions, totalAiDecisions);
+        addAll(gameAiDecisions, aiDecisions);
+        return new Summary(0, gameCounts, gameNanos, gameAiDecisions);
+    }
+
+    /**
+     * @return the turns and the totals as a JSON object.
+     */
+    public String toJson() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{\"turns\":[");
+        for (int i = 0; i < turns.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            turns.get(i).appendJson(sb);
+        }
+        sb.append("],\"total\":");
+        getGameTotals().appendJson(sb);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static void addAll(final Map<ApiType, long[]> to, final Map<ApiType, long[]> from) {
+        for (final Map.Entry<ApiType, long[]> e : from.entrySet()) {
+            final long[] sum = to.get(e.getKey());
+            if (sum == null) {
+                to.put(e.getKey(), e.getValue().clone());
+            } else {
+                sum[0] += e.getValue()[0];
+                sum[1] += e.getValue()[1];
+            }
+        }
+    }
+
+    /**
+     * The metrics of one turn, or of a whole game when the turn is 0.
+     */
+    public static final class Summary {
+        private final int turn;
+        private final long[] counts;
+        private final long[] nanos;
+        private final Map<ApiType, long[]> aiDecisions = new EnumMap<>(ApiType.class);
+
+        private Summary(final int turn, final long[] counts, final long[] nanos, final Map<ApiType, long[]> aiDecisions) {
+            this.turn = turn;
+            this.counts = counts.clone();
+            this.nanos = nanos.clone();
+            addAll(this.aiDecisions, aiDecisions);
+        }
+
+        public int getTurn() {
+            return turn;
+        }
+
+        public long getCount(final Metric metric) {
+            return counts[metric.ordinal()];
+        }
+
+        public long getNanos(final Metric metric) {
+            return nanos[metric.ordinal()];
+        }
+
+        public Iterable<ApiType> getAiDecisionApis() {
+            return aiDecisions.keySet();
+        }
+
+        public long getAiDecisionCount(final ApiType api) {
+            final long[] decisions = aiDecisions.get(api);
+            return decisions == null ? 0 : decisions[0];
+        }
+
+        public long getAiDecisionNanos(final ApiType api) {
+            final long[] decisions = aiDecisions.get(api);
+            return decisions == null ? 0 : decisions[1];
+        }
+
+        private void appendJson(final StringBuilder sb) {
+            sb.append('{');
+            if (turn > 0) {
+                sb.append("\"turn\":").append(turn).append(',');
+            }
+            sb.append("\"metrics\":{");
+            for (final Metric m : Metric.values()) {
+                if (m.ordinal() > 0) {
+                    sb.append(',');
+                }
+                appendEntry(sb, m.name(), counts[m.ordinal()], nanos[m.ordinal()]);
+            }
+            sb.append("},\"aiDecisions\":{");
+            boolean first = true;
+            for (final Map.Entry<ApiType, long[]> e : aiDecisions.entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                appendEntry(sb, e.getKey().name(), e.getValue()[0], e.getValue()[1]);
+            }
+            sb.append("}}");
+        }
+
+        private static void appendEntry(final StringBuilder sb, final String name, final long count, final long nanos) {
+            sb.append('"').append(name).append("\":{\"count\":").append(count)
+                    .append(",\"ms\":").append(String.format(Locale.ROOT, "%.3f", nanos / 1e6)).append('}');
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            appendJson(sb);
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package forge.game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.collect.Lists;
+import com.google.common.eventbus.Subscribe;
+
+import forge.StaticData;
+import forge.deck.CardPool;
+import forge.deck.Deck;
+import forge.deck.DeckSection;
+import forge.deck.io.DeckFileHeader;
+import forge.game.card.Card;
+import forge.game.event.*;
+import forge.game.player.Player;
+import forge.game.player.RegisteredPlayer;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.Zone;
+import forge.item.PaperCard;
+import forge.util.TextUtil;
+import forge.util.maps.MapOfLists;
+
+/**
+ * What is needed to play a game again: the seed of its random, its players and decks, and a compact log of what happened,
+ * one line per decision or outcome (turns, mulligans, spells and abilities put on the stack with their targets,
+ * lands, attacks, blocks, zone changes, shuffles, life totals), naming cards and players by their id in the game.
+ * <p>
+ * A game is played again by setting up the same players and decks with the recorded seed, see {@link GameRules#setReplayOf(GameReplay)}.
+ * The AI then takes the same decisions, and {@link #findDivergence(GameReplay)} tells where the replayed game first went
+ * another way, if it did. Only recorded when {@link GameRules#setRecordReplay(boolean)} is set.
+ * <p>
+ * The choices each player made are kept as well, see {@link forge.game.player.PlayerChoiceLog}, so that a player who
+ * isn't an AI, or an AI that has changed since, can be played again from them.
+ * <p>
+ * The ids of spells, abilities and effects are counted per game, so a game plays again the same way whatever else
+ * runs alongside it.
+ */
+public final class GameReplay {
+    private final long seed;
+    private final GameType gameType;
+    private final Map<Integer, Seat> seats = new TreeMap<>();
+    // who chose the player to take the first turn, after a coin toss or, in later games of a match, as the loser of the previous one
+    private int startingChooser = -1;
+    private boolean startingCoinToss = true;
+    private final List<String> entries = new ArrayList<>();
+
+    public GameReplay(final long seed, final GameType gameType) {
+        this.seed = seed;
+        this.gameType = gameType;
+    }
+
+    /**
+     * One of the players, as registered for the game.
+     */
+    public static final class Seat {
+        private final int id;
+        private String name;
+        private String controller;
+        private int startingLife;
+        private int startingHand;
+        private int team;
+        private List<String> deck = Collections.emptyList();
+        private final List<String> choices = new ArrayList<>();
+
+        private Seat(final int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+        public String getName() {
+            return name;
+        }
+        /**
+         * @return how the player's controller was set up, as written by the controller itself, or null for a human.
+         */
+        public String getController() {
+            return controller;
+        }
+        public int getStartingLife() {
+            return startingLife;
+        }
+        public int getStartingHand() {
+            return startingHand;
+        }
+        public int getTeam() {
+            return team;
+        }
+        /**
+         * @return the deck, card by card as it was: read as a deck file, the copies of a card of the first art
+         * would be spread over all the arts of its set, at random.
+         */
+        public Deck getDeck() {
+            Deck result = null;
+            DeckSection section = null;
+            for (final String line : deck) {
+                if (line.startsWith("[")) {
+                    section = DeckSection.smartValueOf(line.substring(1, line.length() - 1));
+                } else if (line.startsWith(DeckFileHeader.NAME + "=")) {
+                    result = new Deck(line.substring(DeckFileHeader.NAME.length() + 1));
+                } else if (section != null && result != null) {
+                    final int space = line.indexOf(' ');
+                    final String request = line.substring(space + 1);
+                    PaperCard card = StaticData.instance().getCommonCards().getCard(request);
+                    if (card == null) {
+                        card = StaticData.instance().getVariantCards().getCard(request);
+                    }
+                    if (card == null) {
+                        throw new IllegalArgumentException("Unknown card in the replay: " + request);
+                    }
+                    result.getOrCreate(section).add(card, Integer.parseInt(line.substring(0, space)));
+                }
+            }
+            return result;
+        }
+        /**
+         * @return what the player chose, in the order they chose it, see {@link forge.game.player.PlayerChoiceLog}.
+         */
+        public List<String> getChoices() {
+            return Collections.unmodifiableList(choices);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameType getGameType() {
+        return gameType;
+    }
+
+    public Collection<Seat> getSeats() {
+        return Collections.unmodifiableCollection(seats.values());
+    }
+
+    public List<String> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    private Seat getSeat(final int id) {
+        Seat seat = seats.get(id);
+        if (seat == null) {
+            seat = new Seat(id);
+            seats.put(id, seat);
+        }
+        return seat;
+    }
+
+    public void addPlayer(final int id, final RegisteredPlayer player) {
+        final Seat seat = getSeat(id);
+        seat.name = player.getPlayer().getName();
+        seat.startingLife = player.getStartingLife();
+        seat.startingHand = player.getStartingHand();
+        seat.team = player.getTeamNumber();
+        final Deck deck = player.getDeck();
+        seat.deck = new ArrayList<>();
+        seat.deck.add(TextUtil.enclosedBracket("metadata"));
+        seat.deck.add(DeckFileHeader.NAME + "=" + deck.getName().replaceAll("\n", ""));
+        for (final Map.Entry<DeckSection, CardPool> section : deck) {
+            seat.deck.add(TextUtil.enclosedBracket(section.getKey().toString()));
+            for (final String card : section.getValue().toCardList("\n").split("\n")) {
+                if (!card.isEmpty()) {
+                    seat.deck.add(card);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called by the player's controller when it's created, with whatever it needs to be set up the same way again.
+     */
+    public void setController(final int id, final String controller) {
+        getSeat(id).controller = controller;
+    }
+
+    public void addChoice(final int id, final String choice) {
+        getSeat(id).choices.add(choice);
+    }
+
+    public int getStartingChooser() {
+        return startingChooser;
+    }
+    public boolean isStartingCoinToss() {
+        return startingCoinToss;
+    }
+    public void setStartingChooser(final int id, final boolean coinToss) {
+        startingChooser = id;
+        startingCoinToss = coinToss;
+    }
+
+    public void add(final String entry) {
+        entries.add(entry);
+    }
+
+    /**
+     * @return the index of the first entry that differs from the other log, or -1 if they are the same.
+     */
+    public int findDivergence(final GameReplay other) {
+        final int common = Math.min(entries.size(), other.entries.size());
+        for (int i = 0; i < common; i++) {
+            if (!entries.get(i).equals(other.entries.get(i))) {
+                return i;
+            }
+        }
+        return entries.size() == other.entries.size() ? -1 : common;
+    }
+
+    /**
+     * @return the turn an entry was logged in, for reporting.
+     */
+    public String getTurnOf(final int index) {
+        for (int i = Math.min(index, entries.size() - 1); i >= 0; i--) {
+            if (entries.get(i).startsWith("T ")) {
+                return entries.get(i);
+            }
+        }
+        return "before the first turn";
+    }
+
+    public List<String> toLines() {
+        final List<String> lines = Lists.newArrayList();
+        lines.add("seed " + seed);
+        lines.add("type " + gameType.name());
+        lines.add("chooser " + startingChooser + (startingCoinToss ? " toss" : " loser"));
+        for (final Seat seat : seats.values()) {
+            lines.add("player " + seat.id + " life " + seat.startingLife + " hand " + seat.startingHand + " team " + seat.team + " name " + seat.name);
+            if (seat.controller != null) {
+                lines.add("controller " + seat.id + " " + seat.controller);
+            }
+            lines.add("deck " + seat.id + " " + seat.deck.size());
+            lines.addAll(seat.deck);
+            if (!seat.choices.isEmpty()) {
+                lines.add("choices " + seat.id + " " + seat.choices.size());
+                lines.addAll(seat.choices);
+            }
+        }
+        lines.add("log " + entries.size());
+        lines.addAll(entries);
+        return lines;
+    }
+
+    public static GameReplay parse(final List<String> lines) {
+        long seed = 0;
+        GameType type = null;
+        int i = 0;
+        while (i < lines.size() && type == null) {
+            final String[] kv = lines.get(i++).split(" ", 2);
+            if ("seed".equals(kv[0])) {
+                seed = Long.parseLong(kv[1]);
+            } else if ("type".equals(kv[0])) {
+                type = GameType.valueOf(kv[1]);
+            } else {
+                throw new IllegalArgumentException("Not a game replay, unexpected line " + i);
+            }
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Not a game replay, missing game type");
+        }
+        final GameReplay replay = new GameReplay(seed, type);
+        while (i < lines.size()) {
+            final String line = lines.get(i++);
+            final String[] words = line.split(" ");
+            switch (words[0]) {
+            case "player": {
+                final Seat seat = replay.getSeat(Integer.parseInt(words[1]));
+                seat.startingLife = Integer.parseInt(words[3]);
+                seat.startingHand = Integer.parseInt(words[5]);
+                seat.team = Integer.parseInt(words[7]);
+                seat.name = line.substring(line.indexOf(" name ") + 6);
+                break;
+            }
+            case "ids":
+                // the global ids saved before they were counted per game
+                break;
+            case "chooser":
+                replay.startingChooser = Integer.parseInt(words[1]);
+                replay.startingCoinToss = "toss".equals(words[2]);
+                break;
+            case "controller":
+                replay.getSeat(Integer.parseInt(words[1])).controller = line.substring(words[0].length() + words[1].length() + 2);
+                break;
+            case "deck": {
+                final int count = Integer.parseInt(words[2]);
+                replay.getSeat(Integer.parseInt(words[1])).deck = new ArrayList<>(lines.subList(i, i + count));
+                i += count;
+                break;
+            }
+            case "choices": {
+                final int count = Integer.parseInt(words[2]);
+                replay.getSeat(Integer.parseInt(words[1])).choices.addAll(lines.subList(i, i + count));
+                i += count;
+                break;
+            }
+            case "log": {
+                final int count = Integer.parseInt(words[1]);
+                replay.entries.addAll(lines.subList(i, i + count));
+                i += count;
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Not a game replay, unexpected line " + i);
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * Adds the events of the game to the log, subscribe it to the game's events.
+     */
+    public Recorder createRecorder() {
+        return new Recorder();
+    }
+
+    public final class Recorder extends IGameEventVisitor.Base<Void> {
+        private Recorder() {
+        }
+
+        @Subscribe
+        public void receive(final GameEvent ev) {
+            ev.visit(this);
+        }
+
+        @Override
+        public Void visit(final GameEventTurnBegan ev) {
+            add("T " + ev.turnNumber + " " + ev.turnOwner.getId());
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventMulligan ev) {
+            add("M " + ev.player.getId());
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventLandPlayed ev) {
+            add("L " + ev.player.getId() + " " + ev.land.getId());
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventSpellAbilityCast ev) {
+            final StringBuilder sb = new StringBuilder("C ");
+            final Player activator = ev.sa.getActivatingPlayer();
+            sb.append(activator == null ? "-" : String.valueOf(activator.getId()));
+            sb.append(' ').append(ev.sa.getHostCard().getId()).append(' ');
+            final StringBuilder targets = new StringBuilder();
+            for (SpellAbility sa = ev.sa; sa != null; sa = sa.getSubAbility()) {
+                if (sa != ev.sa) {
+                    sb.append('+');
+                }
+                sb.append(sa.getApi() == null ? "-" : sa.getApi().name());
+                if (sa.getTargets() != null) {
+                    for (final GameObject o : sa.getTargets()) {
+                        targets.append(' ').append(toId(o));
+                    }
+                }
+            }
+            if (ev.sa.getXManaCostPaid() != null) {
+                sb.append(" x").append(ev.sa.getXManaCostPaid());
+            }
+            if (targets.length() > 0) {
+                sb.append(" >").append(targets);
+            }
+            add(sb.toString());
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventAttackersDeclared ev) {
+            final StringBuilder sb = new StringBuilder("A ").append(ev.player.getId());
+            for (final Map.Entry<GameEntity, Card> e : ev.attackersMap.entries()) {
+                sb.append(' ').append(e.getValue().getId()).append('>').append(toId(e.getKey()));
+            }
+            add(sb.toString());
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventBlockersDeclared ev) {
+            final StringBuilder sb = new StringBuilder("B ").append(ev.defendingPlayer.getId());
+            for (final MapOfLists<Card, Card> blocks : ev.blockers.values()) {
+                for (final Map.Entry<Card, Collection<Card>> e : blocks.entrySet()) {
+                    for (final Card blocker : e.getValue()) {
+                        sb.append(' ').append(blocker.getId()).append('>').append(e.getKey().getId());
+                    }
+                }
+            }
+            add(sb.toString());
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventCardChangeZone ev) {
+            add("Z " + ev.card.getId() + " " + toId(ev.from) + " " + toId(ev.to));
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventShuffle ev) {
+            add("S " + ev.player.getId());
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventPlayerLivesChanged ev) {
+            add("H " + ev.player.getId() + " " + ev.newLives);
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventGameOutcome ev) {
+            add("O " + ev.result.getLastTurnNumber() + " " + ev.result.getWinCondition()
+                    + " " + (ev.result.isDraw() ? "draw" : String.valueOf(ev.result.getWinningTeam())));
+            return null;
+        }
+
+        private String toId(final Object o) {
+            if (o instanceof Card) {
+                return "c" + ((Card) o).getId();
+            }
+            if (o instanceof Player) {
+                return "p" + ((Player) o).getId();
+            }
+            if (o instanceof SpellAbility) {
+                return "s" + ((SpellAbility) o).getHostCard().getId();
+            }
+            if (o instanceof Zone) {
+                final Zone zone = (Zone) o;
+                return zone.getPlayer() == null ? zone.getZoneType().name() : zone.getZoneType().name() + zone.getPlayer().getId();
+            }
+            return String.valueOf(o);
+        }
+    }
+}
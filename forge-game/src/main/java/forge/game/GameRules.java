@@ -19,11 +19,38 @@ public class GameRules {
 
     // whether to warn about cards AI can't play well
     private boolean warnAboutAICards = true;
+    // no GUI will watch games played by these rules, see Tracker.isHeadless()
+    private boolean headless = false;
+    // see GameMetrics
+    private boolean collectMetrics = false;
+    // see GameReplay
+    private boolean recordReplay = false;
+    private GameReplay replayOf = null;
 
     public GameRules(final GameType type) {
         this.gameType = type;
     }
 
+    /**
+     * @return the same rules, for a copy of a game made to simulate it, which is neither recorded nor played again.
+     */
+    public GameRules forSimulation() {
+        final GameRules copy = new GameRules(gameType);
+        copy.manaBurn = manaBurn;
+        copy.poisonCountersToLose = poisonCountersToLose;
+        copy.gamesPerMatch = gamesPerMatch;
+        copy.gamesToWinMatch = gamesToWinMatch;
+        copy.playForAnte = playForAnte;
+        copy.matchAnteRarity = matchAnteRarity;
+        copy.sideboardForAI = sideboardForAI;
+        copy.appliedVariants.addAll(appliedVariants);
+        copy.useGrayText = useGrayText;
+        copy.warnAboutAICards = warnAboutAICards;
+        copy.headless = headless;
+        copy.collectMetrics = collectMetrics;
+        return copy;
+    }
+
     public GameType getGameType() {
         return gameType;
     }
@@ -110,4 +137,35 @@ public class GameRules {
     public void setWarnAboutAICards(final boolean warnAboutAICards) {
         this.warnAboutAICards = warnAboutAICards;
     }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+    public void setHeadless(final boolean headless) {
+        this.headless = headless;
+    }
+
+    public boolean isCollectMetrics() {
+        return collectMetrics;
+    }
+    public void setCollectMetrics(final boolean collectMetrics) {
+        this.collectMetrics = collectMetrics;
+    }
+
+    public boolean isRecordReplay() {
+        return recordReplay;
+    }
+    public void setRecordReplay(final boolean recordReplay) {
+        this.recordReplay = recordReplay;
+    }
+
+    /**
+     * @return the recorded game to play again, with its seed, or null to play a new one.
+     */
+    public GameReplay getReplayOf() {
+        return replayOf;
+    }
+    public void setReplayOf(final GameReplay replayOf) {
+        this.replayOf = replayOf;
+    }
 }
@@ -16,16 +16,17 @@ import forge.game.event.GameEventGameFinished;
 import forge.game.player.Player;
 import forge.game.player.PlayerController;
 import forge.game.player.RegisteredPlayer;
-import forge.game.trigger.Trigger;
 import forge.game.zone.PlayerZone;
 import forge.game.zone.ZoneType;
 import forge.item.PaperCard;
+import forge.util.ItemPoolSorter;
 import forge.util.Localizer;
 import forge.util.MyRandom;
 import forge.util.collect.FCollectionView;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.Executor;
 
 public class Match {
     private static List<PaperCard> removedCards = Lists.newArrayList();
@@ -76,6 +77,78 @@ public class Match {
     }
 
     public void startGame(final Game game, Runnable startGameHook) {
+        final GameReplay replay = game.getReplay();
+        if (replay == null) {
+            playGame(game, startGameHook);
+            return;
+        }
+        // everything random in a recorded game comes from its seed, so that it can be played again
+        MyRandom.setThreadRandom(new Random(replay.getSeed()));
+        try {
+            playGame(game, startGameHook);
+        } finally {
+            MyRandom.setThreadRandom(null);
+        }
+    }
+
+    /**
+     * Plays the game like {@link #startGame(Game, Runnable)}, except that a player who answers later what to play, see
+     * {@link PlayerController#chooseSpellAbilityToPlayLater}, is waited for on no thread. This returns as soon as such a
+     * player is asked, and the game goes on from the resumer once they answered.
+     *
+     * @param resumer runs the rest of the game once a player answered, on a thread the game may be played from
+     * @param onFinished run once the game finished, from this thread or a resumed one
+     */
+    public void startGame(final Game game, final Runnable startGameHook, final Executor resumer, final Runnable onFinished) {
+        final GameReplay replay = game.getReplay();
+        // everything random in a recorded game comes from its seed, on whichever thread the game goes on
+        final Random random = replay == null ? null : new Random(replay.getSeed());
+        final Executor playOn = random == null ? resumer : new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                resumer.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        runWithRandom(random, command);
+                    }
+                });
+            }
+        };
+        runWithRandom(random, new Runnable() {
+            @Override
+            public void run() {
+                prepareGame(game);
+                game.getAction().startGame(lastOutcome, startGameHook, playOn, new Runnable() {
+                    @Override
+                    public void run() {
+                        finishGame(game);
+                        onFinished.run();
+                    }
+                });
+            }
+        });
+    }
+
+    private static void runWithRandom(final Random random, final Runnable command) {
+        if (random == null) {
+            command.run();
+            return;
+        }
+        MyRandom.setThreadRandom(random);
+        try {
+            command.run();
+        } finally {
+            MyRandom.setThreadRandom(null);
+        }
+    }
+
+    private void playGame(final Game game, Runnable startGameHook) {
+        prepareGame(game);
+        game.getAction().startGame(this.lastOutcome, startGameHook);
+        finishGame(game);
+    }
+
+    private void prepareGame(final Game game) {
         prepareAllZones(game);
         if (rules.useAnte()) {  // Deciding which cards go to ante
             Multimap<Player, Card> list = game.chooseCardsForAnte(rules.getMatchAnteRarity());
@@ -86,9 +159,9 @@ public class Match {
             }
             game.fireEvent(new GameEventAnteCardsSelected(list));
         }
+    }
 
-        game.getAction().startGame(this.lastOutcome, startGameHook);
-
+    private void finishGame(final Game game) {
         if (rules.useAnte()) {
             executeAnte(game);
         }
@@ -98,8 +171,10 @@ public class Match {
         // will pull UI dialog, when the UI is listening
         game.fireEvent(new GameEventGameFinished());
 
-        //run GC after game is finished
-        System.gc();
+        //run GC after game is finished, unless other games may be running meanwhile
+        if (!rules.isHeadless()) {
+            System.gc();
+        }
     }
 
     public GameOutcome getOutcomeById(int id) {
@@ -195,7 +270,10 @@ public class Match {
     private static void preparePlayerZone(Player player, final ZoneType zoneType, CardPool section, boolean canRandomFoil) {
         PlayerZone library = player.getZone(zoneType);
         List<Card> newLibrary = new ArrayList<>();
-        for (final Entry<PaperCard, Integer> stackOfCards : section) {
+        // in a set order, not the pool's, so that a seeded shuffle always deals the same cards, see GameReplay
+        List<Entry<PaperCard, Integer>> stacks = Lists.newArrayList(section);
+        stacks.sort(ItemPoolSorter.BY_NAME_THEN_SET);
+        for (final Entry<PaperCard, Integer> stackOfCards : stacks) {
             final PaperCard cp = stackOfCards.getKey();
             for (int i = 0; i < stackOfCards.getValue(); i++) {
                 final Card card = Card.fromPaperCard(cp, player);
@@ -212,8 +290,6 @@ public class Match {
     }
 
     private void prepareAllZones(final Game game) {
-        // need this code here, otherwise observables fail
-        Trigger.resetIDs();
         game.getTriggerHandler().clearDelayedTrigger();
 
         // friendliness
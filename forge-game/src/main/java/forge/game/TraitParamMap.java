@@ -0,0 +1,114 @@
+package forge.game;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Maps;
+
+import forge.util.ParamMap;
+
+/**
+ * The parameters of a card trait.
+ * <p>
+ * Starts out sharing the immutable map the trait was parsed from (see {@link forge.util.FileSection#parseToMap}),
+ * so the thousands of copies of a card's abilities made during a game, or in several games at once, don't each
+ * carry their own hash map. The first change (text changing effects, announced values, ...) gives the trait
+ * a private copy. Lookups are case-sensitive, like the HashMap this replaces.
+ */
+final class TraitParamMap extends AbstractMap<String, String> {
+    // exactly one of these is set
+    private ParamMap shared;
+    private Map<String, String> own;
+
+    TraitParamMap() {
+        shared = ParamMap.EMPTY;
+    }
+
+    TraitParamMap(final Map<String, String> from) {
+        if (from instanceof TraitParamMap && ((TraitParamMap) from).shared != null) {
+            shared = ((TraitParamMap) from).shared;
+        } else if (from instanceof ParamMap) {
+            shared = (ParamMap) from;
+        } else {
+            own = Maps.newHashMap(from);
+        }
+    }
+
+    private Map<String, String> mutable() {
+        if (own == null) {
+            own = Maps.newHashMap(shared);
+            shared = null;
+        }
+        return own;
+    }
+
+    @Override
+    public String get(final Object key) {
+        if (shared != null) {
+            return key instanceof String ? shared.getExact((String) key) : null;
+        }
+        return own.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (shared != null) {
+            return key instanceof String && shared.containsKeyExact((String) key);
+        }
+        return own.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return shared != null ? shared.size() : own.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return shared != null ? shared.isEmpty() : own.isEmpty();
+    }
+
+    @Override
+    public String put(final String key, final String value) {
+        return mutable().put(key, value);
+    }
+
+    @Override
+    public String remove(final Object key) {
+        if (shared != null && !containsKey(key)) {
+            return null;
+        }
+        return mutable().remove(key);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends String> m) {
+        if (isEmpty()) {
+            if (m instanceof ParamMap) {
+                shared = (ParamMap) m;
+                own = null;
+                return;
+            }
+            if (m instanceof TraitParamMap && ((TraitParamMap) m).shared != null) {
+                shared = ((TraitParamMap) m).shared;
+                own = null;
+                return;
+            }
+        }
+        if (!m.isEmpty()) {
+            mutable().putAll(m);
+        }
+    }
+
+    @Override
+    public void clear() {
+        shared = ParamMap.EMPTY;
+        own = null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return shared != null ? shared.entrySet() : own.entrySet();
+    }
+}
@@ -52,7 +52,7 @@ public class AttachEffect extends SpellAbilityEffect {
             }
             String title = sa.hasParam("ChoiceTitle") ? sa.getParam("ChoiceTitle") : Localizer.getInstance().getMessage("lblChoose") + " ";
 
-            CardCollection choices = CardLists.getValidCards(game.getCardsIn(choiceZone), sa.getParam("Choices"), p, source, sa);
+            CardCollection choices = CardLists.getValidCards(game.viewCardsIn(choiceZone), sa.getParam("Choices"), p, source, sa);
 
             Map<String, Object> params = Maps.newHashMap();
             params.put("Target", Iterables.getFirst(getDefinedEntitiesOrTargeted(sa, "Defined"), null));
@@ -91,7 +91,7 @@ public class AttachEffect extends SpellAbilityEffect {
                     }
                 }
             } else {
-                CardCollection cardChoices = CardLists.getValidCards(game.getCardsIn(choiceZone),
+                CardCollection cardChoices = CardLists.getValidCards(game.viewCardsIn(choiceZone),
                         sa.getParam("Choices"), p, source, sa);
                 // Object + Choices means Attach Aura/Equipment onto new another card it can attach
                 // if multiple attachments, all of them need to be able to attach to new card
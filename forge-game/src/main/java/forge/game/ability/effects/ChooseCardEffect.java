@@ -106,7 +106,7 @@ public class ChooseCardEffect extends SpellAbilityEffect {
             boolean dontRevealToOwner = true;
             if (sa.hasParam("EachBasicType")) {
                 // Get all lands,
-                List<Card> land = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), Presets.LANDS);
+                List<Card> land = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), Presets.LANDS);
                 String eachBasic = sa.getParam("EachBasicType");
                 if (eachBasic.equals("Controlled")) {
                     land = CardLists.filterControlledBy(land, p);
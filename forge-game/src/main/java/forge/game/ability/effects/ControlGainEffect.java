@@ -121,7 +121,7 @@ public class ControlGainEffect extends SpellAbilityEffect {
         if (sa.hasParam("Choices")) {
             Player chooser = sa.hasParam("Chooser") ? AbilityUtils.getDefinedPlayers(source,
                     sa.getParam("Chooser"), sa).get(0) : activator;
-            CardCollectionView choices = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield),
+            CardCollectionView choices = CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield),
                     sa.getParam("Choices"), activator, source, sa);
             if (choices.isEmpty()) {
                 return;
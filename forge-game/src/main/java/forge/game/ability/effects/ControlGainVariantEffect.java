@@ -43,7 +43,7 @@ public class ControlGainVariantEffect extends SpellAbilityEffect {
             Collections.rotate(players, -aidx);
         }
 
-        CardCollection tgtCards = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield),
+        CardCollection tgtCards = CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield),
                 sa.getParam("AllValid"), source.getController(), source, sa);
 
         if ("NextPlayerInChosenDirection".equals(controller) && (source.getChosenDirection() != null) ) {// Aminatou, the Fateshifter
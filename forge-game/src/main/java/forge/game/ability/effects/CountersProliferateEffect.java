@@ -58,7 +58,7 @@ public class CountersProliferateEffect extends SpellAbilityEffect {
             FCollection<GameEntity> list = new FCollection<>();
 
             list.addAll(game.getPlayers().filter(PlayerPredicates.hasCounters()));
-            list.addAll(CardLists.filter(game.getCardsIn(ZoneType.Battlefield), CardPredicates.hasCounters()));
+            list.addAll(CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), CardPredicates.hasCounters()));
 
             List<GameEntity> result = pc.chooseEntitiesForEffect(list, 0, list.size(), null, sa,
                     Localizer.getInstance().getMessage("lblChooseProliferateTarget"), p, null);
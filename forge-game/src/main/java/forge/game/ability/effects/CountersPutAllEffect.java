@@ -87,7 +87,7 @@ public class CountersPutAllEffect extends SpellAbilityEffect  {
             final ZoneType zone2 = sa.hasParam("ValidZone2") ?
                     ZoneType.smartValueOf(sa.getParam("ValidZone2")) : zone;
             if (sa.hasParam("ValidCards2")) {
-                cards = CardLists.getValidCards(game.getCardsIn(zone2), sa.getParam("ValidCards2"),
+                cards = CardLists.getValidCards(game.viewCardsIn(zone2), sa.getParam("ValidCards2"),
                         activator, host, sa);
                 if (sa.usesTargeting()) {
                     cards = CardLists.filterControlledBy(cards, sa.getTargets().getFirstTargetedPlayer());
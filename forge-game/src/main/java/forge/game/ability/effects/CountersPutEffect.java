@@ -223,7 +223,7 @@ public class CountersPutEffect extends SpellAbilityEffect {
                 return;
             }
 
-            CardCollection choices = CardLists.getValidCards(game.getCardsIn(choiceZone), sa.getParam("Choices"),
+            CardCollection choices = CardLists.getValidCards(game.viewCardsIn(choiceZone), sa.getParam("Choices"),
                     activator, card, sa);
 
             // TODO might use better message
@@ -335,7 +335,7 @@ public class CountersPutEffect extends SpellAbilityEffect {
                     for (String type : types.split(",")) {
                         if (type.contains("EachType")) {
                             CardCollectionView counterCards =
-                                    CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield),
+                                    CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield),
                                             type.split("_")[1], activator, card, sa);
                             List <CounterType> counterTypes = Lists.newArrayList();
                             for (Card c : counterCards) {
@@ -404,7 +404,7 @@ public class CountersPutEffect extends SpellAbilityEffect {
                         counterType = pc.chooseCounterType(choices, sa, sb, params);
                     }
                     if (putOnEachOther) {
-                        List<Card> others = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield),
+                        List<Card> others = CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield),
                                 sa.getParam("PutOnEachOther"), activator, card, sa);
                         for (Card other : others) {
                             if (other.equals(obj)) {
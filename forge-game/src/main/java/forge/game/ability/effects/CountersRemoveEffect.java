@@ -137,7 +137,7 @@ public class CountersRemoveEffect extends SpellAbilityEffect {
             ZoneType choiceZone = sa.hasParam("ChoiceZone") ? ZoneType.smartValueOf(sa.getParam("ChoiceZone"))
                     : ZoneType.Battlefield;
 
-            CardCollection choices = CardLists.getValidCards(game.getCardsIn(choiceZone), sa.getParam("Choices"),
+            CardCollection choices = CardLists.getValidCards(game.viewCardsIn(choiceZone), sa.getParam("Choices"),
                     player, card, sa);
 
             int min = 1;
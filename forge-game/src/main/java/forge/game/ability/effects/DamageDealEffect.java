@@ -154,7 +154,7 @@ public class DamageDealEffect extends DamageBaseEffect {
             final Player activator = sa.getActivatingPlayer();
             FCollection<GameEntity> choices = new FCollection<>();
             if (sa.hasParam("CardChoices")) {
-                choices.addAll(CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield),
+                choices.addAll(CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield),
                         sa.getParam("CardChoices"), activator, hostCard, sa));
             }
             if (sa.hasParam("PlayerChoices")) {
@@ -75,7 +75,7 @@ public class DamagePreventEffect extends DamagePreventEffectBase {
             // only for Whimsy, for more robust version see DamageDealEffect
             FCollection<GameEntity> choices = new FCollection<>();
             if (sa.hasParam("CardChoices")) {
-                choices.addAll(CardLists.getValidCards(host.getGame().getCardsIn(ZoneType.Battlefield),
+                choices.addAll(CardLists.getValidCards(host.getGame().viewCardsIn(ZoneType.Battlefield),
                         sa.getParam("CardChoices"), sa.getActivatingPlayer(), host, sa));
             }
             if (sa.hasParam("PlayerChoices")) {
@@ -197,7 +197,7 @@ public class ManaEffect extends SpellAbilityEffect {
                     final ZoneType zone = defined || type.startsWith("EachColorAmong_") ? ZoneType.Battlefield :
                             ZoneType.smartValueOf(type.split("_")[0].substring(14));
                     final CardCollection list = defined ? AbilityUtils.getDefinedCards(card, res, sa) :
-                            CardLists.getValidCards(card.getGame().getCardsIn(zone), res, activator, card, sa);
+                            CardLists.getValidCards(card.getGame().viewCardsIn(zone), res, activator, card, sa);
                     byte colors = 0;
                     for (Card c : list) {
                         colors |= c.getColor().getColor();
@@ -83,7 +83,7 @@ public class ProtectAllEffect extends SpellAbilityEffect {
         // Deal with permanents
         final String valid = sa.getParamOrDefault("ValidCards", "");
         if (!valid.equals("")) {
-            CardCollectionView list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), valid, sa.getActivatingPlayer(), host, sa);
+            CardCollectionView list = CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield), valid, sa.getActivatingPlayer(), host, sa);
 
             for (final Card tgtC : list) {
                 tgtC.addChangedCardKeywords(gainsKWList, null, false, timestamp, 0, true);
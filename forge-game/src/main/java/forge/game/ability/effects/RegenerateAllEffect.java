@@ -28,7 +28,7 @@ public class RegenerateAllEffect extends RegenerateBaseEffect {
         final String valid = sa.getParamOrDefault("ValidCards", "");
 
         // create Effect for Regeneration
-        createRegenerationEffect(sa, CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), valid, hostCard.getController(), hostCard, sa));
+        createRegenerationEffect(sa, CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield), valid, hostCard.getController(), hostCard, sa));
     }
 
 }
@@ -56,7 +56,7 @@ public class RepeatEachEffect extends SpellAbilityEffect {
             } else {
                 zone.add(ZoneType.Battlefield);
             }
-            repeatCards = CardLists.getValidCards(game.getCardsIn(zone),
+            repeatCards = CardLists.getValidCards(game.viewCardsIn(zone),
                     sa.getParam("RepeatCards"), source.getController(), source, sa);
         }
         else if (sa.hasParam(("RepeatSpellAbilities"))) {
@@ -144,7 +144,7 @@ public class RepeatEachEffect extends SpellAbilityEffect {
             } else {
                 final ZoneType zone = sa.hasParam("TypesFromZone") ?
                         ZoneType.smartValueOf(sa.getParam("TypesFromZone")) : ZoneType.Battlefield;
-                res = CardLists.getValidCards(game.getCardsIn(zone), def, source.getController(), source, sa);
+                res = CardLists.getValidCards(game.viewCardsIn(zone), def, source.getController(), source, sa);
             }
             for (final Card c : res) {
                 for (CardType.CoreType type : c.getType().getCoreTypes()) {
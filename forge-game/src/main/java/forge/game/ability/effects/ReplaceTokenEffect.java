@@ -93,7 +93,7 @@ public class ReplaceTokenEffect extends SpellAbilityEffect {
         } else if ("ReplaceToken".equals(sa.getParam("Type"))) {
             Card chosen = null;
             if (sa.hasParam("ValidChoices")) {
-                CardCollectionView choices = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), sa.getParam("ValidChoices"), p, card, sa);
+                CardCollectionView choices = CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield), sa.getParam("ValidChoices"), p, card, sa);
                 if (choices.isEmpty()) {
                     originalParams.put(AbilityKey.ReplacementResult, ReplacementResult.NotReplaced);
                     return;
@@ -59,7 +59,7 @@ public class SetStateEffect extends SpellAbilityEffect {
 
         CardCollectionView cardsToTransform;
         if (sa.hasParam("Choices")) {
-            CardCollectionView choices = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), sa.getParam("Choices"), p, host, sa);
+            CardCollectionView choices = CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield), sa.getParam("Choices"), p, host, sa);
 
             final int validAmount = AbilityUtils.calculateAmount(host, sa.getParamOrDefault("Amount", "1"), sa);
             final int minAmount = sa.hasParam("MinAmount") ? Integer.parseInt(sa.getParam("MinAmount")) : validAmount;
@@ -33,7 +33,7 @@ public class TapEffect extends SpellAbilityEffect {
         Iterable<Card> toTap;
 
         if (sa.hasParam("CardChoices")) { // choosing outside Defined/Targeted
-            CardCollection choices = CardLists.getValidCards(card.getGame().getCardsIn(ZoneType.Battlefield), sa.getParam("CardChoices"), activator, card, sa);
+            CardCollection choices = CardLists.getValidCards(card.getGame().viewCardsIn(ZoneType.Battlefield), sa.getParam("CardChoices"), activator, card, sa);
             int n = sa.hasParam("ChoiceAmount") ?
                     AbilityUtils.calculateAmount(card, sa.getParam("ChoiceAmount"), sa) : 1;
             int min = sa.hasParam("AnyNumber") ? 0 : n;
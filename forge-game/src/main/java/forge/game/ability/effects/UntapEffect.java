@@ -98,7 +98,7 @@ public class UntapEffect extends SpellAbilityEffect {
                 continue;
             }
 
-            CardCollectionView list = CardLists.getValidCards(p.getGame().getCardsIn(ZoneType.Battlefield),
+            CardCollectionView list = CardLists.getValidCards(p.getGame().viewCardsIn(ZoneType.Battlefield),
                     valid, sa.getActivatingPlayer(), sa.getHostCard(), sa);
             // the few mandatory are handled differently
             if (!mandatory) {
@@ -64,7 +64,7 @@ public class VoteEffect extends SpellAbilityEffect {
             voteType.addAll(Arrays.asList(sa.getParam("VoteType").split(",")));
         } else if (sa.hasParam("VoteCard")) {
             ZoneType zone = sa.hasParam("Zone") ? ZoneType.smartValueOf(sa.getParam("Zone")) : ZoneType.Battlefield;
-            voteType.addAll(CardLists.getValidCards(game.getCardsIn(zone), sa.getParam("VoteCard"), activator, host, sa));
+            voteType.addAll(CardLists.getValidCards(game.viewCardsIn(zone), sa.getParam("VoteCard"), activator, host, sa));
         } else if (sa.hasParam("VotePlayer")) {
             voteType.addAll(AbilityUtils.getDefinedPlayers(host, sa.getParam("VotePlayer"), sa));
         }
@@ -484,6 +484,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         // For Ertai's Meddling a morph spell
         currentState = CardUtil.getFaceDownCharacteristic(this, CardStateName.Original);
         states.put(CardStateName.Original, currentState);
+        typesChanged();
     }
 
     public boolean setState(final CardStateName state, boolean updateView) {
@@ -523,6 +524,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
         currentStateName = state;
         currentState = getState(state);
+        typesChanged();
 
         if (updateView) {
             view.updateState(this);
@@ -604,6 +606,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         currentState.getView().updateType(currentState);
     }
 
+    // the battlefield indexes of creatures, lands, ... are kept by type and leave out phased out permanents
+    void typesChanged() {
+        if (game != null) {
+            game.cardTypesChanged();
+        }
+    }
+
     public boolean changeCardState(final String mode, final String customState, final SpellAbility cause) {
         if (isPhasedOut()) {
             return false;
@@ -3976,6 +3985,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             changed = true;
         changedCardTypes.clear();
 
+        if (changed) {
+            typesChanged();
+        }
         return changed;
     }
 
@@ -3986,8 +3998,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             changed = true;
         changedCardColorsByText.clear();
 
-        if (!changedCardTypesCharacterDefining.isEmpty())
+        if (!changedCardTypesCharacterDefining.isEmpty()) {
             changed = true;
+            typesChanged();
+        }
         changedCardTypesCharacterDefining.clear();
 
         if (!changedCardColors.isEmpty())
@@ -4039,6 +4053,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         this.changedTextTypes.addEmpty(timestamp, staticId);
 
         this.updateChangedText();
+        typesChanged();
 
         if (updateView) {
             updateTypesForView();
@@ -4050,6 +4065,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             final long timestamp, final long staticId, final boolean updateView, final boolean cda) {
         (cda ? changedCardTypesCharacterDefining : changedCardTypes).put(timestamp, staticId, new CardChangedType(
                 addType, removeType, addAllCreatureTypes, remove));
+        typesChanged();
         if (updateView) {
             updateTypesForView();
         }
@@ -4078,6 +4094,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         boolean removed = false;
         removed |= changedCardTypes.remove(timestamp, staticId) != null;
         removed |= changedCardTypesCharacterDefining.remove(timestamp, staticId) != null;
+        if (removed) {
+            typesChanged();
+        }
         if (removed && updateView) {
             updateTypesForView();
         }
@@ -5171,6 +5190,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         }
 
         this.changedTypeByText = new CardChangedType(new CardType(toAdd, true), new CardType(toRemove, true), false, EnumSet.noneOf(RemoveType.class));
+        typesChanged();
 
         currentState.updateChangedText();
 
@@ -5442,6 +5462,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public final void setPhasedOut(final Player phasedOut0) {
         if (phasedOut == phasedOut0) { return; }
         phasedOut = phasedOut0;
+        typesChanged();
         view.updatePhasedOut(this);
     }
 
@@ -7490,10 +7511,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public void setChangedCardTypes(Table<Long, Long, CardChangedType> changedCardTypes) {
         this.changedCardTypes.clear();
         this.changedCardTypes.putAll(changedCardTypes);
+        typesChanged();
     }
     public void setChangedCardTypesCharacterDefining(Table<Long, Long, CardChangedType> changedCardTypes) {
         this.changedCardTypesCharacterDefining.clear();
         this.changedCardTypesCharacterDefining.putAll(changedCardTypes);
+        typesChanged();
     }
 
     public void setChangedCardKeywords(Table<Long, Long, KeywordsChange> changedCardKeywords) {
@@ -1,5 +1,12 @@
 package forge.game.card;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+
 import forge.util.collect.FCollection;
 
 public class CardCollection extends FCollection<Card> implements CardCollectionView {
@@ -87,6 +94,37 @@ public class CardCollection extends FCollection<Card> implements CardCollectionV
         return viewWithCards;
     }
 
+    /**
+     * Concatenate multiple instances of {@link CardCollectionView} into a single
+     * read-only view without copying them. Unlike
+     * {@link #combine(CardCollectionView...)}, the returned value is backed by
+     * the given collections, so it should be used right away (e.g. to filter
+     * or count cards) and the collections must not be changed while iterating
+     * over it. The collections are expected not to share any cards.
+     *
+     * @param views
+     *            a list of card collections.
+     * @return a view of the elements of the collections in {@code views}, in
+     *         order.
+     */
+    public static CardCollectionView concat(final List<CardCollectionView> views) {
+        CardCollectionView viewWithCards = null;
+        int nonEmpty = 0;
+        for (final CardCollectionView v : views) {
+            if (!v.isEmpty()) {
+                viewWithCards = v;
+                nonEmpty++;
+            }
+        }
+        if (nonEmpty == 0) {
+            return EMPTY;
+        }
+        if (nonEmpty == 1) {
+            return viewWithCards;
+        }
+        return new ConcatenatedCardCollection(views.toArray(new CardCollectionView[0]));
+    }
+
     /**
      * Construct a new, empty {@link CardCollection}.
      */
@@ -123,6 +161,125 @@ public class CardCollection extends FCollection<Card> implements CardCollectionV
         return new CardCollection(super.subList(fromIndex, toIndex));
     }
 
+    /**
+     * A read-only view of several card collections, one after another.
+     */
+    private final static class ConcatenatedCardCollection implements CardCollectionView {
+        private final CardCollectionView[] views;
+
+        private ConcatenatedCardCollection(final CardCollectionView[] views) {
+            this.views = views;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            for (final CardCollectionView v : views) {
+                if (!v.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (final CardCollectionView v : views) {
+                size += v.size();
+            }
+            return size;
+        }
+
+        @Override
+        public Card get(final int index) {
+            int i = index;
+            for (final CardCollectionView v : views) {
+                final int size = v.size();
+                if (i < size) {
+                    return v.get(i);
+                }
+                i -= size;
+            }
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        @Override
+        public Card getFirst() {
+            for (final CardCollectionView v : views) {
+                if (!v.isEmpty()) {
+                    return v.getFirst();
+                }
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public Card getLast() {
+            for (int i = views.length - 1; i >= 0; i--) {
+                if (!views[i].isEmpty()) {
+                    return views[i].getLast();
+                }
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public int indexOf(final Object o) {
+            int offset = 0;
+            for (final CardCollectionView v : views) {
+                final int index = v.indexOf(o);
+                if (index >= 0) {
+                    return offset + index;
+                }
+                offset += v.size();
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(final Object o) {
+            return indexOf(o); // a card is in at most one of the collections, and at most once
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            for (final CardCollectionView v : views) {
+                if (v.contains(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public List<Card> subList(final int fromIndex, final int toIndex) {
+            return new CardCollection(this).subList(fromIndex, toIndex);
+        }
+
+        @Override
+        public Iterable<Card> threadSafeIterable() {
+            return Iterables.unmodifiableIterable(new CardCollection(this));
+        }
+
+        @Override
+        public Card get(final Card obj) {
+            if (obj == null) {
+                return null;
+            }
+            for (final Card c : this) {
+                if (c.equals(obj)) {
+                    return c;
+                }
+            }
+            return obj;
+        }
+
+        @Override
+        public Iterator<Card> iterator() {
+            return Iterators.unmodifiableIterator(Iterables.concat(views).iterator());
+        }
+    }
+
     /**
      * An unmodifiable, empty {@link CardCollection}.
      */
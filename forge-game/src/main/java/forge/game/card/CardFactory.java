@@ -18,6 +18,8 @@
 package forge.game.card;
 
 import com.google.common.base.Function;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import forge.ImageKeys;
@@ -48,6 +50,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -345,6 +348,9 @@ public class CardFactory {
         return sa;
     }
 
+    // the states the traits of each card face were read into, dropped along with the card rules of the face
+    private static final Cache<ICardFace, Map<CardStateName, CardState>> faceTraits = CacheBuilder.newBuilder().weakKeys().build();
+
     private static Card readCard(final CardRules rules, final IPaperCard paperCard, int cardId, Game game) {
         final Card card = new Card(cardId, paperCard, game);
 
@@ -399,6 +405,43 @@ public class CardFactory {
     }
 
     private static void readCardFace(Card c, ICardFace face) {
+        readCardFace(c, face, getFaceTraits(face, c.getCurrentStateName()));
+    }
+
+    /**
+     * The state of a card outside any game that the traits of a card face were read into, once for all the cards
+     * made of it, which get copies of them instead of parsing them again.
+     */
+    private static CardState getFaceTraits(final ICardFace face, final CardStateName stateName) {
+        Map<CardStateName, CardState> states = faceTraits.getIfPresent(face);
+        if (states == null) {
+            states = new ConcurrentHashMap<>();
+            final Map<CardStateName, CardState> read = faceTraits.asMap().putIfAbsent(face, states);
+            if (read != null) {
+                states = read;
+            }
+        }
+        CardState traits = states.get(stateName);
+        if (traits == null) {
+            final Card card = new Card(-1, null, null);
+            if (stateName != CardStateName.Original) {
+                card.addAlternateState(stateName, false);
+                card.setState(stateName, false);
+            }
+            readCardFace(card, face, null);
+            traits = card.getCurrentState();
+            final CardState read = states.putIfAbsent(stateName, traits);
+            if (read != null) {
+                traits = read;
+            }
+        }
+        return traits;
+    }
+
+    /**
+     * @param traits the state to copy the traits from, or null to parse them
+     */
+    private static void readCardFace(Card c, ICardFace face, CardState traits) {
         // Build English oracle and translated oracle mapping
         if (c.getId() >= 0) {
             CardTranslation.buildOracleMapping(face.getName(), face.getOracleText());
@@ -409,12 +452,14 @@ public class CardFactory {
 
         for (Entry<String, String> v : face.getVariables())  c.setSVar(v.getKey(), v.getValue());
 
-        for (String r : face.getReplacements())              c.addReplacementEffect(ReplacementHandler.parseReplacement(r, c, true, c.getCurrentState()));
-        for (String s : face.getStaticAbilities())           c.addStaticAbility(s);
-        for (String t : face.getTriggers())                  c.addTrigger(TriggerHandler.parseTrigger(t, c, true, c.getCurrentState()));
+        if (traits == null) {
+            for (String r : face.getReplacements())              c.addReplacementEffect(ReplacementHandler.parseReplacement(r, c, true, c.getCurrentState()));
+            for (String s : face.getStaticAbilities())           c.addStaticAbility(s);
+            for (String t : face.getTriggers())                  c.addTrigger(TriggerHandler.parseTrigger(t, c, true, c.getCurrentState()));
+        }
 
         // keywords not before variables
-        c.addIntrinsicKeywords(face.getKeywords(), false);
+        final boolean hasKeywords = c.getCurrentState().addIntrinsicKeywords(face.getKeywords(), false);
 
         c.setManaCost(face.getManaCost());
         c.setText(face.getNonAbilityText());
@@ -438,22 +483,39 @@ public class CardFactory {
             c.setBaseToughnessString(face.getToughness());
         }
 
+        boolean hasAbilities = face.getAbilities().iterator().hasNext();
         // SpellPermanent only for Original State
         if (c.getCurrentStateName() == CardStateName.Original || c.getCurrentStateName() == CardStateName.Modal || c.getCurrentStateName().toString().startsWith("Specialize")) {
             // this is the "default" spell for permanents like creatures and artifacts
             if (c.isPermanent() && !c.isAura() && !c.isLand()) {
-                SpellAbility sa = new SpellPermanent(c);
-
-                // Currently only for Modal, might react different when state is always set
-                //if (c.getCurrentStateName() == CardStateName.Modal) {
-                    sa.setCardState(c.getCurrentState());
-                //}
-                c.addSpellAbility(sa);
+                if (traits == null) {
+                    SpellAbility sa = new SpellPermanent(c);
+
+                    // Currently only for Modal, might react different when state is always set
+                    //if (c.getCurrentStateName() == CardStateName.Modal) {
+                        sa.setCardState(c.getCurrentState());
+                    //}
+                    c.addSpellAbility(sa, false);
+                }
+                hasAbilities = true;
             }
             // TODO add LandAbility there when refactor MayPlay
         }
 
-        CardFactoryUtil.addAbilityFactoryAbilities(c, face.getAbilities());
+        if (traits == null) {
+            CardFactoryUtil.addAbilityFactoryAbilities(c, face.getAbilities());
+        } else {
+            // the cards of all games copy the same traits
+            synchronized (traits) {
+                c.getCurrentState().addTraitsReadFrom(traits);
+            }
+        }
+        // keywords and abilities were added without updating the view, which works their text out again each time
+        if (hasKeywords) {
+            c.updateKeywords();
+        } else if (hasAbilities) {
+            c.getCurrentState().getView().updateAbilityText(c, c.getCurrentState());
+        }
     }
 
     /**
@@ -578,7 +640,7 @@ public class CardFactory {
     }
     public static void copySpellAbility(SpellAbility from, SpellAbility to, final Card host, final Player p, final boolean lki, final boolean keepTextChanges) {
         if (from.usesTargeting()) {
-            to.setTargetRestrictions(from.getTargetRestrictions());
+            to.setTargetRestrictions(new TargetRestrictions(from.getTargetRestrictions()));
         }
         to.setDescription(from.getOriginalDescription());
         to.setStackDescription(from.getOriginalStackDescription());
@@ -558,6 +558,7 @@ public class CardFactoryUtil {
 
     /**
      * Adds the ability factory abilities.
+     * The view of the card's current state isn't updated, the caller does that once all of them are added.
      *
      * @param card
      *            the card
@@ -568,7 +569,7 @@ public class CardFactoryUtil {
         for (String rawAbility : abilities) {
             try {
                 final SpellAbility intrinsicAbility = AbilityFactory.getAbility(rawAbility, card);
-                card.addSpellAbility(intrinsicAbility);
+                card.addSpellAbility(intrinsicAbility, false);
                 intrinsicAbility.setIntrinsic(true);
                 intrinsicAbility.setCardState(card.getCurrentState());
             } catch (Exception e) {
@@ -894,9 +894,9 @@ public class CardProperty {
                 if (restriction.equals("YourGraveyard")) {
                     return Iterables.any(sourceController.getCardsIn(ZoneType.Graveyard), CardPredicates.sharesNameWith(card));
                 } else if (restriction.equals(ZoneType.Graveyard.toString())) {
-                    return Iterables.any(game.getCardsIn(ZoneType.Graveyard), CardPredicates.sharesNameWith(card));
+                    return Iterables.any(game.viewCardsIn(ZoneType.Graveyard), CardPredicates.sharesNameWith(card));
                 } else if (restriction.equals(ZoneType.Battlefield.toString())) {
-                    return Iterables.any(game.getCardsIn(ZoneType.Battlefield), CardPredicates.sharesNameWith(card));
+                    return Iterables.any(game.viewCardsIn(ZoneType.Battlefield), CardPredicates.sharesNameWith(card));
                 } else if (restriction.equals("ThisTurnCast")) {
                     return Iterables.any(CardUtil.getThisTurnCast("Card", source, spellAbility, sourceController), CardPredicates.sharesNameWith(card));
                 } else if (restriction.equals("MovedToGrave")) {
@@ -918,7 +918,7 @@ public class CardProperty {
                     }
                     return false;
                 } else if (restriction.equals("NonToken")) {
-                    return !CardLists.filter(game.getCardsIn(ZoneType.Battlefield),
+                    return !CardLists.filter(game.viewCardsIn(ZoneType.Battlefield),
                             Presets.NON_TOKEN, CardPredicates.sharesNameWith(card)).isEmpty();
                 } else if (restriction.equals("TriggeredCard")) {
                     if (!(spellAbility instanceof SpellAbility)) {
@@ -960,7 +960,7 @@ public class CardProperty {
                     }
                     return list.isEmpty();
                 } else {
-                    CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction,
+                    CardCollection list = CardLists.getValidCards(game.viewCardsIn(ZoneType.Battlefield), restriction,
                             sourceController, source, spellAbility);
                     return !Iterables.any(list, CardPredicates.sharesNameWith(card));
                 }
@@ -1318,7 +1318,7 @@ public class CardProperty {
             return !card.getDamageHistory().getCreatureAttackedLastTurnOf(controller);
 
         } else if (property.startsWith("greatestPower")) {
-            CardCollectionView cards = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), Presets.CREATURES);
+            CardCollectionView cards = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), Presets.CREATURES);
             if (property.contains("ControlledBy")) {
                 FCollectionView<Player> p = AbilityUtils.getDefinedPlayers(source, property.split("ControlledBy")[1], spellAbility);
                 cards = CardLists.filterControlledBy(cards, p);
@@ -1339,7 +1339,7 @@ public class CardProperty {
                 }
             }
         } else if (property.startsWith("leastPower")) {
-            CardCollectionView cards = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), Presets.CREATURES);
+            CardCollectionView cards = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), Presets.CREATURES);
             if (property.contains("ControlledBy")) {
                 FCollectionView<Player> p = AbilityUtils.getDefinedPlayers(source, property.split("ControlledBy")[1], spellAbility);
                 cards = CardLists.filterControlledBy(cards, p);
@@ -1353,7 +1353,7 @@ public class CardProperty {
                 }
             }
         } else if (property.startsWith("leastToughness")) {
-            CardCollectionView cards = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), Presets.CREATURES);
+            CardCollectionView cards = CardLists.filter(game.viewCardsIn(ZoneType.Battlefield), Presets.CREATURES);
             if (property.contains("ControlledBy")) { // 4/25/2023 only used for adventure mode Death Ring
                 FCollectionView<Player> p = AbilityUtils.getDefinedPlayers(source, property.split("ControlledBy")[1], spellAbility);
                 cards = CardLists.filterControlledBy(cards, p);
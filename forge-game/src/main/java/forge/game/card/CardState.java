@@ -36,6 +36,7 @@ import forge.game.CardTraitBase;
 import forge.game.ForgeScript;
 import forge.game.GameObject;
 import forge.game.IHasSVars;
+import forge.game.TriggerReplacementBase;
 import forge.game.ability.ApiType;
 import forge.game.card.CardView.CardStateView;
 import forge.game.keyword.Keyword;
@@ -43,6 +44,7 @@ import forge.game.keyword.KeywordCollection;
 import forge.game.keyword.KeywordInterface;
 import forge.game.player.Player;
 import forge.game.replacement.ReplacementEffect;
+import forge.game.spellability.AbilitySub;
 import forge.game.spellability.SpellAbility;
 import forge.game.spellability.SpellAbilityPredicates;
 import forge.game.staticability.StaticAbility;
@@ -134,11 +136,13 @@ public class CardState extends GameObject implements IHasSVars {
     }
     public final void addType(String type0) {
         if (type.add(type0)) {
+            card.typesChanged();
             view.updateType(this);
         }
     }
     public final void addType(Iterable<String> type0) {
         if (type.addAll(type0)) {
+            card.typesChanged();
             view.updateType(this);
         }
     }
@@ -150,11 +154,13 @@ public class CardState extends GameObject implements IHasSVars {
         if (type0.isEmpty() && type.isEmpty()) { return; }
         type.clear();
         type.addAll(type0);
+        card.typesChanged();
         view.updateType(this);
     }
 
     public final void removeType(final CardType.Supertype st) {
         if (type.remove(st)) {
+            card.typesChanged();
             view.updateType(this);
         }
     }
@@ -164,10 +170,12 @@ public class CardState extends GameObject implements IHasSVars {
         if (sanisfy) {
             type.sanisfySubtypes();
         }
+        card.typesChanged();
     }
 
     public final void setCreatureTypes(Collection<String> ctypes) {
         if (type.setCreatureTypes(ctypes)) {
+            card.typesChanged();
             view.updateType(this);
         }
     }
@@ -686,6 +694,52 @@ public class CardState extends GameObject implements IHasSVars {
         }
     }
 
+    /**
+     * Adds copies of the traits a card face was read with, from the state of a card that was read from the same face.
+     * Unlike the copies of {@link #copyFrom}, they belong to this state, as if they had been read into it.
+     */
+    final void addTraitsReadFrom(final CardState face) {
+        for (SpellAbility sa : face.manaAbilities) {
+            manaAbilities.add(ownCopy(sa.copy(card, false)));
+        }
+        for (SpellAbility sa : face.nonManaAbilities) {
+            nonManaAbilities.add(ownCopy(sa.copy(card, false)));
+        }
+        for (Trigger tr : face.triggers) {
+            triggers.add(ownCopy(tr.copy(card, false)));
+        }
+        for (ReplacementEffect re : face.replacementEffects) {
+            replacementEffects.add(ownCopy(re.copy(card, false)));
+        }
+        for (StaticAbility st : face.staticAbilities) {
+            staticAbilities.add(ownCopy(st.copy(card, false)));
+        }
+    }
+
+    private <T extends CardTraitBase> T ownCopy(final T copy) {
+        copy.setCardState(this);
+        if (copy instanceof TriggerReplacementBase) {
+            final SpellAbility sa = ((TriggerReplacementBase) copy).getOverridingAbility();
+            if (sa != null) {
+                ownCopy(sa);
+            }
+        } else if (copy instanceof SpellAbility) {
+            final SpellAbility sa = (SpellAbility) copy;
+            if (sa.getSubAbility() != null) {
+                ownCopy(sa.getSubAbility());
+            }
+            for (SpellAbility additional : sa.getAdditionalAbilities().values()) {
+                ownCopy(additional);
+            }
+            for (List<AbilitySub> list : sa.getAdditionalAbilityLists().values()) {
+                for (AbilitySub sub : list) {
+                    ownCopy(sub);
+                }
+            }
+        }
+        return copy;
+    }
+
     public CardState copy(final Card host, CardStateName name, final boolean lki) {
         CardState result = new CardState(host, name);
         result.copyFrom(this, lki);
@@ -469,7 +469,7 @@ public final class CardUtil {
                     sa.setActivatingPlayer(sa.getHostCard().getController());
                 }
                 final Player activator = sa.getActivatingPlayer();
-                cards = CardLists.getValidCards(activator.getGame().getCardsIn(ZoneType.Battlefield), validCard, activator, card, sa);
+                cards = CardLists.getValidCards(activator.getGame().viewCardsIn(ZoneType.Battlefield), validCard, activator, card, sa);
             }
 
             // remove anything cards that is already in parents
@@ -573,7 +573,7 @@ public final class CardUtil {
         final Game game = ability.getActivatingPlayer().getGame();
         final List<ZoneType> zone = tgt.getZone();
 
-        List<Card> validCards = CardLists.getValidCards(game.getCardsIn(zone), tgt.getValidTgts(), ability.getActivatingPlayer(), activatingCard, ability);
+        List<Card> validCards = CardLists.getValidCards(game.viewCardsIn(zone), tgt.getValidTgts(), ability.getActivatingPlayer(), activatingCard, ability);
         List<Card> choices = CardLists.getTargetableCards(validCards, ability);
         final boolean canTgtStack = zone.contains(ZoneType.Stack);
         if (canTgtStack) {
@@ -12,6 +12,7 @@ import forge.util.*;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 
@@ -725,8 +726,13 @@ public class CardView extends GameEntityView {
         set(TrackableProperty.ChangedTypes, c.getChangedTextTypeWords());
     }
 
-    void updateNonAbilityText(Card c) {
-        set(TrackableProperty.NonAbilityText, c.getNonAbilityText());
+    void updateNonAbilityText(final Card c) {
+        setLazy(TrackableProperty.NonAbilityText, new Supplier<String>() {
+            @Override
+            public String get() {
+                return c.getNonAbilityText();
+            }
+        });
     }
 
     public String getText() {
@@ -1296,8 +1302,13 @@ public class CardView extends GameEntityView {
         public String getOracleText() {
             return get(TrackableProperty.OracleText);
         }
-        void updateOracleText(Card c) {
-            set(TrackableProperty.OracleText, c.getOracleText().replace("\\n", "\r\n\r\n").trim());
+        void updateOracleText(final Card c) {
+            setLazy(TrackableProperty.OracleText, new Supplier<String>() {
+                @Override
+                public String get() {
+                    return c.getOracleText().replace("\\n", "\r\n\r\n").trim();
+                }
+            });
         }
 
         public String getRulesText() {
@@ -1534,6 +1545,7 @@ public class CardView extends GameEntityView {
             return get(TrackableProperty.AbilityText);
         }
         void updateAbilityText(Card c, CardState state) {
+            // not lazy: working the text out refreshes the keyword cache, and the rules engine reads it back
             set(TrackableProperty.AbilityText, c.getAbilityText(state));
         }
         void updateKeywords(Card c, CardState state) {
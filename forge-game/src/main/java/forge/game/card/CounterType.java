@@ -58,7 +58,7 @@ public class CounterType implements Comparable<CounterType>, Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(eVal, sVal);
+        return Objects.hash(eVal == null ? null : eVal.name(), sVal);
     }
 
     @Override
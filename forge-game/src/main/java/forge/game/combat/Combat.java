@@ -67,6 +67,9 @@ public class Combat {
     // List holds creatures who have dealt 1st strike damage to disallow them deal damage on regular basis (unless they have double-strike KW)
     private CardCollection combatantsThatDealtFirstStrikeDamage = new CardCollection();
 
+    // bumped whenever attackers or blocks change, so that anything derived from them (e.g. AI predictions) can be kept until then
+    private int changeCount = 0;
+
     public Combat(final Player attacker) {
         playerWhoAttacks = attacker;
         initConstraints();
@@ -141,7 +144,12 @@ public class Combat {
         return sb.toString();
     }
 
+    public final int getChangeCount() {
+        return changeCount;
+    }
+
     public void endCombat() {
+        changeCount++;
         //backup attackers and blockers
         CardCollection attackers = getAttackers();
         CardCollection blockers = getAllBlockers();
@@ -269,6 +277,7 @@ public class Combat {
         } else {
             band.addAttacker(c);
         }
+        changeCount++;
         c.updateAttackingForView();
     }
 
@@ -368,11 +377,13 @@ public class Combat {
     // Some cards in Alpha may UNBLOCK an attacker, so second parameter is not always-true
     public final void setBlocked(final Card attacker, boolean value) {
         getBandOfAttackerNotNull(attacker).setBlocked(value); // called by Curtain of Light, Dazzling Beauty, Trap Runner
+        changeCount++;
     }
 
     public final void addBlocker(final Card attacker, final Card blocker) {
         final AttackingBand band = getBandOfAttackerNotNull(attacker);
         blockedBands.put(band, blocker);
+        changeCount++;
         // If damage is already assigned, add this blocker as a "late entry"
         if (blockersOrderedForDamageAssignment.containsKey(attacker)) {
             addBlockerToDamageAssignmentOrder(attacker, blocker);
@@ -387,6 +398,7 @@ public class Combat {
         if (cc != null) {
             cc.remove(blocker);
         }
+        changeCount++;
         blocker.updateBlockingForView();
     }
 
@@ -394,6 +406,7 @@ public class Combat {
     public final void undoBlockingAssignment(final Card blocker) {
         CardCollection toRemove = new CardCollection(blocker);
         blockedBands.values().removeAll(toRemove);
+        changeCount++;
         blocker.updateBlockingForView();
     }
 
@@ -593,6 +606,7 @@ public class Combat {
 
     // remove a combatant whose side is unknown
     public final void removeFromCombat(final Card c) {
+        changeCount++;
         AttackingBand ab = getBandOfAttacker(c);
         if (ab != null) {
             unregisterAttacker(c, ab);
@@ -665,6 +679,7 @@ public class Combat {
             Collection<Card> blockers = blockedBands.get(ab);
             boolean isBlocked = blockers != null && !blockers.isEmpty();
             ab.setBlocked(isBlocked);
+            changeCount++;
 
             if (!isBlocked) {
                 bFlag = true;
@@ -30,12 +30,12 @@ public abstract class CostPartWithList extends CostPart {
      */
     private static final long serialVersionUID = 1L;
     /** The lists: one for LKI, one for the actual cards. */
-    private final CardCollection lkiList = new CardCollection();
-    protected final CardCollection cardList = new CardCollection();
+    private CardCollection lkiList = new CardCollection();
+    protected CardCollection cardList = new CardCollection();
 
     private boolean intrinsic = true;
 
-    protected final CardZoneTable table = new CardZoneTable();
+    protected CardZoneTable table = new CardZoneTable();
     // set is here because executePayment() adds card to list, while ai's decide payment does the same thing.
     // set allows to avoid duplication
 
@@ -60,6 +60,16 @@ public abstract class CostPartWithList extends CostPart {
         table.clear();
     }
 
+    @Override
+    public CostPart copy() {
+        final CostPartWithList copy = (CostPartWithList) super.copy();
+        // the copy is paid on its own
+        copy.lkiList = new CardCollection(lkiList);
+        copy.cardList = new CardCollection(cardList);
+        copy.table = new CardZoneTable(table);
+        return copy;
+    }
+
     /**
      * Adds the list to hash.
      *
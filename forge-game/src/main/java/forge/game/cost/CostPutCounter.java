@@ -49,7 +49,7 @@ public class CostPutCounter extends CostPartWithList {
     private final CounterType counter;
     private int lastPaidAmount = 0;
 
-    private final GameEntityCounterTable counterTable = new GameEntityCounterTable();
+    private GameEntityCounterTable counterTable = new GameEntityCounterTable();
 
     public final CounterType getCounter() {
         return this.counter;
@@ -174,7 +174,7 @@ public class CostPutCounter extends CostPartWithList {
         }
 
         // 3 Cards have Put a -1/-1 Counter on a Creature you control.
-        List<Card> typeList = CardLists.getValidCards(source.getGame().getCardsIn(ZoneType.Battlefield),
+        List<Card> typeList = CardLists.getValidCards(source.getGame().viewCardsIn(ZoneType.Battlefield),
                 this.getType().split(";"), payer, source, ability);
 
         typeList = CardLists.filter(typeList, CardPredicates.canReceiveCounters(getCounter()));
@@ -241,6 +241,13 @@ public class CostPutCounter extends CostPartWithList {
         counterTable.clear();
     }
 
+    @Override
+    public CostPart copy() {
+        final CostPutCounter copy = (CostPutCounter) super.copy();
+        copy.counterTable = new GameEntityCounterTable(counterTable);
+        return copy;
+    }
+
     protected boolean isETBReplacement(final SpellAbility ability, final boolean effect) {
        if (!effect) {
            return false;
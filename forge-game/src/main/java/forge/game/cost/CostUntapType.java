@@ -85,7 +85,7 @@ public class CostUntapType extends CostPartWithList {
         final Player activator = ability.getActivatingPlayer();
         final Card source = ability.getHostCard();
 
-        CardCollection typeList = CardLists.getValidCards(activator.getGame().getCardsIn(ZoneType.Battlefield), getType().split(";"), activator, source, ability);
+        CardCollection typeList = CardLists.getValidCards(activator.getGame().viewCardsIn(ZoneType.Battlefield), getType().split(";"), activator, source, ability);
 
         if (!canUntapSource) {
             typeList.remove(source);
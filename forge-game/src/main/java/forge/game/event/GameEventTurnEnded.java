@@ -1,9 +1,23 @@
 package forge.game.event;
 
+import forge.game.GameMetrics;
+
 public class GameEventTurnEnded extends GameEvent {
 
+    /** What the engine did during the turn, null unless the game collects metrics. */
+    public final GameMetrics.Summary metrics;
+
+    public GameEventTurnEnded() {
+        this(null);
+    }
+
+    public GameEventTurnEnded(GameMetrics.Summary metrics) {
+        super();
+        this.metrics = metrics;
+    }
+
     @Override
     public <T> T visit(IGameEventVisitor<T> visitor) {
         return visitor.visit(this);
     }
-}
\ No newline at end of file
+}
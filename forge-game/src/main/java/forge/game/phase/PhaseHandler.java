@@ -34,6 +34,7 @@ import forge.game.cost.CostEnlist;
 import forge.game.cost.CostExert;
 import forge.game.event.*;
 import forge.game.player.Player;
+import forge.game.player.PlayerController;
 import forge.game.replacement.ReplacementResult;
 import forge.game.replacement.ReplacementType;
 import forge.game.spellability.LandAbility;
@@ -51,6 +52,8 @@ import forge.util.maps.MapOfLists;
 import org.apache.commons.lang3.time.StopWatch;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 
 /**
@@ -92,6 +95,11 @@ public class PhaseHandler implements java.io.Serializable {
 
     /** The need to next phase. */
     private boolean givePriorityToPlayer = false;
+    private int priorityLoopCount = 0;
+
+    // set while the turns may wait on a player answering later
+    private transient Executor resumer = null;
+    private transient Runnable onTurnsStopped = null;
 
     private final transient Game game;
 
@@ -521,7 +529,7 @@ public class PhaseHandler implements java.io.Serializable {
                 }
                 planarDiceSpecialActionThisTurn = 0;
                 // Play the End Turn sound
-                game.fireEvent(new GameEventTurnEnded());
+                game.fireEvent(new GameEventTurnEnded(game.getMetrics().finishTurn(turn)));
                 break;
             default: // no action
         }
@@ -1028,13 +1036,34 @@ public class PhaseHandler implements java.io.Serializable {
     }
 
     private final static boolean DEBUG_PHASES = false;
+    private final transient StopWatch sw = new StopWatch();
 
     public void startFirstTurn(Player goesFirst) {
         startFirstTurn(goesFirst, null);
     }
     public void startFirstTurn(Player goesFirst, Runnable startGameHook) {
-        StopWatch sw = new StopWatch();
+        beginFirstTurn(goesFirst, startGameHook);
+        playTurns(null);
+    }
+
+    /**
+     * Plays the turns like {@link #startFirstTurn(Player, Runnable)}, but a player who answers what to play later, see
+     * {@link PlayerController#chooseSpellAbilityToPlayLater}, is waited for on no thread: this returns as soon as
+     * they're asked, and the turns go on from the resumer once they answered.
+     *
+     * @param resumer runs the rest of the turns once a player answered, on a thread the game may be played from
+     * @param onTurnsStopped run once the game is over or restarted, from this thread or a resumed one
+     */
+    public void startFirstTurn(Player goesFirst, Runnable startGameHook, Executor resumer, Runnable onTurnsStopped) {
+        this.resumer = resumer;
+        this.onTurnsStopped = onTurnsStopped;
+        beginFirstTurn(goesFirst, startGameHook);
+        if (playTurns(null)) {
+            turnsStopped();
+        }
+    }
 
+    private void beginFirstTurn(Player goesFirst, Runnable startGameHook) {
         if (phase != null) {
             throw new IllegalStateException("Turns already started, call this only once per game");
         }
@@ -1050,84 +1079,56 @@ public class PhaseHandler implements java.io.Serializable {
             startGameHook.run();
             givePriorityToPlayer = true;
         }
+    }
+
+    private void turnsStopped() {
+        final Runnable stopped = onTurnsStopped;
+        resumer = null;
+        onTurnsStopped = null;
+        stopped.run();
+    }
 
-        // MAIN GAME LOOP
+    /**
+     * The main game loop.
+     * @param resumed how the player with priority was done when going on after they answered, or null
+     * @return true once the turns stopped, false if they wait on the player with priority to answer
+     */
+    private boolean playTurns(Priority resumed) {
+        Priority priority = resumed;
         while (!game.isGameOver()) {
-            if (givePriorityToPlayer) {
+            if (priority == null && givePriorityToPlayer) {
                 if (DEBUG_PHASES) {
                     sw.start();
                 }
 
                 game.fireEvent(new GameEventPlayerPriority(playerTurn, phase, getPriorityPlayer()));
-                List<SpellAbility> chosenSa = null;
-
-                int loopCount = 0;
-                do {
-                    if (checkStateBasedEffects()) {
-                        // state-based effects check could lead to game over
-                        return;
-                    }
-
-                    chosenSa = pPlayerPriority.getController().chooseSpellAbilityToPlay();
-
-                    // this needs to come after chosenSa so it sees you conceding on own turn
-                    if (playerTurn.hasLost() && pPlayerPriority.equals(playerTurn) && pFirstPriority.equals(playerTurn)) {
-                        // If the active player has lost, and they have priority, set the next player to have priority
-                        System.out.println("Active player is no longer in the game...");
-                        pPlayerPriority = game.getNextPlayerAfter(getPriorityPlayer());
-                        pFirstPriority = pPlayerPriority;
-                    }
-
-                    if (chosenSa == null) {
-                        break; // that means 'I pass'
-                    }
-                    if (DEBUG_PHASES) {
-                        System.out.print("... " + pPlayerPriority + " plays " + chosenSa);
-                    }
-                    for (SpellAbility sa : chosenSa) {
-                        Card saHost = sa.getHostCard();
-                        final Zone originZone = saHost.getZone();
-
-                        if (pPlayerPriority.getController().playChosenSpellAbility(sa)) {
-                            pFirstPriority = pPlayerPriority; // all opponents have to pass before stack is allowed to resolve
-                        }
-
-                        saHost = game.getCardState(saHost);
-                        final Zone currentZone = saHost.getZone();
-
-                        // Need to check if Zone did change
-                        if (currentZone != null && originZone != null && !currentZone.equals(originZone) && (sa.isSpell() || sa instanceof LandAbility)) {
-                            // currently there can be only one Spell put on the Stack at once, or Land Abilities be played
-                            final CardZoneTable triggerList = new CardZoneTable(game.getLastStateBattlefield(), game.getLastStateGraveyard());
-                            triggerList.put(originZone.getZoneType(), currentZone.getZoneType(), saHost);
-                            triggerList.triggerChangesZoneAll(game, sa);
-                        }
-                    }
-                    game.copyLastState();
-                    loopCount++;
-                } while (loopCount < 999 || !pPlayerPriority.getController().isAI());
-
-                if (loopCount >= 999 && pPlayerPriority.getController().isAI()) {
-                    System.out.print("AI looped too much with: " + chosenSa);
-                }
-
-                if (DEBUG_PHASES) {
-                    sw.stop();
-                    System.out.print("... passed in " + sw.getTime()/1000f + " s\n");
-                    System.out.println("\t\tStack: " + game.getStack());
-                    sw.reset();
-                }
+                priorityLoopCount = 0;
+                priority = askForPriority();
             }
-            else if (DEBUG_PHASES) {
+            else if (priority == null && DEBUG_PHASES) {
                 System.out.print(" >> (no priority given to " + getPriorityPlayer() + ")\n");
             }
 
+            if (priority == Priority.GAME_OVER) {
+                return true;
+            }
+            if (priority == Priority.ASKED) {
+                return false;
+            }
+            if (priority == Priority.PASSED && DEBUG_PHASES) {
+                sw.stop();
+                System.out.print("... passed in " + sw.getTime()/1000f + " s\n");
+                System.out.println("\t\tStack: " + game.getStack());
+                sw.reset();
+            }
+            priority = null;
+
             // actingPlayer is the player who may act
             // the firstAction is the player who gained Priority First in this segment
             // of Priority
             Player nextPlayer = game.getNextPlayerAfter(getPriorityPlayer());
 
-            if (game.isGameOver() || nextPlayer == null) { return; } // conceded?
+            if (game.isGameOver() || nextPlayer == null) { return true; } // conceded?
 
             if (DEBUG_PHASES) {
                 System.out.println(TextUtil.concatWithSpace(playerTurn.toString(),TextUtil.addSuffix(phase.toString(),":"), pPlayerPriority.toString(),"is active, previous was", nextPlayer.toString()));
@@ -1159,7 +1160,7 @@ public class PhaseHandler implements java.io.Serializable {
                 setPhase(null);
                 game.updatePhaseForView();
                 game.fireEvent(new GameEventGameRestarted(playerTurn));
-                return;
+                return true;
             }
 
             // update Priority for all players
@@ -1167,6 +1168,151 @@ public class PhaseHandler implements java.io.Serializable {
                 p.setHasPriority(getPriorityPlayer() == p);
             }
         }
+        return true;
+    }
+
+    /**
+     * Asks the player with priority what to play and plays it, until they pass.
+     */
+    private Priority askForPriority() {
+        while (true) {
+            if (checkStateBasedEffects()) {
+                // state-based effects check could lead to game over
+                return Priority.GAME_OVER;
+            }
+
+            final PlayerController controller = pPlayerPriority.getController();
+            final PriorityAnswer answer = resumer == null ? null : new PriorityAnswer(resumer);
+            final GameMetrics metrics = game.getMetrics();
+            final long priorityStart = metrics.start(GameMetrics.Metric.PRIORITY);
+            List<SpellAbility> chosenSa;
+            boolean later;
+            try {
+                later = answer != null && controller.chooseSpellAbilityToPlayLater(answer);
+                chosenSa = later ? null : controller.chooseSpellAbilityToPlay();
+            } finally {
+                metrics.stop(GameMetrics.Metric.PRIORITY, priorityStart);
+            }
+            if (later) {
+                if (answer.suspend()) {
+                    // nothing may touch the game from here on, the answer may already be played from another thread
+                    return Priority.ASKED;
+                }
+                chosenSa = answer.chosenSa;
+            }
+
+            if (!playChosenSpellAbilities(chosenSa)) {
+                return Priority.PASSED;
+            }
+        }
+    }
+
+    /**
+     * Plays what the player with priority chose.
+     * @return false once they passed
+     */
+    private boolean playChosenSpellAbilities(final List<SpellAbility> chosenSa) {
+        // this needs to come after chosenSa so it sees you conceding on own turn
+        if (playerTurn.hasLost() && pPlayerPriority.equals(playerTurn) && pFirstPriority.equals(playerTurn)) {
+            // If the active player has lost, and they have priority, set the next player to have priority
+            System.out.println("Active player is no longer in the game...");
+            pPlayerPriority = game.getNextPlayerAfter(getPriorityPlayer());
+            pFirstPriority = pPlayerPriority;
+        }
+
+        if (chosenSa == null) {
+            game.getMetrics().count(GameMetrics.Metric.PRIORITY_PASS);
+            return false; // that means 'I pass'
+        }
+        if (DEBUG_PHASES) {
+            System.out.print("... " + pPlayerPriority + " plays " + chosenSa);
+        }
+        for (SpellAbility sa : chosenSa) {
+            Card saHost = sa.getHostCard();
+            final Zone originZone = saHost.getZone();
+
+            if (pPlayerPriority.getController().playChosenSpellAbility(sa)) {
+                pFirstPriority = pPlayerPriority; // all opponents have to pass before stack is allowed to resolve
+            }
+
+            saHost = game.getCardState(saHost);
+            final Zone currentZone = saHost.getZone();
+
+            // Need to check if Zone did change
+            if (currentZone != null && originZone != null && !currentZone.equals(originZone) && (sa.isSpell() || sa instanceof LandAbility)) {
+                // currently there can be only one Spell put on the Stack at once, or Land Abilities be played
+                final CardZoneTable triggerList = new CardZoneTable(game.getLastStateBattlefield(), game.getLastStateGraveyard());
+                triggerList.put(originZone.getZoneType(), currentZone.getZoneType(), saHost);
+                triggerList.triggerChangesZoneAll(game, sa);
+            }
+        }
+        game.copyLastState();
+        priorityLoopCount++;
+
+        if (priorityLoopCount >= 999 && pPlayerPriority.getController().isAI()) {
+            System.out.print("AI looped too much with: " + chosenSa);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Goes on with the turns, once the player with priority answered.
+     */
+    private void onPriorityAnswered(final List<SpellAbility> chosenSa) {
+        if (playTurns(playChosenSpellAbilities(chosenSa) ? askForPriority() : Priority.PASSED)) {
+            turnsStopped();
+        }
+    }
+
+    private enum Priority {
+        PASSED,
+        GAME_OVER,
+        // the player was asked and answers later
+        ASKED
+    }
+
+    /**
+     * What the player with priority plays, when they answer later. The turns go on from the resumer only if the
+     * answer came after the thread that asked let go of the game; an answer given right away is played by that thread.
+     */
+    private final class PriorityAnswer implements Consumer<List<SpellAbility>> {
+        private final Executor resumer;
+        private boolean answered, suspended;
+        private List<SpellAbility> chosenSa;
+
+        private PriorityAnswer(final Executor resumer) {
+            this.resumer = resumer;
+        }
+
+        @Override
+        public void accept(final List<SpellAbility> chosen) {
+            synchronized (this) {
+                if (answered) {
+                    throw new IllegalStateException("Priority was answered already");
+                }
+                answered = true;
+                chosenSa = chosen;
+                if (!suspended) {
+                    return;
+                }
+            }
+            resumer.execute(new Runnable() {
+                @Override
+                public void run() {
+                    onPriorityAnswered(chosen);
+                }
+            });
+        }
+
+        // returns false if already answered, else the answer is left to the resumer
+        private synchronized boolean suspend() {
+            if (answered) {
+                return false;
+            }
+            suspended = true;
+            return true;
+        }
     }
 
     private boolean checkStateBasedEffects() {
@@ -165,6 +165,7 @@ public class Player extends GameEntity implements Comparable<Player> {
 
     private PlayerStatistics stats = new PlayerStatistics();
     private PlayerController controller;
+    private PlayerChoiceLog choiceLog;
 
     private NavigableMap<Long, Pair<Player, PlayerController>> controlledBy = Maps.newTreeMap();
 
@@ -2438,12 +2439,16 @@ public class Player extends GameEntity implements Comparable<Player> {
     /**
      * use to get a list of creatures in play for a given player.
      */
+    private PlayerZoneBattlefield getBattlefield() {
+        return (PlayerZoneBattlefield) getZone(ZoneType.Battlefield);
+    }
+
     public CardCollection getCreaturesInPlay() {
-        return CardLists.filter(getCardsIn(ZoneType.Battlefield), Presets.CREATURES);
+        return new CardCollection(getBattlefield().getCreatures());
     }
 
     public CardCollection getPlaneswalkersInPlay() {
-        return CardLists.filter(getCardsIn(ZoneType.Battlefield), Presets.PLANESWALKERS);
+        return new CardCollection(getBattlefield().getPlaneswalkers());
     }
 
     public CardCollection getBattlesInPlay() {
@@ -2461,7 +2466,7 @@ public class Player extends GameEntity implements Comparable<Player> {
      * use to get a list of all lands a given player has on the battlefield.
      */
     public CardCollection getLandsInPlay() {
-        return CardLists.filter(getCardsIn(ZoneType.Battlefield), Presets.LANDS);
+        return new CardCollection(getBattlefield().getLands());
     }
 
     public boolean isCardInPlay(final String cardName) {
@@ -2562,6 +2567,17 @@ public class Player extends GameEntity implements Comparable<Player> {
         return controller;
     }
 
+    /**
+     * @return where the choices made for this player are logged, and read back from when the game is played again,
+     * or null if the game isn't recorded.
+     */
+    public final PlayerChoiceLog getChoiceLog() {
+        if (choiceLog == null && game.getReplay() != null) {
+            choiceLog = new PlayerChoiceLog(this);
+        }
+        return choiceLog;
+    }
+
     public final Player getControllingPlayer() {
         if (!controlledBy.isEmpty()) {
             return controlledBy.lastEntry().getValue().getKey();
@@ -0,0 +1,596 @@
+package forge.game.player;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+
+import forge.game.Game;
+import forge.game.GameObject;
+import forge.game.GameActionUtil;
+import forge.game.GameReplay;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.spellability.LandAbility;
+import forge.game.spellability.OptionalCost;
+import forge.game.spellability.OptionalCostValue;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.zone.MagicStack;
+import forge.util.MyRandom;
+
+/**
+ * The choices made for one player of a recorded game, one line each, so that the game can be played again without
+ * whoever made them, see {@link GameReplay.Seat#getChoices()}.
+ * <p>
+ * A line holds the name of the choice and what was chosen: options by their index, cards and players by their id,
+ * anything else by value. What is chosen while doing something else, like playing a spell, is marked with a '+' per
+ * level and comes before the line of what it was part of, which is logged once that is done, with its outcome such as
+ * the targets that were chosen.
+ * <p>
+ * While a choice is made, the random and the ids of new cards and traits are the player's own, so that the game goes
+ * on the same way whoever makes it and however much they had to think to make it. What is chosen along the way, e.g.
+ * by the AI to weigh its options, is part of the choice and isn't logged.
+ */
+public final class PlayerChoiceLog {
+    private final Player player;
+    private final GameReplay replay;
+    private final List<String> script;
+    private final Random random;
+    private final AtomicInteger ids;
+
+    private boolean deciding;
+    private int actions;
+    private int next;
+    // what was chosen while doing what is being done again, to be taken by name
+    private List<String> pool;
+    private String divergence;
+
+    PlayerChoiceLog(final Player player) {
+        this.player = player;
+        this.replay = player.getGame().getReplay();
+        List<String> choices = Collections.emptyList();
+        final GameReplay recorded = player.getGame().getRules().getReplayOf();
+        if (recorded != null) {
+            for (final GameReplay.Seat seat : recorded.getSeats()) {
+                if (seat.getId() == player.getId()) {
+                    choices = seat.getChoices();
+                }
+            }
+        }
+        this.script = choices;
+        this.random = new Random(replay.getSeed() * 31 + player.getId());
+        // far from the ids the game hands out, and from those of the other players
+        this.ids = new AtomicInteger((player.getId() + 1) << 24);
+    }
+
+    /**
+     * Makes a choice with the player's own random and ids, see the class description.
+     */
+    public <T> T decide(final Supplier<T> decision) {
+        if (deciding) {
+            return decision.get();
+        }
+        final Game game = player.getGame();
+        final Random gameRandom = MyRandom.getThreadRandom();
+        final AtomicInteger gameIds = game.getDecisionIds();
+        deciding = true;
+        MyRandom.setThreadRandom(random);
+        game.setDecisionIds(ids);
+        try {
+            return decision.get();
+        } finally {
+            game.setDecisionIds(gameIds);
+            MyRandom.setThreadRandom(gameRandom);
+            deciding = false;
+        }
+    }
+
+    public <T> T record(final String name, final Iterable<?> options, final Supplier<T> decision) {
+        return record(name, options, decision, Function.identity());
+    }
+
+    /**
+     * Makes a choice and logs it.
+     * @param options what there was to choose from, if it came as a list: chosen options are logged by their index
+     * @param chosen what to log of the choice, taken while it's made
+     */
+    public <T> T record(final String name, final Iterable<?> options, final Supplier<T> decision, final Function<? super T, ?> chosen) {
+        if (deciding) {
+            return decision.get();
+        }
+        final String[] value = new String[1];
+        final T result = decide(() -> {
+            final T r = decision.get();
+            value[0] = encode(chosen.apply(r), listOf(options));
+            return r;
+        });
+        add(name, value[0]);
+        return result;
+    }
+
+    /**
+     * Does something the player chose to do, logging what is chosen along the way, then its outcome.
+     */
+    public <T> T act(final String name, final Supplier<T> action, final Function<? super T, ?> outcome) {
+        if (deciding) {
+            return action.get();
+        }
+        final T result;
+        actions++;
+        try {
+            result = action.get();
+        } finally {
+            actions--;
+        }
+        add(name, encode(outcome.apply(result), null));
+        return result;
+    }
+
+    /**
+     * @return the next choice as it was logged, to be decoded and logged again with {@link #record}, or null if it has
+     * to be made anew: because the game already went another way, the choice wasn't logged or it's part of another one.
+     */
+    public String replay(final String name) {
+        if (deciding) {
+            return null;
+        }
+        return take(name);
+    }
+
+    /**
+     * Does again something the player did, given its logged outcome, or null if it has to be done anew. What was chosen
+     * along the way is given back by {@link #replay(String)}, by name, as long as it's being done.
+     */
+    public <T> T replayAction(final String name, final Function<String, T> action, final Function<? super T, ?> outcome) {
+        if (deciding) {
+            return action.apply(null);
+        }
+        final boolean outermost = pool == null;
+        String value = null;
+        if (!outermost) {
+            value = takeFromPool(name);
+        } else if (divergence == null) {
+            // what was chosen along the way was logged first
+            final List<String> along = new ArrayList<>();
+            int i = next;
+            while (i < script.size() && script.get(i).startsWith("+")) {
+                along.add(script.get(i++).replaceFirst("^\\++", ""));
+            }
+            if (i < script.size() && name.equals(nameOf(script.get(i)))) {
+                value = valueOf(script.get(i));
+                next = i + 1;
+                pool = along;
+            } else {
+                divergence = "asked to do " + name + " instead of logged choice " + i + ": " + (i < script.size() ? script.get(i) : "none");
+            }
+        }
+        final T result;
+        actions++;
+        try {
+            result = action.apply(value);
+        } finally {
+            actions--;
+            if (outermost) {
+                pool = null;
+            }
+        }
+        add(name, encode(outcome.apply(result), null));
+        return result;
+    }
+
+    /**
+     * @return where the choices played again first went another way than the logged ones, or null if they didn't.
+     */
+    public String getDivergence() {
+        return divergence;
+    }
+
+    private String take(final String name) {
+        if (pool != null) {
+            return takeFromPool(name);
+        }
+        if (divergence != null) {
+            return null;
+        }
+        if (next >= script.size()) {
+            divergence = "asked for " + name + " after the last logged choice";
+            return null;
+        }
+        final String entry = script.get(next);
+        if (entry.startsWith("+") || !name.equals(nameOf(entry))) {
+            divergence = "asked for " + name + " instead of logged choice " + next + ": " + entry;
+            return null;
+        }
+        next++;
+        return valueOf(entry);
+    }
+
+    private String takeFromPool(final String name) {
+        if (pool == null) {
+            return null;
+        }
+        for (final Iterator<String> it = pool.iterator(); it.hasNext();) {
+            final String entry = it.next();
+            if (name.equals(nameOf(entry))) {
+                it.remove();
+                return valueOf(entry);
+            }
+        }
+        // not chosen that way the last time, e.g. costs paid otherwise
+        return null;
+    }
+
+    private static List<?> listOf(final Iterable<?> options) {
+        if (options == null || options instanceof List) {
+            return (List<?>) options;
+        }
+        return Lists.newArrayList(options);
+    }
+
+    private static String nameOf(final String entry) {
+        final int space = entry.indexOf(' ');
+        return space < 0 ? entry : entry.substring(0, space);
+    }
+
+    private static String valueOf(final String entry) {
+        return entry.substring(entry.indexOf(' ') + 1);
+    }
+
+    private void add(final String name, final String value) {
+        replay.addChoice(player.getId(), Strings.repeat("+", actions) + name + " " + value);
+    }
+
+    /**
+     * @return the value as logged: "-" for null, t/f, numbers, 'quoted strings, o&lt;index&gt; of the options,
+     * c&lt;id&gt; cards, p&lt;id&gt; players, s&lt;host id&gt; spells and abilities on the stack, e&lt;class&gt;#&lt;name&gt;
+     * enums, then [size, {size and (pairs for lists, maps and pairs. "?" for what can't be logged.
+     */
+    public String encode(final Object value, final List<?> options) {
+        final StringBuilder sb = new StringBuilder();
+        encode(sb, value, options);
+        return sb.toString();
+    }
+
+    private void encode(final StringBuilder sb, final Object value, final List<?> options) {
+        if (sb.length() > 0) {
+            sb.append(' ');
+        }
+        final int index = value == null || options == null ? -1 : options.indexOf(value);
+        if (value == null) {
+            sb.append('-');
+        } else if (index >= 0) {
+            sb.append('o').append(index);
+        } else if (value instanceof Boolean) {
+            sb.append((Boolean) value ? 't' : 'f');
+        } else if (value instanceof Integer || value instanceof Byte || value instanceof Short) {
+            sb.append(value);
+        } else if (value instanceof String) {
+            try {
+                sb.append('\'').append(URLEncoder.encode((String) value, "UTF-8"));
+            } catch (final UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        } else if (value instanceof Card) {
+            sb.append('c').append(((Card) value).getId());
+        } else if (value instanceof Player) {
+            sb.append('p').append(((Player) value).getId());
+        } else if (value instanceof SpellAbility && ((SpellAbility) value).getHostCard() != null) {
+            sb.append('s').append(((SpellAbility) value).getHostCard().getId());
+        } else if (value instanceof Enum) {
+            sb.append('e').append(((Enum<?>) value).getDeclaringClass().getName()).append('#').append(((Enum<?>) value).name());
+        } else if (value instanceof Map) {
+            sb.append('{').append(((Map<?, ?>) value).size());
+            for (final Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                encode(sb, e.getKey(), options);
+                encode(sb, e.getValue(), options);
+            }
+        } else if (value instanceof Pair) {
+            sb.append('(');
+            encode(sb, ((Pair<?, ?>) value).getLeft(), options);
+            encode(sb, ((Pair<?, ?>) value).getRight(), options);
+        } else if (value instanceof Iterable) {
+            final List<Object> elements = new ArrayList<>();
+            for (final Object o : (Iterable<?>) value) {
+                elements.add(o);
+            }
+            sb.append('[').append(elements.size());
+            for (final Object o : elements) {
+                encode(sb, o, options);
+            }
+        } else {
+            sb.append('?');
+        }
+    }
+
+    /**
+     * @return a value as it was logged, lists as lists, maps as maps and pairs as pairs
+     * @throws IllegalArgumentException if it wasn't or can't be found in the game
+     */
+    public Object decode(final String value, final Iterable<?> options) {
+        final Iterator<String> tokens = Splitter.on(' ').split(value).iterator();
+        final Object result = decode(tokens, listOf(options));
+        if (tokens.hasNext()) {
+            throw new IllegalArgumentException("Not a logged choice: " + value);
+        }
+        return result;
+    }
+
+    private Object decode(final Iterator<String> tokens, final List<?> options) {
+        final String token = tokens.next();
+        final String rest = token.substring(1);
+        switch (token.charAt(0)) {
+        case 'o':
+            if (options == null || Integer.parseInt(rest) >= options.size()) {
+                throw new IllegalArgumentException("No option " + rest);
+            }
+            return options.get(Integer.parseInt(rest));
+        case 't':
+            return true;
+        case 'f':
+            return false;
+        case '\'':
+            try {
+                return URLDecoder.decode(rest, "UTF-8");
+            } catch (final UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        case 'c':
+            return findCard(Integer.parseInt(rest), options);
+        case 'p':
+            for (final Player p : player.getGame().getRegisteredPlayers()) {
+                if (p.getId() == Integer.parseInt(rest)) {
+                    return p;
+                }
+            }
+            throw new IllegalArgumentException("No player " + rest);
+        case 's':
+            for (final SpellAbilityStackInstance si : player.getGame().getStack()) {
+                if (si.getSpellAbility().getHostCard().getId() == Integer.parseInt(rest)) {
+                    return si.getSpellAbility();
+                }
+            }
+            throw new IllegalArgumentException("Nothing of card " + rest + " on the stack");
+        case 'e':
+            return decodeEnum(rest);
+        case '{': {
+            final Map<Object, Object> map = new LinkedHashMap<>();
+            for (int i = Integer.parseInt(rest); i > 0; i--) {
+                final Object key = decode(tokens, options);
+                map.put(key, decode(tokens, options));
+            }
+            return map;
+        }
+        case '(': {
+            final Object left = decode(tokens, options);
+            return ImmutablePair.of(left, decode(tokens, options));
+        }
+        case '[': {
+            final List<Object> list = new ArrayList<>();
+            for (int i = Integer.parseInt(rest); i > 0; i--) {
+                list.add(decode(tokens, options));
+            }
+            return list;
+        }
+        case '-':
+            if (rest.isEmpty()) {
+                return null;
+            }
+            return Integer.valueOf(token);
+        default:
+            try {
+                return Integer.valueOf(token);
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Not a logged choice: " + token);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object decodeEnum(final String value) {
+        final int hash = value.indexOf('#');
+        try {
+            return Enum.valueOf((Class<? extends Enum>) Class.forName(value.substring(0, hash)), value.substring(hash + 1));
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalArgumentException("Not a logged choice: " + value, e);
+        }
+    }
+
+    private Card findCard(final int id, final List<?> options) {
+        if (options != null) {
+            for (final Object o : options) {
+                if (o instanceof Card && ((Card) o).getId() == id) {
+                    return (Card) o;
+                }
+            }
+        }
+        final Card found = player.getGame().findById(id);
+        if (found == null) {
+            throw new IllegalArgumentException("No card " + id);
+        }
+        return found;
+    }
+
+    /**
+     * @return a spell or ability the player may play, to be logged as chosen to be played: its host card, its place
+     * among those of the card, see {@link Card#getAllPossibleAbilities(Player, boolean)}, and its optional costs.
+     * Null if it isn't among those.
+     */
+    public List<Object> keyOf(final SpellAbility sa) {
+        final Card host = sa.getHostCard();
+        final List<SpellAbility> candidates = host.getAllPossibleAbilities(player, false);
+        for (int i = 0; i < candidates.size(); i++) {
+            final SpellAbility c = candidates.get(i);
+            if ((c instanceof LandAbility) == (sa instanceof LandAbility)
+                    && Objects.equals(c.getDescription(), sa.getDescription())
+                    && c.getAlternativeCost() == sa.getAlternativeCost() && c.getMayPlay() == sa.getMayPlay()) {
+                final List<Object> key = new ArrayList<>();
+                key.add(host);
+                key.add(i);
+                for (final OptionalCost cost : sa.getOptionalCosts()) {
+                    key.add(cost);
+                }
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the keys of what the player chose to play, see {@link #keyOf(SpellAbility)}
+     */
+    public List<Object> keysOf(final List<SpellAbility> chosen) {
+        if (chosen == null) {
+            return null;
+        }
+        final List<Object> keys = new ArrayList<>();
+        for (final SpellAbility sa : chosen) {
+            keys.add(keyOf(sa));
+        }
+        return keys;
+    }
+
+    /**
+     * @return the spell or ability a decoded {@link #keyOf(SpellAbility)} stands for
+     */
+    public SpellAbility fromKey(final List<?> key) {
+        final Card host = (Card) key.get(0);
+        final List<SpellAbility> candidates = host.getAllPossibleAbilities(player, false);
+        final int index = (Integer) key.get(1);
+        if (index >= candidates.size()) {
+            throw new IllegalArgumentException("No ability " + index + " of " + host);
+        }
+        final SpellAbility sa = candidates.get(index);
+        sa.setActivatingPlayer(player);
+        final List<OptionalCostValue> optionalCosts = new ArrayList<>();
+        for (final OptionalCostValue v : GameActionUtil.getOptionalCostValues(sa)) {
+            if (key.subList(2, key.size()).contains(v.getType())) {
+                optionalCosts.add(v);
+            }
+        }
+        return GameActionUtil.addOptionalCosts(sa, optionalCosts);
+    }
+
+    /**
+     * @return the targets of a spell or ability and of its sub abilities, one list each, with the amount divided to
+     * each target after it when it's divided as its controller chooses.
+     */
+    public static List<Object> targetsOf(final SpellAbility sa) {
+        final List<Object> result = new ArrayList<>();
+        for (SpellAbility s = sa; s != null; s = s.getSubAbility()) {
+            final List<Object> targets = new ArrayList<>();
+            if (s.usesTargeting()) {
+                final boolean divided = s.isDividedAsYouChoose();
+                for (final GameObject o : s.getTargets()) {
+                    targets.add(o);
+                    if (divided) {
+                        targets.add(s.getDividedValue(o));
+                    }
+                }
+            }
+            result.add(targets);
+        }
+        return result;
+    }
+
+    /**
+     * @return the outcome of playing a spell or ability, to be logged: whether it was played, its X and its targets.
+     */
+    public static List<Object> outcomeOf(final boolean played, final SpellAbility sa) {
+        return Lists.newArrayList(played, sa.getXManaCostPaid(), targetsOf(sa));
+    }
+
+    /**
+     * @return what was put on the stack for a spell or ability that was just played, which can be a copy of it with
+     * the costs that were chosen added, or the spell or ability itself if that isn't on top of the stack.
+     */
+    public static SpellAbility onStack(final SpellAbility sa) {
+        final MagicStack stack = sa.getHostCard().getGame().getStack();
+        if (!stack.isEmpty() && stack.peekAbility().getHostCard().getId() == sa.getHostCard().getId()) {
+            return stack.peekAbility();
+        }
+        return sa;
+    }
+
+    /**
+     * @return which of the given spells and abilities are on the stack, from the bottom up, each by its index and
+     * with its targets.
+     */
+    public static List<Object> stackedOutcome(final Game game, final List<SpellAbility> sas) {
+        final List<Object> result = new ArrayList<>();
+        for (final Iterator<SpellAbilityStackInstance> it = game.getStack().reverseIterator(); it.hasNext();) {
+            final SpellAbility stacked = it.next().getSpellAbility();
+            for (int i = 0; i < sas.size(); i++) {
+                if (sas.get(i) == stacked) {
+                    result.add(Lists.newArrayList(i, targetsOf(stacked)));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the attackers declared, each paired with what it attacks
+     */
+    public static List<Object> attacksOf(final Combat combat) {
+        final List<Object> result = new ArrayList<>();
+        for (final Card attacker : combat.getAttackers()) {
+            result.add(ImmutablePair.of(attacker, combat.getDefenderByAttacker(attacker)));
+        }
+        return result;
+    }
+
+    /**
+     * @return the blockers the defender declared, each paired with what it blocks; others may have blocked already
+     */
+    public static List<Object> blocksOf(final Combat combat, final Player defender) {
+        final List<Object> result = new ArrayList<>();
+        for (final Card attacker : combat.getAttackers()) {
+            for (final Card blocker : combat.getBlockers(attacker)) {
+                if (blocker.getController() == defender) {
+                    result.add(ImmutablePair.of(blocker, attacker));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Targets what a decoded {@link #targetsOf(SpellAbility)} holds.
+     */
+    public static void setTargets(final SpellAbility sa, final List<?> targets) {
+        int i = 0;
+        for (SpellAbility s = sa; s != null && i < targets.size(); s = s.getSubAbility(), i++) {
+            if (!s.usesTargeting()) {
+                continue;
+            }
+            s.resetTargets();
+            final List<?> chosen = (List<?>) targets.get(i);
+            final boolean divided = s.isDividedAsYouChoose();
+            for (int j = 0; j < chosen.size(); j++) {
+                final GameObject o = (GameObject) chosen.get(j);
+                s.getTargets().add(o);
+                if (divided) {
+                    s.addDividedAllocation(o, (Integer) chosen.get(++j));
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import com.google.common.collect.Lists;
 import forge.game.*;
@@ -212,6 +213,17 @@ public abstract class PlayerController {
     public abstract void declareAttackers(Player attacker, Combat combat);
     public abstract void declareBlockers(Player defender, Combat combat);
     public abstract List<SpellAbility> chooseSpellAbilityToPlay();
+    /**
+     * Asks what to play like {@link #chooseSpellAbilityToPlay()}, for a controller that can answer without holding the
+     * thread that asked, e.g. a human deciding in the GUI. Only asked when the game was started with a resumer, see
+     * {@link forge.game.phase.PhaseHandler#startFirstTurn(Player, Runnable, java.util.concurrent.Executor, Runnable)}.
+     *
+     * @param answer to be given what to play, or null to pass; exactly once, from any thread, maybe before returning
+     * @return false if this controller doesn't answer later, it's then asked with {@link #chooseSpellAbilityToPlay()}
+     */
+    public boolean chooseSpellAbilityToPlayLater(final Consumer<List<SpellAbility>> answer) {
+        return false;
+    }
     public abstract boolean playChosenSpellAbility(SpellAbility sa);
 
     public abstract boolean payManaOptional(Card card, Cost cost, SpellAbility sa, String prompt, ManaPaymentPurpose purpose);
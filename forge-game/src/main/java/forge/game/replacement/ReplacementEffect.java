@@ -20,6 +20,7 @@ package forge.game.replacement;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.*;
 
@@ -45,8 +46,12 @@ import forge.util.TextUtil;
  *
  */
 public abstract class ReplacementEffect extends TriggerReplacementBase {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    // replacement effects of cards outside of a game count down, so that they never get the id of one in a game
+    private static final AtomicInteger idsOutsideGame = new AtomicInteger();
+    private static int nextId(final Card host) {
+        final Game game = host == null ? null : host.getGame();
+        return game == null ? idsOutsideGame.decrementAndGet() : game.nextReplacementEffectId();
+    }
 
     /** The ID. */
     private int id;
@@ -98,7 +103,7 @@ public abstract class ReplacementEffect extends TriggerReplacementBase {
      *            the host
      */
     public ReplacementEffect(final Map<String, String> map, final Card host, final boolean intrinsic) {
-        this.id = nextId();
+        this.id = nextId(host);
         this.intrinsic = intrinsic;
         originalMapParams.putAll(map);
         mapParams.putAll(map);
@@ -184,7 +189,7 @@ public abstract class ReplacementEffect extends TriggerReplacementBase {
         }
 
         if (!lki) {
-            res.setId(nextId());
+            res.setId(nextId(host));
             res.setHasRun(false);
             res.setOtherChoices(null);
         }
@@ -296,7 +301,7 @@ public abstract class ReplacementEffect extends TriggerReplacementBase {
     /** {@inheritDoc} */
     @Override
     public int hashCode() {
-        return Objects.hash(ReplacementEffect.class, getId());
+        return Objects.hash(ReplacementEffect.class.getName(), getId());
     }
 
     public ReplacementType getMode() {
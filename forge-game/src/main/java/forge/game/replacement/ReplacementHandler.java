@@ -36,6 +36,7 @@ import forge.game.Game;
 import forge.game.GameEntity;
 import forge.game.GameEntityCounterTable;
 import forge.game.GameLogEntryType;
+import forge.game.GameMetrics;
 import forge.game.IHasSVars;
 import forge.game.ability.AbilityFactory;
 import forge.game.ability.AbilityKey;
@@ -189,6 +190,15 @@ public class ReplacementHandler {
      * @return ReplacementResult, an enum that represents what happened to the replacement effect.
      */
     public ReplacementResult run(ReplacementType event, final Map<AbilityKey, Object> runParams) {
+        final GameMetrics metrics = game.getMetrics();
+        final long start = metrics.start(GameMetrics.Metric.REPLACEMENT_EFFECTS);
+        try {
+            return runImpl(event, runParams);
+        } finally {
+            metrics.stop(GameMetrics.Metric.REPLACEMENT_EFFECTS, start);
+        }
+    }
+    private ReplacementResult runImpl(ReplacementType event, final Map<AbilityKey, Object> runParams) {
         final Object affected = runParams.get(AbilityKey.Affected);
         Player decider = null;
 
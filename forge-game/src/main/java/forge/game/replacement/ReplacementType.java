@@ -2,6 +2,8 @@ package forge.game.replacement;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import forge.game.card.Card;
@@ -51,16 +53,23 @@ public enum ReplacementType {
     Untap(ReplaceUntap.class);
 
     Class<? extends ReplacementEffect> clasz;
+
+    private static final Map<String, ReplacementType> allValues = new HashMap<>();
+
+    static {
+        for (ReplacementType t : ReplacementType.values()) {
+            allValues.put(t.name().toLowerCase(Locale.ENGLISH), t);
+        }
+    }
+
     ReplacementType(Class<? extends ReplacementEffect> cls) {
         clasz = cls;
     }
 
     public static ReplacementType smartValueOf(String value) {
-        final String valToCompate = value.trim();
-        for (final ReplacementType v : ReplacementType.values()) {
-            if (v.name().compareToIgnoreCase(valToCompate) == 0) {
-                return v;
-            }
+        final ReplacementType v = allValues.get(value.trim().toLowerCase(Locale.ENGLISH));
+        if (v != null) {
+            return v;
         }
         throw new RuntimeException("Element " + value + " not found in ReplacementType enum");
     }
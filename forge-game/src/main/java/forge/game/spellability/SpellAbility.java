@@ -18,6 +18,7 @@
 package forge.game.spellability;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import forge.game.cost.CostSacrifice;
 import org.apache.commons.lang3.ObjectUtils;
@@ -87,8 +88,12 @@ import forge.util.TextUtil;
  * @version $Id$
  */
 public abstract class SpellAbility extends CardTraitBase implements ISpellAbility, IIdentifiable, Comparable<SpellAbility> {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    // abilities of cards outside of a game count down, so that they never get the id of one in a game
+    private static final AtomicInteger idsOutsideGame = new AtomicInteger();
+    private static int nextId(final Card host) {
+        final Game game = host == null ? null : host.getGame();
+        return game == null ? idsOutsideGame.decrementAndGet() : game.nextSpellAbilityId();
+    }
 
     public static class EmptySa extends SpellAbility {
         public EmptySa(Card sourceCard) { super(sourceCard, Cost.Zero); setActivatingPlayer(sourceCard.getController());}
@@ -153,7 +158,7 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
     private EnumMap<AbilityKey, Object> triggeringObjects = AbilityKey.newMap();
     private EnumMap<AbilityKey, Object> replacingObjects = AbilityKey.newMap();
 
-    private final List<String> pipsToReduce = new ArrayList<>();
+    private List<String> pipsToReduce = new ArrayList<>();
 
     private List<AbilitySub> chosenList = null;
     private CardCollection tappedForConvoke = new CardCollection();
@@ -213,7 +218,7 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
         this(iSourceCard, toPay, null);
     }
     protected SpellAbility(final Card iSourceCard, final Cost toPay, SpellAbilityView view0) {
-        id = nextId();
+        id = nextId(iSourceCard);
         hostCard = iSourceCard;
         payCosts = toPay;
         if (view0 == null) {
@@ -231,7 +236,7 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
     }
     @Override
     public int hashCode() {
-        return Objects.hash(SpellAbility.class, getId());
+        return Objects.hash(SpellAbility.class.getName(), getId());
     }
     @Override
     public boolean equals(final Object obj) {
@@ -1184,7 +1189,7 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
         SpellAbility clone = null;
         try {
             clone = (SpellAbility) clone();
-            clone.id = lki ? id : nextId();
+            clone.id = lki ? id : nextId(host);
             clone.view = new SpellAbilityView(clone, lki || host.getGame() == null ? null : host.getGame().getTracker());
 
             // don't use setHostCard to not trigger the not copied parts yet
@@ -1217,12 +1222,25 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
 
             clone.payingMana = Lists.newArrayList(payingMana);
             clone.paidAbilities = Lists.newArrayList();
-            clone.setPaidHash(getPaidHash());
+            clone.paidLists = TreeBasedTable.create();
+            for (Table.Cell<String, Boolean, CardCollection> paid : paidLists.cellSet()) {
+                clone.paidLists.put(paid.getRowKey(), paid.getColumnKey(), new CardCollection(paid.getValue()));
+            }
 
-            if (usesTargeting()) {
-                // the targets need to be cloned, otherwise they might be cleared
-                clone.targetChosen = getTargets().clone();
+            // the targets need to be cloned, otherwise they might be cleared
+            clone.targetChosen = getTargets().clone();
+
+            // what the copy remembers, reduces, taps and rolls back is its own
+            clone.triggerRemembered = Lists.newArrayList(triggerRemembered);
+            clone.replacingObjects = AbilityKey.newMap(replacingObjects);
+            clone.pipsToReduce = new ArrayList<>(pipsToReduce);
+            if (tappedForConvoke != null) {
+                clone.tappedForConvoke = new CardCollection(tappedForConvoke);
+            }
+            if (splicedCards != null) {
+                clone.splicedCards = new CardCollection(splicedCards);
             }
+            clone.rollbackEffects = new CardCollection(rollbackEffects);
 
             // clear maps for copy, the values will be added later
             clone.additionalAbilities = Maps.newHashMap();
@@ -855,7 +855,10 @@ public class SpellAbilityVariables implements Cloneable {
 
     public SpellAbilityVariables copy() {
         try {
-            return (SpellAbilityVariables) clone();
+            final SpellAbilityVariables copy = (SpellAbilityVariables) clone();
+            copy.phases = EnumSet.copyOf(phases);
+            copy.gameTypes = EnumSet.copyOf(gameTypes);
+            return copy;
         } catch (final CloneNotSupportedException e) {
             System.err.println(e);
         }
@@ -89,8 +89,8 @@ public class TargetRestrictions {
      */
     public TargetRestrictions(final TargetRestrictions target) {
         this.uiPrompt = target.getVTSelection();
-        this.originalValidTgts = target.getValidTgts();
-        this.validTgts = this.originalValidTgts.clone();
+        this.originalValidTgts = target.originalValidTgts;
+        this.validTgts = target.getValidTgts().clone();
         this.minTargets = target.getMinTargets();
         this.maxTargets = target.getMaxTargets();
         this.maxTotalCMC = target.getMaxTotalCMC();
@@ -108,6 +108,7 @@ public class TargetRestrictions {
         this.withSameCardType = target.isWithSameCardType();
         this.randomTarget = target.isRandomTarget();
         this.randomNumTargets = target.isRandomNumTargets();
+        this.bMandatory = target.getMandatory();
     }
 
     /**
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.*;
 
@@ -55,14 +56,18 @@ import forge.util.TextUtil;
  * The Class StaticAbility.
  */
 public class StaticAbility extends CardTraitBase implements IIdentifiable, Cloneable, Comparable<StaticAbility> {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    // static abilities of cards outside of a game count down, so that they never get the id of one in a game
+    private static final AtomicInteger idsOutsideGame = new AtomicInteger();
+    private static int nextId(final Card host) {
+        final Game game = host == null ? null : host.getGame();
+        return game == null ? idsOutsideGame.decrementAndGet() : game.nextStaticAbilityId();
+    }
 
     private int id;
 
     private Set<StaticAbilityLayer> layers;
     private CardCollectionView ignoreEffectCards = new CardCollection();
-    private final List<Player> ignoreEffectPlayers = Lists.newArrayList();
+    private List<Player> ignoreEffectPlayers = Lists.newArrayList();
     private int mayPlayTurn = 0;
 
     private SpellAbility payingTrigSA;
@@ -74,7 +79,7 @@ public class StaticAbility extends CardTraitBase implements IIdentifiable, Clone
 
     @Override
     public int hashCode() {
-        return Objects.hash(StaticAbility.class, getId());
+        return Objects.hash(StaticAbility.class.getName(), getId());
     }
 
     @Override
@@ -230,7 +235,7 @@ public class StaticAbility extends CardTraitBase implements IIdentifiable, Clone
      *            the host
      */
     private StaticAbility(final Map<String, String> params, final Card host, CardState state) {
-        this.id = nextId();
+        this.id = nextId(host);
         this.originalMapParams.putAll(params);
         this.mapParams.putAll(params);
         this.layers = this.generateLayer();
@@ -567,12 +572,13 @@ public class StaticAbility extends CardTraitBase implements IIdentifiable, Clone
         StaticAbility clone = null;
         try {
             clone = (StaticAbility) clone();
-            clone.id = lki ? id : nextId();
+            clone.id = lki ? id : nextId(host);
 
             copyHelper(clone, host);
 
             // reset to force refresh if needed
             clone.payingTrigSA = null;
+            clone.ignoreEffectPlayers = Lists.newArrayList(ignoreEffectPlayers);
 
             if (!lki) {
                 clone.mayPlayTurn = 0;
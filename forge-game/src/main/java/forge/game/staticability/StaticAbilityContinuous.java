@@ -1016,7 +1016,7 @@ public final class StaticAbilityContinuous {
             } else {
                 validZones = ImmutableList.of(ZoneType.Battlefield);
             }
-            cards.addAll(CardLists.getValidCards(game.getCardsIn(validZones), valids, hostCard.getController(), hostCard, stAb));
+            cards.addAll(CardLists.getValidCards(game.viewCardsIn(validZones), valids, hostCard.getController(), hostCard, stAb));
         }
         return cards;
     }
@@ -44,7 +44,7 @@ public class StaticAbilityMustTarget {
                 // Check if currentAbility can target any MustTarget cards
                 TargetRestrictions tgt = currentAbility.getTargetRestrictions();
                 List<ZoneType> zone = tgt.getZone();
-                List<Card> validCards = CardLists.getValidCards(game.getCardsIn(zone), tgt.getValidTgts(), currentAbility.getActivatingPlayer(), currentAbility.getHostCard(), currentAbility);
+                List<Card> validCards = CardLists.getValidCards(game.viewCardsIn(zone), tgt.getValidTgts(), currentAbility.getActivatingPlayer(), currentAbility.getHostCard(), currentAbility);
                 List<Card> choices = CardLists.getTargetableCards(validCards, currentAbility);
 
                 isRestrictionsMet(restrictions, choices, currentAbility);
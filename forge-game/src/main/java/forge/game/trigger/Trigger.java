@@ -41,6 +41,7 @@ import forge.util.Lang;
 import forge.util.TextUtil;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -51,16 +52,11 @@ import java.util.*;
  * @version $Id$
  */
 public abstract class Trigger extends TriggerReplacementBase {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
-
-    /**
-     * <p>
-     * resetIDs.
-     * </p>
-     */
-    public static void resetIDs() {
-        Trigger.maxId = 50000;
+    // triggers of cards outside of a game count down, so that they never get the id of one in a game
+    private static final AtomicInteger idsOutsideGame = new AtomicInteger();
+    private static int nextId(final Card host) {
+        final Game game = host == null ? null : host.getGame();
+        return game == null ? idsOutsideGame.decrementAndGet() : game.nextTriggerId();
     }
 
     /** The ID. */
@@ -87,7 +83,7 @@ public abstract class Trigger extends TriggerReplacementBase {
      *            the intrinsic
      */
     public Trigger(final Map<String, String> params, final Card host, final boolean intrinsic) {
-        this.id = nextId();
+        this.id = nextId(host);
         this.intrinsic = intrinsic;
 
         this.originalMapParams.putAll(params);
@@ -460,7 +456,7 @@ public abstract class Trigger extends TriggerReplacementBase {
     /** {@inheritDoc} */
     @Override
     public int hashCode() {
-        return Objects.hash(Trigger.class, getId());
+        return Objects.hash(Trigger.class.getName(), getId());
     }
 
     /**
@@ -536,13 +532,14 @@ public abstract class Trigger extends TriggerReplacementBase {
         final Trigger copy = (Trigger) clone();
 
         copyHelper(copy, newHost);
+        copy.triggerRemembered = Lists.newArrayList(triggerRemembered);
 
         if (getOverridingAbility() != null) {
             copy.setOverridingAbility(getOverridingAbility().copy(newHost, lki));
         }
 
         if (!lki) {
-            copy.setId(nextId());
+            copy.setId(nextId(newHost));
         }
 
         if (validPhases != null) {
@@ -28,6 +28,7 @@ import com.google.common.collect.Multimaps;
 import forge.game.CardTraitBase;
 import forge.game.CardTraitPredicates;
 import forge.game.Game;
+import forge.game.GameMetrics;
 import forge.game.IHasSVars;
 import forge.game.ability.AbilityFactory;
 import forge.game.ability.AbilityKey;
@@ -297,6 +298,15 @@ public class TriggerHandler {
     }
 
     private boolean runWaitingTrigger(final TriggerWaiting wt) {
+        final GameMetrics metrics = game.getMetrics();
+        final long start = metrics.start(GameMetrics.Metric.TRIGGERS);
+        try {
+            return runWaitingTriggerImpl(wt);
+        } finally {
+            metrics.stop(GameMetrics.Metric.TRIGGERS, start);
+        }
+    }
+    private boolean runWaitingTriggerImpl(final TriggerWaiting wt) {
         final TriggerType mode = wt.getMode();
         final Map<AbilityKey, Object> runParams = wt.getParams();
 
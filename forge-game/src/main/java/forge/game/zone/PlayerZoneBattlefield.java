@@ -17,9 +17,16 @@
  */
 package forge.game.zone;
 
+import java.util.List;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+
 import forge.game.card.Card;
 import forge.game.card.CardCollection;
 import forge.game.card.CardCollectionView;
+import forge.game.card.CardLists;
+import forge.game.card.CardPredicates;
 import forge.game.player.Player;
 
 /**
@@ -38,6 +45,16 @@ public class PlayerZoneBattlefield extends PlayerZone {
     private boolean trigger = true;
     private CardCollection meldedCards = new CardCollection();
 
+    private static final int CREATURES = 0;
+    private static final int LANDS = 1;
+    private static final int PLANESWALKERS = 2;
+    private static final List<Predicate<Card>> INDEX_PREDICATES = ImmutableList.of(
+            CardPredicates.Presets.CREATURES, CardPredicates.Presets.LANDS, CardPredicates.Presets.PLANESWALKERS);
+
+    private transient CardCollection[] indexes;
+    private transient int indexedChangeCount;
+    private transient int indexedTypesVersion;
+
     public PlayerZoneBattlefield(final ZoneType zone, final Player player) {
         super(zone, player);
     }
@@ -65,6 +82,42 @@ public class PlayerZoneBattlefield extends PlayerZone {
         }
     }
 
+    /**
+     * The creatures on this battlefield that aren't phased out. The collection is shared,
+     * don't modify it; copy it if it needs to survive changes to the battlefield.
+     */
+    public final CardCollectionView getCreatures() {
+        return getIndex(CREATURES);
+    }
+
+    /**
+     * The lands on this battlefield that aren't phased out, see {@link #getCreatures()}.
+     */
+    public final CardCollectionView getLands() {
+        return getIndex(LANDS);
+    }
+
+    /**
+     * The planeswalkers on this battlefield that aren't phased out, see {@link #getCreatures()}.
+     */
+    public final CardCollectionView getPlaneswalkers() {
+        return getIndex(PLANESWALKERS);
+    }
+
+    private CardCollectionView getIndex(final int kind) {
+        // rebuilt lazily once cards moved or any card changed its types since it was last built
+        final int typesVersion = game.getCardTypesVersion();
+        if (indexes == null || indexedChangeCount != getChangeCount() || indexedTypesVersion != typesVersion) {
+            indexes = new CardCollection[INDEX_PREDICATES.size()];
+            indexedChangeCount = getChangeCount();
+            indexedTypesVersion = typesVersion;
+        }
+        if (indexes[kind] == null) {
+            indexes[kind] = CardLists.filter(getCards(true), INDEX_PREDICATES.get(kind));
+        }
+        return indexes[kind];
+    }
+
     public final void setTriggers(final boolean b) {
         trigger = b;
     }
@@ -55,6 +55,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     private static final long serialVersionUID = -5687652485777639176L;
 
     private final CardCollection cardList = new CardCollection();
+    private transient int changeCount = 0;
     protected final ZoneType zoneType;
     protected final Game game;
 
@@ -76,6 +77,14 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     public final void reorder(final Card c, final int index) {
         cardList.remove(c);
         cardList.add(index, c);
+        changeCount++;
+    }
+
+    /**
+     * @return a number that changes whenever cards are added to, removed from or reordered in this zone.
+     */
+    public final int getChangeCount() {
+        return changeCount;
     }
 
     public final void add(final Card c) {
@@ -132,13 +141,16 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
 
         c.setZone(this);
 
-        if ((zoneType == ZoneType.Battlefield || !c.isToken()) || (zoneType == ZoneType.Stack && c.getCopiedPermanent() != null)) {
+        final boolean inZone = (zoneType == ZoneType.Battlefield || !c.isToken()) || (zoneType == ZoneType.Stack && c.getCopiedPermanent() != null);
+        if (inZone) {
             if (index == null) {
                 cardList.add(c);
             } else {
                 cardList.add(index.intValue(), c);
             }
+            changeCount++;
         }
+        game.onCardEnteredZone(c, this, inZone);
         onChanged();
 
         game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Added, c));
@@ -154,24 +166,35 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
 
     public void remove(final Card c) {
         if (cardList.remove(c)) {
+            changeCount++;
+            game.onCardLeftZone(c, this);
             onChanged();
             game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Removed, c));
         }
     }
 
     public final void setCards(final Iterable<Card> cards) {
+        for (Card c : cardList) {
+            game.onCardLeftZone(c, this);
+        }
         cardList.clear();
         for (Card c : cards) {
             c.setZone(this);
             cardList.add(c);
+            game.onCardEnteredZone(c, this, true);
         }
+        changeCount++;
         onChanged();
         game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.ComplexUpdate, null));
     }
 
     public final void removeAllCards(boolean forcedWithoutEvents) {
         if (forcedWithoutEvents) {
+            for (Card c : cardList) {
+                game.onCardLeftZone(c, this);
+            }
             cardList.clear();
+            changeCount++;
         } else {
             for (Card c : cardList) {
                 remove(c);
@@ -7,6 +7,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import com.google.common.base.Supplier;
+
 import forge.game.IIdentifiable;
 
 //base class for objects that can be tracked and synced between game server and GUI
@@ -18,6 +20,7 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     private final Map<TrackableProperty, Object> props;
     private final Set<TrackableProperty> changedProps;
     private boolean copyingProps;
+    private transient Map<TrackableProperty, Supplier<?>> lazyProps; // only used by headless trackers
 
     protected TrackableObject(final int id0, final Tracker tracker) {
         id = id0;
@@ -57,6 +60,17 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
 
     @SuppressWarnings("unchecked")
     protected final <T> T get(final TrackableProperty key) {
+        if (lazyProps != null) {
+            final Supplier<?> lazy = lazyProps.remove(key);
+            if (lazy != null) {
+                final Object computed = lazy.get();
+                if (computed == null || computed.equals(key.getDefaultValue())) {
+                    props.remove(key);
+                } else {
+                    props.put(key, computed);
+                }
+            }
+        }
         T value = (T)props.get(key);
         if (value == null) {
             value = key.getDefaultValue();
@@ -77,6 +91,18 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
                 return;
             }
         }
+        if (lazyProps != null) {
+            lazyProps.remove(key);
+        }
+        if (tracker != null && tracker.isHeadless()) {
+            // nobody syncs the views of a headless game, no need to track what changed
+            if (value == null || value.equals(key.getDefaultValue())) {
+                props.remove(key);
+            } else {
+                props.put(key, value);
+            }
+            return;
+        }
         if (value == null || value.equals(key.getDefaultValue())) {
             if (props.remove(key) != null) {
                 changedProps.add(key);
@@ -89,6 +115,22 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
         }
     }
 
+    /**
+     * Like {@link #set(TrackableProperty, Object)}, for values that are expensive to compute and only ever shown
+     * to the user. A headless tracker computes the value when it's first read instead, and doesn't delay it
+     * while frozen.
+     */
+    protected final <T> void setLazy(final TrackableProperty key, final Supplier<T> value) {
+        if (tracker == null || !tracker.isHeadless()) {
+            set(key, value.get());
+            return;
+        }
+        if (lazyProps == null) {
+            lazyProps = new EnumMap<>(TrackableProperty.class);
+        }
+        lazyProps.put(key, value);
+    }
+
     public final void updateObjLookup() {
         for (final Entry<TrackableProperty, Object> prop : props.entrySet()) {
             prop.getKey().updateObjLookup(tracker, prop.getValue());
@@ -109,6 +151,9 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
 
     //use when updating collection type properties with using set
     protected final void flagAsChanged(final TrackableProperty key) {
+        if (tracker != null && tracker.isHeadless()) {
+            return;
+        }
         changedProps.add(key);
         key.updateObjLookup(tracker, props.get(key));
     }
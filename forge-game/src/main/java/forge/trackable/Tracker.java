@@ -1,23 +1,40 @@
 package forge.trackable;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Table;
 
 import forge.trackable.TrackableTypes.TrackableType;
+import forge.util.collect.IntObjectMap;
 
 public class Tracker {
     private int freezeCounter = 0;
+    private boolean headless = false;
     private final List<DelayedPropChange> delayedPropChanges = Lists.newArrayList();
 
-    private final Table<TrackableType<?>, Integer, Object> objLookups = HashBasedTable.create();
+    private final Map<TrackableType<?>, IntObjectMap<Object>> objLookups = new IdentityHashMap<>();
 
     public final boolean isFrozen() {
         return freezeCounter > 0;
     }
 
+    /**
+     * A headless tracker belongs to a game nobody is watching, such as an AI simulation or a batch of
+     * AI-vs-AI matches. Its views still hold the values the rules engine reads back from them, but it doesn't
+     * keep the object lookups and change sets that are only needed to sync views with a GUI or a network
+     * client, and it leaves expensive derived text to be worked out on first read.
+     * Must be set before the game starts; a GUI can't be attached to a headless game.
+     */
+    public final boolean isHeadless() {
+        return headless;
+    }
+
+    public void setHeadless(final boolean headless0) {
+        headless = headless0;
+    }
+
     public void freeze() {
         freezeCounter++;
     }
@@ -26,15 +43,22 @@ public class Tracker {
     // TrackableType is global and Tracker is per game.
     @SuppressWarnings("unchecked")
     public <T> T getObj(TrackableType<T> type, Integer id) {
-        return (T)objLookups.get(type, id);
+        final IntObjectMap<Object> lookup = objLookups.get(type);
+        return lookup == null ? null : (T)lookup.get(id);
     }
 
     public boolean hasObj(TrackableType<?> type, Integer id) {
-        return objLookups.contains(type, id);
+        final IntObjectMap<Object> lookup = objLookups.get(type);
+        return lookup != null && lookup.containsKey(id);
     }
 
     public <T> void putObj(TrackableType<T> type, Integer id, T val) {
-        objLookups.put(type, id, val);
+        IntObjectMap<Object> lookup = objLookups.get(type);
+        if (lookup == null) {
+            lookup = new IntObjectMap<>();
+            objLookups.put(type, lookup);
+        }
+        lookup.put(id, val);
     }
 
     public void unfreeze() {
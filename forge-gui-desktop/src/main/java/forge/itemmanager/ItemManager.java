@@ -21,6 +21,7 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import forge.card.CardCatalogIndex;
 import forge.gui.GuiUtils;
 import forge.gui.UiCommand;
 import forge.item.InventoryItem;
@@ -926,16 +927,20 @@ public abstract class ItemManager<T extends InventoryItem> extends JPanel implem
         if (this.lockFiltering || !this.initialized) { return false; }
 
         final List<Predicate<? super T>> predicates = new ArrayList<>();
+        //card filters are answered from the catalog index when all of them support it
+        List<CardCatalogIndex.Query> queries = this.genericType.isAssignableFrom(PaperCard.class) ? new ArrayList<>() : null;
         for (final ItemFilter<? extends T> filter : this.orderedFilters) { //TODO: Support custom filter logic
             if (filter.isEnabled() && !filter.isEmpty()) {
                 predicates.add(filter.buildPredicate(this.genericType));
+                queries = addIndexQuery(queries, filter);
             }
         }
         if (this.mainSearchFilter.isEnabled() && !this.mainSearchFilter.isEmpty()) {
             predicates.add(mainSearchFilter.buildPredicate(this.genericType));
+            queries = addIndexQuery(queries, mainSearchFilter);
         }
 
-        final Predicate<? super T> newFilterPredicate = predicates.size() == 0 ? null : Predicates.and(predicates);
+        final Predicate<? super T> newFilterPredicate = SFilterUtil.buildItemFilter(predicates, queries);
         if (this.filterPredicate == newFilterPredicate) { return false; }
 
         this.filterPredicate = newFilterPredicate;
@@ -945,6 +950,14 @@ public abstract class ItemManager<T extends InventoryItem> extends JPanel implem
         return true;
     }
 
+    private static List<CardCatalogIndex.Query> addIndexQuery(final List<CardCatalogIndex.Query> queries, final ItemFilter<?> filter) {
+        if (queries == null) { return null; }
+        final CardCatalogIndex.Query query = filter.buildIndexQuery();
+        if (query == null) { return null; }
+        queries.add(query);
+        return queries;
+    }
+
     /**
      *
      * isUnfiltered.
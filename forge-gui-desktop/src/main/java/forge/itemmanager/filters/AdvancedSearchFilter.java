@@ -17,6 +17,7 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
+import forge.card.CardCatalogIndex;
 import forge.gui.GuiUtils;
 import forge.gui.UiCommand;
 import forge.gui.interfaces.IButton;
@@ -66,6 +67,11 @@ public class AdvancedSearchFilter<T extends InventoryItem> extends ItemFilter<T>
         return model.getPredicate();
     }
 
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return model.getIndexQuery();
+    }
+
     @Override
     protected final void buildWidget(JPanel widget) {
         label = new FLabel.Builder().fontAlign(SwingConstants.LEFT).fontSize(12).build();
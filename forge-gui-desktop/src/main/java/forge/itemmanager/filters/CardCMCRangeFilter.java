@@ -3,6 +3,7 @@ package forge.itemmanager.filters;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 
+import forge.card.CardCatalogIndex;
 import forge.card.CardRules;
 import forge.card.CardRulesPredicates;
 import forge.item.PaperCard;
@@ -35,4 +36,10 @@ public class CardCMCRangeFilter extends ValueRangeFilter<PaperCard> {
         }
         return Predicates.compose(predicate, PaperCard.FN_GET_RULES);
     }
+
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        CardCatalogIndex.Query query = getCardRulesFieldQuery(CardRulesPredicates.LeafNumber.CardField.CMC);
+        return query == null ? CardCatalogIndex.Query.all() : query;
+    }
 }
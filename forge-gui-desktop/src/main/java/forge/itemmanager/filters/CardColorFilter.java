@@ -4,6 +4,7 @@ import javax.swing.JPanel;
 
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.item.PaperCard;
 import forge.itemmanager.ItemManager;
 import forge.itemmanager.SFilterUtil;
@@ -39,4 +40,9 @@ public class CardColorFilter extends StatTypeFilter<PaperCard> {
     protected final Predicate<PaperCard> buildPredicate() {
         return SFilterUtil.buildColorFilter(buttonMap);
     }
+
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return SFilterUtil.buildColorQuery(buttonMap);
+    }
 }
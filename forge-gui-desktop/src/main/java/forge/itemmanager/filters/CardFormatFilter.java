@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.game.GameFormat;
 import forge.item.PaperCard;
 import forge.itemmanager.ItemManager;
@@ -37,6 +38,11 @@ public class CardFormatFilter extends FormatFilter<PaperCard> {
         return SFilterUtil.buildFormatFilter(this.formats, this.allowReprints);
     }
 
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return SFilterUtil.buildFormatQuery(this.formats, this.allowReprints);
+    }
+
     public void edit(final ItemManager<? super PaperCard> itemManager) {
         final DialogChooseFormats dialog = new DialogChooseFormats(this.formats);
         final CardFormatFilter itemFilter = this;
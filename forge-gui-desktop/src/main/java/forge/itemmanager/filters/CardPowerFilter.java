@@ -3,8 +3,10 @@ package forge.itemmanager.filters;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 
+import forge.card.CardCatalogIndex;
 import forge.card.CardRules;
 import forge.card.CardRulesPredicates;
+import forge.card.CardType;
 import forge.item.PaperCard;
 import forge.itemmanager.ItemManager;
 
@@ -36,4 +38,13 @@ public class CardPowerFilter extends ValueRangeFilter<PaperCard> {
         predicate = Predicates.and(predicate, CardRulesPredicates.Presets.IS_CREATURE);
         return Predicates.compose(predicate, PaperCard.FN_GET_RULES);
     }
+
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        CardCatalogIndex.Query query = getCardRulesFieldQuery(CardRulesPredicates.LeafNumber.CardField.POWER);
+        if (query == null) {
+            return CardCatalogIndex.Query.all();
+        }
+        return CardCatalogIndex.Query.and(query, CardCatalogIndex.Query.type(CardType.CoreType.Creature));
+    }
 }
@@ -7,6 +7,7 @@ import javax.swing.JPanel;
 
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.gui.UiCommand;
 import forge.item.InventoryItem;
 import forge.item.PaperCard;
@@ -114,6 +115,17 @@ public class CardSearchFilter extends TextSearchFilter<PaperCard> {
 				btnCost.isSelected());
     }
 
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return SFilterUtil.buildTextQuery(
+                txtSearch.getText(),
+                cbSearchMode.getSelectedIndex() != 0,
+                btnName.isSelected(),
+                btnType.isSelected(),
+                btnText.isSelected(),
+                btnCost.isSelected());
+    }
+
     @Override
     protected <U extends InventoryItem> boolean showUnsupportedItem(U item) {
         //fallback to regular item text filter if item not PaperCard
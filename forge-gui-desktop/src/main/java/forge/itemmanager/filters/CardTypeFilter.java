@@ -8,9 +8,11 @@ import javax.swing.JPanel;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 
+import forge.card.CardCatalogIndex;
 import forge.card.CardRules;
 import forge.item.PaperCard;
 import forge.itemmanager.ItemManager;
+import forge.itemmanager.SFilterUtil;
 import forge.itemmanager.SItemManagerUtil.StatTypes;
 import forge.itemmanager.SpellShopManager;
 
@@ -60,4 +62,9 @@ public class CardTypeFilter extends StatTypeFilter<PaperCard> {
         }
         return Predicates.compose(Predicates.or(types), PaperCard.FN_GET_RULES);
     }
+
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return SFilterUtil.buildStatTypeQuery(buttonMap);
+    }
 }
@@ -17,6 +17,7 @@ import javax.swing.SwingUtilities;
 
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.gui.framework.ILocalRepaint;
 import forge.item.InventoryItem;
 import forge.itemmanager.ItemManager;
@@ -139,6 +140,14 @@ public abstract class ItemFilter<T extends InventoryItem> {
         return false; //don't show unsupported items by default
     }
 
+    /**
+     * Build a card catalog index query matching the same cards as this filter's predicate.
+     * @return the query, or null if this filter can't be answered from the index
+     */
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return null;
+    }
+
     public abstract ItemFilter<T> createCopy();
     public abstract boolean isEmpty();
     public abstract void reset();
@@ -1,6 +1,8 @@
 package forge.itemmanager.filters;
 
 import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.swing.JPanel;
 import javax.swing.JSpinner;
@@ -9,6 +11,7 @@ import javax.swing.event.ChangeListener;
 
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.card.CardRules;
 import forge.card.CardRulesPredicates;
 import forge.item.InventoryItem;
@@ -120,6 +123,22 @@ public abstract class ValueRangeFilter<T extends InventoryItem> extends ItemFilt
         return SFilterUtil.optimizedAnd(pLower, pUpper);
     }
 
+    protected CardCatalogIndex.Query getCardRulesFieldQuery(CardRulesPredicates.LeafNumber.CardField field) {
+        int lowerValue = Integer.parseInt(lowerBound.getValue().toString());
+        int upperValue = Integer.parseInt(upperBound.getValue().toString());
+        boolean hasMin = lowerValue != minValue();
+        boolean hasMax = upperValue != maxValue();
+
+        List<CardCatalogIndex.Query> bounds = new ArrayList<>();
+        if (hasMin) {
+            bounds.add(CardCatalogIndex.Query.rules(new CardRulesPredicates.LeafNumber(field, ComparableOp.GT_OR_EQUAL, lowerValue)));
+        }
+        if (hasMax) {
+            bounds.add(CardCatalogIndex.Query.rules(new CardRulesPredicates.LeafNumber(field, ComparableOp.LT_OR_EQUAL, upperValue)));
+        }
+        return bounds.isEmpty() ? null : CardCatalogIndex.Query.and(bounds);
+    }
+
     /**
      * Merge the given filter with this filter if possible
      * @param filter
@@ -0,0 +1,198 @@
+package forge.view;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import forge.deck.Deck;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.player.RegisteredPlayer;
+import forge.gamemodes.net.CompatibleObjectEncoder;
+import forge.gamemodes.net.event.JoinTableEvent;
+import forge.gamemodes.net.server.GameTable;
+import forge.gamemodes.net.server.GameTableServer;
+import forge.localinstance.properties.ForgeProfileProperties;
+import forge.model.FModel;
+import forge.player.GamePlayerUtil;
+import forge.util.TextUtil;
+import forge.util.WordUtil;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+
+/**
+ * Hosts AI vs. AI matches on a {@link GameTableServer} until they are all over, then reports what each table cost.
+ * With -c every table is also watched by a client connecting over loopback, to load test the server.
+ */
+public class DedicatedServer {
+
+    public static void serve(String[] args) {
+        FModel.initialize(null, null);
+
+        System.out.println("Dedicated server mode");
+
+        final Map<String, List<String>> params = new HashMap<>();
+        List<String> options = null;
+        for (int i = 1; i < args.length; i++) {
+            // "server" is in the 0th slot
+            final String a = args[i];
+            if (a.charAt(0) == '-' && a.length() > 1) {
+                options = new ArrayList<>();
+                params.put(a.substring(1), options);
+            } else if (options != null) {
+                options.add(a);
+            } else {
+                System.err.println("Illegal parameter usage");
+                argumentHelp();
+                return;
+            }
+        }
+        if (!params.containsKey("d") || params.get("d").size() < 2) {
+            argumentHelp();
+            return;
+        }
+
+        final int nTables = params.containsKey("n") ? Integer.parseInt(params.get("n").get(0)) : 1;
+        final int port = params.containsKey("p") ? Integer.parseInt(params.get("p").get(0)) : ForgeProfileProperties.getServerPort();
+        final int nThreads = params.containsKey("x") ? Integer.parseInt(params.get("x").get(0)) : Runtime.getRuntime().availableProcessors();
+        final GameType type = params.containsKey("f") ? GameType.valueOf(WordUtil.capitalize(params.get("f").get(0))) : GameType.Constructed;
+
+        final List<Deck> decks = new ArrayList<>();
+        for (final String deckName : params.get("d")) {
+            final Deck d = SimulateMatch.deckFromCommandLineParameter(deckName, type);
+            if (d == null) {
+                System.out.println(TextUtil.concatNoSpace("Could not load deck - ", deckName, ", tables cannot start"));
+                return;
+            }
+            decks.add(d);
+        }
+
+        final GameTableServer server = new GameTableServer(GameTableServer.newTableExecutor(nThreads));
+        final EventLoopGroup clientGroup = params.containsKey("c") ? new NioEventLoopGroup() : null;
+        try {
+            final int boundPort = server.start(port);
+            System.out.println(TextUtil.concatNoSpace("Listening on port ", String.valueOf(boundPort), ", hosting ", String.valueOf(nTables), " tables"));
+
+            final long start = System.nanoTime();
+            final List<GameTable> tables = new ArrayList<>();
+            final List<AtomicLong[]> received = new ArrayList<>();
+            for (int t = 0; t < nTables; t++) {
+                final GameTable table = server.openTable(createRules(params, type), createPlayers(decks, type));
+                tables.add(table);
+                if (clientGroup != null) {
+                    received.add(watch(clientGroup, boundPort, table.getId()));
+                }
+            }
+
+            for (final GameTable table : tables) {
+                table.awaitFinished(Long.MAX_VALUE, TimeUnit.DAYS);
+            }
+            final long elapsed = System.nanoTime() - start;
+
+            long games = 0, cpu = 0, allocated = 0;
+            for (int t = 0; t < tables.size(); t++) {
+                final GameTable table = tables.get(t);
+                games += table.getGamesPlayed();
+                cpu += Math.max(0, table.getCpuNanos());
+                allocated += Math.max(0, table.getAllocatedBytes());
+                final StringBuilder sb = new StringBuilder();
+                sb.append(String.format("Table %d: %d games in %.1f s, cpu %s, allocated %s", table.getId(), table.getGamesPlayed(),
+                        table.getWallNanos() / 1e9, table.getCpuNanos() < 0 ? "n/a" : String.format("%.1f s", table.getCpuNanos() / 1e9),
+                        table.getAllocatedBytes() < 0 ? "n/a" : String.format("%d MB", table.getAllocatedBytes() >> 20)));
+                if (!received.isEmpty()) {
+                    sb.append(String.format(", client received %d events, %d KB", received.get(t)[0].get(), received.get(t)[1].get() >> 10));
+                }
+                if (table.getError() != null) {
+                    sb.append(", stopped by ").append(table.getError());
+                }
+                System.out.println(sb.toString());
+            }
+            System.out.println(String.format("%d tables, %d games in %.1f s (%.1f games/min), cpu %.1f s, allocated %d MB",
+                    tables.size(), games, elapsed / 1e9, games * 60e9 / elapsed, cpu / 1e9, allocated >> 20));
+        } catch (final InterruptedException e) {
+            e.printStackTrace();
+        } finally {
+            if (clientGroup != null) {
+                clientGroup.shutdownGracefully();
+            }
+            server.stop();
+        }
+        System.out.flush();
+    }
+
+    private static GameRules createRules(final Map<String, List<String>> params, final GameType type) {
+        final GameRules rules = new GameRules(type);
+        rules.setAppliedVariants(EnumSet.of(type));
+        rules.setHeadless(true);
+        rules.setGamesPerMatch(params.containsKey("m") ? Integer.parseInt(params.get("m").get(0)) : 1);
+        return rules;
+    }
+
+    // every table needs players and decks of its own, as a match changes them
+    private static List<RegisteredPlayer> createPlayers(final List<Deck> decks, final GameType type) {
+        final List<RegisteredPlayer> players = new ArrayList<>();
+        for (int i = 0; i < decks.size(); i++) {
+            final Deck d = new Deck(decks.get(i));
+            final RegisteredPlayer rp = type.equals(GameType.Commander) ? RegisteredPlayer.forCommander(d) : new RegisteredPlayer(d);
+            rp.setPlayer(GamePlayerUtil.createAiPlayer(TextUtil.concatNoSpace("Ai(", String.valueOf(i + 1), ")-", d.getName()), i));
+            players.add(rp);
+        }
+        return players;
+    }
+
+    /**
+     * Joins a table from a client that only counts what it's sent, without deserializing it.
+     * @return the number of events and of bytes received so far.
+     */
+    private static AtomicLong[] watch(final EventLoopGroup group, final int port, final int tableId) throws InterruptedException {
+        final AtomicLong[] received = { new AtomicLong(), new AtomicLong() };
+        final Channel channel = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    public void initChannel(final SocketChannel ch) throws Exception {
+                        ch.pipeline().addLast(
+                                new CompatibleObjectEncoder(),
+                                new LengthFieldBasedFrameDecoder(9766*1024, 0, 4, 0, 4),
+                                new ChannelInboundHandlerAdapter() {
+                                    @Override
+                                    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                                        final ByteBuf frame = (ByteBuf) msg;
+                                        received[0].incrementAndGet();
+                                        received[1].addAndGet(frame.readableBytes());
+                                        frame.release();
+                                    }
+                                });
+                    }
+                })
+                .connect("localhost", port).sync().channel();
+        channel.writeAndFlush(new JoinTableEvent("Client " + tableId, tableId));
+        return received;
+    }
+
+    private static void argumentHelp() {
+        System.out.println("Syntax: forge.exe server -d <deck1[.dck]> ... <deckX[.dck]> -n [N] -m [M] -p [P] -x [X] -f [F] -c");
+        System.out.println("\tserver - stands for dedicated server mode");
+        System.out.println("\tdeck1 (or deck2,...,X) - constructed deck name or filename, played by the AI at every table");
+        System.out.println("\tN - number of tables, defaults to 1");
+        System.out.println("\tM - number of games per match, defaults to 1");
+        System.out.println("\tP - port to listen on, defaults to the server port of forge.profile.properties");
+        System.out.println("\tX - number of tables played at once; defaults to the number of processors");
+        System.out.println("\tF - format of games, defaults to constructed");
+        System.out.println("\tc - watch every table from a client over loopback, to load test the server");
+    }
+}
@@ -14,6 +14,7 @@ import java.util.concurrent.TimeoutException;
 import org.apache.commons.lang3.time.StopWatch;
 
 import forge.LobbyPlayer;
+import forge.ai.GameReplayer;
 import forge.deck.Deck;
 import forge.deck.DeckGroup;
 import forge.deck.io.DeckSerializer;
@@ -21,6 +22,7 @@ import forge.game.Game;
 import forge.game.GameEndReason;
 import forge.game.GameLogEntry;
 import forge.game.GameLogEntryType;
+import forge.game.GameReplay;
 import forge.game.GameRules;
 import forge.game.GameType;
 import forge.game.Match;
@@ -34,20 +36,23 @@ import forge.gamemodes.tournament.system.TournamentSwiss;
 import forge.localinstance.properties.ForgeConstants;
 import forge.model.FModel;
 import forge.player.GamePlayerUtil;
+import forge.util.FileUtil;
 import forge.util.Lang;
 import forge.util.TextUtil;
 import forge.util.WordUtil;
 import forge.util.storage.IStorage;
 
 public class SimulateMatch {
+    // engine metrics of each game played, as JSON, when asked for with -j
+    private static List<String> gameMetrics = null;
+    // directory to write the replay of each game played to, when asked for with -l
+    private static File replayDir = null;
+    private static int replaysWritten = 0;
+
     public static void simulate(String[] args) {
         FModel.initialize(null, null);
 
         System.out.println("Simulation mode");
-        if (args.length < 4) {
-            argumentHelp();
-            return;
-        }
 
         final Map<String, List<String>> params = new HashMap<>();
         List<String> options = null;
@@ -79,6 +84,15 @@ public class SimulateMatch {
             nGames = Integer.parseInt(params.get("n").get(0));
         }
 
+        if (params.containsKey("r")) {
+            replayGame(params.get("r").get(0), nGames);
+            return;
+        }
+        if (args.length < 4) {
+            argumentHelp();
+            return;
+        }
+
         int matchSize = 0;
         if (params.containsKey("m")) {
             // Match size ("best of X games")
@@ -94,13 +108,28 @@ public class SimulateMatch {
 
         GameRules rules = new GameRules(type);
         rules.setAppliedVariants(EnumSet.of(type));
+        rules.setHeadless(true);
 
         if (matchSize != 0) {
             rules.setGamesPerMatch(matchSize);
         }
 
+        String metricsFile = null;
+        if (params.containsKey("j")) {
+            metricsFile = params.get("j").get(0);
+            rules.setCollectMetrics(true);
+            gameMetrics = new ArrayList<>();
+        }
+
+        if (params.containsKey("l")) {
+            replayDir = new File(params.get("l").get(0));
+            replayDir.mkdirs();
+            rules.setRecordReplay(true);
+        }
+
         if (params.containsKey("t")) {
             simulateTournament(params, rules, outputGamelog);
+            writeGameMetrics(metricsFile);
             System.out.flush();
             return;
         }
@@ -155,11 +184,21 @@ public class SimulateMatch {
             }
         }
 
+        writeGameMetrics(metricsFile);
         System.out.flush();
     }
 
+    private static void writeGameMetrics(String metricsFile) {
+        if (metricsFile == null) {
+            return;
+        }
+        FileUtil.writeFile(metricsFile, "[" + TextUtil.join(gameMetrics, ",\n") + "]\n");
+        System.out.println("Engine metrics written to " + metricsFile);
+    }
+
     private static void argumentHelp() {
-        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -q");
+        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -j [J] -l [L] -q");
+        System.out.println("        forge.exe sim -r <replay> -n [N]");
         System.out.println("\tsim - stands for simulation mode");
         System.out.println("\tdeck1 (or deck2,...,X) - constructed deck name or filename (has to be quoted when contains multiple words)");
         System.out.println("\tdeck is treated as file if it ends with a dot followed by three numbers or letters");
@@ -170,6 +209,9 @@ public class SimulateMatch {
         System.out.println("\tP - Amount of players per match (used only with Tournaments, defaults to 2)");
         System.out.println("\tF - format of games, defaults to constructed");
         System.out.println("\tq - Quiet flag. Output just the game result, not the entire game log.");
+        System.out.println("\tJ - file to write engine metrics of every game to, per turn, as JSON");
+        System.out.println("\tL - directory to write the replay of every game to");
+        System.out.println("\treplay - replay file written with -l, played again N times to time it and check that the AI plays it the same way");
     }
 
     public static void simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog) {
@@ -196,6 +238,15 @@ public class SimulateMatch {
             }
         }
 
+        if (gameMetrics != null) {
+            gameMetrics.add(g1.getMetrics().toJson());
+        }
+        if (replayDir != null) {
+            File replayFile = new File(replayDir, "game" + (++replaysWritten) + ".replay");
+            FileUtil.writeFile(replayFile, g1.getReplay().toLines());
+            System.out.println("Replay written to " + replayFile);
+        }
+
         List<GameLogEntry> log;
         if (outputGamelog) {
             log = g1.getGameLog().getLogEntries(null);
@@ -215,6 +266,36 @@ public class SimulateMatch {
         }
     }
 
+    private static void replayGame(String replayFile, int times) {
+        final GameReplay recorded;
+        try {
+            recorded = GameReplay.parse(FileUtil.readFile(replayFile));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Could not read replay " + replayFile + " - " + e.getMessage());
+            return;
+        }
+        System.out.println(TextUtil.concatNoSpace("Replaying ", replayFile, " - seed ", String.valueOf(recorded.getSeed()),
+                ", ", String.valueOf(recorded.getEntries().size()), " log entries"));
+
+        for (int iGame = 0; iGame < times; iGame++) {
+            final StopWatch sw = new StopWatch();
+            sw.start();
+            final Game game = GameReplayer.replay(recorded);
+            sw.stop();
+
+            final GameReplay replayed = game.getReplay();
+            final int diverged = recorded.findDivergence(replayed);
+            if (diverged < 0) {
+                System.out.printf("Replay %d: same game in %d ms.%n", 1 + iGame, sw.getTime());
+            } else {
+                System.out.printf("Replay %d: diverged at log entry %d (%s) in %d ms, recorded \"%s\", replayed \"%s\".%n",
+                        1 + iGame, diverged, recorded.getTurnOf(diverged), sw.getTime(),
+                        diverged < recorded.getEntries().size() ? recorded.getEntries().get(diverged) : "end of game",
+                        diverged < replayed.getEntries().size() ? replayed.getEntries().get(diverged) : "end of game");
+            }
+        }
+    }
+
     private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog) {
         String tournament = params.get("t").get(0);
         AbstractTournament tourney = null;
@@ -352,7 +433,7 @@ public class SimulateMatch {
         return null;
     }
 
-    private static Deck deckFromCommandLineParameter(String deckname, GameType type) {
+    static Deck deckFromCommandLineParameter(String deckname, GameType type) {
         int dotpos = deckname.lastIndexOf('.');
         if (dotpos > 0 && dotpos == deckname.length() - 4) {
             String baseDir = type.equals(GameType.Commander) ?
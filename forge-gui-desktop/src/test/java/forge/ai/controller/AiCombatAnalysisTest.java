@@ -0,0 +1,124 @@
+package forge.ai.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.AiBlockController;
+import forge.ai.AiCombatAnalysis;
+import forge.ai.ComputerUtilCombat;
+import forge.ai.simulation.SimulationTest;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+
+public class AiCombatAnalysisTest extends SimulationTest {
+
+    private static List<Object> predictAll(Player ai, List<Card> attackers, List<Card> blockers, Combat combat) {
+        List<Object> result = new ArrayList<>();
+        for (Card attacker : attackers) {
+            for (Card blocker : blockers) {
+                result.add(ComputerUtilCombat.canDestroyAttacker(ai, attacker, blocker, combat, false));
+                result.add(ComputerUtilCombat.canDestroyBlocker(ai, blocker, attacker, combat, false));
+                result.add(ComputerUtilCombat.canDestroyAttackerBeforeFirstStrike(attacker, blocker, combat, false));
+                result.add(ComputerUtilCombat.canDestroyBlockerBeforeFirstStrike(blocker, attacker, false));
+                result.add(ComputerUtilCombat.predictPowerBonusOfAttacker(attacker, blocker, combat, false));
+                result.add(ComputerUtilCombat.predictToughnessBonusOfAttacker(attacker, blocker, combat, false));
+                result.add(ComputerUtilCombat.predictPowerBonusOfBlocker(attacker, blocker, false));
+                result.add(ComputerUtilCombat.predictToughnessBonusOfBlocker(attacker, blocker, false));
+            }
+        }
+        return result;
+    }
+
+    private static List<Object> predictAllWithAnalysis(Player ai, List<Card> attackers, List<Card> blockers, Combat combat) {
+        AiCombatAnalysis.open(ai);
+        try {
+            List<Object> first = predictAll(ai, attackers, blockers, combat);
+            AssertJUnit.assertEquals(first, predictAll(ai, attackers, blockers, combat));
+            return first;
+        } finally {
+            AiCombatAnalysis.close();
+        }
+    }
+
+    @Test
+    public void testAnalysisMatchesDirectPredictions() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+
+        List<Card> attackers = new ArrayList<>();
+        for (String name : new String[] { "Wolverine Pack", "Serra Angel", "Elvish Archers", "Typhoid Rats" }) {
+            Card c = addCard(name, p);
+            c.setSickness(false);
+            attackers.add(c);
+        }
+        List<Card> blockers = new ArrayList<>();
+        for (String name : new String[] { "Grizzly Bears", "Giant Spider", "Typhoid Rats", "Fugitive Wizard" }) {
+            blockers.add(addCard(name, opponent));
+        }
+
+        game.getPhaseHandler().devModeSet(PhaseType.COMBAT_DECLARE_ATTACKERS, p);
+        Combat combat = new Combat(p);
+        for (Card attacker : attackers) {
+            combat.addAttacker(attacker, opponent);
+        }
+        game.getPhaseHandler().setCombat(combat);
+        game.getAction().checkStateEffects(true);
+
+        AssertJUnit.assertEquals(predictAll(opponent, attackers, blockers, combat),
+                predictAllWithAnalysis(opponent, attackers, blockers, combat));
+
+        // predictions must follow changes to the combat made while the analysis is open
+        List<Object> cached;
+        AiCombatAnalysis.open(opponent);
+        try {
+            predictAll(opponent, attackers, blockers, combat);
+            combat.addBlocker(attackers.get(0), blockers.get(0));
+            combat.addBlocker(attackers.get(0), blockers.get(1));
+            cached = predictAll(opponent, attackers, blockers, combat);
+        } finally {
+            AiCombatAnalysis.close();
+        }
+        AssertJUnit.assertEquals(predictAll(opponent, attackers, blockers, combat), cached);
+    }
+
+    @Test
+    public void testBlocksUnchangedByAnalysis() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+
+        for (int i = 0; i < 10; i++) {
+            addCard(i % 2 == 0 ? "Grizzly Bears" : "Elvish Archers", p).setSickness(false);
+            addCard(i % 3 == 0 ? "Giant Spider" : "Fugitive Wizard", opponent);
+        }
+
+        game.getPhaseHandler().devModeSet(PhaseType.COMBAT_DECLARE_ATTACKERS, p);
+        Combat combat = new Combat(p);
+        for (Card c : p.getCreaturesInPlay()) {
+            combat.addAttacker(c, opponent);
+        }
+        game.getPhaseHandler().setCombat(combat);
+        game.getAction().checkStateEffects(true);
+
+        // nested opens share one analysis; the block controller joins it
+        AiCombatAnalysis.open(opponent);
+        try {
+            new AiBlockController(opponent, false).assignBlockersForCombat(combat);
+            int blocked = combat.getAllBlockers().size();
+            for (Card blocker : combat.getAllBlockers()) {
+                combat.undoBlockingAssignment(blocker);
+            }
+            new AiBlockController(opponent, false).assignBlockersForCombat(combat);
+            AssertJUnit.assertEquals(blocked, combat.getAllBlockers().size());
+        } finally {
+            AiCombatAnalysis.close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package forge.ai.controller;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.AiManaOracle;
+import forge.ai.ComputerUtilMana;
+import forge.ai.simulation.SimulationTest;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+public class AiManaOracleTest extends SimulationTest {
+
+    private static String describe(Player p, SpellAbility sa) {
+        return ComputerUtilMana.determineLeftoverMana(sa, p, false) + "/"
+                + ComputerUtilMana.determineLeftoverMana(sa, p, "R", false) + "/"
+                + ComputerUtilMana.getAvailableManaEstimate(p) + "/"
+                + ComputerUtilMana.canPayManaCost(sa, p, 0, false);
+    }
+
+    @Test
+    public void testOracleMatchesDirectChecks() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        for (int i = 0; i < 7; i++) {
+            addCard(i % 3 == 0 ? "Forest" : "Mountain", p);
+        }
+        addCard("Llanowar Elves", p).setSickness(false);
+        Card blaze = addCardToZone("Blaze", p, ZoneType.Hand);
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbility sa = blaze.getFirstSpellAbility();
+        sa.setActivatingPlayer(p);
+        String direct = describe(p, sa);
+        AssertJUnit.assertTrue(direct.startsWith("7/"));
+
+        AiManaOracle.open();
+        try {
+            AssertJUnit.assertEquals(direct, describe(p, sa));
+            AssertJUnit.assertEquals(direct, describe(p, sa));
+
+            // tapping a land must be noticed while the oracle is open
+            p.getCardsIn(ZoneType.Battlefield).get(1).setTapped(true);
+            AssertJUnit.assertTrue(describe(p, sa).startsWith("6/"));
+        } finally {
+            AiManaOracle.close();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package forge.ai.simulation;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+import forge.trackable.TrackableTypes;
+
+public class HeadlessGameTest extends SimulationTest {
+
+    @Test
+    public void testSimulatedGamesAreHeadless() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card angel = addCard("Serra Angel", p);
+        Card bolt = addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        game.getAction().checkStateEffects(true);
+
+        AssertJUnit.assertFalse(game.getTracker().isHeadless());
+        AssertJUnit.assertTrue(game.getTracker().hasObj(TrackableTypes.CardViewType, angel.getId()));
+
+        Game copy = new GameCopier(game).makeCopy();
+        AssertJUnit.assertTrue(copy.getTracker().isHeadless());
+        AssertJUnit.assertFalse(copy.getTracker().hasObj(TrackableTypes.CardViewType, angel.getId()));
+
+        // the views still give the same answers, card text is just worked out when asked for
+        Card angelCopy = copy.findById(angel.getId());
+        Card boltCopy = copy.findById(bolt.getId());
+        AssertJUnit.assertEquals(angel.getView().getText(), angelCopy.getView().getText());
+        AssertJUnit.assertEquals(bolt.getView().getText(), boltCopy.getView().getText());
+        AssertJUnit.assertEquals(angel.getView().getCurrentState().getOracleText(),
+                angelCopy.getView().getCurrentState().getOracleText());
+        AssertJUnit.assertTrue(angelCopy.getView().getText().contains("Flying"));
+        AssertJUnit.assertEquals(angel.getView().getCurrentState().getPower(), angelCopy.getView().getCurrentState().getPower());
+        AssertJUnit.assertFalse(angelCopy.getView().isTapped());
+
+        angelCopy.tap(true, null, null);
+        AssertJUnit.assertTrue(angelCopy.getView().isTapped());
+    }
+}
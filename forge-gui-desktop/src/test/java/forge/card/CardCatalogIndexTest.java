@@ -0,0 +1,103 @@
+package forge.card;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.testng.annotations.Test;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+
+import forge.item.PaperCard;
+import forge.util.ComparableOp;
+import forge.util.PredicateString.StringOp;
+
+public class CardCatalogIndexTest extends CardDbCardMockTestCase {
+
+    private void assertSameCards(CardCatalogIndex index, CardCatalogIndex.Query query, Predicate<PaperCard> expected) {
+        BitSet result = index.evaluate(query);
+        for (int i = 0; i < index.size(); i++) {
+            PaperCard card = index.getCard(i);
+            assertEquals(result.get(i), expected.apply(card), card.getName() + " (" + card.getEdition() + ")");
+        }
+    }
+
+    private static Predicate<PaperCard> rules(Predicate<CardRules> predicate) {
+        return Predicates.compose(predicate, PaperCard.FN_GET_RULES);
+    }
+
+    @Test
+    public void testIndexCoversAllPrintings() {
+        CardCatalogIndex index = this.cardDb.getCatalogIndex();
+        assertTrue(index.size() > 0);
+        for (PaperCard card : this.cardDb.getAllCards()) {
+            int ordinal = index.getOrdinal(card);
+            assertTrue(ordinal >= 0);
+            assertEquals(index.getCard(ordinal), card);
+        }
+    }
+
+    @Test
+    public void testColumnQueriesMatchPredicates() {
+        CardCatalogIndex index = this.cardDb.getCatalogIndex();
+
+        assertSameCards(index, CardCatalogIndex.Query.type(CardType.CoreType.Creature), rules(CardRulesPredicates.Presets.IS_CREATURE));
+        assertSameCards(index, CardCatalogIndex.Query.rules(CardRulesPredicates.coreType(false, CardType.CoreType.Land)),
+                rules(Predicates.not(CardRulesPredicates.Presets.IS_LAND)));
+        for (ComparableOp op : ComparableOp.values()) {
+            assertSameCards(index, CardCatalogIndex.Query.cmc(op, 3), rules(CardRulesPredicates.cmc(op, 3)));
+            assertSameCards(index, CardCatalogIndex.Query.power(op, 2), rules(CardRulesPredicates.power(op, 2)));
+            assertSameCards(index, CardCatalogIndex.Query.toughness(op, 0), rules(CardRulesPredicates.toughness(op, 0)));
+        }
+        assertSameCards(index, CardCatalogIndex.Query.color(MagicColor.RED), rules(CardRulesPredicates.hasColor(MagicColor.RED)));
+        assertSameCards(index, CardCatalogIndex.Query.color(MagicColor.COLORLESS), rules(CardRulesPredicates.Presets.IS_COLORLESS));
+        assertSameCards(index, CardCatalogIndex.Query.multicolor(), rules(CardRulesPredicates.Presets.IS_MULTICOLOR));
+        assertSameCards(index, CardCatalogIndex.Query.rarity(CardRarity.MythicRare), new Predicate<PaperCard>() {
+            @Override
+            public boolean apply(PaperCard card) {
+                return card.getRarity() == CardRarity.MythicRare;
+            }
+        });
+        assertSameCards(index, CardCatalogIndex.Query.edition(Arrays.asList("2ED", "m10")), new Predicate<PaperCard>() {
+            @Override
+            public boolean apply(PaperCard card) {
+                return card.getEdition().equals("2ED") || card.getEdition().equals("M10");
+            }
+        });
+    }
+
+    @Test
+    public void testTextQueriesMatchPredicates() {
+        CardCatalogIndex index = this.cardDb.getCatalogIndex();
+
+        for (String term : new String[] { "dragon", "Lim-Dûl", "lim-dul", "ragon", "deals 3 damage", "{R}", "" }) {
+            Predicate<CardRules> name = CardRulesPredicates.name(StringOp.CONTAINS_IC, term);
+            Predicate<CardRules> text = CardRulesPredicates.rules(StringOp.CONTAINS_IC, term);
+            Predicate<CardRules> cost = CardRulesPredicates.cost(StringOp.CONTAINS_IC, term);
+            assertSameCards(index, CardCatalogIndex.Query.text(term, name), rules(name));
+            assertSameCards(index, CardCatalogIndex.Query.text(term, text), rules(text));
+            assertSameCards(index, CardCatalogIndex.Query.text(term, cost), rules(cost));
+        }
+    }
+
+    @Test
+    public void testCombinedQueryPerformance() {
+        CardCatalogIndex index = this.cardDb.getCatalogIndex();
+        CardCatalogIndex.Query query = CardCatalogIndex.Query.and(
+                CardCatalogIndex.Query.type(CardType.CoreType.Creature),
+                CardCatalogIndex.Query.or(CardCatalogIndex.Query.color(MagicColor.RED), CardCatalogIndex.Query.color(MagicColor.GREEN)),
+                CardCatalogIndex.Query.cmc(ComparableOp.LT_OR_EQUAL, 4),
+                CardCatalogIndex.Query.text("trample", CardRulesPredicates.rules(StringOp.CONTAINS_IC, "trample")));
+
+        int nRuns = 20;
+        long start = System.nanoTime();
+        for (int r = 0; r < nRuns; r++) {
+            index.evaluate(query);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.println("[INDEX] Average query time over " + index.size() + " printings (in ms): " + elapsed / nRuns / 1000000.0);
+    }
+}
@@ -0,0 +1,63 @@
+package forge.card;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class CardNameIndexTest extends CardDbCardMockTestCase {
+
+    @Test
+    public void testExactLookupsIgnoreCaseAndAccents() {
+        CardNameIndex index = this.cardDb.getNameIndex();
+        assertEquals(index.getExact("Shivan Dragon"), "Shivan Dragon");
+        assertEquals(index.getExact("  sHIVAN dRAGON "), "Shivan Dragon");
+        assertEquals(index.getExact("Lim-Dul's Vault"), "Lim-Dûl's Vault");
+        assertEquals(index.getExact("Ice"), "Ice");
+        assertNull(index.getExact("Shivan"));
+        assertNull(index.getExact("Shivan Dragons"));
+        for (String name : Arrays.asList(cardNameHymnToTourach, cardNameLightningDragon, "Fire // Ice")) {
+            assertEquals(index.getExact(name), name);
+        }
+    }
+
+    @Test
+    public void testPrefixLookupsAreShortestFirst() {
+        CardNameIndex index = this.cardDb.getNameIndex();
+        List<String> names = index.startingWith("shivan", 50);
+        assertFalse(names.isEmpty());
+        assertTrue(names.contains("Shivan Dragon"));
+        for (int i = 0; i < names.size(); i++) {
+            assertTrue(names.get(i).toLowerCase().startsWith("shivan"), names.get(i));
+            if (i > 0) {
+                assertTrue(names.get(i - 1).length() <= names.get(i).length());
+            }
+        }
+        assertEquals(index.startingWith("shivan", 1).size(), 1);
+        assertTrue(index.startingWith("qqqq", 10).isEmpty());
+    }
+
+    @Test
+    public void testMisspeltLookupsAreRankedByDistance() {
+        CardNameIndex index = this.cardDb.getNameIndex();
+        List<CardNameIndex.Match> matches = index.find("Shivan Dargon", 2, 5);
+        assertFalse(matches.isEmpty());
+        assertEquals(matches.get(0).getName(), "Shivan Dragon");
+        assertEquals(matches.get(0).getDistance(), 1); // swapped letters count as one edit
+        for (int i = 1; i < matches.size(); i++) {
+            assertTrue(matches.get(i - 1).getDistance() <= matches.get(i).getDistance());
+        }
+        assertEquals(index.find("Shivan Dragon", 0, 5).size(), 1);
+
+        assertEquals(index.getClosest("Shivn Dragon"), "Shivan Dragon");
+        assertEquals(index.getClosest("Hymn to Torach"), cardNameHymnToTourach);
+        // short names have to be spelt right
+        assertNull(index.getClosest("Shok"));
+        assertNull(index.getClosest("Counterspelling"));
+    }
+}
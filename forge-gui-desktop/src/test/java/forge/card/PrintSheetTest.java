@@ -0,0 +1,78 @@
+package forge.card;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.simulation.SimulationTest;
+import forge.item.PaperCard;
+import forge.item.SealedProduct;
+import forge.item.generation.BoosterGenerator;
+import forge.model.FModel;
+import forge.util.MyRandom;
+
+public class PrintSheetTest extends SimulationTest {
+
+    private static PrintSheet createSheet(int... weights) {
+        String[] names = { "Forest", "Island", "Mountain", "Plains", "Swamp", "Wastes", "Grizzly Bears" };
+        PrintSheet sheet = new PrintSheet("test");
+        for (int i = 0; i < weights.length; i++) {
+            sheet.add(FModel.getMagicDb().getCommonCards().getCard(names[i]), weights[i]);
+        }
+        return sheet;
+    }
+
+    @Test
+    public void testAliasTableKeepsTheWeights() {
+        initAndCreateGame();
+        PrintSheet sheet = createSheet(1, 7, 3, 12, 1, 5, 2);
+        PrintSheet.Sampler sampler = sheet.getSampler();
+        int n = sampler.cards.length;
+        AssertJUnit.assertEquals(7, n);
+        AssertJUnit.assertEquals(31, sampler.totalWeight);
+
+        // each card's share of the columns, which all have the same height, is its weight
+        long[] share = new long[n];
+        for (int column = 0; column < n; column++) {
+            share[column] += sampler.threshold[column];
+            share[sampler.alias[column]] += sampler.totalWeight - sampler.threshold[column];
+        }
+        List<PaperCard> all = sheet.all();
+        for (int i = 0; i < n; i++) {
+            int weight = Collections.frequency(all, sampler.cards[i]);
+            AssertJUnit.assertEquals(sampler.cards[i].getName(), (long) weight * n, share[i]);
+        }
+    }
+
+    @Test
+    public void testUniquePicks() {
+        initAndCreateGame();
+        PrintSheet sheet = createSheet(1, 7, 3, 12, 1);
+        MyRandom.setThreadRandom(new Random(3));
+        try {
+            for (int i = 0; i < 100; i++) {
+                List<PaperCard> picked = sheet.random(4, true);
+                AssertJUnit.assertEquals(4, new HashSet<>(picked).size());
+            }
+        } finally {
+            MyRandom.setThreadRandom(null);
+        }
+    }
+
+    @Test
+    public void testSeededBoostersAreReproducible() {
+        initAndCreateGame();
+        SealedProduct.Template template = FModel.getMagicDb().getBoosters().get("M11");
+        List<List<PaperCard>> packs = Lists.newArrayList(BoosterGenerator.generateBoosters(template, 5, 42));
+        AssertJUnit.assertEquals(5, packs.size());
+        AssertJUnit.assertEquals(packs, Lists.newArrayList(BoosterGenerator.generateBoosters(template, 5, 42)));
+        AssertJUnit.assertEquals(packs.get(3), BoosterGenerator.getBoosterPack(template, 42, 3));
+        AssertJUnit.assertFalse(packs.equals(Lists.newArrayList(BoosterGenerator.generateBoosters(template, 5, 43))));
+    }
+}
@@ -10,10 +10,15 @@ import forge.item.PaperCard;
 import forge.deck.DeckRecognizer.Token;
 import forge.deck.DeckRecognizer.TokenType;
 import forge.model.FModel;
+import forge.util.CardTranslation;
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 import static org.testng.Assert.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -1495,6 +1500,62 @@ public class DeckRecognizerTest extends CardMockTestCase {
         assertNull(cardToken.getCard());
     }
 
+    @Test
+    void testMisspeltCardNameIsMatchedToTheClosestCard() {
+        DeckRecognizer recognizer = new DeckRecognizer();
+
+        String lineRequest = "4 Lightnig Bolt";
+        Token cardToken = recognizer.recogniseCardToken(lineRequest, null);
+        assertNotNull(cardToken);
+        assertEquals(cardToken.getType(), TokenType.LEGAL_CARD);
+        assertEquals(cardToken.getCard().getName(), "Lightning Bolt");
+        assertEquals(cardToken.getQuantity(), 4);
+        assertEquals(cardToken.getMisspeltName(), "Lightnig Bolt");
+
+        lineRequest = "2x Counterpsell TMP";
+        cardToken = recognizer.recogniseCardToken(lineRequest, null);
+        assertNotNull(cardToken);
+        assertEquals(cardToken.getType(), TokenType.LEGAL_CARD);
+        assertEquals(cardToken.getCard().getName(), "Counterspell");
+        assertEquals(cardToken.getCard().getEdition(), "TMP");
+        assertEquals(cardToken.getMisspeltName(), "Counterpsell");
+
+        lineRequest = "4 Lightning Bolt";
+        cardToken = recognizer.recogniseCardToken(lineRequest, null);
+        assertNotNull(cardToken);
+        assertNull(cardToken.getMisspeltName());
+
+        // too far from any card to guess
+        lineRequest = "4 Ligtnig Blt";
+        cardToken = recognizer.recogniseCardToken(lineRequest, null);
+        assertNotNull(cardToken);
+        assertEquals(cardToken.getType(), TokenType.UNKNOWN_CARD);
+    }
+
+    @Test
+    void testCardNamesAreLookedUpInTheLanguageSelectedSinceTheIndexWasBuilt() throws IOException {
+        DeckRecognizer recognizer = new DeckRecognizer();
+        String lineRequest = "4 Blitzschlag";
+        // the index is built in English first
+        Token cardToken = recognizer.recogniseCardToken(lineRequest, null);
+        assertNull(cardToken.getCard());
+
+        File languagesDir = Files.createTempDirectory("languages").toFile();
+        File cardNames = new File(languagesDir, "cardnames-de-DE.txt");
+        Files.write(cardNames.toPath(), "Lightning Bolt|Blitzschlag\n".getBytes(StandardCharsets.UTF_8));
+        try {
+            CardTranslation.preloadTranslation("de-DE", languagesDir.getPath() + File.separator);
+            cardToken = recognizer.recogniseCardToken(lineRequest, null);
+            assertEquals(cardToken.getType(), TokenType.LEGAL_CARD);
+            assertEquals(cardToken.getCard().getName(), "Lightning Bolt");
+            assertNull(cardToken.getMisspeltName());
+        } finally {
+            CardTranslation.preloadTranslation("en-US", languagesDir.getPath() + File.separator);
+            cardNames.delete();
+            languagesDir.delete();
+        }
+    }
+
     @Test
     void testRequestingCardFromNonExistingSetReturnsUnknownCard() {
         DeckRecognizer recognizer = new DeckRecognizer();
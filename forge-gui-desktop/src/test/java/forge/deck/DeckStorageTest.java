@@ -0,0 +1,74 @@
+package forge.deck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import forge.card.CardMockTestCase;
+import forge.deck.io.DeckSerializer;
+import forge.deck.io.DeckStorage;
+import forge.model.FModel;
+import forge.util.FileUtil;
+
+public class DeckStorageTest extends CardMockTestCase {
+
+    private static Deck makeDeck(String name, String comment, String... cards) {
+        Deck deck = new Deck(name);
+        deck.setComment(comment);
+        deck.getTags().add("Aggro");
+        for (String card : cards) {
+            deck.getMain().add(FModel.getMagicDb().getCommonCards().getCard(card), 4);
+        }
+        return deck;
+    }
+
+    @Test
+    public void testIndexedDecksLoadLazilyWithSameContents() throws Exception {
+        File dir = Files.createTempDirectory("forge-decks").toFile();
+        String root = dir.getParent();
+        try {
+            Deck burn = makeDeck("Burn\tand more", "Goes fast", "Lightning Bolt", "Mountain");
+            Deck counters = makeDeck("Counters", null, "Counterspell", "Island");
+            DeckSerializer.writeDeck(burn, new File(dir, "burn.dck"));
+            DeckSerializer.writeDeck(counters, new File(dir, "counters.dck"));
+
+            // first read parses the files and builds the index
+            Map<String, Deck> first = new DeckStorage(dir, root).readAll();
+            File indexFile = new File(dir, DeckStorage.INDEX_FILE_NAME);
+            assertTrue(indexFile.isFile());
+            assertEquals(first.size(), 2);
+
+            // second read takes the headers from the index
+            Map<String, Deck> second = new DeckStorage(dir, root).readAll();
+            assertEquals(second.keySet(), first.keySet());
+            Deck lazyBurn = second.get(burn.getName());
+            assertNotNull(lazyBurn);
+            assertEquals(lazyBurn.getComment(), "Goes fast");
+            assertEquals(lazyBurn.getTags(), burn.getTags());
+            assertEquals(lazyBurn.getMain().countAll(), 8);
+            assertEquals(lazyBurn.getMain().count(FModel.getMagicDb().getCommonCards().getCard("Lightning Bolt")), 4);
+            assertEquals(second.get("Counters").getComment(), null);
+            assertFalse(second.get("Counters").isEmpty());
+
+            // changed and removed files are picked up
+            DeckSerializer.writeDeck(makeDeck("Burn 2", null, "Shock"), new File(dir, "burn.dck"));
+            new File(dir, "counters.dck").delete();
+            Map<String, Deck> third = new DeckStorage(dir, root).readAll();
+            assertEquals(third.size(), 1);
+            assertEquals(third.get("Burn 2").getMain().countAll(), 4);
+            assertEquals(FileUtil.readFile(indexFile).size(), 2);
+        } finally {
+            for (File f : dir.listFiles()) {
+                f.delete();
+            }
+            dir.delete();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package forge.game;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.SimulationTest;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+import forge.util.Visitor;
+import forge.util.collect.IntObjectMap;
+
+public class GameCardLookupTest extends SimulationTest {
+
+    private static Card scan(Game game, final int id) {
+        final Card[] found = new Card[1];
+        game.forEachCardInGame(new Visitor<Card>() {
+            @Override
+            public boolean visit(Card c) {
+                if (c.getId() == id) {
+                    found[0] = c;
+                }
+                return found[0] == null;
+            }
+        });
+        return found[0];
+    }
+
+    @Test
+    public void testLookupsFollowZoneChanges() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+        Card bears = addCard("Grizzly Bears", p);
+        Card bolt = addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        Card island = addCardToZone("Island", opponent, ZoneType.Library);
+
+        int scans = game.getCardLookupScansThisTurn();
+        for (Card c : new Card[] { bears, bolt, island }) {
+            AssertJUnit.assertSame(c, game.findById(c.getId()));
+            AssertJUnit.assertSame(c, game.getCardState(c));
+        }
+        AssertJUnit.assertEquals(scans, game.getCardLookupScansThisTurn());
+        AssertJUnit.assertTrue(game.getCardLookupsThisTurn() >= 6);
+
+        Card dead = game.getAction().moveToGraveyard(bears, null);
+        Card exiled = game.getAction().exile(bolt, null, null);
+        Card played = game.getAction().moveToPlay(island, p, null, null);
+        for (Card c : new Card[] { dead, exiled, played }) {
+            AssertJUnit.assertSame(scan(game, c.getId()), game.findById(c.getId()));
+        }
+        AssertJUnit.assertSame(dead, game.getCardState(bears));
+
+        // cards outside of the game aren't found
+        game.getAction().moveTo(ZoneType.Sideboard, dead, null, null);
+        AssertJUnit.assertNull(game.findById(dead.getId()));
+        AssertJUnit.assertNull(game.findById(-12345));
+    }
+
+    @Test
+    public void testIntObjectMapMatchesHashMap() {
+        Random random = new Random(42);
+        IntObjectMap<Integer> map = new IntObjectMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200000; i++) {
+            int key = random.nextInt(2000) - 500;
+            if (random.nextInt(3) == 0) {
+                AssertJUnit.assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                AssertJUnit.assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            int probe = random.nextInt(2000) - 500;
+            AssertJUnit.assertEquals(expected.get(probe), map.get(probe));
+        }
+        AssertJUnit.assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Integer> e : expected.entrySet()) {
+            AssertJUnit.assertEquals(e.getValue(), map.get(e.getKey()));
+        }
+    }
+}
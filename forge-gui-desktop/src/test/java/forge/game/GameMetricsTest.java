@@ -0,0 +1,63 @@
+package forge.game;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.GameCopier;
+import forge.ai.simulation.SimulationTest;
+import forge.game.GameMetrics.Metric;
+import forge.game.ability.ApiType;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class GameMetricsTest extends SimulationTest {
+
+    @Test
+    public void testMetricsAreOffByDefault() {
+        Game game = initAndCreateGame();
+        AssertJUnit.assertSame(GameMetrics.DISABLED, game.getMetrics());
+        game.getAction().checkStateEffects(true);
+        AssertJUnit.assertNull(game.getMetrics().finishTurn(1));
+        AssertJUnit.assertEquals(0, game.getMetrics().getGameTotals().getCount(Metric.STATE_BASED_ACTIONS));
+    }
+
+    @Test
+    public void testCopiesAddToTheOriginalGame() {
+        Game game = initAndCreateGame();
+        GameMetrics metrics = new GameMetrics(true);
+        game.setMetrics(metrics);
+        Player p = game.getPlayers().get(1);
+        addCard("Serra Angel", p);
+        addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        game.getAction().checkStateEffects(true);
+
+        GameMetrics.Summary turn1 = metrics.finishTurn(1);
+        AssertJUnit.assertEquals(1, turn1.getTurn());
+        AssertJUnit.assertEquals(1, turn1.getCount(Metric.STATE_BASED_ACTIONS));
+        AssertJUnit.assertTrue(turn1.getCount(Metric.STATIC_ABILITIES) >= 1);
+        AssertJUnit.assertTrue(turn1.getNanos(Metric.STATE_BASED_ACTIONS) >= turn1.getNanos(Metric.STATIC_ABILITIES));
+
+        Game copy = new GameCopier(game).makeCopy();
+        AssertJUnit.assertTrue(copy.getMetrics().isEnabled());
+        copy.getAction().checkStateEffects(true);
+        // only the original game ends turns
+        AssertJUnit.assertNull(copy.getMetrics().finishTurn(2));
+
+        long start = metrics.start(Metric.AI_DECISIONS);
+        metrics.stopAiDecision(ApiType.DealDamage, start);
+
+        GameMetrics.Summary turn2 = metrics.finishTurn(2);
+        AssertJUnit.assertEquals(1, turn2.getCount(Metric.GAME_COPIES));
+        AssertJUnit.assertTrue(turn2.getCount(Metric.STATE_BASED_ACTIONS) >= 1);
+        AssertJUnit.assertEquals(1, turn2.getAiDecisionCount(ApiType.DealDamage));
+        AssertJUnit.assertEquals(1, turn2.getCount(Metric.AI_DECISIONS));
+
+        GameMetrics.Summary total = metrics.getGameTotals();
+        AssertJUnit.assertEquals(2, metrics.getTurns().size());
+        AssertJUnit.assertEquals(turn1.getCount(Metric.STATE_BASED_ACTIONS) + turn2.getCount(Metric.STATE_BASED_ACTIONS),
+                total.getCount(Metric.STATE_BASED_ACTIONS));
+        String json = metrics.toJson();
+        AssertJUnit.assertTrue(json.startsWith("{\"turns\":[{\"turn\":1,"));
+        AssertJUnit.assertTrue(json.contains("\"DealDamage\":{\"count\":1,"));
+    }
+}
@@ -0,0 +1,91 @@
+package forge.game;
+
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.GameReplayer;
+import forge.ai.LobbyPlayerAi;
+import forge.ai.simulation.SimulationTest;
+import forge.deck.Deck;
+import forge.game.player.Player;
+import forge.game.player.RegisteredPlayer;
+
+public class GameReplayTest extends SimulationTest {
+
+    private static RegisteredPlayer createPlayer(final String name, final String creature) {
+        Deck deck = new Deck(name);
+        deck.getMain().add("Mountain", 20);
+        deck.getMain().add(creature, 10);
+        deck.getMain().add("Lightning Bolt", 10);
+        RegisteredPlayer player = new RegisteredPlayer(deck).setPlayer(new LobbyPlayerAi(name, null));
+        player.setStartingLife(6);
+        return player;
+    }
+
+    private static Game playGame(final boolean record) {
+        List<RegisteredPlayer> players = Lists.newArrayList(createPlayer("p1", "Goblin Guide"), createPlayer("p2", "Raging Goblin"));
+        GameRules rules = new GameRules(GameType.Constructed);
+        rules.setGamesPerMatch(1);
+        rules.setHeadless(true);
+        rules.setRecordReplay(record);
+        Match match = new Match(rules, players, "Test");
+        Game game = match.createGame();
+        match.startGame(game);
+        return game;
+    }
+
+    @Test
+    public void testReplayPlaysTheSameGame() {
+        initAndCreateGame();
+        Game game = playGame(true);
+
+        GameReplay recorded = game.getReplay();
+        AssertJUnit.assertTrue(game.isGameOver());
+        AssertJUnit.assertTrue(recorded.getEntries().get(recorded.getEntries().size() - 1).startsWith("O "));
+
+        List<String> lines = recorded.toLines();
+        GameReplay parsed = GameReplay.parse(lines);
+        AssertJUnit.assertEquals(lines, parsed.toLines());
+        AssertJUnit.assertEquals(40, parsed.getSeats().iterator().next().getDeck().getMain().countAll());
+
+        GameReplay replayed = GameReplayer.replay(parsed).getReplay();
+        AssertJUnit.assertEquals(-1, parsed.findDivergence(replayed));
+        AssertJUnit.assertEquals(recorded.getEntries(), replayed.getEntries());
+    }
+
+    /**
+     * The AI makes the choices logged for it instead of taking them again, as it does for a player who wasn't an AI.
+     */
+    @Test
+    public void testScriptedReplayPlaysTheSameGame() {
+        initAndCreateGame();
+        GameReplay recorded = playGame(true).getReplay();
+        for (GameReplay.Seat seat : recorded.getSeats()) {
+            AssertJUnit.assertFalse(seat.getChoices().isEmpty());
+        }
+
+        Game game = GameReplayer.replay(GameReplay.parse(recorded.toLines()), true);
+        AssertJUnit.assertEquals(-1, recorded.findDivergence(game.getReplay()));
+        for (Player p : game.getRegisteredPlayers()) {
+            AssertJUnit.assertNull(p.getChoiceLog().getDivergence());
+        }
+    }
+
+    @Test
+    public void testPlayerWithoutControllerIsReplayedFromChoices() {
+        initAndCreateGame();
+        GameReplay recorded = playGame(true).getReplay();
+
+        List<String> lines = Lists.newArrayList(recorded.toLines());
+        AssertJUnit.assertTrue(lines.removeIf(line -> line.startsWith("controller 0 ")));
+        GameReplay withoutAi = GameReplay.parse(lines);
+        AssertJUnit.assertNull(LobbyPlayerAi.fromReplay(withoutAi.getSeats().iterator().next()));
+
+        GameReplay replayed = GameReplayer.replay(withoutAi).getReplay();
+        AssertJUnit.assertEquals(-1, recorded.findDivergence(replayed));
+    }
+}
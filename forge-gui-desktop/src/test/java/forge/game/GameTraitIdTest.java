@@ -0,0 +1,172 @@
+package forge.game;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.GameCopier;
+import forge.ai.simulation.SimulationTest;
+import forge.game.card.Card;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.replacement.ReplacementEffect;
+import forge.game.spellability.SpellAbility;
+import forge.game.staticability.StaticAbility;
+import forge.game.trigger.Trigger;
+import forge.game.zone.ZoneType;
+import forge.model.FModel;
+
+/**
+ * The ids of spell abilities, triggers, static abilities and replacement effects, which tell them apart in equals and
+ * hashCode and order the sets the AI goes through, are counted by each game on its own.
+ */
+public class GameTraitIdTest extends SimulationTest {
+    // a spell ability, a trigger, a static ability and a replacement effect
+    private static final String[] CARDS = { "Lightning Bolt", "Goblin Guide", "Glorious Anthem", "Rest in Peace" };
+
+    /** The ids of the traits of the cards, prefixed by their kind. */
+    private static List<String> traitIds(final Iterable<Card> cards) {
+        List<String> ids = new ArrayList<>();
+        for (Card c : cards) {
+            for (SpellAbility sa : c.getSpellAbilities()) {
+                ids.add("SA " + sa.getId());
+            }
+            for (Trigger t : c.getTriggers()) {
+                ids.add("T " + t.getId());
+            }
+            for (StaticAbility st : c.getStaticAbilities()) {
+                ids.add("S " + st.getId());
+            }
+            for (ReplacementEffect re : c.getReplacementEffects()) {
+                ids.add("R " + re.getId());
+            }
+        }
+        return ids;
+    }
+
+    private List<Card> addCards(final Game game) {
+        Player p = game.getPlayers().get(1);
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (String name : CARDS) {
+                cards.add(addCard(name, p));
+            }
+        }
+        return cards;
+    }
+
+    private static int id(final String id) {
+        return Integer.parseInt(id.substring(id.indexOf(' ') + 1));
+    }
+
+    // each kind of trait is counted on its own
+    private static int maxId(final List<String> ids, final String kind) {
+        int max = 0;
+        for (String id : ids) {
+            if (id.startsWith(kind + " ")) {
+                max = Math.max(max, id(id));
+            }
+        }
+        return max;
+    }
+
+    @Test
+    public void testConcurrentGamesCountTheirOwnIds() throws Exception {
+        initAndCreateGame();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<List<String>>> games = new ArrayList<>();
+            for (int g = 0; g < 2; g++) {
+                games.add(pool.submit(new Callable<List<String>>() {
+                    @Override
+                    public List<String> call() {
+                        return traitIds(addCards(resetGame()));
+                    }
+                }));
+            }
+            List<String> first = games.get(0).get();
+            List<String> second = games.get(1).get();
+
+            AssertJUnit.assertEquals(first.size(), new HashSet<>(first).size());
+            for (String id : first) {
+                AssertJUnit.assertTrue(id, id(id) > 0);
+            }
+            // the same cards get the same ids, however the threads took turns
+            AssertJUnit.assertEquals(first, second);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCopiedTraitsTakeNewIdsOfTheirGame() {
+        Game game = initAndCreateGame();
+        List<Card> cards = addCards(game);
+        List<String> ids = traitIds(cards);
+        Card bolt = cards.get(0);
+        Card guide = cards.get(1);
+        Card anthem = cards.get(2);
+        Card rest = cards.get(3);
+
+        SpellAbility sa = bolt.getFirstSpellAbility();
+        AssertJUnit.assertEquals(sa.getId(), sa.copy(bolt, true).getId());
+        AssertJUnit.assertTrue(sa.copy(bolt, false).getId() > maxId(ids, "SA"));
+
+        Trigger trigger = guide.getTriggers().get(0);
+        AssertJUnit.assertEquals(trigger.getId(), trigger.copy(guide, true).getId());
+        Trigger triggerCopy = trigger.copy(guide, false);
+        AssertJUnit.assertTrue(triggerCopy.getId() > maxId(ids, "T"));
+        AssertJUnit.assertFalse(trigger.equals(triggerCopy));
+
+        StaticAbility st = anthem.getStaticAbilities().get(0);
+        AssertJUnit.assertEquals(st.getId(), st.copy(anthem, true).getId());
+        AssertJUnit.assertTrue(st.copy(anthem, false).getId() > maxId(ids, "S"));
+
+        ReplacementEffect re = rest.getReplacementEffects().get(0);
+        AssertJUnit.assertEquals(re.getId(), re.copy(rest, true).getId());
+        AssertJUnit.assertTrue(re.copy(rest, false).getId() > maxId(ids, "R"));
+    }
+
+    @Test
+    public void testSimulatedCopyCountsOnFromItsGame() {
+        Game game = initAndCreateGame();
+        List<String> original = traitIds(addCards(game));
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, game.getPlayers().get(1));
+        game.getAction().checkStateEffects(true);
+
+        Game copy = new GameCopier(game).makeCopy();
+        List<String> copied = traitIds(copy.getPlayers().get(1).getCardsIn(ZoneType.Battlefield));
+        copied.addAll(traitIds(addCards(copy)));
+        AssertJUnit.assertEquals(copied.size(), new HashSet<>(copied).size());
+        // a trait of the copy either kept the id of the one it copied, or counts on from the original game's
+        Set<String> kept = new HashSet<>(original);
+        for (String id : copied) {
+            if (!kept.contains(id)) {
+                String kind = id.substring(0, id.indexOf(' '));
+                AssertJUnit.assertTrue(id, id(id) > maxId(original, kind));
+            }
+        }
+    }
+
+    @Test
+    public void testCardsOutsideAGameNeverTakeTheIdsOfOneInIt() {
+        initAndCreateGame();
+        List<Card> cards = new ArrayList<>();
+        for (String name : CARDS) {
+            cards.add(Card.getCardForUi(FModel.getMagicDb().getCommonCards().getCard(name)));
+        }
+        List<String> ids = traitIds(cards);
+        AssertJUnit.assertEquals(ids.size(), new HashSet<>(ids).size());
+        for (String id : ids) {
+            AssertJUnit.assertTrue(id, id(id) < 0);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package forge.game;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.LobbyPlayer;
+import forge.ai.GameReplayer;
+import forge.ai.LobbyPlayerAi;
+import forge.ai.ScriptedPlayerController;
+import forge.ai.simulation.SimulationTest;
+import forge.deck.Deck;
+import forge.game.player.Player;
+import forge.game.player.RegisteredPlayer;
+import forge.game.spellability.SpellAbility;
+
+/**
+ * A game started with a resumer waits on no thread for a player who answers later what to play, and goes on from
+ * the resumer once they did, the same as if it had waited for them.
+ */
+public class PriorityAnsweredLaterTest extends SimulationTest {
+
+    /** An AI that decides right away, but gives its answer from another thread after the game let go. */
+    private static final class AnsweringLater extends ScriptedPlayerController {
+        private final ScheduledExecutorService answers;
+        private final AtomicInteger asked;
+
+        AnsweringLater(final Game game, final Player p, final LobbyPlayer lp, final ScheduledExecutorService answers, final AtomicInteger asked) {
+            super(game, p, lp, false);
+            this.answers = answers;
+            this.asked = asked;
+        }
+
+        @Override
+        public boolean chooseSpellAbilityToPlayLater(final Consumer<List<SpellAbility>> answer) {
+            final List<SpellAbility> chosen = chooseSpellAbilityToPlay();
+            asked.incrementAndGet();
+            answers.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    answer.accept(chosen);
+                }
+            }, 1, TimeUnit.MILLISECONDS);
+            return true;
+        }
+    }
+
+    private static final class LobbyPlayerAnsweringLater extends LobbyPlayerAi {
+        private final ScheduledExecutorService answers;
+        private final AtomicInteger asked;
+
+        LobbyPlayerAnsweringLater(final String name, final ScheduledExecutorService answers, final AtomicInteger asked) {
+            super(name, null);
+            this.answers = answers;
+            this.asked = asked;
+        }
+
+        @Override
+        public Player createIngamePlayer(final Game game, final int id) {
+            final Player ai = new Player(getName(), game, id);
+            ai.setFirstController(new AnsweringLater(game, ai, this, answers, asked));
+            game.getReplay().setController(id, "ai");
+            return ai;
+        }
+    }
+
+    private static RegisteredPlayer createPlayer(final LobbyPlayer lobbyPlayer, final String creature) {
+        Deck deck = new Deck(lobbyPlayer.getName());
+        deck.getMain().add("Mountain", 20);
+        deck.getMain().add(creature, 10);
+        deck.getMain().add("Lightning Bolt", 10);
+        RegisteredPlayer player = new RegisteredPlayer(deck).setPlayer(lobbyPlayer);
+        player.setStartingLife(6);
+        return player;
+    }
+
+    // the threads the game goes on from are game threads
+    private static ThreadFactory named(final String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                return new Thread(r, prefix + "-" + count.getAndIncrement());
+            }
+        };
+    }
+
+    @Test
+    public void testGameGoesOnFromTheResumer() throws Exception {
+        initAndCreateGame();
+        final ScheduledExecutorService answers = Executors.newSingleThreadScheduledExecutor(named("Answers"));
+        final ExecutorService resumer = Executors.newSingleThreadExecutor(named("Game-resumed"));
+        try {
+            final AtomicInteger asked = new AtomicInteger();
+            List<RegisteredPlayer> players = Lists.newArrayList(
+                    createPlayer(new LobbyPlayerAnsweringLater("p1", answers, asked), "Goblin Guide"),
+                    createPlayer(new LobbyPlayerAnsweringLater("p2", answers, asked), "Raging Goblin"));
+            GameRules rules = new GameRules(GameType.Constructed);
+            rules.setGamesPerMatch(1);
+            rules.setHeadless(true);
+            rules.setRecordReplay(true);
+            Match match = new Match(rules, players, "Test");
+            final Game game = match.createGame();
+            final CountDownLatch finished = new CountDownLatch(1);
+
+            match.startGame(game, null, resumer, new Runnable() {
+                @Override
+                public void run() {
+                    finished.countDown();
+                }
+            });
+            // returned as soon as a player was asked, without waiting for the game
+            AssertJUnit.assertTrue(asked.get() > 0);
+            AssertJUnit.assertTrue(finished.getCount() > 0);
+
+            AssertJUnit.assertTrue("game didn't finish", finished.await(2, TimeUnit.MINUTES));
+            AssertJUnit.assertTrue(game.isGameOver());
+            AssertJUnit.assertNotNull(game.getOutcome());
+
+            // the game went on as if it had waited for the answers
+            GameReplay recorded = game.getReplay();
+            GameReplay replayed = GameReplayer.replay(GameReplay.parse(recorded.toLines())).getReplay();
+            AssertJUnit.assertEquals(-1, recorded.findDivergence(replayed));
+        } finally {
+            answers.shutdownNow();
+            resumer.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package forge.game.card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.SimulationTest;
+import forge.card.CardStateName;
+import forge.game.CardTraitBase;
+import forge.game.Game;
+import forge.game.cost.CostPart;
+import forge.game.cost.CostPartWithList;
+import forge.game.player.Player;
+import forge.game.replacement.ReplacementEffect;
+import forge.game.spellability.AbilitySub;
+import forge.game.spellability.SpellAbility;
+import forge.game.staticability.StaticAbility;
+import forge.game.trigger.Trigger;
+
+/**
+ * The traits of a card face are read once, and the cards made of it get copies of them that are as much their own
+ * as if they had been read into them.
+ */
+public class CardFaceTraitsTest extends SimulationTest {
+
+    /** The traits of a state with the abilities of its spell abilities, triggers and replacement effects. */
+    private static List<CardTraitBase> traits(final CardState state) {
+        final List<CardTraitBase> traits = new ArrayList<>();
+        for (SpellAbility sa : state.getNonManaAbilities()) {
+            addWithSubs(traits, sa);
+        }
+        for (Trigger t : state.getTriggers()) {
+            traits.add(t);
+            addWithSubs(traits, t.getOverridingAbility());
+        }
+        for (ReplacementEffect re : state.getReplacementEffects()) {
+            traits.add(re);
+            addWithSubs(traits, re.getOverridingAbility());
+        }
+        for (StaticAbility st : state.getStaticAbilities()) {
+            traits.add(st);
+        }
+        return traits;
+    }
+
+    private static void addWithSubs(final List<CardTraitBase> traits, final SpellAbility sa) {
+        for (SpellAbility sub = sa; sub != null; sub = sub.getSubAbility()) {
+            traits.add(sub);
+        }
+    }
+
+    @Test
+    public void testCardsOfAFaceDontShareWhatTheyPay() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card first = createCard("Fling", p);
+        Card second = createCard("Fling", p);
+        SpellAbility fling = first.getFirstSpellAbility();
+        SpellAbility other = second.getFirstSpellAbility();
+        AssertJUnit.assertNotSame(fling, other);
+        AssertJUnit.assertEquals(fling.getDescription(), other.getDescription());
+        AssertJUnit.assertSame(first, fling.getHostCard());
+
+        fling.getTargetRestrictions().setMandatory(true);
+        AssertJUnit.assertFalse(other.getTargetRestrictions().getMandatory());
+
+        fling.addCostToHashList(first, "Sacrificed", true);
+        AssertJUnit.assertNull(other.getPaidList("Sacrificed", true));
+
+        List<CostPart> parts = fling.getPayCosts().getCostParts();
+        List<CostPart> otherParts = other.getPayCosts().getCostParts();
+        for (int i = 0; i < parts.size(); i++) {
+            AssertJUnit.assertNotSame(parts.get(i), otherParts.get(i));
+            if (parts.get(i) instanceof CostPartWithList) {
+                CostPartWithList part = (CostPartWithList) parts.get(i);
+                CostPartWithList otherPart = (CostPartWithList) otherParts.get(i);
+                AssertJUnit.assertNotSame(part.getCardList(), otherPart.getCardList());
+                AssertJUnit.assertNotSame(part.getLKIList(), otherPart.getLKIList());
+            }
+        }
+    }
+
+    @Test
+    public void testTraitsBelongToTheStateOfTheirCard() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        for (String name : new String[] { "Electrolyze", "Delver of Secrets", "Rest in Peace", "Glorious Anthem" }) {
+            createCard(name, p);
+            Card card = createCard(name, p);
+            for (CardStateName stateName : card.getStates()) {
+                CardState state = card.getState(stateName);
+                for (CardTraitBase trait : traits(state)) {
+                    AssertJUnit.assertSame(name, card, trait.getHostCard());
+                    AssertJUnit.assertSame(name, state, trait.getCardState());
+                    AssertJUnit.assertTrue(name, trait.isIntrinsic());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCardsOutsideAGameGetTheSameTraits() {
+        Game game = initAndCreateGame();
+        Card card = createCard("Electrolyze", game.getPlayers().get(1));
+        Card forUi = Card.getCardForUi(card.getPaperCard());
+        List<CardTraitBase> traits = traits(card.getCurrentState());
+        List<CardTraitBase> uiTraits = traits(forUi.getCurrentState());
+        AssertJUnit.assertEquals(traits.size(), uiTraits.size());
+        for (int i = 0; i < traits.size(); i++) {
+            AssertJUnit.assertEquals(traits.get(i).getMapParams(), uiTraits.get(i).getMapParams());
+            AssertJUnit.assertTrue(traits.get(i) instanceof AbilitySub == uiTraits.get(i) instanceof AbilitySub);
+        }
+        AssertJUnit.assertEquals(card.getView().getCurrentState().getAbilityText(), forUi.getView().getCurrentState().getAbilityText());
+    }
+}
@@ -0,0 +1,92 @@
+package forge.game.zone;
+
+import java.util.EnumSet;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import forge.ai.simulation.SimulationTest;
+import forge.card.CardType;
+import forge.card.CardStateName;
+import forge.card.RemoveType;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
+import forge.game.card.CardLists;
+import forge.game.card.CardPredicates;
+import forge.game.player.Player;
+
+public class PlayerZoneBattlefieldTest extends SimulationTest {
+
+    private static void assertIndexes(Player p) {
+        CardCollectionView battlefield = p.getCardsIn(ZoneType.Battlefield);
+        AssertJUnit.assertEquals(CardLists.filter(battlefield, CardPredicates.Presets.CREATURES), p.getCreaturesInPlay());
+        AssertJUnit.assertEquals(CardLists.filter(battlefield, CardPredicates.Presets.LANDS), p.getLandsInPlay());
+        AssertJUnit.assertEquals(CardLists.filter(battlefield, CardPredicates.Presets.PLANESWALKERS), p.getPlaneswalkersInPlay());
+    }
+
+    @Test
+    public void testIndexesFollowTypeChanges() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bears = addCard("Grizzly Bears", p);
+        Card forest = addCard("Forest", p);
+        addCard("Liliana of the Veil", p);
+        assertIndexes(p);
+        AssertJUnit.assertEquals(1, p.getCreaturesInPlay().size());
+
+        // animate the land
+        long ts = game.getNextTimestamp();
+        forest.addChangedCardTypes(new CardType(ImmutableList.of("Creature"), false), null, false,
+                EnumSet.noneOf(RemoveType.class), ts, 0, true, false);
+        assertIndexes(p);
+        AssertJUnit.assertEquals(2, p.getCreaturesInPlay().size());
+        forest.removeChangedCardTypes(ts, 0);
+        assertIndexes(p);
+
+        // phasing and leaving the battlefield
+        bears.setPhasedOut(p);
+        assertIndexes(p);
+        AssertJUnit.assertTrue(p.getCreaturesInPlay().isEmpty());
+        bears.setPhasedOut(null);
+        game.getAction().moveToGraveyard(forest, null);
+        assertIndexes(p);
+        AssertJUnit.assertTrue(p.getLandsInPlay().isEmpty());
+
+        // turning face down
+        bears.turnFaceDown(true);
+        assertIndexes(p);
+        bears.setState(CardStateName.Original, true);
+        assertIndexes(p);
+    }
+
+    @Test
+    public void testViewMatchesCopy() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+        addCard("Grizzly Bears", p);
+        addCard("Forest", opponent);
+        addCard("Mountain", p);
+        addCardToZone("Shock", opponent, ZoneType.Graveyard);
+
+        CardCollectionView view = game.viewCardsIn(ZoneType.Battlefield);
+        CardCollectionView copy = game.getCardsIn(ZoneType.Battlefield);
+        AssertJUnit.assertEquals(Lists.newArrayList(copy), Lists.newArrayList(view));
+        AssertJUnit.assertEquals(copy.size(), view.size());
+        for (int i = 0; i < copy.size(); i++) {
+            AssertJUnit.assertEquals(copy.get(i), view.get(i));
+            AssertJUnit.assertEquals(i, view.indexOf(copy.get(i)));
+            AssertJUnit.assertTrue(view.contains(copy.get(i)));
+        }
+        AssertJUnit.assertEquals(copy.getLast(), view.getLast());
+
+        CardCollectionView both = game.viewCardsIn(ImmutableList.of(ZoneType.Battlefield, ZoneType.Graveyard));
+        AssertJUnit.assertEquals(new CardCollection(game.getCardsIn(ImmutableList.of(ZoneType.Battlefield, ZoneType.Graveyard))), new CardCollection(both));
+        AssertJUnit.assertTrue(game.viewCardsIn(ZoneType.Exile).isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package forge.gamemodes.net.server;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.LobbyPlayerAi;
+import forge.ai.simulation.SimulationTest;
+import forge.deck.Deck;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.player.RegisteredPlayer;
+import forge.gamemodes.net.CompatibleObjectEncoder;
+import forge.gamemodes.net.event.JoinTableEvent;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+
+public class GameTableServerTest extends SimulationTest {
+
+    private static List<RegisteredPlayer> createPlayers() {
+        List<RegisteredPlayer> players = Lists.newArrayList();
+        for (String name : new String[] { "p1", "p2" }) {
+            Deck deck = new Deck(name);
+            deck.getMain().add("Mountain", 20);
+            deck.getMain().add("Goblin Guide", 10);
+            deck.getMain().add("Lightning Bolt", 10);
+            RegisteredPlayer player = new RegisteredPlayer(deck).setPlayer(new LobbyPlayerAi(name, null));
+            player.setStartingLife(6);
+            players.add(player);
+        }
+        return players;
+    }
+
+    private static GameRules createRules() {
+        GameRules rules = new GameRules(GameType.Constructed);
+        rules.setGamesPerMatch(1);
+        rules.setHeadless(true);
+        return rules;
+    }
+
+    @Test
+    public void testTablesAreWatchedOverLoopback() throws InterruptedException {
+        initAndCreateGame();
+        GameTableServer server = new GameTableServer(GameTableServer.newTableExecutor(1));
+        EventLoopGroup group = new NioEventLoopGroup(1);
+        try {
+            int port = server.start(0);
+            // with one thread, the watched table waits for the other one, so the client joins before it starts
+            GameTable unwatched = server.openTable(createRules(), createPlayers());
+            GameTable watched = server.openTable(createRules(), createPlayers());
+            AssertJUnit.assertNotSame(watched, unwatched);
+            AssertJUnit.assertSame(watched, server.getTable(watched.getId()));
+
+            final AtomicInteger received = new AtomicInteger();
+            Channel channel = new Bootstrap()
+                    .group(group)
+                    .channel(NioSocketChannel.class)
+                    .handler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        public void initChannel(final SocketChannel ch) throws Exception {
+                            ch.pipeline().addLast(new CompatibleObjectEncoder(), new LengthFieldBasedFrameDecoder(9766*1024, 0, 4, 0, 4),
+                                    new ChannelInboundHandlerAdapter() {
+                                        @Override
+                                        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                                            ((ByteBuf) msg).release();
+                                            received.incrementAndGet();
+                                        }
+                                    });
+                        }
+                    })
+                    .connect("localhost", port).sync().channel();
+            channel.writeAndFlush(new JoinTableEvent("watcher", watched.getId())).sync();
+
+            AssertJUnit.assertTrue(watched.awaitFinished(60, TimeUnit.SECONDS));
+            AssertJUnit.assertTrue(unwatched.awaitFinished(60, TimeUnit.SECONDS));
+            AssertJUnit.assertNull(watched.getError());
+            AssertJUnit.assertEquals(1, watched.getGamesPlayed());
+            AssertJUnit.assertEquals(1, unwatched.getGamesPlayed());
+            AssertJUnit.assertTrue(watched.getWallNanos() > 0);
+            AssertJUnit.assertTrue(watched.getCpuNanos() > 0);
+            AssertJUnit.assertTrue(watched.getAllocatedBytes() > 0);
+
+            for (int i = 0; i < 100 && received.get() == 0; i++) {
+                Thread.sleep(50);
+            }
+            AssertJUnit.assertTrue(received.get() > 0);
+
+            // finished tables are closed, right after their thread is done with them
+            for (int i = 0; i < 100 && !server.getTables().isEmpty(); i++) {
+                Thread.sleep(50);
+            }
+            AssertJUnit.assertNull(server.getTable(watched.getId()));
+            AssertJUnit.assertTrue(server.getTables().isEmpty());
+        } finally {
+            group.shutdownGracefully();
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package forge.gamemodes.net.server;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.gamemodes.net.CompatibleObjectDecoder;
+import forge.gamemodes.net.CompatibleObjectEncoder;
+import forge.gamemodes.net.event.MessageEvent;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+public class RemoteClientTest {
+
+    private EventLoopGroup group;
+    private Channel server;
+    private final LinkedBlockingQueue<Channel> accepted = new LinkedBlockingQueue<>();
+
+    @BeforeMethod
+    public void startServer() throws InterruptedException {
+        group = new NioEventLoopGroup(2);
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    public void initChannel(final SocketChannel ch) throws Exception {
+                        ch.pipeline().addLast(new CompatibleObjectEncoder());
+                        accepted.add(ch);
+                    }
+                })
+                .bind(0).sync().channel();
+    }
+
+    @AfterMethod
+    public void stopServer() {
+        server.close();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    private Channel connect(final boolean reading, final ChannelInboundHandlerAdapter handler) throws InterruptedException {
+        new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.AUTO_READ, reading)
+                .option(ChannelOption.SO_RCVBUF, 4096)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    public void initChannel(final SocketChannel ch) throws Exception {
+                        ch.pipeline().addLast(new CompatibleObjectDecoder(9766*1024, ClassResolvers.cacheDisabled(null)), handler);
+                    }
+                })
+                .connect(server.localAddress()).sync();
+        return accepted.poll(10, TimeUnit.SECONDS);
+    }
+
+    private static MessageEvent newMessage(final Random random, final int n) {
+        // random enough not to compress away
+        final StringBuilder sb = new StringBuilder(n + " ");
+        for (int i = 0; i < 8000; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return new MessageEvent(sb.toString());
+    }
+
+    @Test
+    public void testEventsArriveInOrder() throws InterruptedException {
+        final List<String> received = Lists.newArrayList();
+        final CountDownLatch done = new CountDownLatch(200);
+        final RemoteClient client = new RemoteClient(connect(true, new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                received.add(((MessageEvent) msg).getMessage());
+                done.countDown();
+            }
+        }));
+
+        final Random random = new Random(1);
+        final List<String> sent = Lists.newArrayList();
+        for (int i = 0; i < 200; i++) {
+            final MessageEvent event = newMessage(random, i);
+            sent.add(event.getMessage());
+            client.send(event);
+        }
+        AssertJUnit.assertTrue(done.await(30, TimeUnit.SECONDS));
+        AssertJUnit.assertEquals(sent, received);
+    }
+
+    @Test
+    public void testStalledClientDoesNotBlockSender() throws InterruptedException {
+        final RemoteClient client = new RemoteClient(connect(false, new ChannelInboundHandlerAdapter()));
+
+        // several MB the client never reads; with a write that waited on the socket this would never return
+        final Random random = new Random(1);
+        final long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            client.send(newMessage(random, i));
+        }
+        AssertJUnit.assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 20);
+
+        Thread.sleep(500);
+        AssertJUnit.assertTrue(client.getQueuedBytes() > 0);
+    }
+
+    @Test
+    public void testSlowClientIsDisconnected() throws InterruptedException {
+        final Channel channel = connect(false, new ChannelInboundHandlerAdapter());
+        final RemoteClient client = new RemoteClient(channel, 1024 * 1024);
+
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000 && channel.isOpen(); i++) {
+            client.send(newMessage(random, i));
+        }
+        AssertJUnit.assertTrue(channel.closeFuture().await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && client.getQueuedBytes() > 0; i++) {
+            Thread.sleep(50);
+        }
+        AssertJUnit.assertEquals(0, client.getQueuedBytes());
+        // anything sent afterwards is dropped
+        client.send(newMessage(random, 0));
+        AssertJUnit.assertEquals(0, client.getQueuedBytes());
+    }
+}
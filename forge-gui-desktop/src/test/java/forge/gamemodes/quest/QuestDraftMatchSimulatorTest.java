@@ -0,0 +1,48 @@
+package forge.gamemodes.quest;
+
+import java.util.Arrays;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class QuestDraftMatchSimulatorTest {
+
+    private static String[] newStandings() {
+        String[] standings = new String[15];
+        standings[0] = QuestEventDraft.HUMAN;
+        for (int i = 1; i < 8; i++) {
+            standings[i] = String.valueOf(i);
+        }
+        for (int i = 8; i < 15; i++) {
+            standings[i] = QuestEventDraft.UNDETERMINED;
+        }
+        return standings;
+    }
+
+    @Test
+    public void testHumanMatchIsNotSimulated() {
+        String[] standings = newStandings();
+        AssertJUnit.assertTrue(QuestDraftMatchSimulator.getNextAiMatches(standings).isEmpty());
+
+        standings[8] = QuestEventDraft.HUMAN;
+        AssertJUnit.assertEquals(Arrays.asList(9, 10, 11), QuestDraftMatchSimulator.getNextAiMatches(standings));
+    }
+
+    @Test
+    public void testStopsAtTheEndOfTheRound() {
+        String[] standings = newStandings();
+        standings[8] = "1";
+        standings[9] = "2";
+        standings[10] = "4";
+        standings[11] = "6";
+        // the semifinals are both between AIs, the final waits on them
+        AssertJUnit.assertEquals(Arrays.asList(12, 13), QuestDraftMatchSimulator.getNextAiMatches(standings));
+
+        standings[12] = "2";
+        standings[13] = "4";
+        AssertJUnit.assertEquals(Arrays.asList(14), QuestDraftMatchSimulator.getNextAiMatches(standings));
+
+        standings[14] = "4";
+        AssertJUnit.assertTrue(QuestDraftMatchSimulator.getNextAiMatches(standings).isEmpty());
+    }
+}
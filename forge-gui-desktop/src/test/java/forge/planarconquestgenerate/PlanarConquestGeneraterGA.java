@@ -4,6 +4,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -26,7 +27,6 @@ import forge.game.GameFormat;
 import forge.game.GameRules;
 import forge.game.GameType;
 import forge.game.Match;
-import forge.game.player.RegisteredPlayer;
 import forge.gamemodes.limited.CardRanker;
 import forge.gamemodes.tournament.system.AbstractTournament;
 import forge.gamemodes.tournament.system.TournamentPairing;
@@ -39,7 +39,6 @@ import forge.localinstance.properties.ForgePreferences;
 import forge.model.FModel;
 import forge.player.GamePlayerUtil;
 import forge.util.AbstractGeneticAlgorithm;
-import forge.util.MyRandom;
 import forge.util.TextUtil;
 import forge.view.SimulateMatch;
 
@@ -82,6 +81,7 @@ public class PlanarConquestGeneraterGA extends AbstractGeneticAlgorithm<Deck> {
                 40,
                 4,
                 10);
+        ga.setNumWorkers(Runtime.getRuntime().availableProcessors());
         ga.run();
         List<Deck> winners = ga.listFinalPopulation();
 
@@ -152,6 +152,11 @@ public class PlanarConquestGeneraterGA extends AbstractGeneticAlgorithm<Deck> {
         return d;
     }
 
+    /**
+     * A deck is only as fit as it does against the rest of the population, so each generation plays a Swiss
+     * tournament between all of them and ranks them by its standings. Decks aren't scored one by one, so
+     * computeFitness isn't overridden.
+     */
     @Override
     protected void evaluateFitness() {
         deckGroup = new DeckGroup("SimulatedTournament");
@@ -166,7 +171,8 @@ public class PlanarConquestGeneraterGA extends AbstractGeneticAlgorithm<Deck> {
         tourney = runTournament(tourney, rules, players.size(), deckGroup);
         population = new ArrayList<>();
         for (int k = 0; k < tourney.getAllPlayers().size(); k++) {
-            String deckName = tourney.getAllPlayers().get(k).getPlayer().getName();
+            TournamentPlayer player = tourney.getAllPlayers().get(k);
+            String deckName = player.getPlayer().getName();
             for (Deck sortedDeck : deckGroup.getAiDecks()) {
                 if (sortedDeck.getName().equals(deckName)) {
                     population.add(sortedDeck);
@@ -179,7 +185,7 @@ public class PlanarConquestGeneraterGA extends AbstractGeneticAlgorithm<Deck> {
 
     @Override
     protected Deck mutateObject(Deck parent1) {
-        PaperCard allele = parent1.getMain().get(MyRandom.getRandom().nextInt(8));
+        PaperCard allele = parent1.getMain().get(getRandom().nextInt(8));
         if(!standardMap.containsKey(allele.getName())){
             return null;
         }
@@ -188,8 +194,8 @@ public class PlanarConquestGeneraterGA extends AbstractGeneticAlgorithm<Deck> {
 
     @Override
     protected Deck createChild(Deck parent1, Deck parent2) {
-        PaperCard allele = parent1.getMain().get(MyRandom.getRandom().nextInt(8));
-        PaperCard allele2 = parent2.getMain().get(MyRandom.getRandom().nextInt(8));
+        PaperCard allele = parent1.getMain().get(getRandom().nextInt(8));
+        PaperCard allele2 = parent2.getMain().get(getRandom().nextInt(8));
         if(!standardMap.containsKey(allele.getName())
                 ||!standardMap.containsKey(allele2.getName())
                 ||allele.getName().equals(allele2.getName())){
@@ -200,7 +206,7 @@ public class PlanarConquestGeneraterGA extends AbstractGeneticAlgorithm<Deck> {
 
     @Override
     protected Deck expandPool(){
-        PaperCard seed = getRankedList().get(MyRandom.getRandom().nextInt(getRankedList().size()));
+        PaperCard seed = getRankedList().get(getRandom().nextInt(getRankedList().size()));
         return getDeckForCard(seed);
     }
 
@@ -213,7 +219,6 @@ public class PlanarConquestGeneraterGA extends AbstractGeneticAlgorithm<Deck> {
     public TournamentSwiss runTournament(TournamentSwiss tourney, GameRules rules, int numPlayers, DeckGroup deckGroup){
         tourney.initializeTournament();
 
-        String lastWinner = "";
         int curRound = 0;
         System.out.println(TextUtil.concatNoSpace("Starting a tournament with ",
                 String.valueOf(numPlayers), " players over ",
@@ -233,51 +238,61 @@ public class PlanarConquestGeneraterGA extends AbstractGeneticAlgorithm<Deck> {
                 System.out.println();
             }
 
-            TournamentPairing pairing = tourney.getNextPairing();
-            List<RegisteredPlayer> regPlayers = AbstractTournament.registerTournamentPlayers(pairing, deckGroup);
-
-            StringBuilder sb = new StringBuilder();
-            sb.append("Round ").append(tourney.getActiveRound()).append(" - ");
-            sb.append(pairing.outputHeader());
-            //System.out.println(sb.toString());
-
-            if (!pairing.isBye()) {
-                Match mc = new Match(rules, regPlayers, "TourneyMatch");
-
-                int exceptions = 0;
-                int iGame = 0;
-                while (!mc.isMatchOver()) {
-                    // play games until the match ends
-                    try{
-                        SimulateMatch.simulateSingleMatch(mc, iGame, false);
-                        iGame++;
-                    } catch(Exception e) {
-                        exceptions++;
-                        System.out.println(e.toString());
-                        if (exceptions > 5) {
-                            System.out.println("Exceeded number of exceptions thrown. Abandoning match...");
+            // the matches of a round don't depend on each other, the next round is paired once they are all reported
+            final List<TournamentPairing> round = new ArrayList<>(tourney.getActivePairings());
+            List<Callable<LobbyPlayer>> matches = new ArrayList<>();
+            for (TournamentPairing pairing : round) {
+                if (pairing.isBye()) {
+                    continue;
+                }
+                final Match mc = new Match(rules, AbstractTournament.registerTournamentPlayers(pairing, deckGroup), "TourneyMatch");
+                matches.add(new Callable<LobbyPlayer>() {
+                    @Override
+                    public LobbyPlayer call() {
+                        return playMatch(mc);
+                    }
+                });
+            }
+            List<LobbyPlayer> winners = runOnWorkers(matches);
+
+            int iMatch = 0;
+            for (TournamentPairing pairing : round) {
+                if (!pairing.isBye()) {
+                    LobbyPlayer winner = winners.get(iMatch++);
+                    for (TournamentPlayer tp : pairing.getPairedPlayers()) {
+                        if (winner.equals(tp.getPlayer())) {
+                            pairing.setWinner(tp);
                             break;
-                        } else {
-                            System.out.println("Game threw exception. Abandoning game and continuing...");
                         }
                     }
-
-                }
-                LobbyPlayer winner = mc.getWinner().getPlayer();
-                for (TournamentPlayer tp : pairing.getPairedPlayers()) {
-                    if (winner.equals(tp.getPlayer())) {
-                        pairing.setWinner(tp);
-                        lastWinner = winner.getName();
-                        //System.out.println(TextUtil.concatNoSpace("Match Winner - ", lastWinner, "!"));
-                        //System.out.println("");
-                        break;
-                    }
                 }
+                tourney.reportMatchCompletion(pairing);
             }
-
-            tourney.reportMatchCompletion(pairing);
         }
         tourney.outputTournamentResults();
         return tourney;
     }
+
+    private static LobbyPlayer playMatch(Match mc) {
+        int exceptions = 0;
+        int iGame = 0;
+        while (!mc.isMatchOver()) {
+            // play games until the match ends
+            try{
+                SimulateMatch.simulateSingleMatch(mc, iGame, false);
+                iGame++;
+            } catch(Exception e) {
+                exceptions++;
+                System.out.println(e.toString());
+                if (exceptions > 5) {
+                    System.out.println("Exceeded number of exceptions thrown. Abandoning match...");
+                    break;
+                } else {
+                    System.out.println("Game threw exception. Abandoning game and continuing...");
+                }
+            }
+
+        }
+        return mc.getWinner().getPlayer();
+    }
 }
@@ -0,0 +1,91 @@
+package forge.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class AbstractGeneticAlgorithmTest {
+
+    private static class Gene {
+        private final int value;
+
+        Gene(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Gene && ((Gene) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+    }
+
+    // evolves numbers towards 1000, the fitness is noisy so that it depends on the individual's seed
+    private static class NumberGA extends AbstractGeneticAlgorithm<Gene> {
+        private final AtomicInteger evaluations = new AtomicInteger();
+
+        NumberGA(long seed, int workers) {
+            setSeed(seed);
+            setNumWorkers(workers);
+            List<Gene> start = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                start.add(new Gene(i * 10));
+            }
+            initializePopulation(start);
+        }
+
+        @Override
+        protected double computeFitness(Gene individual, Random random) {
+            evaluations.incrementAndGet();
+            return -Math.abs(1000 - individual.value) + random.nextDouble();
+        }
+
+        @Override
+        protected Gene expandPool() {
+            return new Gene(getRandom().nextInt(2000));
+        }
+
+        @Override
+        protected Gene mutateObject(Gene parent1) {
+            return new Gene(parent1.value + getRandom().nextInt(101) - 50);
+        }
+
+        @Override
+        protected Gene createChild(Gene parent1, Gene parent2) {
+            return new Gene((parent1.value + parent2.value) / 2);
+        }
+
+        @Override
+        protected boolean shouldContinue() {
+            return generationCount < 10;
+        }
+    }
+
+    @Test
+    public void testParallelRunsMatchSerialRuns() {
+        NumberGA serial = new NumberGA(42, 1);
+        serial.run();
+        NumberGA parallel = new NumberGA(42, 4);
+        parallel.run();
+
+        AssertJUnit.assertEquals(serial.population, parallel.population);
+        AssertJUnit.assertEquals(10, parallel.getGenerationTimes().size());
+        AssertJUnit.assertTrue(Math.abs(1000 - parallel.population.get(0).value) < 100);
+    }
+
+    @Test
+    public void testSurvivorsAreNotEvaluatedAgain() {
+        NumberGA ga = new NumberGA(7, 2);
+        ga.run();
+        // 20 in the first generation, then only the 10 children of each later one
+        AssertJUnit.assertEquals(20 + 9 * 10, ga.evaluations.get());
+    }
+}
@@ -0,0 +1,40 @@
+package forge.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+public class FileSectionTest {
+
+    @Test
+    public void testParseToMap() {
+        String line = "Mode$ ChangesZone | Origin$ Battlefield | Destination$ Graveyard | ValidCard$ Card.Self | Execute$ TrigDraw | mode$ Other";
+        Map<String, String> params = FileSection.parseToMap(line, FileSection.DOLLAR_SIGN_KV_SEPARATOR);
+
+        // later duplicate keys win, keys are case-insensitive and sorted like before
+        assertEquals(params.size(), 5);
+        assertEquals(params.get("Mode"), "Other");
+        assertEquals(params.get("MODE"), "Other");
+        assertEquals(params.get("ValidCard"), "Card.Self");
+        assertNull(params.get("Cost"));
+        assertEquals(Arrays.asList(params.keySet().toArray()), Arrays.asList("Destination", "Execute", "Mode", "Origin", "ValidCard"));
+
+        ParamMap compact = (ParamMap) params;
+        assertEquals(compact.getExact("Origin"), "Battlefield");
+        assertNull(compact.getExact("origin"));
+        assertTrue(compact.containsKeyExact("Execute"));
+        assertFalse(compact.containsKeyExact("execute"));
+
+        // parsed maps are shared
+        assertSame(FileSection.parseToMap(new String(line), FileSection.DOLLAR_SIGN_KV_SEPARATOR), params);
+        assertTrue(FileSection.parseToMap("", FileSection.DOLLAR_SIGN_KV_SEPARATOR).isEmpty());
+        assertEquals(FileSection.parseToMap("a->b|c", FileSection.ARROW_KV_SEPARATOR).get("c"), "");
+    }
+}
@@ -34,7 +34,6 @@ import forge.item.PaperCard;
 import forge.util.Aggregates;
 import forge.util.MyRandom;
 
-import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -316,7 +315,7 @@ public class EnemySprite extends CharacterSprite implements Steerable<Vector2> {
         // Combined with player doing the same, should no longer be colliding to immediately re-enter battle if mob still present
     }
 
-    public Vector2 getTargetVector(PlayerSprite player, ArrayList<NavigationVertex> sortedGraphNodes, float delta) {
+    public Vector2 getTargetVector(PlayerSprite player, NavigationVertex nearestGraphNode, float delta) {
         //todo - this can be integrated into overworld movement as well, giving flee behaviors or moving to generated waypoints
         Vector2 target = pos();
         Vector2 spriteToPlayer = new Vector2(player.pos()).sub(target);
@@ -337,14 +336,11 @@ public class EnemySprite extends CharacterSprite implements Steerable<Vector2> {
         if (threatRange > 0 || fleeRange > 0){
             if (spriteToPlayer.len() <= threatRange || (aggro && spriteToPlayer.len() <= pursueRange))
             {
-                if (sortedGraphNodes != null) {
-                    for (NavigationVertex candidate : sortedGraphNodes) {
-                        Vector2 candidateToPlayer = new Vector2(candidate.pos).sub(player.pos());
-                        if ((candidateToPlayer.x * candidateToPlayer.x) + (candidateToPlayer.y * candidateToPlayer.y) <
-                                (spriteToPlayer.x * spriteToPlayer.x) + (spriteToPlayer.y * spriteToPlayer.y)) {
-                            targetPoint = candidate;
-                            break;
-                        }
+                if (nearestGraphNode != null) {
+                    Vector2 candidateToPlayer = new Vector2(nearestGraphNode.pos).sub(player.pos());
+                    if ((candidateToPlayer.x * candidateToPlayer.x) + (candidateToPlayer.y * candidateToPlayer.y) <
+                            (spriteToPlayer.x * spriteToPlayer.x) + (spriteToPlayer.y * spriteToPlayer.y)) {
+                        targetPoint = nearestGraphNode;
                     }
                 }
                 aggro = true;
@@ -26,11 +26,8 @@ import forge.sound.SoundSystem;
 import forge.util.TextUtil;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.text.DateFormat;
-import java.util.zip.InflaterInputStream;
 
 /**
  * Scene to load and save the game.
@@ -301,22 +298,16 @@ public class SaveLoadScene extends UIScene {
         for (File name : names) {
             if (WorldSave.isSafeFile(name.getName())) {
                 try {
-                    try (FileInputStream fos = new FileInputStream(name.getAbsolutePath());
-                         InflaterInputStream inf = new InflaterInputStream(fos);
-                         ObjectInputStream oos = new ObjectInputStream(inf)) {
-
-
-                        int slot = WorldSave.filenameToSlot(name.getName());
-                        WorldSaveHeader header = (WorldSaveHeader) oos.readObject();
-                        if (header.name.contains(Character.toString(ASCII_179))) {
-                            String[] split = TextUtil.split(header.name, ASCII_179);
-                            buttons.get(slot).actor.setText(split[0]);
-                            //playerLocation.setText(split[1]);
-                        } else {
-                            buttons.get(slot).actor.setText(header.name);
-                        }
-                        previews.put(slot, header);
+                    int slot = WorldSave.filenameToSlot(name.getName());
+                    WorldSaveHeader header = WorldSave.loadHeader(name);
+                    if (header.name.contains(Character.toString(ASCII_179))) {
+                        String[] split = TextUtil.split(header.name, ASCII_179);
+                        buttons.get(slot).actor.setText(split[0]);
+                        //playerLocation.setText(split[1]);
+                    } else {
+                        buttons.get(slot).actor.setText(header.name);
                     }
+                    previews.put(slot, header);
                 } catch (ClassNotFoundException | IOException | GdxRuntimeException e) {
                 }
             }
@@ -30,6 +30,7 @@ import forge.adventure.data.ItemData;
 import forge.adventure.player.AdventurePlayer;
 import forge.adventure.scene.*;
 import forge.adventure.util.*;
+import forge.adventure.world.World;
 import forge.adventure.world.WorldSave;
 import forge.deck.Deck;
 import forge.gui.GuiBase;
@@ -311,6 +312,8 @@ public class GameHUD extends Stage {
     }
 
     Texture miniMapTexture;
+    int miniMapVersion;
+    float miniMapRefresh;
     Texture miniMapToolTipTexture;
     Pixmap miniMapToolTipPixmap;
     public boolean fromWorldMap = false;
@@ -319,6 +322,7 @@ public class GameHUD extends Stage {
         questKeys.clear();
         if (miniMapTexture != null)
             miniMapTexture.dispose();
+        miniMapVersion = WorldSave.getCurrentSave().getWorld().getBiomeImageVersion();
         miniMapTexture = new Texture(WorldSave.getCurrentSave().getWorld().getBiomeImage());
         if (miniMapToolTipTexture != null)
             miniMapToolTipTexture.dispose();
@@ -497,6 +501,16 @@ public class GameHUD extends Stage {
     @Override
     public void act(float delta) {
         super.act(delta);
+        // the mini map of a new world fills in as its chunks are generated
+        miniMapRefresh += delta;
+        if (miniMapTexture != null && miniMapRefresh >= 1f) {
+            miniMapRefresh = 0;
+            World world = WorldSave.getCurrentSave().getWorld();
+            if (world.getBiomeImageVersion() != miniMapVersion) {
+                miniMapVersion = world.getBiomeImageVersion();
+                miniMapTexture.draw(world.getBiomeImage(), 0, 0);
+            }
+        }
         if (fade < targetfade) {
             fade += (delta / 2);
             if (fade > targetfade)
@@ -53,6 +53,7 @@ public class MapStage extends GameStage {
     public com.badlogic.gdx.physics.box2d.World gdxWorld;
     public TiledMap tiledMap;
     public Array<Rectangle> collisionRect = new Array<>();
+    private SpatialGrid<Rectangle> collisionGrid;
     public Map<Float, NavigationMap> navMaps = new HashMap<>();
     private boolean isInMap = false;
     MapLayer spriteLayer;
@@ -151,6 +152,8 @@ public class MapStage extends GameStage {
 
     @Override
     public boolean isColliding(Rectangle adjustedBoundingRect) {
+        if (collisionGrid != null)
+            return collisionGrid.overlaps(adjustedBoundingRect);
         for (Rectangle collision : collisionRect) {
             if (collision.overlaps(adjustedBoundingRect)) {
                 return true;
@@ -216,6 +219,7 @@ public class MapStage extends GameStage {
         positions.clear();
         actors.clear();
         collisionRect.clear();
+        collisionGrid = null;
         waypoints.clear();
 
         if (collisionGroup != null)
@@ -271,31 +275,11 @@ public class MapStage extends GameStage {
         spawn(spawnTargetId);
 
         //reduce geometry in collision rectangles
-        int oldSize;
-        do {
-            oldSize = collisionRect.size;
-            for (int i = 0; i < collisionRect.size; i++) {
-                Rectangle r1 = collisionRect.get(i);
-                for (int j = i + 1; j < collisionRect.size; j++) {
-                    Rectangle r2 = collisionRect.get(j);
-                    if ((Math.abs(r1.x - (r2.x + r2.width)) < 1 && Math.abs(r1.y - r2.y) < 1 && Math.abs(r1.height - r2.height) < 1)//left edge is the same as right edge
-
-                            || (Math.abs((r1.x + r1.width) - r2.x) < 1 && Math.abs(r1.y - r2.y) < 1 && Math.abs(r1.height - r2.height) < 1)//right edge is the same as left edge
-
-                            || (Math.abs(r1.x - r2.x) < 1 && Math.abs((r1.y + r1.height) - r2.y) < 1 && Math.abs(r1.width - r2.width) < 1)//top edge is the same as bottom edge
-
-                            || (Math.abs(r1.x - r2.x) < 1 && Math.abs(r1.y - (r2.y + r2.height)) < 1 && Math.abs(r1.width - r2.width) < 1)//bottom edge is the same as left edge
-
-                            || containsOrEquals(r1, r2) || containsOrEquals(r2, r1)
-                    ) {
-                        r1.merge(r2);
-                        collisionRect.removeIndex(j);
-                        i--;
-                        break;
-                    }
-                }
-            }
-        } while (oldSize != collisionRect.size);
+        SpatialGrid.mergeTouching(collisionRect, tileWidth * 2);
+        Rectangle mapBounds = new Rectangle(0, 0, width * tileWidth, height * tileHeight);
+        collisionGrid = new SpatialGrid<>(mapBounds, tileWidth * 2);
+        for (Rectangle rectangle : new Array.ArrayIterator<>(collisionRect))
+            collisionGrid.add(rectangle, rectangle);
         if (spriteLayer == null) System.err.print("Warning: No spriteLayer present in map.\n");
 
         navMaps.clear();
@@ -327,14 +311,6 @@ public class MapStage extends GameStage {
         }
     }
 
-    static public boolean containsOrEquals(Rectangle r1, Rectangle r2) {
-        float xmi = r2.x;
-        float xma = xmi + r2.width;
-        float ymi = r2.y;
-        float yma = ymi + r2.height;
-        return xmi >= r1.x && xmi <= r1.x + r1.width && xma >= r1.x && xma <= r1.x + r1.width && ymi >= r1.y && ymi <= r1.y + r1.height && yma >= r1.y && yma <= r1.y + r1.height;
-    }
-
     private void loadCollision(TiledMapTileLayer layer) {
         for (int x = 0; x < layer.getWidth(); x++) {
             for (int y = 0; y < layer.getHeight(); y++) {
@@ -942,8 +918,9 @@ public class MapStage extends GameStage {
             else return;
         }
         float mobSize = navMapSize; //todo: replace with actual size if multiple nav maps implemented
-        ArrayList<NavigationVertex> verticesNearPlayer = new ArrayList<>(navMaps.get(mobSize).navGraph.getNodes());
-        verticesNearPlayer.sort(Comparator.comparingInt(o -> Math.round((o.pos.x - player.pos().x) * (o.pos.x - player.pos().x) + (o.pos.y - player.pos().y) * (o.pos.y - player.pos().y))));
+        NavigationMap navMap = navMaps.get(mobSize);
+        navMap.startFrame();
+        NavigationVertex vertexNearPlayer = navMap.getNearestVertex(player.pos());
 
         if (!freezeAllEnemyBehaviors) {
             while (it.hasNext()) {
@@ -957,7 +934,7 @@ public class MapStage extends GameStage {
                 if (mob.getData().flying) {
                     navPath.add(new NavigationVertex(mob.getTargetVector(player, null,delta)));
                 } else {
-                    Vector2 destination = mob.getTargetVector(player, verticesNearPlayer, delta);
+                    Vector2 destination = mob.getTargetVector(player, vertexNearPlayer, delta);
 
                     if (destination.epsilonEquals(mob.pos()) && !mob.aggro) {
                         mob.setAnimation(CharacterSprite.AnimationTypes.Idle);
@@ -967,8 +944,13 @@ public class MapStage extends GameStage {
                         navPath = mob.getNavPath();
 
                     if (navPath.nodes.size == 0 || !destination.equals(mob.targetVector)) {
-                        mob.targetVector = destination;
-                        navPath = navMaps.get(mobSize).findShortestPath(mobSize, mob.pos(), mob.targetVector);
+                        ProgressableGraphPath<NavigationVertex> newPath = navMap.requestPath(mob, mob.pos(), destination);
+                        if (newPath != null) {
+                            mob.targetVector = destination;
+                            navPath = newPath;
+                        } else if (mob.getNavPath() != null) {
+                            navPath = mob.getNavPath(); //keep going the old way until the search gets its turn
+                        }
                     }
 
                     if (mob.aggro) {
@@ -68,6 +68,7 @@ public class WorldBackground extends Actor {
             }
             currentChunkX = pos.x;
             currentChunkY = pos.y;
+            WorldSave.getCurrentSave().getWorld().generateAround(pos.x, pos.y);
         }
         for (int x = -1; x < 2; x++) {
             for (int y = -1; y < 2; y++) {
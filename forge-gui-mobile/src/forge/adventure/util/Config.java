@@ -31,8 +31,9 @@ import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Main resource class to access files from the selected adventure
@@ -42,7 +43,8 @@ public class Config {
     private final String commonDirectoryName = "common";
     private final String prefix;
     private final String commonPrefix;
-    private final HashMap<String, FileHandle> Cache = new HashMap<>();
+    // looked up from the threads generating a world as well
+    private final Map<String, FileHandle> Cache = new ConcurrentHashMap<>();
     private ConfigData configData;
     private final String[] adventures;
     private SettingData settingsData;
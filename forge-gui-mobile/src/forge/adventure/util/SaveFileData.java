@@ -1,169 +1,153 @@
 package forge.adventure.util;
 
 import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.PixmapIO;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import forge.Forge;
 
 import java.io.*;
 import java.util.HashMap;
-
+import java.util.Map;
+
+/**
+ * Values of a save, by key. Each value is kept encoded as {@link SaveFileValues} writes it, and only decoded when it
+ * is read, so that the parts of a save nobody asks for, nested data included, are never taken apart.
+ * <br><br>
+ * Data imported from a save of the older format holds its values as the Java serialization streams they were
+ * written as, and is read that way.
+ */
 public class SaveFileData extends HashMap<String,byte[]>
 {
+    private transient boolean legacy;
+
     public void store(String key,SaveFileData subData)
     {
-        try {
-
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeObject(subData);
-            objStream.flush();
-            put(key,stream.toByteArray());
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,subData);
     }
 
 
     public void store(String key,float subData)
     {
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeFloat(subData);
-            objStream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,subData);
     }
     public void store(String key,double subData)
     {
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeDouble(subData);
-            objStream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,subData);
     }
     public void store(String key,int subData)
     {
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeInt(subData);
-            objStream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,subData);
     }
     public void store(String key,long subData)
     {
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeLong(subData);
-            objStream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,subData);
     }
     public void store(String key,boolean subData)
     {
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeBoolean(subData);
-            objStream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,subData);
     }
     public void store(String key, Pixmap pixmap)
     {
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-
-            PixmapIO.PNG png = new PixmapIO.PNG();
-            png.setFlipY(false);
-            png.write(stream, pixmap);
-            stream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,pixmap);
     }
     public void storeObject(String key,Object subData)
     {
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeObject(subData);
-            objStream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,subData);
     }
     public void store(String key,String subData)
     {
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeUTF(subData);
-            objStream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        encode(key,subData);
     }
 
     public void store(String key, Vector2 vector) {
+        encode(key,vector);
+    }
+    public void store(String key, Rectangle rectangle) {
+        encode(key,rectangle);
+    }
 
+    private void encode(String key,Object value)
+    {
         try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeFloat(vector.x);
-            objStream.writeFloat(vector.y);
-            objStream.flush();
-            put(key,stream.toByteArray());
+            put(key,SaveFileValues.toBytes(value));
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
-    public void store(String key, Rectangle rectangle) {
 
-        try {
-            ByteArrayOutputStream stream=new ByteArrayOutputStream();
-            ObjectOutputStream objStream=new ObjectOutputStream(stream);
-            objStream.writeFloat(rectangle.x);
-            objStream.writeFloat(rectangle.y);
-            objStream.writeFloat(rectangle.width);
-            objStream.writeFloat(rectangle.height);
-            objStream.flush();
-            put(key,stream.toByteArray());
-        } catch (IOException e) {
-            e.printStackTrace();
+    private Object decode(String key) throws IOException
+    {
+        return SaveFileValues.fromBytes(get(key));
+    }
+
+    private ObjectInputStream legacyStream(String key) throws IOException
+    {
+        return new DecompressibleInputStream(new ByteArrayInputStream(get(key)));
+    }
+
+    /**
+     * Writes the keys and the encoded values, each with its length so that a reader can pass over it.
+     */
+    public void write(DataOutputStream out) throws IOException
+    {
+        if (legacy)
+            throw new IOException("Data of the older save format can not be written");
+        out.writeInt(size());
+        for (Map.Entry<String, byte[]> entry : entrySet()) {
+            SaveFileValues.writeString(out, entry.getKey());
+            out.writeInt(entry.getValue().length);
+            out.write(entry.getValue());
         }
     }
 
+    public static SaveFileData read(DataInputStream in) throws IOException
+    {
+        SaveFileData data = new SaveFileData();
+        for (int i = SaveFileValues.readLength(in); i > 0; i--) {
+            String key = SaveFileValues.readString(in);
+            data.put(key, SaveFileValues.readBytes(in));
+        }
+        return data;
+    }
+
+    /**
+     * Reads bytes written with their length, as the values are, refusing a negative length or one that runs past
+     * the end of the stream with a {@link StreamCorruptedException}.
+     */
+    public static byte[] readBytes(DataInputStream in) throws IOException
+    {
+        return SaveFileValues.readBytes(in);
+    }
+
+    /**
+     * Opens a save of the older format, which is a Java serialization stream.
+     */
+    public static ObjectInputStream openLegacy(InputStream in) throws IOException
+    {
+        return new DecompressibleInputStream(in);
+    }
+
+    /**
+     * Reads data of the older save format from it, to be read as usual and stored again in the current format.
+     */
+    public static SaveFileData readLegacy(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        SaveFileData data = (SaveFileData) in.readObject();
+        data.legacy = true;
+        return data;
+    }
+
     public SaveFileData readSubData(String key)
     {
         if(!containsKey(key))
             return null;
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            return (SaveFileData)objStream.readObject();
+            if (legacy)
+                return readLegacy(legacyStream(key));
+            Object value = decode(key);
+            if (value instanceof SaveFileData)
+                return (SaveFileData) value;
+            System.err.println("Not nested data: " + key);
 
         } catch (IOException | ClassNotFoundException e) {
             e.printStackTrace();
@@ -175,10 +159,9 @@ public class SaveFileData extends HashMap<String,byte[]>
         if(!containsKey(key))
             return null;
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            return objStream.readObject();
+            if (legacy)
+                return legacyStream(key).readObject();
+            return decode(key);
 
         } catch (IOException | ClassNotFoundException e) {
             e.printStackTrace();
@@ -193,10 +176,11 @@ public class SaveFileData extends HashMap<String,byte[]>
         if(!containsKey(key))
             return null;
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            return objStream.readUTF();
+            if (legacy)
+                return legacyStream(key).readUTF();
+            Object value = decode(key);
+            if (value instanceof String)
+                return (String) value;
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -208,10 +192,11 @@ public class SaveFileData extends HashMap<String,byte[]>
         if(!containsKey(key))
             return 0;
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            return objStream.readLong();
+            if (legacy)
+                return legacyStream(key).readLong();
+            Object value = decode(key);
+            if (value instanceof Number)
+                return ((Number) value).longValue();
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -223,10 +208,11 @@ public class SaveFileData extends HashMap<String,byte[]>
         if(!containsKey(key))
             return 0.0f;
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            return objStream.readFloat();
+            if (legacy)
+                return legacyStream(key).readFloat();
+            Object value = decode(key);
+            if (value instanceof Number)
+                return ((Number) value).floatValue();
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -239,10 +225,11 @@ public class SaveFileData extends HashMap<String,byte[]>
         if(!containsKey(key))
             return 0.0;
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            return objStream.readDouble();
+            if (legacy)
+                return legacyStream(key).readDouble();
+            Object value = decode(key);
+            if (value instanceof Number)
+                return ((Number) value).doubleValue();
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -254,12 +241,15 @@ public class SaveFileData extends HashMap<String,byte[]>
         if(!containsKey(key))
             return new Vector2();
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            float x= objStream.readFloat();
-            float y= objStream.readFloat();
-            return new Vector2(x,y);
+            if (legacy) {
+                ObjectInputStream objStream = legacyStream(key);
+                float x= objStream.readFloat();
+                float y= objStream.readFloat();
+                return new Vector2(x,y);
+            }
+            Object value = decode(key);
+            if (value instanceof Vector2)
+                return (Vector2) value;
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -271,14 +261,17 @@ public class SaveFileData extends HashMap<String,byte[]>
         if(!containsKey(key))
             return new Rectangle();
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            float x= objStream.readFloat();
-            float y= objStream.readFloat();
-            float width= objStream.readFloat();
-            float height= objStream.readFloat();
-            return new Rectangle(x,y,width,height);
+            if (legacy) {
+                ObjectInputStream objStream = legacyStream(key);
+                float x= objStream.readFloat();
+                float y= objStream.readFloat();
+                float width= objStream.readFloat();
+                float height= objStream.readFloat();
+                return new Rectangle(x,y,width,height);
+            }
+            Object value = decode(key);
+            if (value instanceof Rectangle)
+                return (Rectangle) value;
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -292,17 +285,28 @@ public class SaveFileData extends HashMap<String,byte[]>
     {
         if(!containsKey(key))
             return null;
-        return new Pixmap(get(key), 0, get(key).length);
+        if (legacy)
+            return new Pixmap(get(key), 0, get(key).length);
+        try {
+            Object value = decode(key);
+            if (value instanceof Pixmap)
+                return (Pixmap) value;
+
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
     }
     public int readInt(String key)
     {
         if(!containsKey(key))
             return 0;
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            return objStream.readInt();
+            if (legacy)
+                return legacyStream(key).readInt();
+            Object value = decode(key);
+            if (value instanceof Number)
+                return ((Number) value).intValue();
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -314,10 +318,11 @@ public class SaveFileData extends HashMap<String,byte[]>
         if(!containsKey(key))
             return false;
         try {
-
-            ByteArrayInputStream stream=new ByteArrayInputStream(get(key));
-            ObjectInputStream objStream= new DecompressibleInputStream(stream);
-            return objStream.readBoolean();
+            if (legacy)
+                return legacyStream(key).readBoolean();
+            Object value = decode(key);
+            if (value instanceof Boolean)
+                return (Boolean) value;
 
         } catch (IOException e) {
             e.printStackTrace();
@@ -334,16 +339,39 @@ public class SaveFileData extends HashMap<String,byte[]>
 
         //private static Logger logger = LoggerFactory.getLogger(DecompressibleInputStream.class);
 
+        // a save is a file anyone can hand over, only classes that belong in one are looked up
+        private static final String[] ALLOWED_PACKAGES = { "java.", "forge.", "com.badlogic.gdx.", "com.google.common.", "org.apache.commons.lang3." };
+
         public DecompressibleInputStream(InputStream in) throws IOException {
             super(in);
         }
 
+        static Class<?> allowedClass(String name) throws ClassNotFoundException {
+            String elementName = name;
+            while (elementName.startsWith("["))
+                elementName = elementName.substring(1);
+            if (elementName.startsWith("L") && elementName.endsWith(";"))
+                elementName = elementName.substring(1, elementName.length() - 1);
+            boolean allowed = name.startsWith("[") && elementName.length() == 1; // array of a primitive type
+            for (String prefix : ALLOWED_PACKAGES)
+                allowed |= elementName.startsWith(prefix);
+            if (!allowed)
+                throw new ClassNotFoundException(name + " is not a class saves are made of");
+            return Class.forName(name, false, DecompressibleInputStream.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            allowedClass(desc.getName());
+            return super.resolveClass(desc);
+        }
+
         @Override
         protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
             ObjectStreamClass resultClassDescriptor = super.readClassDescriptor(); // initially streams descriptor
             Class localClass; // the class in the local JVM that this descriptor represents.
             try {
-                localClass = Class.forName(resultClassDescriptor.getName());
+                localClass = allowedClass(resultClassDescriptor.getName());
             } catch (ClassNotFoundException e) {
                 //logger.error("No local class for " + resultClassDescriptor.getName(), e);
                 System.err.println("[Class Not Found Exception]\nNo local class for " + resultClassDescriptor.getName());
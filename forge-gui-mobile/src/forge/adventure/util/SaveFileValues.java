@@ -0,0 +1,354 @@
+package forge.adventure.util;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.io.*;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Tagged binary encoding of the values of a {@link SaveFileData}: a tag byte telling the type, then the value.
+ * <br><br>
+ * Numbers, strings, vectors, rectangles, images, nested data and the arrays, lists, sets, maps and pairs made of them
+ * are written field by field, so that they read back whatever the classes of the game look like by then. Anything
+ * else falls back to Java serialization, read back through {@link SaveFileData.DecompressibleInputStream}, which only
+ * lets in classes of the game and of the libraries it uses.
+ */
+final class SaveFileValues {
+    static final byte NULL = 0;
+    static final byte BOOLEAN = 1;
+    static final byte BYTE = 2;
+    static final byte SHORT = 3;
+    static final byte INT = 4;
+    static final byte LONG = 5;
+    static final byte FLOAT = 6;
+    static final byte DOUBLE = 7;
+    static final byte STRING = 8;
+    static final byte BYTE_ARRAY = 9;
+    static final byte INT_ARRAY = 10;
+    static final byte LONG_ARRAY = 11;
+    static final byte FLOAT_ARRAY = 12;
+    static final byte ARRAY = 13;
+    static final byte LIST = 14;
+    static final byte SET = 15;
+    static final byte MAP = 16;
+    static final byte PAIR = 17;
+    static final byte VECTOR2 = 18;
+    static final byte RECTANGLE = 19;
+    static final byte PIXMAP = 20;
+    static final byte DATA = 21;
+    static final byte SERIALIZED = 22;
+
+    // what a length beyond the data that is known to be there is trusted with at a time
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private SaveFileValues() {
+    }
+
+    static byte[] toBytes(Object value) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(stream);
+        write(out, value);
+        out.flush();
+        return stream.toByteArray();
+    }
+
+    /**
+     * Decodes a value written by {@link #toBytes}. A save may have been edited by hand or crafted, so a length in it
+     * is refused with a {@link StreamCorruptedException} when it is negative or more than the rest of the bytes hold,
+     * before anything is allocated for it.
+     */
+    static Object fromBytes(byte[] bytes) throws IOException {
+        return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    static void write(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof byte[]) {
+            byte[] array = (byte[]) value;
+            out.writeByte(BYTE_ARRAY);
+            out.writeInt(array.length);
+            out.write(array);
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            out.writeByte(INT_ARRAY);
+            out.writeInt(array.length);
+            for (int element : array)
+                out.writeInt(element);
+        } else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            out.writeByte(LONG_ARRAY);
+            out.writeInt(array.length);
+            for (long element : array)
+                out.writeLong(element);
+        } else if (value instanceof float[]) {
+            float[] array = (float[]) value;
+            out.writeByte(FLOAT_ARRAY);
+            out.writeInt(array.length);
+            for (float element : array)
+                out.writeFloat(element);
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            out.writeByte(ARRAY);
+            writeString(out, value.getClass().getComponentType().getName());
+            out.writeInt(array.length);
+            for (Object element : array)
+                write(out, element);
+        } else if (value.getClass() == ArrayList.class) {
+            out.writeByte(LIST);
+            writeElements(out, (Collection<?>) value);
+        } else if (value.getClass() == HashSet.class) {
+            out.writeByte(SET);
+            writeElements(out, (Collection<?>) value);
+        } else if (value.getClass() == HashMap.class) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                write(out, entry.getKey());
+                write(out, entry.getValue());
+            }
+        } else if (value instanceof ImmutablePair) {
+            Pair<?, ?> pair = (Pair<?, ?>) value;
+            out.writeByte(PAIR);
+            write(out, pair.getLeft());
+            write(out, pair.getRight());
+        } else if (value instanceof Vector2) {
+            Vector2 vector = (Vector2) value;
+            out.writeByte(VECTOR2);
+            out.writeFloat(vector.x);
+            out.writeFloat(vector.y);
+        } else if (value instanceof Rectangle) {
+            Rectangle rectangle = (Rectangle) value;
+            out.writeByte(RECTANGLE);
+            out.writeFloat(rectangle.x);
+            out.writeFloat(rectangle.y);
+            out.writeFloat(rectangle.width);
+            out.writeFloat(rectangle.height);
+        } else if (value instanceof Pixmap) {
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            PixmapIO.PNG writer = new PixmapIO.PNG();
+            writer.setFlipY(false);
+            writer.write(png, (Pixmap) value);
+            out.writeByte(PIXMAP);
+            out.writeInt(png.size());
+            png.writeTo(out);
+        } else if (value instanceof SaveFileData) {
+            out.writeByte(DATA);
+            ((SaveFileData) value).write(out);
+        } else {
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            try (ObjectOutputStream objStream = new ObjectOutputStream(serialized)) {
+                objStream.writeObject(value);
+            }
+            out.writeByte(SERIALIZED);
+            out.writeInt(serialized.size());
+            serialized.writeTo(out);
+        }
+    }
+
+    private static void writeElements(DataOutputStream out, Collection<?> elements) throws IOException {
+        out.writeInt(elements.size());
+        for (Object element : elements)
+            write(out, element);
+    }
+
+    /** Strings as UTF-8 with their length in bytes, which unlike writeUTF() has no limit. */
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length written before the data it is the length of, refusing a negative one.
+     */
+    static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0)
+            throw new StreamCorruptedException("Negative length " + length);
+        return length;
+    }
+
+    /**
+     * Reads bytes written with their length. The stream may be decompressed on the fly and not know how much is
+     * left in it, so only what it says it holds is allocated at once; the rest is read a block at a time, and a
+     * length that runs past the end of the data fails once that is reached rather than when allocating it.
+     */
+    static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = readLength(in);
+        if (length <= in.available()) {
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return bytes;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(length, BLOCK_SIZE));
+        byte[] block = new byte[Math.min(length, BLOCK_SIZE)];
+        for (int left = length; left > 0; ) {
+            int read = in.read(block, 0, Math.min(left, block.length));
+            if (read < 0)
+                throw new StreamCorruptedException("Length " + length + " runs past the end of the data");
+            bytes.write(block, 0, read);
+            left -= read;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the number of elements of an array or a collection, refusing it when the rest of the bytes can't hold
+     * that many elements of at least {@code minElementSize} bytes each.
+     */
+    private static int readCount(DataInputStream in, int minElementSize) throws IOException {
+        int count = readLength(in);
+        if ((long) count * minElementSize > in.available())
+            throw new StreamCorruptedException("Count " + count + " runs past the end of the data");
+        return count;
+    }
+
+    // only ever reads from the bytes of fromBytes(), so the stream knows how many of them are left
+    private static Object read(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                return readString(in);
+            case BYTE_ARRAY: {
+                return readBytes(in);
+            }
+            case INT_ARRAY: {
+                int[] array = new int[readCount(in, 4)];
+                for (int i = 0; i < array.length; i++)
+                    array[i] = in.readInt();
+                return array;
+            }
+            case LONG_ARRAY: {
+                long[] array = new long[readCount(in, 8)];
+                for (int i = 0; i < array.length; i++)
+                    array[i] = in.readLong();
+                return array;
+            }
+            case FLOAT_ARRAY: {
+                float[] array = new float[readCount(in, 4)];
+                for (int i = 0; i < array.length; i++)
+                    array[i] = in.readFloat();
+                return array;
+            }
+            case ARRAY: {
+                Class<?> componentType;
+                try {
+                    componentType = SaveFileData.DecompressibleInputStream.allowedClass(readString(in));
+                } catch (ClassNotFoundException e) {
+                    throw new InvalidClassException(e.getMessage());
+                }
+                // every element has a tag byte at least
+                Object array = Array.newInstance(componentType, readCount(in, 1));
+                for (int i = 0; i < Array.getLength(array); i++)
+                    Array.set(array, i, read(in));
+                return array;
+            }
+            case LIST: {
+                int size = readCount(in, 1);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++)
+                    list.add(read(in));
+                return list;
+            }
+            case SET: {
+                int size = readCount(in, 1);
+                Set<Object> set = new HashSet<>();
+                for (int i = 0; i < size; i++)
+                    set.add(read(in));
+                return set;
+            }
+            case MAP: {
+                int size = readCount(in, 2);
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    Object key = read(in);
+                    map.put(key, read(in));
+                }
+                return map;
+            }
+            case PAIR: {
+                Object left = read(in);
+                return Pair.of(left, read(in));
+            }
+            case VECTOR2: {
+                float x = in.readFloat();
+                return new Vector2(x, in.readFloat());
+            }
+            case RECTANGLE: {
+                float x = in.readFloat();
+                float y = in.readFloat();
+                float width = in.readFloat();
+                return new Rectangle(x, y, width, in.readFloat());
+            }
+            case PIXMAP: {
+                byte[] png = readBytes(in);
+                return new Pixmap(png, 0, png.length);
+            }
+            case DATA:
+                return SaveFileData.read(in);
+            case SERIALIZED: {
+                byte[] serialized = readBytes(in);
+                try (ObjectInputStream objStream = new SaveFileData.DecompressibleInputStream(new ByteArrayInputStream(serialized))) {
+                    return objStream.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new InvalidClassException(e.getMessage());
+                }
+            }
+            default:
+                throw new StreamCorruptedException("Unknown value tag " + tag);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -31,7 +33,7 @@ public abstract class Serializer {
         }
     }
 
-    static public Pixmap ReadPixmap(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    static public Pixmap ReadPixmap(DataInput in) throws IOException {
 
         int length = in.readInt();
         if (length == 0)
@@ -44,7 +46,7 @@ public abstract class Serializer {
 
     }
 
-    public static void WritePixmap(ObjectOutputStream out, Pixmap pixmap, boolean flip) throws IOException {
+    public static void WritePixmap(DataOutput out, Pixmap pixmap, boolean flip) throws IOException {
         if (pixmap != null) {
             PixmapIO.PNG png = new PixmapIO.PNG();
             png.setFlipY(flip);
@@ -0,0 +1,251 @@
+package forge.adventure.util;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Uniform grid over the rectangles of a map, so that overlap and nearest queries only look at the cells around them
+ * instead of every rectangle of the map.
+ * <br><br>
+ * Areas are kept by reference: one that grows has to be added again to reach the new cells it covers. Areas outside
+ * of the bounds the grid was built for go in its edge cells, so they are still found, just not as fast.
+ */
+public class SpatialGrid<T> {
+    private final float originX, originY, cellSize;
+    private final int columns, rows;
+    private final Array<Entry<T>>[] cells;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SpatialGrid(Rectangle bounds, float cellSize) {
+        this.originX = bounds.x;
+        this.originY = bounds.y;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(bounds.width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(bounds.height / cellSize));
+        this.cells = new Array[columns * rows];
+    }
+
+    private int column(float x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor((x - originX) / cellSize)));
+    }
+
+    private int row(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((y - originY) / cellSize)));
+    }
+
+    public void add(Rectangle area, T item) {
+        add(new Entry<>(area, item), column(area.x), column(area.x + area.width), row(area.y), row(area.y + area.height));
+    }
+
+    public void add(float x, float y, T item) {
+        add(new Rectangle(x, y, 0, 0), item);
+    }
+
+    private void add(Entry<T> entry, int fromColumn, int toColumn, int fromRow, int toRow) {
+        for (int i = fromColumn; i <= toColumn; i++) {
+            for (int j = fromRow; j <= toRow; j++) {
+                Array<Entry<T>> cell = cells[i + j * columns];
+                if (cell == null)
+                    cells[i + j * columns] = cell = new Array<>(false, 4);
+                cell.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Adds an area that grew from the given bounds to the cells it didn't cover yet.
+     */
+    private void grow(Rectangle before, Rectangle area, T item) {
+        int fromColumn = column(before.x), toColumn = column(before.x + before.width);
+        int fromRow = row(before.y), toRow = row(before.y + before.height);
+        Entry<T> entry = new Entry<>(area, item);
+        int newFromColumn = column(area.x), newToColumn = column(area.x + area.width);
+        int newFromRow = row(area.y), newToRow = row(area.y + area.height);
+        for (int i = newFromColumn; i <= newToColumn; i++) {
+            for (int j = newFromRow; j <= newToRow; j++) {
+                if (i >= fromColumn && i <= toColumn && j >= fromRow && j <= toRow)
+                    continue;
+                add(entry, i, i, j, j);
+            }
+        }
+    }
+
+    /**
+     * @return whether any area overlaps the given one, the way {@link Rectangle#overlaps(Rectangle)} tells.
+     */
+    public boolean overlaps(Rectangle area) {
+        for (int i = column(area.x), toColumn = column(area.x + area.width); i <= toColumn; i++) {
+            for (int j = row(area.y), toRow = row(area.y + area.height); j <= toRow; j++) {
+                Array<Entry<T>> cell = cells[i + j * columns];
+                if (cell == null)
+                    continue;
+                for (int k = 0; k < cell.size; k++) {
+                    if (cell.get(k).area.overlaps(area))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the item whose area is nearest to the given point, or null if the grid is empty
+     */
+    public T nearest(float x, float y) {
+        int cx = column(x), cy = row(y);
+        T best = null;
+        float bestDistance = Float.POSITIVE_INFINITY;
+        for (int r = 0; ; r++) {
+            for (int i = cx - r; i <= cx + r; i++) {
+                for (int j = cy - r; j <= cy + r; j += (i == cx - r || i == cx + r || r == 0) ? 1 : 2 * r) {
+                    if (i < 0 || j < 0 || i >= columns || j >= rows)
+                        continue;
+                    Array<Entry<T>> cell = cells[i + j * columns];
+                    if (cell == null)
+                        continue;
+                    for (int k = 0; k < cell.size; k++) {
+                        Entry<T> entry = cell.get(k);
+                        float distance = entry.distance2(x, y);
+                        if (distance < bestDistance) {
+                            bestDistance = distance;
+                            best = entry.item;
+                        }
+                    }
+                }
+            }
+            if (cx - r <= 0 && cy - r <= 0 && cx + r >= columns - 1 && cy + r >= rows - 1)
+                return best;
+            // anything closer than this would have a point in the cells seen so far
+            float reach = Math.min(Math.min(x - (originX + (cx - r) * cellSize), originX + (cx + r + 1) * cellSize - x),
+                    Math.min(y - (originY + (cy - r) * cellSize), originY + (cy + r + 1) * cellSize - y));
+            if (best != null && reach > 0 && reach * reach >= bestDistance)
+                return best;
+        }
+    }
+
+    /**
+     * Adds the items whose area is within the given distance of a point to result, each once.
+     */
+    public void within(float x, float y, float distance, Array<T> result) {
+        int fromColumn = column(x - distance), fromRow = row(y - distance);
+        float distance2 = distance * distance;
+        for (int i = fromColumn, toColumn = column(x + distance); i <= toColumn; i++) {
+            for (int j = fromRow, toRow = row(y + distance); j <= toRow; j++) {
+                Array<Entry<T>> cell = cells[i + j * columns];
+                if (cell == null)
+                    continue;
+                for (int k = 0; k < cell.size; k++) {
+                    Entry<T> entry = cell.get(k);
+                    // an area over several cells is only taken from the first of them that is looked at
+                    if (i != Math.max(fromColumn, column(entry.area.x)) || j != Math.max(fromRow, row(entry.area.y)))
+                        continue;
+                    if (entry.distance2(x, y) <= distance2)
+                        result.add(entry.item);
+                }
+            }
+        }
+    }
+
+    public static Rectangle boundsOf(Array<Rectangle> areas) {
+        if (areas.isEmpty())
+            return new Rectangle();
+        Rectangle bounds = new Rectangle(areas.first());
+        for (Rectangle area : new Array.ArrayIterator<>(areas))
+            bounds.merge(area);
+        return bounds;
+    }
+
+    /**
+     * Merges rectangles that touch edge to edge along a whole side, or that contain one another, into one until none
+     * are left to merge, the same way and in the same order as comparing every pair of them would: each rectangle
+     * takes in the first later one it can, again and again, and the whole list is gone over until nothing changes.
+     * Only the rectangles around each one are compared, by putting them in a grid first.
+     */
+    public static void mergeTouching(Array<Rectangle> rectangles, float cellSize) {
+        if (rectangles.size < 2)
+            return;
+        Rectangle[] rects = rectangles.toArray(Rectangle.class);
+        boolean[] merged = new boolean[rects.length];
+        SpatialGrid<Integer> grid = new SpatialGrid<>(boundsOf(rectangles), cellSize);
+        for (int i = 0; i < rects.length; i++)
+            grid.add(rects[i], i);
+
+        Rectangle around = new Rectangle();
+        Rectangle before = new Rectangle();
+        boolean changed;
+        do {
+            changed = false;
+            for (int i = 0; i < rects.length; i++) {
+                if (merged[i])
+                    continue;
+                Rectangle r1 = rects[i];
+                while (true) {
+                    // whatever touches r1 is less than a unit away from it
+                    around.set(r1.x - 1, r1.y - 1, r1.width + 2, r1.height + 2);
+                    int first = -1;
+                    for (int c = grid.column(around.x), toColumn = grid.column(around.x + around.width); c <= toColumn; c++) {
+                        for (int r = grid.row(around.y), toRow = grid.row(around.y + around.height); r <= toRow; r++) {
+                            Array<Entry<Integer>> cell = grid.cells[c + r * grid.columns];
+                            if (cell == null)
+                                continue;
+                            for (int k = 0; k < cell.size; k++) {
+                                int j = cell.get(k).item;
+                                if (j > i && !merged[j] && (first < 0 || j < first) && touchesOrContains(r1, rects[j]))
+                                    first = j;
+                            }
+                        }
+                    }
+                    if (first < 0)
+                        break;
+                    before.set(r1);
+                    r1.merge(rects[first]);
+                    merged[first] = true;
+                    changed = true;
+                    grid.grow(before, r1, i);
+                }
+            }
+        } while (changed);
+
+        rectangles.clear();
+        for (int i = 0; i < rects.length; i++) {
+            if (!merged[i])
+                rectangles.add(rects[i]);
+        }
+    }
+
+    public static boolean touchesOrContains(Rectangle r1, Rectangle r2) {
+        return (Math.abs(r1.x - (r2.x + r2.width)) < 1 && Math.abs(r1.y - r2.y) < 1 && Math.abs(r1.height - r2.height) < 1)//left edge is the same as right edge
+
+                || (Math.abs((r1.x + r1.width) - r2.x) < 1 && Math.abs(r1.y - r2.y) < 1 && Math.abs(r1.height - r2.height) < 1)//right edge is the same as left edge
+
+                || (Math.abs(r1.x - r2.x) < 1 && Math.abs((r1.y + r1.height) - r2.y) < 1 && Math.abs(r1.width - r2.width) < 1)//top edge is the same as bottom edge
+
+                || (Math.abs(r1.x - r2.x) < 1 && Math.abs(r1.y - (r2.y + r2.height)) < 1 && Math.abs(r1.width - r2.width) < 1)//bottom edge is the same as left edge
+
+                || containsOrEquals(r1, r2) || containsOrEquals(r2, r1);
+    }
+
+    public static boolean containsOrEquals(Rectangle r1, Rectangle r2) {
+        float xmi = r2.x;
+        float xma = xmi + r2.width;
+        float ymi = r2.y;
+        float yma = ymi + r2.height;
+        return xmi >= r1.x && xmi <= r1.x + r1.width && xma >= r1.x && xma <= r1.x + r1.width && ymi >= r1.y && ymi <= r1.y + r1.height && yma >= r1.y && yma <= r1.y + r1.height;
+    }
+
+    private static final class Entry<T> {
+        private final Rectangle area;
+        private final T item;
+
+        private Entry(Rectangle area, T item) {
+            this.area = area;
+            this.item = item;
+        }
+
+        private float distance2(float x, float y) {
+            float dx = Math.max(0, Math.max(area.x - x, x - (area.x + area.width)));
+            float dy = Math.max(0, Math.max(area.y - y, y - (area.y + area.height)));
+            return dx * dx + dy * dy;
+        }
+    }
+}
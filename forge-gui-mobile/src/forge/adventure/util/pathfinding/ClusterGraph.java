@@ -0,0 +1,572 @@
+package forge.adventure.util.pathfinding;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Hierarchical view of a navigation graph (HPA*), so that a path search doesn't go over every vertex of the map.
+ * <br><br>
+ * The map is cut in square clusters. Of the edges that cross from one cluster to the next, a few are kept as
+ * transitions, one or two per stretch of border that can be crossed, and the shortest paths between the transitions
+ * of each cluster are searched once when the graph is built. A search then goes over the transitions, and only
+ * looks at the vertices of the clusters where the path starts and ends, which are connected to it as
+ * {@link Endpoint}s.
+ * <br><br>
+ * Paths short enough are searched over the vertices directly, which is quicker for them and without detours.
+ * <br><br>
+ * The graph is a snapshot: vertices and edges added to the navigation graph afterwards are not seen. Searches share
+ * scratch arrays, so they are to be made from one thread at a time.
+ */
+public class ClusterGraph {
+    /** Stretches of border at least this long get a transition at both ends rather than one in the middle. */
+    private static final int LONG_ENTRANCE = 6;
+    /** Vertices a search may go over before it is left to the transitions; paths this short are found exactly. */
+    private static final int LOCAL_SEARCH_LIMIT = 512;
+
+    private final NavigationVertex[] vertices;
+    private final Map<NavigationVertex, Integer> ids = new HashMap<>();
+    private final int[][] neighbors;
+    private final float[][] costs;
+    private final int[] cluster;
+    // index of each vertex among the members of its cluster
+    private final int[] local;
+    private final int[][] members;
+
+    private final int[] entranceVertex;
+    private final int[] entranceOf;
+    private final int[][] clusterEntrances;
+    // shortest paths from each transition to the rest of its cluster, as distances and previous vertex (local indices)
+    private final float[][] entranceDist;
+    private final int[][] entrancePred;
+    private final int[][] abstractTo;
+    private final float[][] abstractCost;
+
+    // scratch for the searches over vertices, those of the last search are told by their stamp
+    private final float[] searchCost;
+    private final int[] searchFrom;
+    private final int[] searchStamp;
+    private int stamp;
+
+    public ClusterGraph(Collection<NavigationVertex> graphVertices, float clusterWidth, float clusterHeight) {
+        int count = graphVertices.size();
+        searchCost = new float[count];
+        searchFrom = new int[count];
+        searchStamp = new int[count];
+        vertices = graphVertices.toArray(new NavigationVertex[0]);
+        for (int i = 0; i < count; i++)
+            ids.put(vertices[i], i);
+
+        neighbors = new int[count][];
+        costs = new float[count][];
+        for (int i = 0; i < count; i++) {
+            int[] to = new int[vertices[i].outgoingEdges.size];
+            float[] cost = new float[to.length];
+            int n = 0;
+            for (ObjectMap.Entry<NavigationVertex, NavigationEdge> edge : vertices[i].outgoingEdges.entries()) {
+                Integer id = ids.get(edge.key);
+                if (id == null)
+                    continue;
+                to[n] = id;
+                cost[n++] = edge.value.getCost();
+            }
+            neighbors[i] = Arrays.copyOf(to, n);
+            costs[i] = Arrays.copyOf(cost, n);
+        }
+
+        cluster = new int[count];
+        Map<Long, Integer> clusterIds = new HashMap<>();
+        List<List<Integer>> clusterMembers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long cx = (long) Math.floor(vertices[i].pos.x / clusterWidth);
+            long cy = (long) Math.floor(vertices[i].pos.y / clusterHeight);
+            Long key = (cx << 32) ^ (cy & 0xFFFFFFFFL);
+            Integer c = clusterIds.get(key);
+            if (c == null) {
+                c = clusterMembers.size();
+                clusterIds.put(key, c);
+                clusterMembers.add(new ArrayList<>());
+            }
+            cluster[i] = c;
+            clusterMembers.get(c).add(i);
+        }
+        local = new int[count];
+        members = new int[clusterMembers.size()][];
+        for (int c = 0; c < members.length; c++) {
+            List<Integer> list = clusterMembers.get(c);
+            members[c] = new int[list.size()];
+            for (int l = 0; l < list.size(); l++) {
+                members[c][l] = list.get(l);
+                local[list.get(l)] = l;
+            }
+        }
+
+        // edges crossing between each pair of clusters, from the lower numbered one
+        Map<Long, List<int[]>> crossings = new HashMap<>();
+        for (int u = 0; u < count; u++) {
+            for (int v : neighbors[u]) {
+                if (cluster[u] >= cluster[v])
+                    continue;
+                Long key = (long) cluster[u] * members.length + cluster[v];
+                List<int[]> list = crossings.get(key);
+                if (list == null)
+                    crossings.put(key, list = new ArrayList<>());
+                list.add(new int[] { u, v });
+            }
+        }
+        List<int[]> transitions = new ArrayList<>();
+        for (List<int[]> edges : crossings.values())
+            pickTransitions(edges, transitions);
+
+        entranceOf = new int[count];
+        Arrays.fill(entranceOf, -1);
+        List<Integer> entrances = new ArrayList<>();
+        for (int[] transition : transitions) {
+            for (int v : transition) {
+                if (entranceOf[v] < 0) {
+                    entranceOf[v] = entrances.size();
+                    entrances.add(v);
+                }
+            }
+        }
+        int entranceCount = entrances.size();
+        entranceVertex = new int[entranceCount];
+        List<List<Integer>> byCluster = new ArrayList<>();
+        for (int c = 0; c < members.length; c++)
+            byCluster.add(new ArrayList<>());
+        for (int e = 0; e < entranceCount; e++) {
+            entranceVertex[e] = entrances.get(e);
+            byCluster.get(cluster[entranceVertex[e]]).add(e);
+        }
+        clusterEntrances = new int[members.length][];
+        for (int c = 0; c < members.length; c++)
+            clusterEntrances[c] = toArray(byCluster.get(c));
+
+        entranceDist = new float[entranceCount][];
+        entrancePred = new int[entranceCount][];
+        for (int e = 0; e < entranceCount; e++) {
+            int c = cluster[entranceVertex[e]];
+            entranceDist[e] = new float[members[c].length];
+            entrancePred[e] = new int[members[c].length];
+            searchCluster(c, new int[] { entranceVertex[e] }, new float[] { 0 }, entranceDist[e], entrancePred[e]);
+        }
+
+        List<List<Integer>> abstractToList = new ArrayList<>();
+        List<List<Float>> abstractCostList = new ArrayList<>();
+        for (int e = 0; e < entranceCount; e++) {
+            List<Integer> to = new ArrayList<>();
+            List<Float> cost = new ArrayList<>();
+            for (int f : clusterEntrances[cluster[entranceVertex[e]]]) {
+                float d = entranceDist[e][local[entranceVertex[f]]];
+                if (f != e && d < Float.POSITIVE_INFINITY) {
+                    to.add(f);
+                    cost.add(d);
+                }
+            }
+            abstractToList.add(to);
+            abstractCostList.add(cost);
+        }
+        for (int[] transition : transitions) {
+            int a = entranceOf[transition[0]], b = entranceOf[transition[1]];
+            float cost = edgeCost(transition[0], transition[1]);
+            abstractToList.get(a).add(b);
+            abstractCostList.get(a).add(cost);
+            abstractToList.get(b).add(a);
+            abstractCostList.get(b).add(cost);
+        }
+        abstractTo = new int[entranceCount][];
+        abstractCost = new float[entranceCount][];
+        for (int e = 0; e < entranceCount; e++) {
+            abstractTo[e] = toArray(abstractToList.get(e));
+            abstractCost[e] = new float[abstractTo[e].length];
+            for (int k = 0; k < abstractCost[e].length; k++)
+                abstractCost[e][k] = abstractCostList.get(e).get(k);
+        }
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = list.get(i);
+        return result;
+    }
+
+    private boolean adjacent(int u, int v) {
+        if (u == v)
+            return true;
+        for (int w : neighbors[u]) {
+            if (w == v)
+                return true;
+        }
+        return false;
+    }
+
+    private float edgeCost(int u, int v) {
+        for (int k = 0; k < neighbors[u].length; k++) {
+            if (neighbors[u][k] == v)
+                return costs[u][k];
+        }
+        return Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Splits the edges between two clusters into stretches of border, edges that lie next to each other on both
+     * sides, and keeps one edge of each short stretch and the two ends of a long one. Whatever edge of a stretch a
+     * path would take, it can go to a kept one without leaving the clusters.
+     */
+    private void pickTransitions(List<int[]> edges, List<int[]> transitions) {
+        int n = edges.size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++)
+            parent[i] = i;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (adjacent(edges.get(i)[0], edges.get(j)[0]) && adjacent(edges.get(i)[1], edges.get(j)[1]))
+                    parent[find(parent, i)] = find(parent, j);
+            }
+        }
+        Map<Integer, List<int[]>> stretches = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            List<int[]> stretch = stretches.get(find(parent, i));
+            if (stretch == null)
+                stretches.put(find(parent, i), stretch = new ArrayList<>());
+            stretch.add(edges.get(i));
+        }
+        for (List<int[]> stretch : stretches.values()) {
+            float cx = 0, cy = 0;
+            for (int[] edge : stretch) {
+                cx += midX(edge);
+                cy += midY(edge);
+            }
+            cx /= stretch.size();
+            cy /= stretch.size();
+            int[] middle = farthest(stretch, cx, cy, false);
+            if (stretch.size() < LONG_ENTRANCE) {
+                transitions.add(middle);
+            } else {
+                int[] end = farthest(stretch, cx, cy, true);
+                int[] otherEnd = farthest(stretch, midX(end), midY(end), true);
+                transitions.add(end);
+                transitions.add(otherEnd);
+            }
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i)
+            i = parent[i] = parent[parent[i]];
+        return i;
+    }
+
+    private float midX(int[] edge) {
+        return (vertices[edge[0]].pos.x + vertices[edge[1]].pos.x) / 2;
+    }
+
+    private float midY(int[] edge) {
+        return (vertices[edge[0]].pos.y + vertices[edge[1]].pos.y) / 2;
+    }
+
+    /** The edge of the stretch whose middle is farthest from (or nearest to) the given point. */
+    private int[] farthest(List<int[]> stretch, float x, float y, boolean farthest) {
+        int[] best = null;
+        float bestDistance = 0;
+        for (int[] edge : stretch) {
+            float dx = midX(edge) - x, dy = midY(edge) - y;
+            float distance = dx * dx + dy * dy;
+            if (best == null || (farthest ? distance > bestDistance : distance < bestDistance)) {
+                best = edge;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Shortest paths within cluster c from the given vertices, each starting at its own cost. Clusters are a few
+     * dozen vertices, so the closest one left is just looked for in turn.
+     */
+    private void searchCluster(int c, int[] seeds, float[] seedCosts, float[] dist, int[] pred) {
+        int n = members[c].length;
+        Arrays.fill(dist, Float.POSITIVE_INFINITY);
+        Arrays.fill(pred, -1);
+        boolean[] done = new boolean[n];
+        for (int s = 0; s < seeds.length; s++) {
+            if (cluster[seeds[s]] == c)
+                dist[local[seeds[s]]] = Math.min(dist[local[seeds[s]]], seedCosts[s]);
+        }
+        while (true) {
+            int next = -1;
+            for (int l = 0; l < n; l++) {
+                if (!done[l] && dist[l] < Float.POSITIVE_INFINITY && (next < 0 || dist[l] < dist[next]))
+                    next = l;
+            }
+            if (next < 0)
+                return;
+            done[next] = true;
+            int u = members[c][next];
+            for (int k = 0; k < neighbors[u].length; k++) {
+                int v = neighbors[u][k];
+                if (cluster[v] != c)
+                    continue;
+                float d = dist[next] + costs[u][k];
+                if (d < dist[local[v]]) {
+                    dist[local[v]] = d;
+                    pred[local[v]] = next;
+                }
+            }
+        }
+    }
+
+    public boolean contains(NavigationVertex vertex) {
+        return ids.containsKey(vertex);
+    }
+
+    /**
+     * Where a path starts or ends: a vertex of the graph.
+     */
+    public Endpoint connect(NavigationVertex vertex) {
+        Array<NavigationVertex> seeds = new Array<>(1);
+        seeds.add(vertex);
+        return connect(vertex, true, seeds);
+    }
+
+    /**
+     * Where a path starts or ends: a point off the graph, with the vertices it can go straight to.
+     */
+    public Endpoint connect(NavigationVertex node, Array<NavigationVertex> seeds) {
+        return connect(node, false, seeds);
+    }
+
+    private Endpoint connect(NavigationVertex node, boolean inGraph, Array<NavigationVertex> seeds) {
+        int[] seedIds = new int[seeds.size];
+        float[] seedCosts = new float[seeds.size];
+        List<Integer> clusters = new ArrayList<>();
+        int n = 0;
+        for (NavigationVertex seed : seeds) {
+            Integer id = ids.get(seed);
+            if (id == null)
+                continue;
+            seedIds[n] = id;
+            seedCosts[n++] = node.pos.dst(seed.pos);
+            if (!clusters.contains(cluster[id]))
+                clusters.add(cluster[id]);
+        }
+        seedIds = Arrays.copyOf(seedIds, n);
+        seedCosts = Arrays.copyOf(seedCosts, n);
+
+        Endpoint endpoint = new Endpoint(node, inGraph, toArray(clusters), seedIds, seedCosts);
+        for (int i = 0; i < endpoint.clusters.length; i++) {
+            int c = endpoint.clusters[i];
+            endpoint.dist[i] = new float[members[c].length];
+            endpoint.pred[i] = new int[members[c].length];
+            searchCluster(c, seedIds, seedCosts, endpoint.dist[i], endpoint.pred[i]);
+        }
+        return endpoint;
+    }
+
+    /**
+     * @return a path from one endpoint to the other through the vertices of the graph, empty if there is none. Short
+     * paths are the shortest there are; longer ones go over the transitions, and may take a slight detour at them.
+     */
+    public ProgressableGraphPath<NavigationVertex> findPath(Endpoint from, Endpoint to) {
+        ProgressableGraphPath<NavigationVertex> path = findLocalPath(from, to);
+        return path != null ? path : findAbstractPath(from, to);
+    }
+
+    /**
+     * A* over the vertices themselves, given up on once it has gone over {@link #LOCAL_SEARCH_LIMIT} of them.
+     */
+    private ProgressableGraphPath<NavigationVertex> findLocalPath(Endpoint from, Endpoint to) {
+        stamp++;
+        PriorityQueue<float[]> open = new PriorityQueue<>(64, (a, b) -> Float.compare(a[0], b[0]));
+        for (int s = 0; s < from.seeds.length; s++)
+            visit(open, from.seeds[s], -1, from.seedCosts[s], to);
+        float best = Float.POSITIVE_INFINITY;
+        int last = -1;
+        int expanded = 0;
+        while (!open.isEmpty()) {
+            float[] next = open.poll();
+            if (next[0] >= best)
+                break;
+            int u = (int) next[1];
+            if (next[0] > searchCost[u] + vertices[u].pos.dst(to.node.pos))
+                continue; // reached more cheaply since
+            if (++expanded > LOCAL_SEARCH_LIMIT)
+                return null;
+            for (int s = 0; s < to.seeds.length; s++) {
+                if (to.seeds[s] == u && searchCost[u] + to.seedCosts[s] < best) {
+                    best = searchCost[u] + to.seedCosts[s];
+                    last = u;
+                }
+            }
+            for (int k = 0; k < neighbors[u].length; k++)
+                visit(open, neighbors[u][k], u, searchCost[u] + costs[u][k], to);
+        }
+
+        ProgressableGraphPath<NavigationVertex> path = new ProgressableGraphPath<>();
+        if (last < 0)
+            return open.isEmpty() ? path : null;
+        if (!from.inGraph)
+            path.add(from.node);
+        int mark = path.getCount();
+        for (int v = last; v >= 0; v = searchFrom[v])
+            path.nodes.insert(mark, vertices[v]);
+        if (!to.inGraph)
+            path.add(to.node);
+        return path;
+    }
+
+    private void visit(PriorityQueue<float[]> open, int v, int from, float cost, Endpoint to) {
+        if (searchStamp[v] == stamp && cost >= searchCost[v])
+            return;
+        searchStamp[v] = stamp;
+        searchCost[v] = cost;
+        searchFrom[v] = from;
+        open.add(new float[] { cost + vertices[v].pos.dst(to.node.pos), v });
+    }
+
+    private ProgressableGraphPath<NavigationVertex> findAbstractPath(Endpoint from, Endpoint to) {
+        final int start = entranceVertex.length, goal = start + 1;
+        final float[] g = new float[start + 2];
+        final int[] cameFrom = new int[start + 2];
+        Arrays.fill(g, Float.POSITIVE_INFINITY);
+        Arrays.fill(cameFrom, -1);
+        int meet = -1;
+
+        PriorityQueue<float[]> open = new PriorityQueue<>(16, (a, b) -> Float.compare(a[0], b[0]));
+        g[start] = 0;
+        open.add(new float[] { 0, start });
+        while (!open.isEmpty()) {
+            float[] next = open.poll();
+            int node = (int) next[1];
+            if (node == goal)
+                break;
+            if (next[0] > g[node] + heuristic(node, to))
+                continue; // reached more cheaply since
+            if (node == start) {
+                for (int i = 0; i < from.clusters.length; i++) {
+                    int c = from.clusters[i];
+                    for (int e : clusterEntrances[c])
+                        relax(open, g, cameFrom, start, e, from.dist[i][local[entranceVertex[e]]], to);
+                    int j = to.indexOf(c);
+                    if (j < 0)
+                        continue;
+                    // both ends in the same cluster, they may be joined without leaving it
+                    for (int l = 0; l < members[c].length; l++) {
+                        float d = from.dist[i][l] + to.dist[j][l];
+                        if (relax(open, g, cameFrom, start, goal, d, to))
+                            meet = members[c][l];
+                    }
+                }
+            } else {
+                for (int k = 0; k < abstractTo[node].length; k++)
+                    relax(open, g, cameFrom, node, abstractTo[node][k], g[node] + abstractCost[node][k], to);
+                int v = entranceVertex[node];
+                int j = to.indexOf(cluster[v]);
+                if (j >= 0)
+                    relax(open, g, cameFrom, node, goal, g[node] + to.dist[j][local[v]], to);
+            }
+        }
+
+        ProgressableGraphPath<NavigationVertex> path = new ProgressableGraphPath<>();
+        if (g[goal] == Float.POSITIVE_INFINITY)
+            return path;
+
+        List<Integer> chain = new ArrayList<>();
+        for (int node = goal; node >= 0; node = cameFrom[node])
+            chain.add(0, node);
+
+        if (!from.inGraph)
+            path.add(from.node);
+        if (chain.size() == 2) {
+            appendFromStart(path, from, meet);
+            appendToGoal(path, to, meet);
+        } else {
+            appendFromStart(path, from, entranceVertex[chain.get(1)]);
+            for (int i = 1; i + 2 < chain.size(); i++) {
+                int a = chain.get(i), b = chain.get(i + 1);
+                int va = entranceVertex[a], vb = entranceVertex[b];
+                if (cluster[va] != cluster[vb]) {
+                    path.add(vertices[vb]);
+                    continue;
+                }
+                int mark = path.getCount();
+                for (int l = local[vb]; l != local[va]; l = entrancePred[a][l])
+                    path.nodes.insert(mark, vertices[members[cluster[vb]][l]]);
+            }
+            appendToGoal(path, to, entranceVertex[chain.get(chain.size() - 2)]);
+        }
+        if (!to.inGraph)
+            path.add(to.node);
+        return path;
+    }
+
+    private boolean relax(PriorityQueue<float[]> open, float[] g, int[] cameFrom, int from, int node, float cost, Endpoint to) {
+        if (cost >= g[node])
+            return false;
+        g[node] = cost;
+        cameFrom[node] = from;
+        open.add(new float[] { cost + heuristic(node, to), node });
+        return true;
+    }
+
+    private float heuristic(int node, Endpoint to) {
+        if (node >= entranceVertex.length)
+            return 0;
+        return vertices[entranceVertex[node]].pos.dst(to.node.pos);
+    }
+
+    /** Adds the vertices from where the start joins the graph up to v. */
+    private void appendFromStart(ProgressableGraphPath<NavigationVertex> path, Endpoint from, int v) {
+        int i = from.indexOf(cluster[v]);
+        int mark = path.getCount();
+        for (int l = local[v]; l >= 0; l = from.pred[i][l])
+            path.nodes.insert(mark, vertices[members[cluster[v]][l]]);
+    }
+
+    /** Adds the vertices after v up to where the path leaves the graph for the goal. */
+    private void appendToGoal(ProgressableGraphPath<NavigationVertex> path, Endpoint to, int v) {
+        int i = to.indexOf(cluster[v]);
+        for (int l = to.pred[i][local[v]]; l >= 0; l = to.pred[i][l])
+            path.add(vertices[members[cluster[v]][l]]);
+    }
+
+    /**
+     * A start or an end of paths, with the shortest ways to it from the vertices of the clusters it is in.
+     * Endpoints can be kept and used for any number of searches, the same end for many paths in particular.
+     */
+    public static final class Endpoint {
+        private final NavigationVertex node;
+        private final boolean inGraph;
+        private final int[] clusters;
+        private final float[][] dist;
+        private final int[][] pred;
+        private final int[] seeds;
+        private final float[] seedCosts;
+
+        private Endpoint(NavigationVertex node, boolean inGraph, int[] clusters, int[] seeds, float[] seedCosts) {
+            this.node = node;
+            this.inGraph = inGraph;
+            this.clusters = clusters;
+            this.dist = new float[clusters.length][];
+            this.pred = new int[clusters.length][];
+            this.seeds = seeds;
+            this.seedCosts = seedCosts;
+        }
+
+        private int indexOf(int c) {
+            for (int i = 0; i < clusters.length; i++) {
+                if (clusters[i] == c)
+                    return i;
+            }
+            return -1;
+        }
+    }
+}
@@ -5,15 +5,38 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
 import forge.adventure.stage.MapStage;
+import forge.adventure.util.SpatialGrid;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class NavigationMap {
+    /** Time given to path searches each frame; requests past it wait for the next frames. */
+    private static final long PATH_BUDGET_NANOS = 2_000_000L;
+    private static final int CACHED_DESTINATIONS = 32;
+
     float spriteSize = 16f;
     boolean rayCollided = false;
 
     public NavigationGraph navGraph = new NavigationGraph();
+    private SpatialGrid<NavigationVertex> vertexGrid;
+    private int vertexCount;
+    private final Map<Vector2, NavigationVertex> vertexAt = new HashMap<>();
+    private ClusterGraph clusterGraph;
+
+    // destinations connected to the graph lately, sprites tend to head for the same few places. Whole paths aren't
+    // kept: they start wherever the sprite stands, which is seldom the same point twice. The graph only changes
+    // with the map, and initializeGeometryGraph() drops these with it.
+    private final Map<Vector2, ClusterGraph.Endpoint> destinations = new LinkedHashMap<Vector2, ClusterGraph.Endpoint>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Vector2, ClusterGraph.Endpoint> eldest) {
+            return size() > CACHED_DESTINATIONS;
+        }
+    };
+    private final Map<Object, PathRequest> requests = new LinkedHashMap<>();
+    private long spentNanos;
 
     Array<Rectangle> navBounds = new Array<>();
     float half = (spriteSize / 2);
@@ -164,104 +187,159 @@ public class NavigationMap {
 
         navGraph.removeVertexIf(v -> navGraph.getConnections(v).isEmpty());
 
+        vertexGrid = new SpatialGrid<>(new Rectangle(0, 0, width * tileWidth, height * tileHeight), tileWidth * 4);
+        vertexCount = 0;
+        for (NavigationVertex vertex : navGraph.getNodes()) {
+            vertexGrid.add(vertex.pos.x, vertex.pos.y, vertex);
+            vertexCount++;
+        }
+
         //Add additional vertices for map waypoints
         for (Vector2 waypointVector : MapStage.getInstance().waypoints.values()) {
             NavigationVertex waypointVertex = navGraph.addVertex(waypointVector);
+            for (NavigationVertex vertex : visibleVertices(waypointVector, 4, true))
+                navGraph.addEdgeUnchecked(waypointVertex, vertex);
+            vertexGrid.add(waypointVector.x, waypointVector.y, waypointVertex);
+            vertexCount++;
+        }
 
-            ArrayList<NavigationVertex> vertices = new ArrayList<>(navGraph.nodes.values());
-            vertices.sort(Comparator.comparingInt(o -> Math.round((o.pos.x - waypointVector.x) * (o.pos.x - waypointVector.x) + (o.pos.y - waypointVector.y) * (o.pos.y - waypointVector.y))));
+        // the graph only changes with the map, and the searches over it with it
+        vertexAt.clear();
+        for (NavigationVertex vertex : navGraph.getNodes())
+            vertexAt.put(vertex.pos, vertex);
+        clusterGraph = new ClusterGraph(navGraph.getNodes(), tileWidth * 8, tileHeight * 8);
+        destinations.clear();
+        requests.clear();
+    }
 
-            for (int i = 0, j=0; i < vertices.size() && j < 4; i++) {
-                if (waypointVector.epsilonEquals(vertices.get(i).pos))
-                    continue; //rayCast() crashes if params are equal
-                rayCollided = false;
-                MapStage.getInstance().gdxWorld.rayCast(callback, waypointVector, vertices.get(i).pos);
-                if (!rayCollided) {
-                    navGraph.addEdgeUnchecked(waypointVertex, vertices.get(i));
-                    j++;
-                }
-            }
-        }
+    /**
+     * @return the vertex of the graph nearest to the given position, leaving out those added for a path search
+     */
+    public NavigationVertex getNearestVertex(Vector2 position) {
+        return vertexGrid == null ? null : vertexGrid.nearest(position.x, position.y);
     }
 
 
+    /**
+     * @return the shortest path from origin to destination, through the vertices the origin can go straight to and
+     * those that can go straight to the destination; empty if there is none
+     */
     public ProgressableGraphPath<NavigationVertex> findShortestPath(Float spriteSize, Vector2 origin, Vector2 destination) {
-        Array<Fixture> fixtures = new Array<>();
-        MapStage.getInstance().gdxWorld.getFixtures(fixtures);
-
-        boolean originPrecalculated = navGraph.containsNode(origin);
-        boolean destinationPrecalculated = navGraph.containsNode(destination);
-
-        try {
-            if (!originPrecalculated)
-                navGraph.addVertex(origin);
-
-            if (!destinationPrecalculated)
-                navGraph.addVertex(destination);
+        if (clusterGraph == null)
+            return new ProgressableGraphPath<>();
+        ClusterGraph.Endpoint to = destinations.get(destination);
+        if (to == null) {
+            to = connect(destination, false);
+            destinations.put(new Vector2(destination), to);
+        }
+        return clusterGraph.findPath(connect(origin, true), to);
+    }
 
-            ArrayList<NavigationVertex> vertices = new ArrayList<>();
+    private ClusterGraph.Endpoint connect(Vector2 position, boolean fromPosition) {
+        NavigationVertex vertex = vertexAt.get(position);
+        if (vertex != null && clusterGraph.contains(vertex))
+            return clusterGraph.connect(vertex);
+        return clusterGraph.connect(new NavigationVertex(new Vector2(position)), visibleVertices(position, 10, fromPosition));
+    }
 
-            if (!(originPrecalculated && destinationPrecalculated)) {
-                vertices.addAll(navGraph.nodes.values());
-                vertices.sort(Comparator.comparingInt(o -> Math.round((o.pos.x - origin.x) * (o.pos.x - origin.x) + (o.pos.y - origin.y) * (o.pos.y - origin.y))));
+    /**
+     * @return up to count of the vertices nearest to position that have nothing in the way to (or from) it, nearest
+     * first; rays are only cast to the vertices around, further ones are looked at if these are not enough
+     */
+    private Array<NavigationVertex> visibleVertices(Vector2 position, int count, boolean fromPosition) {
+        Array<NavigationVertex> visible = new Array<>(count);
+        Array<NavigationVertex> around = new Array<>();
+        float seen = -1;
+        for (float radius = 4 * half; visible.size < count; radius *= 2) {
+            around.clear();
+            vertexGrid.within(position.x, position.y, radius, around);
+            final float within = seen;
+            around.sort((a, b) -> Float.compare(a.pos.dst2(position), b.pos.dst2(position)));
+            for (NavigationVertex vertex : new Array.ArrayIterator<>(around)) {
+                if (visible.size == count)
+                    break;
+                if (vertex.pos.dst(position) <= within || position.epsilonEquals(vertex.pos))
+                    continue; //already looked at, or rayCast() would crash on equal params
+                rayCollided = false;
+                if (fromPosition)
+                    MapStage.getInstance().gdxWorld.rayCast(callback, position, vertex.pos);
+                else
+                    MapStage.getInstance().gdxWorld.rayCast(callback, vertex.pos, position);
+                if (!rayCollided)
+                    visible.add(vertex);
             }
+            if (around.size == vertexCount)
+                break;
+            seen = radius;
+        }
+        return visible;
+    }
 
-            if (!originPrecalculated) {
-                for (int i = 0, j=0; i < vertices.size() && j < 10; i++) {
-                    if (origin.epsilonEquals(vertices.get(i).pos))
-                        continue; //rayCast() crashes if params are equal
-                    rayCollided = false;
-                    MapStage.getInstance().gdxWorld.rayCast(callback, origin, vertices.get(i).pos);
-                    if (!rayCollided) {
-                        navGraph.addEdge(origin, vertices.get(i));
-                        j++;
-                    }
-                }
-            }
+    /**
+     * Starts a frame of path requests: the requests left over from the last frame are searched, oldest first, for as
+     * long as the frame's budget allows, and paths that were searched but not asked for again are dropped.
+     */
+    public void startFrame() {
+        spentNanos = 0;
+        Iterator<PathRequest> it = requests.values().iterator();
+        while (it.hasNext()) {
+            PathRequest request = it.next();
+            if (request.path != null)
+                it.remove();
+        }
+        for (PathRequest request : requests.values()) {
+            if (spentNanos >= PATH_BUDGET_NANOS)
+                break;
+            long start = System.nanoTime();
+            request.path = findShortestPath(spriteSize, request.origin, request.destination);
+            spentNanos += System.nanoTime() - start;
+        }
+    }
 
-            if (!destinationPrecalculated) {
-                for (int i = 0, j=0; i < vertices.size() && j < 10; i++) {
-                    if (destination.epsilonEquals(vertices.get(i).pos))
-                        continue; //shouldn't happen, but would crash during rayCast if it did
-                    rayCollided = false;
-                    MapStage.getInstance().gdxWorld.rayCast(callback, vertices.get(i).pos, destination);
-                    if (!rayCollided) {
-                        navGraph.addEdge(destination, vertices.get(i));
-                        j++;
-                    }
-                }
+    /**
+     * Asks for a path on behalf of a sprite. The path is searched right away while the frame's budget lasts;
+     * past it, the request waits for a later frame and null is returned until then, with the sprite asking again
+     * each frame. A request keeps its turn when its destination changes, whether it is still waiting or its path
+     * was searched for the old destination, so that a sprite chasing a moving target is not sent to the back
+     * every frame.
+     */
+    public ProgressableGraphPath<NavigationVertex> requestPath(Object requester, Vector2 origin, Vector2 destination) {
+        PathRequest request = requests.get(requester);
+        if (request != null) {
+            if (request.path != null && request.destination.equals(destination)) {
+                requests.remove(requester);
+                ProgressableGraphPath<NavigationVertex> path = request.path;
+                // searched from where the sprite was back then, it goes on from the next vertex
+                if (path.getCount() > 1 && path.get(0).pos.equals(request.origin) && vertexAt.get(request.origin) == null)
+                    path.remove(0);
+                return path;
             }
-
-
-            ProgressableGraphPath<NavigationVertex> shortestPath = navGraph.findPath(origin, destination);
-
-            if (false) { //todo - re-evaluate. 8-way node links may be smooth enough to skip the extra raycast overhead
-                //Trim path by cutting any unnecessary nodes
-                for (int i = 0; i < shortestPath.getCount(); i++) {
-                    for (int j = shortestPath.getCount() - 1; j > i + 1; j--) {
-                        rayCollided = false;
-                        MapStage.getInstance().gdxWorld.rayCast(callback, shortestPath.get(i).pos, shortestPath.get(j).pos);
-                        if (!rayCollided) {
-                            shortestPath.remove(j - 1);
-                            i = 0;
-                            j = shortestPath.getCount();
-                        }
-                    }
-                }
+            if (spentNanos >= PATH_BUDGET_NANOS) {
+                request.origin.set(origin);
+                request.destination.set(destination);
+                request.path = null;
+                return null;
             }
-
-            if (!originPrecalculated)
-                navGraph.removeVertex(origin);
-            if (!destinationPrecalculated)
-                navGraph.removeVertex(destination);
-            return shortestPath;
+            requests.remove(requester);
         }
-        catch(Exception e){
-            if (!originPrecalculated && navGraph.lookupIndex(origin) > -1)
-                navGraph.removeVertex(origin);
-            if (!destinationPrecalculated && navGraph.lookupIndex(destination) > -1)
-                navGraph.removeVertex(destination);
-            throw(e);
+        if (spentNanos < PATH_BUDGET_NANOS) {
+            long start = System.nanoTime();
+            ProgressableGraphPath<NavigationVertex> path = findShortestPath(spriteSize, origin, destination);
+            spentNanos += System.nanoTime() - start;
+            return path;
+        }
+        requests.put(requester, new PathRequest(new Vector2(origin), new Vector2(destination)));
+        return null;
+    }
+
+    private static final class PathRequest {
+        private final Vector2 origin;
+        private final Vector2 destination;
+        private ProgressableGraphPath<NavigationVertex> path;
+
+        private PathRequest(Vector2 origin, Vector2 destination) {
+            this.origin = origin;
+            this.destination = destination;
         }
     }
 
@@ -15,7 +15,14 @@ public class BiomeStructure {
     private final int biomeHeight;
     private int[][] dataMap;
     private boolean[][] collisionMap;
-    boolean init = false;
+    private ColorMap finalImage;
+    private ColorMap mask;
+    private HashMap<Integer, Integer> colorIdMap;
+    private OverlappingModel patterns;
+    // each block of the wave function collapse is run once, blocks of one structure may be run on several threads
+    private boolean[][] generatedBlocks;
+    private Object[][] blockLocks;
+    volatile boolean init = false;
     private TextureAtlas structureAtlas;
     public ColorMap image;
     private final static int MAXIMUM_WAVEFUNCTIONSIZE = 10;
@@ -43,66 +50,108 @@ public class BiomeStructure {
     }
 
     public int objectID(int x, int y) {
-
-        if (!init) {
-            initialize();
-        }
-        if (x >= dataMap.length || x < 0 || y < 0 || y >= dataMap[0].length)
+        if (x >= targetWidth() || x < 0 || y < 0 || y >= targetHeight())
             return -1;
+        generateBlock(x / MAXIMUM_WAVEFUNCTIONSIZE, y / MAXIMUM_WAVEFUNCTIONSIZE);
         return dataMap[x][y];
     }
 
+    private int targetWidth() {
+        return (int) (data.width * biomeWidth);
+    }
+
+    private int targetHeight() {
+        return (int) (data.height * biomeHeight);
+    }
+
+    /**
+     * Runs the wave function collapse over the whole structure at once, and keeps the picture of it in image.
+     */
     public void initialize(ColorMap sourceImage, ColorMap maskImage) {
-        long currentTime = System.currentTimeMillis();
+        prepare(sourceImage, maskImage, true);
+        for (int blockX = 0; blockX < generatedBlocks.length; blockX++)
+            for (int blockY = 0; blockY < generatedBlocks[blockX].length; blockY++)
+                generateBlock(blockX, blockY);
+        image = finalImage;
+    }
 
-        init = true;
-        int targetWidth = (int) (data.width * biomeWidth);
-        int targetHeight = (int) (data.height * biomeHeight);
+    private synchronized void prepare(ColorMap sourceImage, ColorMap maskImage, boolean withImage) {
+        if (init)
+            return;
+        int targetWidth = targetWidth();
+        int targetHeight = targetHeight();
         dataMap = new int[targetWidth][targetHeight];
         collisionMap = new boolean[targetWidth][targetHeight];
-        ColorMap finalImage = new ColorMap(targetWidth, targetHeight);
-        HashMap<Integer, Integer> colorIdMap = new HashMap<>();
+        finalImage = withImage ? new ColorMap(targetWidth, targetHeight) : null;
+        colorIdMap = new HashMap<>();
         for (int i = 0; i < data.mappingInfo.length; i++) {
             colorIdMap.put(Integer.parseInt(data.mappingInfo[i].color, 16), i);
         }
-        for (int mx = 0; mx < targetWidth; mx += Math.min(targetWidth - mx, MAXIMUM_WAVEFUNCTIONSIZE)) {
-            for (int my = 0; my < targetWidth; my += Math.min(targetHeight - my, MAXIMUM_WAVEFUNCTIONSIZE)) {
-                OverlappingModel model = new OverlappingModel(sourceImage, data.N, Math.min(targetWidth - mx, MAXIMUM_WAVEFUNCTIONSIZE), Math.min(targetHeight - my, MAXIMUM_WAVEFUNCTIONSIZE), data.periodicInput, data.periodicOutput, data.symmetry, data.ground);
-
-                boolean suc = false;
-                for (int i = 0; i < 10 && !suc; i++)
-                    suc = model.run((int) seed + (i * 5355) + mx * my, 0);
-                if (!suc) {
-                    for (int x = 0; x < dataMap.length; x++)
-                        for (int y = 0; y < dataMap[x].length; y++)
-                            dataMap[mx + x][my + y] = -1;
-                    return;
-                }
-                image = model.graphics();
-                for (int x = 0; x < image.getWidth(); x++) {
+        mask = maskImage;
+        // the patterns of the source image are the same for every block, only match them up once
+        patterns = new OverlappingModel(sourceImage, data.N, Math.min(targetWidth, MAXIMUM_WAVEFUNCTIONSIZE), Math.min(targetHeight, MAXIMUM_WAVEFUNCTIONSIZE),
+                data.periodicInput, data.periodicOutput, data.symmetry, data.ground);
+        int blocksX = (targetWidth + MAXIMUM_WAVEFUNCTIONSIZE - 1) / MAXIMUM_WAVEFUNCTIONSIZE;
+        int blocksY = (targetHeight + MAXIMUM_WAVEFUNCTIONSIZE - 1) / MAXIMUM_WAVEFUNCTIONSIZE;
+        generatedBlocks = new boolean[blocksX][blocksY];
+        blockLocks = new Object[blocksX][blocksY];
+        for (int blockX = 0; blockX < blocksX; blockX++)
+            for (int blockY = 0; blockY < blocksY; blockY++)
+                blockLocks[blockX][blockY] = new Object();
+        init = true;
+    }
 
-                    for (int y = 0; y < image.getHeight(); y++) {
-                        boolean isWhitePixel = maskImage != null && (maskImage.getColor((int) ((mx + x) * maskImage.getWidth() / (float) targetWidth), (int) ((my + y) * (maskImage.getHeight() / (float) targetHeight)))).equals(Color.WHITE);
+    /**
+     * Runs the wave function collapse of one block of the structure, the first time one of its tiles is asked for.
+     * Each block has a seed of its own, so the blocks come out the same in whatever order and on whichever threads
+     * they are run.
+     */
+    private void generateBlock(int blockX, int blockY) {
+        if (!init)
+            prepare(sourceImage(), maskImage(), false);
+        synchronized (blockLocks[blockX][blockY]) {
+            if (generatedBlocks[blockX][blockY])
+                return;
+            int targetWidth = dataMap.length;
+            int targetHeight = dataMap[0].length;
+            int mx = blockX * MAXIMUM_WAVEFUNCTIONSIZE;
+            int my = blockY * MAXIMUM_WAVEFUNCTIONSIZE;
+            int blockWidth = Math.min(targetWidth - mx, MAXIMUM_WAVEFUNCTIONSIZE);
+            int blockHeight = Math.min(targetHeight - my, MAXIMUM_WAVEFUNCTIONSIZE);
+            OverlappingModel model = new OverlappingModel(patterns, blockWidth, blockHeight);
+
+            boolean suc = false;
+            for (int i = 0; i < 10 && !suc; i++)
+                suc = model.run((int) seed + (i * 5355) + mx * my, 0);
+            generatedBlocks[blockX][blockY] = true;
+            if (!suc) {
+                for (int x = 0; x < blockWidth; x++)
+                    for (int y = 0; y < blockHeight; y++)
+                        dataMap[mx + x][my + y] = -1;
+                return;
+            }
+            ColorMap blockImage = model.graphics();
+            for (int x = 0; x < blockImage.getWidth(); x++) {
 
+                for (int y = 0; y < blockImage.getHeight(); y++) {
+                    boolean isWhitePixel = mask != null && (mask.getColor((int) ((mx + x) * mask.getWidth() / (float) targetWidth), (int) ((my + y) * (mask.getHeight() / (float) targetHeight)))).equals(Color.WHITE);
+
+                    if (finalImage != null) {
                         if (isWhitePixel)
                             finalImage.setColor(mx + x, my + y, Color.WHITE);
                         else
-                            finalImage.setColor(mx + x, my + y, image.getColor(x, y));
-                        int rgb = Color.rgb888(image.getColor(x, y));
-                        if (isWhitePixel || !colorIdMap.containsKey(rgb)) {
-                            dataMap[mx + x][my + y] = -1;
-                        } else {
-                            dataMap[mx + x][my + y] = colorIdMap.get(rgb);
-                            collisionMap[mx + x][my + y] = data.mappingInfo[colorIdMap.get(rgb)].collision;
-                        }
+                            finalImage.setColor(mx + x, my + y, blockImage.getColor(x, y));
+                    }
+                    int rgb = Color.rgb888(blockImage.getColor(x, y));
+                    if (isWhitePixel || !colorIdMap.containsKey(rgb)) {
+                        dataMap[mx + x][my + y] = -1;
+                    } else {
+                        dataMap[mx + x][my + y] = colorIdMap.get(rgb);
+                        collisionMap[mx + x][my + y] = data.mappingInfo[colorIdMap.get(rgb)].collision;
                     }
                 }
-
             }
-            image = finalImage;
         }
-
-
     }
 
     public void initialize() {
@@ -129,11 +178,9 @@ public class BiomeStructure {
 
 
     public boolean collision(int x, int y) {
-        if (!init) {
-            initialize();
-        }
-        if (x >= collisionMap.length || x < 0 || y < 0 || y >= collisionMap[0].length)
+        if (x >= targetWidth() || x < 0 || y < 0 || y >= targetHeight())
             return false;
+        generateBlock(x / MAXIMUM_WAVEFUNCTIONSIZE, y / MAXIMUM_WAVEFUNCTIONSIZE);
         return collisionMap[x][y];
     }
 
@@ -1,24 +1,44 @@
 package forge.adventure.world;
 
+import java.util.Arrays;
 import java.util.Random;
 
-
-
-
-
+/**
+ * Wave function collapse over a grid of cells, each holding the set of patterns still possible there.
+ * <br><br>
+ * The sets are stored as bits, and every ban and every drop of a support count is written to a trail, so that a
+ * contradiction only takes back the choices since the last observation instead of starting over: the pattern that
+ * was chosen is ruled out for that cell and the collapse carries on from there.
+ */
 abstract class Model {
-  protected boolean[][] wave;
+  /** Contradictions to back out of before giving up on a seed. */
+  private static final int MAX_BACKTRACKS = 1000;
+
+  // bit t % 64 of wave[i * words + t / 64] is set while pattern t is possible in cell i
+  protected long[] wave;
+  private int words;
   protected int[][][] propagator;
-  int[][][] compatible;
+  // compatible[(i * T + t) * 4 + d]: patterns of the neighbour in direction d that still allow t in cell i
+  private int[] compatible;
+  private int[] initialCompatible;
   protected int[] observed;
 
-  int[] stack;
-  int stacksize;
+  private int[] stack;
+  private int stacksize;
+
+  // bans are stored as ~(i * T + t), decrements of compatible as their index
+  private int[] trail;
+  private int trailSize;
+  private int[] decisionCell, decisionPattern, decisionTrail;
+  private int decisions;
+  private boolean contradiction;
+  private int contradictions;
 
   protected Random random;
   protected int FMX, FMY, T;
   protected boolean periodic;
   protected Double[] weights;
+  private double[] weightValues;
   double[] weightLogWeights;
 
   int[] sumsOfOnes;
@@ -64,23 +84,36 @@ abstract class Model {
     return product;
   }
 
+  protected boolean isPossible(int i, int t) {
+    return (this.wave[i * this.words + (t >>> 6)] & (1L << t)) != 0;
+  }
+
+  /** Contradictions met by the last run, including those it backed out of. */
+  public int getContradictions() {
+    return this.contradictions;
+  }
+
   void init() {
-    this.wave = new boolean[this.FMX * this.FMY][];
-    this.compatible = new int[this.wave.length][][];
-    for (int i = 0; i < wave.length; i++) {
-      this.wave[i] = new boolean[this.T];
-      this.compatible[i] = new int[this.T][];
-      for (int t = 0; t < this.T; t++) this.compatible[i][t] = new int[4];
+    int cells = this.FMX * this.FMY;
+    this.words = (this.T + 63) >>> 6;
+    this.wave = new long[cells * this.words];
+    this.compatible = new int[cells * this.T * 4];
+    this.initialCompatible = new int[this.T * 4];
+    for (int t = 0; t < this.T; t++) {
+      for (int d = 0; d < 4; d++) this.initialCompatible[t * 4 + d] =
+              this.propagator[Model.oppposite[d]][t].length;
     }
 
+    this.weightValues = new double[this.T];
     this.weightLogWeights = new double[this.T];
     this.distribution = new double[this.T];
     this.sumOfWeights = 0;
     this.sumOfWeightLogWeights = 0;
 
     for (int t = 0; t < this.T; t++) {
-      this.weightLogWeights[t] = this.weights[t] * Math.log(this.weights[t]);
-      this.sumOfWeights += this.weights[t];
+      this.weightValues[t] = this.weights[t];
+      this.weightLogWeights[t] = this.weightValues[t] * Math.log(this.weightValues[t]);
+      this.sumOfWeights += this.weightValues[t];
       this.sumOfWeightLogWeights += this.weightLogWeights[t];
     }
 
@@ -89,20 +122,24 @@ abstract class Model {
                     this.sumOfWeightLogWeights /
                             this.sumOfWeights;
 
-    this.sumsOfOnes = new int[this.FMX * this.FMY];
-    this.sumsOfWeights = new double[this.FMX * this.FMY];
-    this.sumsOfWeightLogWeights = new double[this.FMX * this.FMY];
-    this.entropies = new double[this.FMX * this.FMY];
+    this.sumsOfOnes = new int[cells];
+    this.sumsOfWeights = new double[cells];
+    this.sumsOfWeightLogWeights = new double[cells];
+    this.entropies = new double[cells];
 
-    this.stack = new int[(this.wave.length * this.T)*2];
+    this.stack = new int[(cells * this.T) * 2];
     this.stacksize = 0;
+    this.trail = new int[cells * this.T * 2];
+    this.decisionCell = new int[cells];
+    this.decisionPattern = new int[cells];
+    this.decisionTrail = new int[cells];
   }
 
   Boolean observe() {
     double min = 1e+3;
     int argmin = -1;
 
-    for (int i = 0; i < this.wave.length; i++) {
+    for (int i = 0; i < this.sumsOfOnes.length; i++) {
       if (this.onBoundary(i % this.FMX, i / this.FMX)) continue;
 
       int amount = this.sumsOfOnes[i];
@@ -123,8 +160,8 @@ abstract class Model {
 
     if (argmin == -1) {
       this.observed = new int[this.FMX * this.FMY];
-      for (int i = 0; i < this.wave.length; i++) for (int t = 0; t <
-              this.T; t++) if (this.wave[i][t]) {
+      for (int i = 0; i < this.observed.length; i++) for (int t = 0; t <
+              this.T; t++) if (this.isPossible(i, t)) {
         this.observed[i] = t;
         break;
       }
@@ -132,36 +169,71 @@ abstract class Model {
     }
 
     for (int t = 0; t < this.T; t++) distribution[t] =
-            this.wave[argmin][t] ? this.weights[t] : 0;
+            this.isPossible(argmin, t) ? this.weightValues[t] : 0;
 
     int r = Model.randomIndice(distribution, this.random.nextDouble());
 
+    // remember the choice, so that it can be taken back if it leads to a contradiction
+    if (this.decisions == this.decisionCell.length) {
+      this.decisionCell = Arrays.copyOf(this.decisionCell, this.decisions * 2);
+      this.decisionPattern = Arrays.copyOf(this.decisionPattern, this.decisions * 2);
+      this.decisionTrail = Arrays.copyOf(this.decisionTrail, this.decisions * 2);
+    }
+    this.decisionCell[this.decisions] = argmin;
+    this.decisionPattern[this.decisions] = r;
+    this.decisionTrail[this.decisions] = this.trailSize;
+    this.decisions++;
 
-    boolean[] w = this.wave[argmin];
-    for (int t = 0; t < this.T; t++) if (w[t] != (t == r)) this.ban(argmin, t);
+    for (int t = 0; t < this.T; t++) if (t != r && this.isPossible(argmin, t)) this.ban(argmin, t);
 
     return null;
   }
 
+  private void record(int entry) {
+    if (this.trailSize == this.trail.length) this.trail = Arrays.copyOf(this.trail, this.trailSize * 2);
+    this.trail[this.trailSize++] = entry;
+  }
+
   protected void ban(int i, int t) {
-    this.wave[i][t] = false;
+    this.wave[i * this.words + (t >>> 6)] &= ~(1L << t);
+    this.record(~(i * this.T + t));
 
-    int[] comp = this.compatible[i][t];
-    for (int d = 0; d < 4; d++) comp[d] = 0;
     this.stack[this.stacksize]=i;
     this.stack[this.stacksize+1]=t;
     this.stacksize+=2;
 
     this.sumsOfOnes[i] -= 1;
-    this.sumsOfWeights[i] -= this.weights[t];
+    this.sumsOfWeights[i] -= this.weightValues[t];
     this.sumsOfWeightLogWeights[i] -= this.weightLogWeights[t];
 
     double sum = this.sumsOfWeights[i];
     this.entropies[i] = Math.log(sum) - this.sumsOfWeightLogWeights[i] / sum;
+    if (this.sumsOfOnes[i] == 0) this.contradiction = true;
+  }
+
+  /** Takes back every ban and decrement made since the trail was the given size. */
+  private void undo(int trailMark) {
+    while (this.trailSize > trailMark) {
+      int entry = this.trail[--this.trailSize];
+      if (entry >= 0) {
+        this.compatible[entry]++;
+        continue;
+      }
+      int i = ~entry / this.T, t = ~entry % this.T;
+      this.wave[i * this.words + (t >>> 6)] |= 1L << t;
+      this.sumsOfOnes[i] += 1;
+      this.sumsOfWeights[i] += this.weightValues[t];
+      this.sumsOfWeightLogWeights[i] += this.weightLogWeights[t];
+
+      double sum = this.sumsOfWeights[i];
+      this.entropies[i] = Math.log(sum) - this.sumsOfWeightLogWeights[i] / sum;
+    }
+    this.stacksize = 0;
+    this.contradiction = false;
   }
 
   protected void propagate() {
-    while (this.stacksize >= 2) {
+    while (this.stacksize >= 2 && !this.contradiction) {
 
       int i1 = this.stack[this.stacksize - 2];
       int x1 = i1 % this.FMX;
@@ -179,15 +251,17 @@ abstract class Model {
 
         int i2 = x2 + y2 * this.FMX;
         int[] p = this.propagator[d][stack2];
-        int[][] compat = this.compatible[i2];
 
         for (int l = 0; l < p.length; l++) {
           int t2 = p[l];
-          int[] comp = compat[t2];
-
-          comp[d]--;
-
-          if (comp[d] == 0) this.ban(i2, t2);
+          // supports of patterns already banned don't matter until the ban is taken back, and neither do
+          // the decrements made meanwhile, which are taken back first
+          if (!this.isPossible(i2, t2)) continue;
+          int c = (i2 * this.T + t2) * 4 + d;
+          this.compatible[c]--;
+          this.record(c);
+
+          if (this.compatible[c] == 0) this.ban(i2, t2);
         }
       }
     }
@@ -196,31 +270,51 @@ abstract class Model {
   public boolean run(int seed, int limit) {
     if (this.wave == null) this.init();
 
+    this.contradictions = 0;
     this.Clear();
     this.random = new Random(seed);
+    if (this.contradiction) {
+      this.contradictions++;
+      return false;
+    }
 
     for (int l = 0; l < limit || limit == 0; l++) {
       Boolean result = this.observe();
       if (result != null)
         return (boolean) result;
       this.propagate();
+
+      while (this.contradiction) {
+        this.contradictions++;
+        if (this.decisions == 0 || this.contradictions > MAX_BACKTRACKS)
+          return false;
+        // back out of the last choice and rule it out instead
+        this.decisions--;
+        this.undo(this.decisionTrail[this.decisions]);
+        this.ban(this.decisionCell[this.decisions], this.decisionPattern[this.decisions]);
+        this.propagate();
+      }
     }
 
     return true;
   }
 
   protected void Clear() {
-    for (int i = 0; i < this.wave.length; i++) {
-      for (int t = 0; t < this.T; t++) {
-        this.wave[i][t] = true;
-        for (int d = 0; d < 4; d++) this.compatible[i][t][d] =
-                this.propagator[Model.oppposite[d]][t].length;
-      }
+    int cells = this.FMX * this.FMY;
+    Arrays.fill(this.wave, 0);
+    for (int i = 0; i < cells; i++) {
+      for (int t = 0; t < this.T; t++) this.wave[i * this.words + (t >>> 6)] |= 1L << t;
+      System.arraycopy(this.initialCompatible, 0, this.compatible, i * this.T * 4, this.T * 4);
 
       this.sumsOfOnes[i] = this.weights.length;
       this.sumsOfWeights[i] = this.sumOfWeights;
       this.sumsOfWeightLogWeights[i] = this.sumOfWeightLogWeights;
       this.entropies[i] = this.startingEntropy;
     }
+    this.stacksize = 0;
+    this.trailSize = 0;
+    this.decisions = 0;
+    this.contradiction = false;
+    this.observed = null;
   }
 }
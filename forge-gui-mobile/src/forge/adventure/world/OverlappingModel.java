@@ -201,6 +201,22 @@ public class OverlappingModel extends Model {
     }
   }
 
+  /**
+   * Creates a model of another size over the patterns of the given one, which are only extracted from the sample
+   * and matched against each other once.
+   */
+  public OverlappingModel(OverlappingModel source, int width, int height) {
+    super(width, height);
+    this.N = source.N;
+    this.periodic = source.periodic;
+    this.patterns = source.patterns;
+    this.ground = source.ground;
+    this.colors = source.colors;
+    this.T = source.T;
+    this.weights = source.weights;
+    this.propagator = source.propagator;
+  }
+
   @Override
   protected boolean onBoundary(int x, int y) {
     return (
@@ -250,7 +266,7 @@ public class OverlappingModel extends Model {
 
           int s = sx + sy * this.FMX;
           if (this.onBoundary(sx, sy)) continue;
-          for (int t = 0; t < this.T; t++) if (wave[s][t]) {
+          for (int t = 0; t < this.T; t++) if (isPossible(s, t)) {
             contributors++;
             Color color = this.colors.get(this.patterns[t][dx + dy * this.N]);
             r += color.r;
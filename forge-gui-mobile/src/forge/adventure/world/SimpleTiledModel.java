@@ -291,11 +291,10 @@ public class SimpleTiledModel extends Model {
       }
     } else {
       for (int x = 0; x < this.FMX; x++) for (int y = 0; y < this.FMY; y++) {
-        boolean[] a = this.wave[x + y * this.FMX];
-        int amount = IntStream
-          .range(0, a.length)
-          .map(idx -> a[idx] ? 1 : 0)
-          .sum();
+        int i = x + y * this.FMX;
+        boolean[] a = new boolean[this.T];
+        for (int t = 0; t < this.T; t++) a[t] = this.isPossible(i, t);
+        int amount = this.sumsOfOnes[i];
         
         
         double lambda =
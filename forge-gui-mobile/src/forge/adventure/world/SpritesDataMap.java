@@ -53,12 +53,8 @@ public class SpritesDataMap implements SaveFileContent {
         this.tileSize = tiles;
         this.chunkSize = chunkSize;
         this.numberOfChunks = numberOfChunks;
+        // chunks are filled in as they are generated, see World.GetMapObjects
         mapObjects = new List[numberOfChunks][numberOfChunks];
-        for (int x = 0; x < numberOfChunks; x++) {
-            for (int y = 0; y < numberOfChunks; y++) {
-                mapObjects[x][y] = new ArrayList<Pair<Vector2, Integer>>();
-            }
-        }
     }
 
 
@@ -82,16 +78,22 @@ public class SpritesDataMap implements SaveFileContent {
         return objectKeys.get(spriteKey);
     }
 
-    public void putPosition(int key, Vector2 vector2) {
-        int chunkX = (int) ((vector2.x / tileSize) / chunkSize);
-        int chunkY = (int) ((vector2.y / tileSize) / chunkSize);
-        if (chunkX >= numberOfChunks || chunkY >= numberOfChunks || chunkX < 0 || chunkY < 0)
-            return;
-        mapObjects[chunkX][chunkY].add(Pair.of(vector2, key));
+    private boolean inRange(int chunkX, int chunkY) {
+        return chunkX >= 0 && chunkY >= 0 && chunkX < mapObjects.length && chunkY < mapObjects[chunkX].length;
+    }
+
+    /** Chunks outside the map count as generated, as there is nothing to put there. */
+    public boolean isGenerated(int chunkX, int chunkY) {
+        return !inRange(chunkX, chunkY) || mapObjects[chunkX][chunkY] != null;
+    }
+
+    public void setPositions(int chunkX, int chunkY, List<Pair<Vector2, Integer>> positions) {
+        if (inRange(chunkX, chunkY))
+            mapObjects[chunkX][chunkY] = positions;
     }
 
     public List<Pair<Vector2, Integer>> positions(int chunkX, int chunkY) {
-        if (chunkX >= numberOfChunks || chunkY >= numberOfChunks || chunkX < 0 || chunkY < 0)
+        if (!inRange(chunkX, chunkY) || mapObjects[chunkX][chunkY] == null)
             return new ArrayList<>();
         return mapObjects[chunkX][chunkY];
     }
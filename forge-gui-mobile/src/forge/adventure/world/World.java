@@ -23,9 +23,16 @@ import forge.adventure.util.Paths;
 import forge.adventure.util.SaveFileContent;
 import forge.adventure.util.SaveFileData;
 import forge.gui.GuiBase;
+import forge.localinstance.properties.ForgeConstants;
+import forge.util.BuildInfo;
+import forge.util.FileUtil;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.io.File;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Class that will create the world from the configuration
@@ -35,8 +42,8 @@ public class World implements Disposable, SaveFileContent {
     private Pixmap biomeImage;
     private long[][] biomeMap;
     public int[][] terrainMap;
-    private static final int collisionBit = 0b10000000000000000000000000000000;
-    private static final int isStructureBit = 0b01000000000000000000000000000000;
+    static final int collisionBit = 0b10000000000000000000000000000000;
+    static final int isStructureBit = 0b01000000000000000000000000000000;
     private static final int terrainMask = collisionBit | isStructureBit;
     private int width;
     private int height;
@@ -44,9 +51,18 @@ public class World implements Disposable, SaveFileContent {
     private PointOfInterestMap mapPoiIds;
     private BiomeTexture[] biomeTexture;
     private long seed;
+    private OpenSimplexNoise noise;
     private final Random random = new Random();
     private boolean worldDataLoaded = false;
+    private int worldDataHash;
     private Texture globalTexture = null;
+    // the chunks of a world generated in this session, null for one loaded from a save
+    private volatile WorldChunks chunks;
+    // the mini map is drawn a chunk at a time, by whichever thread generated it
+    private final Object miniMapLock = new Object();
+    private boolean[][] miniMapChunks;
+    private int miniMapChunksLeft;
+    private volatile int biomeImageVersion;
 
     public Random getRandom() {
         return random;
@@ -91,12 +107,18 @@ public class World implements Disposable, SaveFileContent {
             biomeIndex++;
         }
         biomeTexture[biomeIndex] = new BiomeTexture(data.roadTileset, data.tileSize);
+        // what the cached chunks of a world depend on, besides its seed
+        worldDataHash = Objects.hash(Config.instance().getPlane(), BuildInfo.getVersionString(), rawJson);
+        for (String name : data.biomesNames) {
+            worldDataHash = 31 * worldDataHash + Config.instance().getFile(name).readString().hashCode();
+        }
         worldDataLoaded = true;
     }
 
     @Override
     public void load(SaveFileData saveFileData) {
 
+        stopGeneration();
         if (biomeImage != null)
             biomeImage.dispose();
 
@@ -114,6 +136,7 @@ public class World implements Disposable, SaveFileContent {
         mapPoiIds = new PointOfInterestMap(getChunkSize(), this.data.tileSize, this.data.width / getChunkSize(), this.data.height / getChunkSize());
         mapPoiIds.load(saveFileData.readSubData("mapPoiIds"));
         seed = saveFileData.readLong("seed");
+        noise = null;
     }
 
     @Override
@@ -121,12 +144,22 @@ public class World implements Disposable, SaveFileContent {
 
         SaveFileData data = new SaveFileData();
 
+        WorldChunks chunks = this.chunks;
+        if (chunks != null) {
+            // a save holds the whole world, generate what the background threads didn't get to yet
+            chunks.generateAll();
+            for (int x = 0; x < chunks.getWidthInChunks(); x++)
+                for (int y = 0; y < chunks.getHeightInChunks(); y++)
+                    drawMiniMap(x, y);
+        }
         data.store("biomeImage", biomeImage);
         data.storeObject("biomeMap", biomeMap);
         data.storeObject("terrainMap", terrainMap);
         data.store("width", width);
         data.store("height", height);
-        data.store("mapObjectIds", mapObjectIds.save());
+        synchronized (this) {
+            data.store("mapObjectIds", mapObjectIds.save());
+        }
         data.store("mapPoiIds", mapPoiIds.save());
         data.store("seed", seed);
         return data;
@@ -226,7 +259,15 @@ public class World implements Disposable, SaveFileContent {
 
     }
 
+    // the chunk of a tile is generated the first time it is needed, if the background threads didn't get to it yet
+    private void ensureGenerated(int x, int y) {
+        WorldChunks chunks = this.chunks;
+        if (chunks != null)
+            chunks.ensure(x, y);
+    }
+
     public int getTerrainIndex(int x, int y) {
+        ensureGenerated(x, y);
         try {
             return terrainMap[x][height - y - 1] & ~terrainMask;
         } catch (ArrayIndexOutOfBoundsException e) {
@@ -235,14 +276,17 @@ public class World implements Disposable, SaveFileContent {
     }
 
     public long getBiomeMapXY(int x, int y) {
+        ensureGenerated(x, y);
         try {
             return biomeMap[x][height - y - 1] & (~(0b1 << data.GetBiomes().size()));
         } catch (ArrayIndexOutOfBoundsException e) {
+            ensureGenerated(width - 1, 0);
             return biomeMap[biomeMap.length - 1][biomeMap[biomeMap.length - 1].length - 1];
         }
     }
 
     public boolean isStructure(int x, int y) {
+        ensureGenerated(x, y);
         try {
             return (terrainMap[x][height - y - 1] & ~isStructureBit) != 0;
         } catch (ArrayIndexOutOfBoundsException e) {
@@ -251,14 +295,17 @@ public class World implements Disposable, SaveFileContent {
     }
 
     public long getBiome(int x, int y) {
+        ensureGenerated(x, y);
         try {
             return biomeMap[x][height - y - 1];
         } catch (ArrayIndexOutOfBoundsException e) {
+            ensureGenerated(width - 1, 0);
             return biomeMap[biomeMap.length - 1][biomeMap[biomeMap.length - 1].length - 1];
         }
     }
 
     public boolean isColliding(int x, int y) {
+        ensureGenerated(x, y);
         try {
             return (terrainMap[x][height - y - 1] & collisionBit) != 0;
         } catch (ArrayIndexOutOfBoundsException e) {
@@ -270,16 +317,11 @@ public class World implements Disposable, SaveFileContent {
         return data;
     }
 
-    private void clearTerrain(int x, int y, int size) {
+    private void clearTerrain(WorldChunks chunks, int x, int y, int size) {
 
         for (int xclear = -size; xclear < size; xclear++)
             for (int yclear = -size; yclear < size; yclear++) {
-                try {
-
-                    terrainMap[x + xclear][height - 1 - (y + yclear)] = 0;
-                } catch (ArrayIndexOutOfBoundsException e) {
-
-                }
+                chunks.clear(x + xclear, height - 1 - (y + yclear));
             }
     }
 
@@ -289,6 +331,22 @@ public class World implements Disposable, SaveFileContent {
         return currentTime;
     }
 
+    // generating is CPU bound, so it has threads of its own rather than sharing the service pool, which image
+    // downloads wait on
+    private static ExecutorService generationPool;
+
+    private static synchronized ExecutorService getGenerationPool() {
+        if (generationPool == null) {
+            final AtomicInteger count = new AtomicInteger();
+            generationPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread thread = new Thread(r, "WorldGeneration-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return generationPool;
+    }
+
     public World generateNew(long seed) {
         if (GuiBase.isAndroid())
             GuiBase.getInterface().preventSystemSleep(true);
@@ -296,6 +354,7 @@ public class World implements Disposable, SaveFileContent {
         long startTime = System.currentTimeMillis();
 
         loadWorldData();
+        stopGeneration();
 //////////////////
 ///////// initialize
 //////////////////
@@ -305,127 +364,17 @@ public class World implements Disposable, SaveFileContent {
         }
         this.seed = seed;
         random.setSeed(seed);
-        OpenSimplexNoise noise = new OpenSimplexNoise(seed);
+        this.noise = new OpenSimplexNoise(seed);
 
-        float noiseZoom = data.noiseZoomBiome;
         width = data.width;
         height = data.height;
-        //save at all data
-        biomeMap = new long[width][height];
-        terrainMap = new int[width][height];
-
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                biomeMap[x][y] = 0;
-                terrainMap[x][y] = 0;
-            }
-        }
-
-        final int[] biomeIndex = {-1};
+        // the biomes, terrain and structures of a chunk are only generated once something needs them, or once the
+        // background threads get to it, nearest to the player first
+        final WorldChunks chunks = new WorldChunks(data, seed, getChunkSize());
+        chunks.setCacheDir(cacheDir(seed));
+        biomeMap = chunks.biomeMap;
+        terrainMap = chunks.terrainMap;
         currentTime[0] = measureGenerationTime("loading data", currentTime[0]);
-        HashMap<BiomeStructureData, BiomeStructure> structureDataMap = new HashMap<>();
-
-//////////////////
-///////// calculation structure position with wavefunctioncollapse
-//////////////////
-        for (BiomeData biome : data.GetBiomes()) {
-            if (biome.structures != null) {
-                int biomeWidth = (int) Math.round(biome.width * (double) width);
-                int biomeHeight = (int) Math.round(biome.height * (double) height);
-                for (BiomeStructureData data : biome.structures) {
-                    long localSeed = seed;
-                    long threadStartTime = System.currentTimeMillis();
-                    BiomeStructure structure = new BiomeStructure(data, localSeed, biomeWidth, biomeHeight);
-                    structure.initialize();
-                    structureDataMap.put(data, structure);
-                    measureGenerationTime("wavefunctioncollapse " + data.sourcePath, threadStartTime);
-                }
-            }
-        }
-
-//////////////////
-///////// calculation each biome position based on noise and radius
-//////////////////
-        for (BiomeData biome : data.GetBiomes()) {
-
-            biomeIndex[0]++;
-            int biomeXStart = (int) Math.round(biome.startPointX * (double) width);
-            int biomeYStart = (int) Math.round(biome.startPointY * (double) height);
-            int biomeWidth = (int) Math.round(biome.width * (double) width);
-            int biomeHeight = (int) Math.round(biome.height * (double) height);
-
-            int beginX = Math.max(biomeXStart - biomeWidth / 2, 0);
-            int beginY = Math.max(biomeYStart - biomeHeight / 2, 0);
-            int endX = Math.min(biomeXStart + biomeWidth / 2, width);
-            int endY = Math.min(biomeYStart + biomeHeight / 2, height);
-            if (biome.width == 1.0 && biome.height == 1.0) {
-                beginX = 0;
-                beginY = 0;
-                endX = width;
-                endY = height;
-            }
-            for (int x = beginX; x < endX; x++) {
-                for (int y = beginY; y < endY; y++) {
-                    //value 0-1 based on noise
-                    float noiseValue = ((float) noise.eval(x / (float) width * noiseZoom, y / (float) height * noiseZoom) + 1) / 2f;
-                    noiseValue *= biome.noiseWeight;
-                    //value 0-1 based on dist to origin
-                    float distanceValue = ((float) Math.sqrt((x - biomeXStart) * (x - biomeXStart) + (y - biomeYStart) * (y - biomeYStart))) / (Math.max(biomeWidth, biomeHeight) / 2f);
-                    distanceValue *= biome.distWeight;
-                    if (noiseValue + distanceValue < 1.0 || biome.invertHeight && (1 - noiseValue) + distanceValue < 1.0) {
-                        Color color = biome.GetColor();
-                        float[] hsv = new float[3];
-                        color.toHsv(hsv);
-                        int count = (int) ((noiseValue - 0.5) * 10 / 4);
-                        //hsv[2]+=(count*0.2);
-                        biomeMap[x][y] |= (1L << biomeIndex[0]);
-                        int terrainCounter = 1;
-                        terrainMap[x][y] = 0;
-                        if (biome.terrain != null) {
-                            for (BiomeTerrainData terrain : biome.terrain) {
-                                float terrainNoise = ((float) noise.eval(x / (float) width * (noiseZoom * terrain.resolution), y / (float) height * (noiseZoom * terrain.resolution)) + 1) / 2;
-                                if (terrainNoise >= terrain.min && terrainNoise <= terrain.max) {
-                                    terrainMap[x][y] = terrainCounter;
-                                    //pix.fillRectangle(x*data.miniMapTileSize, y*data.miniMapTileSize,data.miniMapTileSize,data.miniMapTileSize);
-                                }
-                                terrainCounter++;
-                            }
-                        }
-                        if (biome.collision)
-                            terrainMap[x][y] |= collisionBit;
-                        if (biome.structures != null) {
-                            for (BiomeStructureData data : biome.structures) {
-                                while (!structureDataMap.containsKey(data)) {
-                                    try {
-                                        Thread.sleep(10);
-                                    } catch (InterruptedException e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                }
-
-                                BiomeStructure structure = structureDataMap.get(data);
-                                int structureXStart = x - (biomeXStart - biomeWidth / 2) - (int) ((data.x * biomeWidth) - (data.width * biomeWidth / 2));
-                                int structureYStart = y - (biomeYStart - biomeHeight / 2) - (int) ((data.y * biomeHeight) - (data.height * biomeHeight / 2));
-
-                                int structureIndex = structure.objectID(structureXStart, structureYStart);
-                                if (structureIndex >= 0) {
-
-                                    terrainMap[x][y] = terrainCounter + structureIndex;
-                                    if (structure.collision(structureXStart, structureYStart))
-                                        terrainMap[x][y] |= collisionBit;
-                                    terrainMap[x][y] |= isStructureBit;
-
-                                }
-
-                                terrainCounter += structure.structureObjectCount();
-                            }
-                        }
-                    }
-
-                }
-            }
-        }
-        currentTime[0] = measureGenerationTime("biomes in total", currentTime[0]);
 
 //////////////////
 ///////// set poi placement
@@ -439,7 +388,7 @@ public class World implements Disposable, SaveFileContent {
         if (!texture.isPrepared())
             texture.prepare();
         Pixmap mapMarkerPixmap = texture.consumePixmap();
-        clearTerrain((int) (data.width * data.playerStartPosX), (int) (data.height * data.playerStartPosY), 10);
+        clearTerrain(chunks, (int) (data.width * data.playerStartPosX), (int) (data.height * data.playerStartPosY), 10);
         //otherPoints.add(new Rectangle(((float) data.width * data.playerStartPosX * (float) data.tileSize) - data.tileSize * 3, ((float) data.height * data.playerStartPosY * data.tileSize) - data.tileSize * 3, data.tileSize * 6, data.tileSize * 6));
         boolean running = true;
         here:
@@ -465,7 +414,7 @@ public class World implements Disposable, SaveFileContent {
                             y += (poi.offsetY * (biome.height * height));
                             x += (poi.offsetX * (biome.width * width));
 
-                            if ((int) x < 0 || (int) y <= 0 || (int) y >= height || (int) x >= width || biomeIndex2 != highestBiome(getBiome((int) x, (int) y))) {
+                            if ((int) x < 0 || (int) y <= 0 || (int) y >= height || (int) x >= width || biomeIndex2 != highestBiome(chunks.biomeAt((int) x, height - (int) y - 1))) {
                                 continue;
                             }
 
@@ -507,8 +456,8 @@ public class World implements Disposable, SaveFileContent {
                                         towns.clear();
                                         notTowns.clear();
                                         otherPoints.clear();
-                                        clearTerrain((int) (data.width * data.playerStartPosX), (int) (data.height * data.playerStartPosY), 10);
-                                        storedInfo.clear();
+                                        clearTerrain(chunks, (int) (data.width * data.playerStartPosX), (int) (data.height * data.playerStartPosY), 10);
+                                        clearStoredInfo();
                                         continue here;
                                     }
                                     continue;
@@ -516,7 +465,7 @@ public class World implements Disposable, SaveFileContent {
                             }
                             otherPoints.add(new Rectangle(x - data.tileSize * 4, y - data.tileSize * 4, data.tileSize * 8, data.tileSize * 8));
                             PointOfInterest newPoint = new PointOfInterest(poi, new Vector2(x, y), random);
-                            clearTerrain((int) (x / data.tileSize), (int) (y / data.tileSize), 3);
+                            clearTerrain(chunks, (int) (x / data.tileSize), (int) (y / data.tileSize), 3);
                             mapPoiIds.add(newPoint);
 
                             TextureAtlas.AtlasRegion marker = mapMarker.findRegion(poi.type);
@@ -608,8 +557,6 @@ public class World implements Disposable, SaveFileContent {
                 continue;
             allPOIPathsToNextTown.add(Pair.of(poi, towns.get(smallestIndex)));
         }
-        biomeIndex[0]++;
-
         //reset terrain path to the next town
         for (Pair<PointOfInterest, PointOfInterest> poiToTown : allPOIPathsToNextTown) {
 
@@ -625,8 +572,7 @@ public class World implements Disposable, SaveFileContent {
             int e2;
             for (int i = 0; i < 1000; i++) {
                 if (startX < 0 || startY <= 0 || startX >= width || startY > height) continue;
-                if ((terrainMap[startX][height - startY] & collisionBit) != 0)//clear terrain if it has collision
-                    terrainMap[startX][height - startY] = 0;
+                chunks.clearCollision(startX, height - startY);//clear terrain if it has collision
 
                 if (startX == x1 && startY == y1)
                     break;
@@ -650,8 +596,7 @@ public class World implements Disposable, SaveFileContent {
             for (int x = startX - 1; x < startX + 2; x++) {
                 for (int y = startY - 1; y < startY + 2; y++) {
                     if (x < 0 || y < 0 || x >= width || y >= height) continue;
-                    biomeMap[x][height - y - 1] |= (1L << biomeIndex[0]);
-                    terrainMap[x][height - y - 1] = 0;
+                    chunks.road(x, height - y - 1);
                 }
             }
             int dx = Math.abs(x1 - startX);
@@ -662,8 +607,7 @@ public class World implements Disposable, SaveFileContent {
             int e2;
             for (int i = 0; i < 1000; i++) {
                 if (startX < 0 || startY <= 0 || startX >= width || startY > height) continue;
-                biomeMap[startX][height - startY] |= (1L << biomeIndex[0]);
-                terrainMap[startX][height - startY] = 0;
+                chunks.road(startX, height - startY);
 
                 if (startX == x1 && startY == y1)
                     break;
@@ -683,43 +627,179 @@ public class World implements Disposable, SaveFileContent {
 ///////// draw mini map
 //////////////////
 
+        // the tiles and markers of a chunk are drawn once it is generated
         Pixmap pix = new Pixmap(width * data.miniMapTileSize, height * data.miniMapTileSize, Pixmap.Format.RGBA8888);
         pix.setColor(1, 0, 0, 1);
         pix.fill();
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (highestBiome(biomeMap[x][y]) >= data.GetBiomes().size()) {
-                    Pixmap smallPixmap = createSmallPixmap(data.roadTileset.tilesetAtlas, data.roadTileset.tilesetName, 0);
-                    pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
-                } else {
-
-                    BiomeData biome = data.GetBiomes().get(highestBiome(biomeMap[x][y]));
-                    int terrainIndex = terrainMap[x][y] & ~terrainMask;
-                    if (terrainIndex > biome.terrain.length) {
-                        Pixmap smallPixmap = createSmallPixmap(biome.tilesetAtlas, biome.tilesetName, 0);
+        prepareMiniMapTiles();
+        currentTime[0] = measureGenerationTime("mini map", currentTime[0]);
+
+
+//////////////////
+///////// distribute small rocks and trees across the map
+//////////////////
+        mapObjectIds = new SpritesDataMap(getChunkSize(), data.tileSize, data.width / getChunkSize());
+        // the sprites of a chunk are only placed once it is generated, so number the sprites up front to keep
+        // their ids independent of where the player goes first
+        for (BiomeData biome : data.GetBiomes()) {
+            for (String name : biome.spriteNames) {
+                BiomeSpriteData sprite = data.GetBiomeSprites().getSpriteData(name);
+                if (!mapObjectIds.containsKey(sprite.key()))
+                    mapObjectIds.put(sprite.key(), sprite, data.GetBiomeSprites());
+            }
+        }
+        mapMarkerPixmap.dispose();
+        synchronized (miniMapLock) {
+            biomeImage = pix;
+            miniMapChunks = new boolean[chunks.getWidthInChunks()][chunks.getHeightInChunks()];
+            miniMapChunksLeft = chunks.getWidthInChunks() * chunks.getHeightInChunks();
+        }
+        this.chunks = chunks;
+        chunks.setListener(this::chunkGenerated);
+        chunks.setFocus((int) (width * data.playerStartPosX) / getChunkSize(), (int) (height * data.playerStartPosY) / getChunkSize());
+        chunks.generateInBackground(getGenerationPool(), Runtime.getRuntime().availableProcessors());
+        System.out.println("Generating world took :\t\t" + ((System.currentTimeMillis() - startTime) / 1000f) + " s");
+        WorldStage.getInstance().clearCache();
+
+        if (GuiBase.isAndroid())
+            GuiBase.getInterface().preventSystemSleep(false);
+        return this;
+    }
+
+    /**
+     * Stops the background threads generating the chunks of the last world, and waits for them to be done with
+     * the chunks they were generating.
+     */
+    private void stopGeneration() {
+        WorldChunks chunks = this.chunks;
+        if (chunks == null)
+            return;
+        chunks.cancel();
+        this.chunks = null;
+        synchronized (miniMapLock) {
+            miniMapChunks = null;
+            disposeMiniMapTiles();
+        }
+    }
+
+    /**
+     * The directory the chunks of a world of the given seed are cached in, only the chunks of the last world
+     * generated are kept.
+     */
+    private File cacheDir(long seed) {
+        File worlds = new File(ForgeConstants.CACHE_DIR + "adventure" + File.separator + "world");
+        String name = Long.toHexString(seed) + "_" + Integer.toHexString(worldDataHash) + "_" + getChunkSize();
+        File[] cached = worlds.listFiles();
+        if (cached != null) {
+            for (File other : cached) {
+                if (!other.getName().equals(name))
+                    FileUtil.deleteDirectory(other);
+            }
+        }
+        File dir = new File(worlds, name);
+        return FileUtil.ensureDirectoryExists(dir) ? dir : null;
+    }
+
+    private void chunkGenerated(int chunkX, int chunkY) {
+        drawMiniMap(chunkX, chunkY);
+        generateSprites(chunkX, chunkY);
+    }
+
+    /** Has the background threads generate the chunks nearest to the given one first. */
+    public void generateAround(int chunkX, int chunkY) {
+        WorldChunks chunks = this.chunks;
+        if (chunks != null)
+            chunks.setFocus(chunkX, chunkY);
+    }
+
+    /** Counts up each time a chunk is drawn on the mini map. */
+    public int getBiomeImageVersion() {
+        return biomeImageVersion;
+    }
+
+    /**
+     * Draws the tiles of a generated chunk on the mini map, then the part of the markers of points of interest over
+     * them, so that it ends up the same as if the whole map had been drawn at once.
+     */
+    private void drawMiniMap(int chunkX, int chunkY) {
+        synchronized (miniMapLock) {
+            if (miniMapChunks == null || miniMapChunks[chunkX][chunkY])
+                return;
+            miniMapChunks[chunkX][chunkY] = true;
+            int chunkSize = getChunkSize();
+            int beginX = chunkX * chunkSize;
+            int endX = Math.min(beginX + chunkSize, width);
+            int beginY = height - Math.min((chunkY + 1) * chunkSize, height);
+            int endY = height - chunkY * chunkSize;
+            Pixmap pix = biomeImage;
+            for (int x = beginX; x < endX; x++) {
+                for (int y = beginY; y < endY; y++) {
+                    if (highestBiome(biomeMap[x][y]) >= data.GetBiomes().size()) {
+                        Pixmap smallPixmap = createSmallPixmap(data.roadTileset.tilesetAtlas, data.roadTileset.tilesetName, 0);
                         pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
+                    } else {
 
-                        terrainIndex -= biome.terrain.length;
-                        terrainIndex--;
-                        for (BiomeStructureData structData : biome.structures) {
-                            if (terrainIndex >= structData.mappingInfo.length) {
-                                terrainIndex -= structData.mappingInfo.length;
-                                continue;
+                        BiomeData biome = data.GetBiomes().get(highestBiome(biomeMap[x][y]));
+                        int terrainIndex = terrainMap[x][y] & ~terrainMask;
+                        if (terrainIndex > biome.terrain.length) {
+                            Pixmap smallPixmap = createSmallPixmap(biome.tilesetAtlas, biome.tilesetName, 0);
+                            pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
+
+                            terrainIndex -= biome.terrain.length;
+                            terrainIndex--;
+                            for (BiomeStructureData structData : biome.structures) {
+                                if (terrainIndex >= structData.mappingInfo.length) {
+                                    terrainIndex -= structData.mappingInfo.length;
+                                    continue;
+                                }
+                                smallPixmap = createSmallPixmap(structData.structureAtlasPath, structData.mappingInfo[terrainIndex].name, 0);
+                                pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
+                                break;
                             }
-                            smallPixmap = createSmallPixmap(structData.structureAtlasPath, structData.mappingInfo[terrainIndex].name, 0);
+                        } else {
+                            Pixmap smallPixmap = createSmallPixmap(biome.tilesetAtlas, biome.tilesetName, terrainIndex);
                             pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
-                            break;
                         }
-                    } else {
-                        Pixmap smallPixmap = createSmallPixmap(biome.tilesetAtlas, biome.tilesetName, terrainIndex);
-                        pix.drawPixmap(smallPixmap, x * data.miniMapTileSize, y * data.miniMapTileSize);
+
                     }
 
                 }
 
             }
+            drawMarkers(pix, beginX * data.miniMapTileSize, beginY * data.miniMapTileSize, endX * data.miniMapTileSize, endY * data.miniMapTileSize);
+            biomeImageVersion++;
+            if (--miniMapChunksLeft == 0)
+                disposeMiniMapTiles();
+        }
+    }
+
+    HashMap<String, Pair<Pixmap, HashMap<String, Pixmap>>> pixmapHash = new HashMap<>();
 
+    /**
+     * Reads the tiles of the mini map out of their atlases on this thread, as the chunks may be drawn on threads
+     * which can't load an atlas.
+     */
+    private void prepareMiniMapTiles() {
+        prepareSmallPixmap(data.roadTileset.tilesetAtlas, data.roadTileset.tilesetName, 0);
+        for (BiomeData biome : data.GetBiomes()) {
+            int terrains = biome.terrain == null ? 0 : biome.terrain.length;
+            for (int i = 0; i <= Math.min(terrains, 2); i++)
+                prepareSmallPixmap(biome.tilesetAtlas, biome.tilesetName, i);
+            if (biome.structures != null) {
+                for (BiomeStructureData structData : biome.structures) {
+                    for (BiomeStructureData.BiomeStructureDataMapping mapping : structData.mappingInfo)
+                        prepareSmallPixmap(structData.structureAtlasPath, mapping.name, 0);
+                }
+            }
         }
+    }
+
+    private void prepareSmallPixmap(String tilesetName, String key, int i) {
+        if (Config.instance().getAtlas(tilesetName).findRegion(i == 0 ? key : key + "_" + i) != null)
+            createSmallPixmap(tilesetName, key, i);
+    }
+
+    private void disposeMiniMapTiles() {
         for (Map.Entry<String, Pair<Pixmap, HashMap<String, Pixmap>>> entry : pixmapHash.entrySet()) {
             try {
                 entry.getValue().getLeft().dispose();
@@ -735,60 +815,9 @@ public class World implements Disposable, SaveFileContent {
             }
         }
         pixmapHash.clear();
-        try {
-            drawPixmapNow(pix);
-        } catch (Exception e) {
-            //e.printStackTrace();
-        }
-        currentTime[0] = measureGenerationTime("mini map", currentTime[0]);
-
-
-//////////////////
-///////// distribute small rocks and trees across the map
-//////////////////
-        mapObjectIds = new SpritesDataMap(getChunkSize(), data.tileSize, data.width / getChunkSize());
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                int invertedHeight = height - y - 1;
-                int currentBiome = highestBiome(biomeMap[x][invertedHeight]);
-                if (currentBiome >= data.GetBiomes().size())
-                    continue;//roads
-                if (isStructure(x, y))
-                    continue;
-                BiomeData biome = data.GetBiomes().get(currentBiome);
-                for (String name : biome.spriteNames) {
-                    BiomeSpriteData sprite = data.GetBiomeSprites().getSpriteData(name);
-                    double spriteNoise = (noise.eval(x / (double) width * noiseZoom * sprite.resolution, y / (double) invertedHeight * noiseZoom * sprite.resolution) + 1) / 2;
-                    if (spriteNoise >= sprite.startArea && spriteNoise <= sprite.endArea) {
-                        if (random.nextFloat() <= sprite.density) {
-                            String spriteKey = sprite.key();
-                            int key;
-                            if (!mapObjectIds.containsKey(spriteKey)) {
-
-                                key = mapObjectIds.put(sprite.key(), sprite, data.GetBiomeSprites());
-                            } else {
-                                key = mapObjectIds.intKey(spriteKey);
-                            }
-                            mapObjectIds.putPosition(key, new Vector2((((float) x) + .25f + random.nextFloat() / 2) * data.tileSize, (((float) y + .25f) - random.nextFloat() / 2) * data.tileSize));
-                            break;//only on sprite per point
-                        }
-                    }
-                }
-            }
-        }
-        mapMarkerPixmap.dispose();
-        biomeImage = pix;
-        measureGenerationTime("sprites", currentTime[0]);
-        System.out.println("Generating world took :\t\t" + ((System.currentTimeMillis() - startTime) / 1000f) + " s");
-        WorldStage.getInstance().clearCache();
-
-        if (GuiBase.isAndroid())
-            GuiBase.getInterface().preventSystemSleep(false);
-        return this;
+        clearStoredInfo();
     }
 
-    HashMap<String, Pair<Pixmap, HashMap<String, Pixmap>>> pixmapHash = new HashMap<>();
-
     private Pixmap createSmallPixmap(String tilesetName, String key, int i) {
 
         if (i > 2) i = 2;
@@ -837,10 +866,15 @@ public class World implements Disposable, SaveFileContent {
     final Array<DrawInfo> storedInfo = new Array<>();
 
     private void drawPixmapLater(Pixmap mapMarkerPixmap, int regionX, int regionY, int regionWidth, int regionHeight, int x, int y, int regionWidth1, int regionHeight1) {
+        // the marker is copied out of the atlas, which isn't kept until every chunk is drawn
+        Pixmap marker = new Pixmap(regionWidth, regionHeight, Pixmap.Format.RGBA8888);
+        marker.setBlending(Pixmap.Blending.None);
+        marker.drawPixmap(mapMarkerPixmap, 0, 0, regionX, regionY, regionWidth, regionHeight);
+        marker.setBlending(Pixmap.Blending.SourceOver);
         DrawInfo info = new DrawInfo();
-        info.mapMarkerPixmap = mapMarkerPixmap;
-        info.regionX = regionX;
-        info.regionY = regionY;
+        info.mapMarkerPixmap = marker;
+        info.regionX = 0;
+        info.regionY = 0;
         info.regionWidth = regionWidth;
         info.regionHeight = regionHeight;
         info.x = x;
@@ -850,9 +884,23 @@ public class World implements Disposable, SaveFileContent {
         storedInfo.add(info);
     }
 
-    private void drawPixmapNow(Pixmap map) {
+    /** Draws the part of the markers within [left, right) x [top, bottom) of the map. */
+    private void drawMarkers(Pixmap map, int left, int top, int right, int bottom) {
+        for (DrawInfo info : storedInfo) {
+            int drawLeft = Math.max(left, info.x);
+            int drawTop = Math.max(top, info.y);
+            int drawRight = Math.min(right, info.x + info.regionWidth1);
+            int drawBottom = Math.min(bottom, info.y + info.regionHeight1);
+            if (drawLeft >= drawRight || drawTop >= drawBottom)
+                continue;
+            map.drawPixmap(info.mapMarkerPixmap, info.regionX + drawLeft - info.x, info.regionY + drawTop - info.y, drawRight - drawLeft, drawBottom - drawTop,
+                    drawLeft, drawTop, drawRight - drawLeft, drawBottom - drawTop);
+        }
+    }
+
+    private void clearStoredInfo() {
         for (DrawInfo info : storedInfo)
-            map.drawPixmap(info.mapMarkerPixmap, info.regionX, info.regionY, info.regionWidth, info.regionHeight, info.x, info.y, info.regionWidth1, info.regionHeight1);
+            info.mapMarkerPixmap.dispose();
         storedInfo.clear();
     }
 
@@ -889,7 +937,59 @@ public class World implements Disposable, SaveFileContent {
     }
 
     public List<Pair<Vector2, Integer>> GetMapObjects(int chunkX, int chunkY) {
-        return mapObjectIds.positions(chunkX, chunkY);
+        if (!mapObjectIds.isGenerated(chunkX, chunkY)) {
+            ensureGenerated(chunkX * getChunkSize(), chunkY * getChunkSize());
+            generateSprites(chunkX, chunkY);
+        }
+        synchronized (this) {
+            return mapObjectIds.positions(chunkX, chunkY);
+        }
+    }
+
+    /**
+     * Distributes small rocks and trees across the tiles of a chunk, once the chunk is generated. Every chunk has a
+     * random of its own, seeded from the world seed and its position, so it comes out the same whenever it is
+     * generated.
+     */
+    private synchronized void generateSprites(int chunkX, int chunkY) {
+        if (mapObjectIds.isGenerated(chunkX, chunkY))
+            return;
+        if (noise == null)
+            noise = new OpenSimplexNoise(seed);
+        float noiseZoom = data.noiseZoomBiome;
+        int chunkSize = mapObjectIds.chunkSize;
+        Random chunkRandom = new Random(seed ^ (chunkX * 0x9E3779B97F4A7C15L + chunkY * 0xC2B2AE3D27D4EB4FL));
+        List<Pair<Vector2, Integer>> positions = new ArrayList<>();
+        for (int x = chunkX * chunkSize; x < Math.min((chunkX + 1) * chunkSize, width); x++) {
+            for (int y = chunkY * chunkSize; y < Math.min((chunkY + 1) * chunkSize, height); y++) {
+                int invertedHeight = height - y - 1;
+                int currentBiome = highestBiome(biomeMap[x][invertedHeight]);
+                if (currentBiome >= data.GetBiomes().size())
+                    continue;//roads
+                if (isStructure(x, y))
+                    continue;
+                BiomeData biome = data.GetBiomes().get(currentBiome);
+                for (String name : biome.spriteNames) {
+                    BiomeSpriteData sprite = data.GetBiomeSprites().getSpriteData(name);
+                    double spriteNoise = (noise.eval(x / (double) width * noiseZoom * sprite.resolution, y / (double) invertedHeight * noiseZoom * sprite.resolution) + 1) / 2;
+                    if (spriteNoise >= sprite.startArea && spriteNoise <= sprite.endArea) {
+                        if (chunkRandom.nextFloat() <= sprite.density) {
+                            String spriteKey = sprite.key();
+                            int key;
+                            if (!mapObjectIds.containsKey(spriteKey)) {
+
+                                key = mapObjectIds.put(sprite.key(), sprite, data.GetBiomeSprites());
+                            } else {
+                                key = mapObjectIds.intKey(spriteKey);
+                            }
+                            positions.add(Pair.of(new Vector2((((float) x) + .25f + chunkRandom.nextFloat() / 2) * data.tileSize, (((float) y + .25f) - chunkRandom.nextFloat() / 2) * data.tileSize), key));
+                            break;//only on sprite per point
+                        }
+                    }
+                }
+            }
+        }
+        mapObjectIds.setPositions(chunkX, chunkY, positions);
     }
 
     public List<PointOfInterest> getPointsOfInterest(Actor player) {
@@ -914,6 +1014,7 @@ public class World implements Disposable, SaveFileContent {
 
     public void dispose() {
 
+        stopGeneration();
         if (biomeImage != null) biomeImage.dispose();
     }
 
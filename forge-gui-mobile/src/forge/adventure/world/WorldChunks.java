@@ -0,0 +1,459 @@
+package forge.adventure.world;
+
+import com.badlogic.gdx.utils.LongArray;
+import forge.adventure.data.BiomeData;
+import forge.adventure.data.BiomeStructureData;
+import forge.adventure.data.BiomeTerrainData;
+import forge.adventure.data.WorldData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The biome and terrain maps of a world, generated chunk by chunk the first time one of their tiles is needed.
+ * <p>
+ * The tiles of a chunk only depend on the noise of the world seed and on the biome structures. What the points of
+ * interest and roads change on them is recorded for each chunk before any of them is generated, and applied to the
+ * chunk in the order it was recorded in, so a chunk comes out the same whenever and on whichever thread it is
+ * generated. Generated chunks can be cached in a directory, to be read back instead of generated again.
+ */
+class WorldChunks {
+    interface Listener {
+        /** Called on the thread which generated the chunk, once its tiles are all set. */
+        void chunkGenerated(int chunkX, int chunkY);
+    }
+
+    private static final int CLEAR = 0;
+    private static final int CLEAR_COLLISION = 1;
+    private static final int ROAD = 2;
+    private static final int CACHE_VERSION = 1;
+
+    private static final class Chunk {
+        final int x;
+        final int y;
+        // the changes of the points of interest and roads, type in the top bits then x and y of the tile
+        final LongArray changes = new LongArray();
+        volatile boolean generated;
+        // taken by a background thread, guarded by the WorldChunks
+        boolean claimed;
+
+        Chunk(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private final WorldData data;
+    private final OpenSimplexNoise noise;
+    private final int width;
+    private final int height;
+    private final int chunkSize;
+    final long[][] biomeMap;
+    final int[][] terrainMap;
+    private final Map<BiomeStructureData, BiomeStructure> structures = new HashMap<>();
+    private final Chunk[][] chunks;
+    private File cacheDir;
+    private Listener listener;
+    private int focusX;
+    private int focusY;
+    private boolean cancelled;
+    // the chunks background threads are generating
+    private int generating;
+
+    WorldChunks(WorldData data, long seed, int chunkSize) {
+        this.data = data;
+        this.noise = new OpenSimplexNoise(seed);
+        this.width = data.width;
+        this.height = data.height;
+        this.chunkSize = chunkSize;
+        biomeMap = new long[width][height];
+        terrainMap = new int[width][height];
+        for (BiomeData biome : data.GetBiomes()) {
+            if (biome.structures != null) {
+                int biomeWidth = (int) Math.round(biome.width * (double) width);
+                int biomeHeight = (int) Math.round(biome.height * (double) height);
+                for (BiomeStructureData structureData : biome.structures) {
+                    structures.put(structureData, new BiomeStructure(structureData, seed, biomeWidth, biomeHeight));
+                }
+            }
+        }
+        chunks = new Chunk[(width + chunkSize - 1) / chunkSize][(height + chunkSize - 1) / chunkSize];
+        for (int x = 0; x < chunks.length; x++)
+            for (int y = 0; y < chunks[x].length; y++)
+                chunks[x][y] = new Chunk(x, y);
+    }
+
+    int getChunkSize() {
+        return chunkSize;
+    }
+
+    int getWidthInChunks() {
+        return chunks.length;
+    }
+
+    int getHeightInChunks() {
+        return chunks[0].length;
+    }
+
+    void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /** Where generated chunks are written to and read back from, none by default. */
+    void setCacheDir(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * The biomes of the tile at x and y of the maps, before any road is laid, without generating its chunk.
+     */
+    long biomeAt(int x, int y) {
+        long biomes = 0;
+        int biomeIndex = -1;
+        for (BiomeData biome : data.GetBiomes()) {
+            biomeIndex++;
+            if (inBiome(biome, x, y))
+                biomes |= (1L << biomeIndex);
+        }
+        return biomes;
+    }
+
+    private int[] biomeBounds(BiomeData biome) {
+        int biomeXStart = (int) Math.round(biome.startPointX * (double) width);
+        int biomeYStart = (int) Math.round(biome.startPointY * (double) height);
+        int biomeWidth = (int) Math.round(biome.width * (double) width);
+        int biomeHeight = (int) Math.round(biome.height * (double) height);
+        if (biome.width == 1.0 && biome.height == 1.0)
+            return new int[]{biomeXStart, biomeYStart, biomeWidth, biomeHeight, 0, 0, width, height};
+        return new int[]{biomeXStart, biomeYStart, biomeWidth, biomeHeight,
+                Math.max(biomeXStart - biomeWidth / 2, 0), Math.max(biomeYStart - biomeHeight / 2, 0),
+                Math.min(biomeXStart + biomeWidth / 2, width), Math.min(biomeYStart + biomeHeight / 2, height)};
+    }
+
+    private boolean inBiome(BiomeData biome, int x, int y) {
+        int[] bounds = biomeBounds(biome);
+        if (x < bounds[4] || y < bounds[5] || x >= bounds[6] || y >= bounds[7])
+            return false;
+        return inBiome(biome, bounds, x, y);
+    }
+
+    private boolean inBiome(BiomeData biome, int[] bounds, int x, int y) {
+        int biomeXStart = bounds[0], biomeYStart = bounds[1], biomeWidth = bounds[2], biomeHeight = bounds[3];
+        //value 0-1 based on noise
+        float noiseValue = ((float) noise.eval(x / (float) width * data.noiseZoomBiome, y / (float) height * data.noiseZoomBiome) + 1) / 2f;
+        noiseValue *= biome.noiseWeight;
+        //value 0-1 based on dist to origin
+        float distanceValue = ((float) Math.sqrt((x - biomeXStart) * (x - biomeXStart) + (y - biomeYStart) * (y - biomeYStart))) / (Math.max(biomeWidth, biomeHeight) / 2f);
+        distanceValue *= biome.distWeight;
+        return noiseValue + distanceValue < 1.0 || biome.invertHeight && (1 - noiseValue) + distanceValue < 1.0;
+    }
+
+    /**
+     * Sets the biomes and terrain of the tiles in [beginX, endX) x [beginY, endY), applying the biomes in the same
+     * order on every tile, so that later biomes are laid over earlier ones.
+     */
+    private void generateBiomes(int beginX, int beginY, int endX, int endY) {
+        float noiseZoom = data.noiseZoomBiome;
+        int biomeIndex = -1;
+        for (BiomeData biome : data.GetBiomes()) {
+
+            biomeIndex++;
+            int[] bounds = biomeBounds(biome);
+            int biomeXStart = bounds[0], biomeYStart = bounds[1], biomeWidth = bounds[2], biomeHeight = bounds[3];
+            for (int x = Math.max(beginX, bounds[4]); x < Math.min(endX, bounds[6]); x++) {
+                for (int y = Math.max(beginY, bounds[5]); y < Math.min(endY, bounds[7]); y++) {
+                    if (inBiome(biome, bounds, x, y)) {
+                        biomeMap[x][y] |= (1L << biomeIndex);
+                        int terrainCounter = 1;
+                        terrainMap[x][y] = 0;
+                        if (biome.terrain != null) {
+                            for (BiomeTerrainData terrain : biome.terrain) {
+                                float terrainNoise = ((float) noise.eval(x / (float) width * (noiseZoom * terrain.resolution), y / (float) height * (noiseZoom * terrain.resolution)) + 1) / 2;
+                                if (terrainNoise >= terrain.min && terrainNoise <= terrain.max) {
+                                    terrainMap[x][y] = terrainCounter;
+                                }
+                                terrainCounter++;
+                            }
+                        }
+                        if (biome.collision)
+                            terrainMap[x][y] |= World.collisionBit;
+                        if (biome.structures != null) {
+                            for (BiomeStructureData data : biome.structures) {
+                                BiomeStructure structure = structures.get(data);
+                                int structureXStart = x - (biomeXStart - biomeWidth / 2) - (int) ((data.x * biomeWidth) - (data.width * biomeWidth / 2));
+                                int structureYStart = y - (biomeYStart - biomeHeight / 2) - (int) ((data.y * biomeHeight) - (data.height * biomeHeight / 2));
+
+                                int structureIndex = structure.objectID(structureXStart, structureYStart);
+                                if (structureIndex >= 0) {
+
+                                    terrainMap[x][y] = terrainCounter + structureIndex;
+                                    if (structure.collision(structureXStart, structureYStart))
+                                        terrainMap[x][y] |= World.collisionBit;
+                                    terrainMap[x][y] |= World.isStructureBit;
+
+                                }
+
+                                terrainCounter += structure.structureObjectCount();
+                            }
+                        }
+                    }
+
+                }
+            }
+        }
+    }
+
+    /** Clears the terrain of the tile at x and y of the maps, once its chunk is generated. */
+    void clear(int x, int y) {
+        record(CLEAR, x, y);
+    }
+
+    /** Clears the terrain of the tile at x and y of the maps if it has collision, once its chunk is generated. */
+    void clearCollision(int x, int y) {
+        record(CLEAR_COLLISION, x, y);
+    }
+
+    /** Lays a road on the tile at x and y of the maps, once its chunk is generated. */
+    void road(int x, int y) {
+        record(ROAD, x, y);
+    }
+
+    // all changes are recorded before any chunk is generated
+    private void record(int type, int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            return;
+        chunkOf(x, height - y - 1).changes.add((long) type << 62 | (long) x << 31 | y);
+    }
+
+    private Chunk chunkOf(int x, int y) {
+        return chunks[x / chunkSize][y / chunkSize];
+    }
+
+    private void applyChanges(Chunk chunk) {
+        long roadBit = 1L << data.GetBiomes().size();
+        for (int i = 0; i < chunk.changes.size; i++) {
+            long change = chunk.changes.get(i);
+            int x = (int) (change >>> 31 & 0x7FFFFFFF);
+            int y = (int) (change & 0x7FFFFFFF);
+            switch ((int) (change >>> 62)) {
+                case CLEAR:
+                    terrainMap[x][y] = 0;
+                    break;
+                case CLEAR_COLLISION:
+                    if ((terrainMap[x][y] & World.collisionBit) != 0)
+                        terrainMap[x][y] = 0;
+                    break;
+                case ROAD:
+                    biomeMap[x][y] |= roadBit;
+                    terrainMap[x][y] = 0;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Makes sure the chunk of the tile at x and y, counted from the bottom of the world like the chunks, is generated.
+     */
+    void ensure(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            return;
+        Chunk chunk = chunkOf(x, y);
+        if (!chunk.generated)
+            generate(chunk);
+    }
+
+    private void generate(Chunk chunk) {
+        synchronized (chunk) {
+            if (chunk.generated)
+                return;
+            int beginX = chunk.x * chunkSize;
+            int endX = Math.min(beginX + chunkSize, width);
+            // chunks are counted from the bottom of the world, the rows of the maps from the top
+            int beginY = height - Math.min((chunk.y + 1) * chunkSize, height);
+            int endY = height - chunk.y * chunkSize;
+            if (!readCache(chunk, beginX, beginY, endX, endY)) {
+                generateBiomes(beginX, beginY, endX, endY);
+                applyChanges(chunk);
+                writeCache(chunk, beginX, beginY, endX, endY);
+            }
+            chunk.generated = true;
+        }
+        Listener listener = this.listener;
+        if (listener != null)
+            listener.chunkGenerated(chunk.x, chunk.y);
+    }
+
+    /** Generates every chunk not generated yet on the calling thread. */
+    void generateAll() {
+        for (Chunk[] column : chunks)
+            for (Chunk chunk : column)
+                if (!chunk.generated)
+                    generate(chunk);
+    }
+
+    /** Generates every chunk not generated yet on the threads of the pool, and waits for them. */
+    void generateAll(ExecutorService pool) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Chunk[] column : chunks) {
+            for (final Chunk chunk : column) {
+                tasks.add(() -> {
+                    generate(chunk);
+                    return null;
+                });
+            }
+        }
+        try {
+            for (Future<Void> task : pool.invokeAll(tasks)) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Keeps threads of the pool generating the chunks not generated yet, always the one nearest to the chunk the
+     * player is in, see setFocus, until all are generated or generation is cancelled.
+     */
+    void generateInBackground(ExecutorService pool, int threads) {
+        for (int i = 0; i < threads; i++) {
+            pool.execute(() -> {
+                for (Chunk chunk = nextChunk(); chunk != null; chunk = nextChunk()) {
+                    try {
+                        generate(chunk);
+                    } finally {
+                        generated();
+                    }
+                }
+            });
+        }
+    }
+
+    synchronized void setFocus(int chunkX, int chunkY) {
+        focusX = chunkX;
+        focusY = chunkY;
+    }
+
+    /**
+     * Stops the background threads, and waits for them to be done with the chunks they are generating, listener
+     * included.
+     */
+    synchronized void cancel() {
+        cancelled = true;
+        boolean interrupted = false;
+        while (generating > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    private synchronized void generated() {
+        generating--;
+        notifyAll();
+    }
+
+    private synchronized Chunk nextChunk() {
+        if (cancelled)
+            return null;
+        Chunk nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (Chunk[] column : chunks) {
+            for (Chunk chunk : column) {
+                if (chunk.claimed || chunk.generated)
+                    continue;
+                int distance = Math.max(Math.abs(chunk.x - focusX), Math.abs(chunk.y - focusY));
+                if (distance < nearestDistance) {
+                    nearest = chunk;
+                    nearestDistance = distance;
+                }
+            }
+        }
+        if (nearest != null) {
+            nearest.claimed = true;
+            generating++;
+        }
+        return nearest;
+    }
+
+    private File cacheFile(Chunk chunk) {
+        return new File(cacheDir, chunk.x + "_" + chunk.y + ".chunk");
+    }
+
+    private boolean readCache(Chunk chunk, int beginX, int beginY, int endX, int endY) {
+        if (cacheDir == null)
+            return false;
+        File file = cacheFile(chunk);
+        if (!file.exists())
+            return false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(new FileInputStream(file))))) {
+            if (in.readInt() != CACHE_VERSION)
+                return false;
+            for (int x = beginX; x < endX; x++) {
+                for (int y = beginY; y < endY; y++) {
+                    biomeMap[x][y] = in.readLong();
+                    terrainMap[x][y] = in.readInt();
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            // generated again over whatever was read
+            for (int x = beginX; x < endX; x++) {
+                for (int y = beginY; y < endY; y++) {
+                    biomeMap[x][y] = 0;
+                    terrainMap[x][y] = 0;
+                }
+            }
+            return false;
+        }
+    }
+
+    private void writeCache(Chunk chunk, int beginX, int beginY, int endX, int endY) {
+        if (cacheDir == null)
+            return;
+        File file = cacheFile(chunk);
+        // written aside first, so that a chunk only half written is never read back
+        File written = new File(cacheDir, file.getName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(new FileOutputStream(written))))) {
+                out.writeInt(CACHE_VERSION);
+                for (int x = beginX; x < endX; x++) {
+                    for (int y = beginY; y < endY; y++) {
+                        out.writeLong(biomeMap[x][y]);
+                        out.writeInt(terrainMap[x][y]);
+                    }
+                }
+            }
+            if (!written.renameTo(file)) {
+                written.delete();
+            }
+        } catch (IOException e) {
+            // the chunk is only generated again next time
+            e.printStackTrace();
+            written.delete();
+        }
+    }
+}
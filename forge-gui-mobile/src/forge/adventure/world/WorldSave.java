@@ -28,6 +28,13 @@ public class WorldSave   {
     static final public int AUTO_SAVE_SLOT =-1;
     static final public int QUICK_SAVE_SLOT =-2;
     static final public int INVALID_SAVE_SLOT =-3;
+    /**
+     * Saves start with these four bytes ("FSAV") and the version of their format, then the header with its length,
+     * so that it can be read alone, then the rest of the data, deflated. Older saves are a deflated Java serialization
+     * stream, which never starts with these bytes; they are still loaded, and saved again in the current format.
+     */
+    static final int SAVE_MAGIC = 0x46534156;
+    static final int SAVE_FORMAT_VERSION = 1;
     static final WorldSave currentSave=new WorldSave();
     public WorldSaveHeader header = new WorldSaveHeader();
     private final AdventurePlayer player=new AdventurePlayer();
@@ -64,12 +71,20 @@ public class WorldSave   {
             return false;
         new File(getSaveDir()).mkdirs();
         try {
-            try(FileInputStream fos  = new FileInputStream(fileName);
-                InflaterInputStream inf = new InflaterInputStream(fos);
-                ObjectInputStream oos = new ObjectInputStream(inf))
+            try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fileName))))
             {
-                currentSave.header = (WorldSaveHeader) oos.readObject();
-                SaveFileData mainData=(SaveFileData)oos.readObject();
+                SaveFileData mainData;
+                if (isLegacy(in)) {
+                    try (ObjectInputStream oos = SaveFileData.openLegacy(new InflaterInputStream(in))) {
+                        currentSave.header = (WorldSaveHeader) oos.readObject();
+                        mainData = SaveFileData.readLegacy(oos);
+                    }
+                } else {
+                    currentSave.header = readHeader(in);
+                    try (DataInputStream body = new DataInputStream(new BufferedInputStream(new InflaterInputStream(in)))) {
+                        mainData = SaveFileData.read(body);
+                    }
+                }
                 currentSave.player.load(mainData.readSubData("player"));
                 GamePlayerUtil.getGuiPlayer().setName(currentSave.player.getName());
                 try {
@@ -91,6 +106,39 @@ public class WorldSave   {
         }
         return true;
     }
+
+    private static boolean isLegacy(DataInputStream in) throws IOException {
+        in.mark(4);
+        int magic = in.readInt();
+        in.reset();
+        return magic != SAVE_MAGIC;
+    }
+
+    private static WorldSaveHeader readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != SAVE_MAGIC)
+            throw new StreamCorruptedException("Not a save file");
+        int version = in.readInt();
+        if (version > SAVE_FORMAT_VERSION)
+            throw new IOException("Save file of a newer format (" + version + "), update Forge to load it");
+        byte[] headerData = SaveFileData.readBytes(in);
+        WorldSaveHeader header = new WorldSaveHeader();
+        header.read(new DataInputStream(new ByteArrayInputStream(headerData)));
+        return header;
+    }
+
+    /**
+     * Reads only the header of a save, without going through the rest of it.
+     */
+    public static WorldSaveHeader loadHeader(File file) throws IOException, ClassNotFoundException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (!isLegacy(in))
+                return readHeader(in);
+            try (ObjectInputStream oos = SaveFileData.openLegacy(new InflaterInputStream(in))) {
+                return (WorldSaveHeader) oos.readObject();
+            }
+        }
+    }
+
     public static boolean isSafeFile(String name) {
         return filenameToSlot(name)!= INVALID_SAVE_SLOT;
     }
@@ -153,19 +201,25 @@ public class WorldSave   {
         new File(getSaveDir()).mkdirs();
 
         try {
-            try(FileOutputStream fos =  new FileOutputStream(fileName);
-                DeflaterOutputStream def= new DeflaterOutputStream(fos);
-                ObjectOutputStream oos = new ObjectOutputStream(def))
+            try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName))))
             {
                 header.saveDate= new Date();
-                oos.writeObject(header);
+                out.writeInt(SAVE_MAGIC);
+                out.writeInt(SAVE_FORMAT_VERSION);
+                ByteArrayOutputStream headerData = new ByteArrayOutputStream();
+                header.write(new DataOutputStream(headerData));
+                out.writeInt(headerData.size());
+                headerData.writeTo(out);
+
                 SaveFileData mainData=new SaveFileData();
                 mainData.store("player",currentSave.player.save());
                 mainData.store("world",currentSave.world.save());
                 mainData.store("worldStage", WorldStage.getInstance().save());
                 mainData.store("pointOfInterestChanges",currentSave.pointOfInterestChanges.save());
 
-                oos.writeObject(mainData);
+                try (DataOutputStream body = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(out)))) {
+                    mainData.write(body);
+                }
             }
 
         } catch (IOException e) {
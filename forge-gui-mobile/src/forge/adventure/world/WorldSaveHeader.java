@@ -13,6 +13,8 @@ import forge.Graphics;
 import forge.adventure.scene.Scene;
 import forge.adventure.util.Serializer;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Date;
 
@@ -43,6 +45,22 @@ public class WorldSaveHeader implements java.io.Serializable, Disposable {
 
     }
 
+    public void write(DataOutput out) throws IOException {
+        out.writeUTF(name);
+        if (preview == null)
+            preview = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        Serializer.WritePixmap(out, preview, true);
+        out.writeLong(saveDate.getTime());
+    }
+
+    public void read(DataInput in) throws IOException {
+        name = in.readUTF();
+        if(preview!=null)
+            preview.dispose();
+        preview = Serializer.ReadPixmap(in);
+        saveDate = new Date(in.readLong());
+    }
+
     public void dispose() {
         preview.dispose();
     }
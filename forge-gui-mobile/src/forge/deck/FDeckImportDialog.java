@@ -104,6 +104,8 @@ public class FDeckImportDialog extends FDialog {
 
                         //if there are any cards that cannot be imported, let user know this and give them the option to cancel
                         StringBuilder sb = new StringBuilder();
+                        //cards whose misspelt names were read as the closest card name are shown as well
+                        StringBuilder corrected = new StringBuilder();
                         for (DeckRecognizer.Token token : tokens) {
                             if (token.getType() == TokenType.CARD_FROM_NOT_ALLOWED_SET
                                     || token.getType() == TokenType.CARD_FROM_INVALID_SET
@@ -112,10 +114,14 @@ public class FDeckImportDialog extends FDialog {
                                 if (sb.length() > 0)
                                     sb.append("\n");
                                 sb.append(token.getQuantity()).append(" ").append(token.getText());
+                            } else if (token.isCardToken() && token.getMisspeltName() != null) {
+                                corrected.append("\n").append(Forge.getLocalizer().getMessage("lblWarnCardNameCorrected",
+                                        token.getMisspeltName(), token.getCard().getName()));
                             }
                         }
-                        if (sb.length() > 0) {
-                            if (SOptionPane.showOptionDialog(Forge.getLocalizer().getMessage("lblFollowingCardsCannotBeImported") + "\n\n" + sb, Forge.getLocalizer().getMessage("lblImportRemainingCards"), SOptionPane.INFORMATION_ICON, importOrCancel) == 1) {
+                        if (sb.length() > 0 || corrected.length() > 0) {
+                            String message = sb.length() > 0 ? Forge.getLocalizer().getMessage("lblFollowingCardsCannotBeImported") + "\n\n" + sb + "\n" : "";
+                            if (SOptionPane.showOptionDialog(message + corrected.toString().trim(), Forge.getLocalizer().getMessage("lblImportRemainingCards"), SOptionPane.INFORMATION_ICON, importOrCancel) == 1) {
                                 return;
                             }
                         }
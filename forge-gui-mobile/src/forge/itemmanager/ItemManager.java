@@ -39,9 +39,11 @@ import forge.Graphics;
 import forge.assets.FSkinColor;
 import forge.assets.FSkinFont;
 import forge.assets.FSkinImage;
+import forge.card.CardCatalogIndex;
 import forge.card.CardZoom.ActivateHandler;
 import forge.gui.FThreads;
 import forge.item.InventoryItem;
+import forge.item.PaperCard;
 import forge.itemmanager.filters.AdvancedSearchFilter;
 import forge.itemmanager.filters.ItemFilter;
 import forge.itemmanager.filters.TextSearchFilter;
@@ -676,23 +678,36 @@ public abstract class ItemManager<T extends InventoryItem> extends FContainer im
         applyFilters();
     }
 
+    private static List<CardCatalogIndex.Query> addIndexQuery(List<CardCatalogIndex.Query> queries, ItemFilter<?> filter) {
+        if (queries == null) { return null; }
+        CardCatalogIndex.Query query = filter.buildIndexQuery();
+        if (query == null) { return null; }
+        queries.add(query);
+        return queries;
+    }
+
     public boolean applyFilters() {
         if (lockFiltering || !initialized) { return false; }
 
         List<Predicate<? super T>> predicates = new ArrayList<>();
+        //card filters are answered from the catalog index when all of them support it
+        List<CardCatalogIndex.Query> queries = genericType.isAssignableFrom(PaperCard.class) ? new ArrayList<>() : null;
         for (ItemFilter<? extends T> filter : filters) {
             if (!filter.isEmpty()) {
                 predicates.add(filter.buildPredicate(genericType));
+                queries = addIndexQuery(queries, filter);
             }
         }
         if (!searchFilter.isEmpty()) {
             predicates.add(searchFilter.buildPredicate(genericType));
+            queries = addIndexQuery(queries, searchFilter);
         }
         if (advancedSearchFilter != null && !advancedSearchFilter.isEmpty()) {
             predicates.add(advancedSearchFilter.buildPredicate(genericType));
+            queries = addIndexQuery(queries, advancedSearchFilter);
         }
 
-        Predicate<? super T> newFilterPredicate = predicates.size() == 0 ? null : Predicates.and(predicates);
+        Predicate<? super T> newFilterPredicate = SFilterUtil.buildItemFilter(predicates, queries);
         if (filterPredicate == newFilterPredicate) { return false; }
 
         filterPredicate = newFilterPredicate;
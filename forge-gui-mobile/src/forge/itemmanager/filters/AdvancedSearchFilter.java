@@ -7,6 +7,7 @@ import com.google.common.collect.Iterables;
 import forge.Forge;
 import forge.assets.FSkinImage;
 import forge.assets.TextRenderer;
+import forge.card.CardCatalogIndex;
 import forge.gui.interfaces.IButton;
 import forge.item.InventoryItem;
 import forge.itemmanager.AdvancedSearch;
@@ -49,6 +50,11 @@ public class AdvancedSearchFilter<T extends InventoryItem> extends ItemFilter<T>
         return model.getPredicate();
     }
 
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return model.getIndexQuery();
+    }
+
     public Predicate<? super T> getPredicate() {
         return model.getPredicate();
     }
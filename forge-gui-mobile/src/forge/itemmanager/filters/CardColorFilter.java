@@ -2,6 +2,7 @@ package forge.itemmanager.filters;
 
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.item.PaperCard;
 import forge.itemmanager.ItemManager;
 import forge.itemmanager.SFilterUtil;
@@ -33,4 +34,9 @@ public class CardColorFilter extends StatTypeFilter<PaperCard> {
     protected final Predicate<PaperCard> buildPredicate() {
         return SFilterUtil.buildColorFilter(buttonMap);
     }
+
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return SFilterUtil.buildColorQuery(buttonMap);
+    }
 }
@@ -3,6 +3,7 @@ package forge.itemmanager.filters;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 
+import forge.card.CardCatalogIndex;
 import forge.item.PaperCard;
 import forge.itemmanager.ItemManager;
 
@@ -29,4 +30,15 @@ public class CardFormatFilter extends FormatFilter<PaperCard> {
         }
         return format.getFilterRules();
     }
+
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        if (format == null) {
+            return CardCatalogIndex.Query.all();
+        }
+        if (format.getName() == null) {
+            return CardCatalogIndex.Query.cards(format.getFilterPrinted());
+        }
+        return CardCatalogIndex.Query.cards(format.getFilterRules());
+    }
 }
@@ -2,6 +2,7 @@ package forge.itemmanager.filters;
 
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.card.CardRarity;
 import forge.item.PaperCard;
 import forge.itemmanager.ItemManager;
@@ -35,4 +36,12 @@ public class CardRarityFilter extends ComboBoxFilter<PaperCard, CardRarity> {
             }
         };
     }
+
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        if (filterValue == null) {
+            return CardCatalogIndex.Query.all();
+        }
+        return CardCatalogIndex.Query.rarity(filterValue);
+    }
 }
@@ -2,6 +2,7 @@ package forge.itemmanager.filters;
 
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.item.InventoryItem;
 import forge.item.PaperCard;
 import forge.itemmanager.ItemManager;
@@ -42,6 +43,17 @@ public class CardSearchFilter extends TextSearchFilter<PaperCard> {
                 inCost);
     }
 
+    @Override
+    public CardCatalogIndex.Query buildIndexQuery() {
+        return SFilterUtil.buildTextQuery(
+                txtSearch.getText(),
+                false,
+                inName,
+                inType,
+                inText,
+                inCost);
+    }
+
     @Override
     protected <U extends InventoryItem> boolean showUnsupportedItem(U item) {
         //fallback to regular item text filter if item not PaperCard
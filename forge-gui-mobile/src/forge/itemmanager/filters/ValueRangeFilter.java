@@ -1,8 +1,12 @@
 package forge.itemmanager.filters;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.badlogic.gdx.utils.Align;
 import com.google.common.base.Predicate;
 
+import forge.card.CardCatalogIndex;
 import forge.card.CardRules;
 import forge.card.CardRulesPredicates;
 import forge.item.InventoryItem;
@@ -15,7 +19,6 @@ import forge.toolbox.FLabel;
 import forge.toolbox.FSpinner;
 import forge.util.ComparableOp;
 
-
 public abstract class ValueRangeFilter<T extends InventoryItem> extends ItemFilter<T> {
     private FLabel label;
     private FSpinner lowerBound, upperBound;
@@ -109,4 +112,20 @@ public abstract class ValueRangeFilter<T extends InventoryItem> extends ItemFilt
 
         return SFilterUtil.optimizedAnd(pLower, pUpper);
     }
+
+    protected CardCatalogIndex.Query getCardRulesFieldQuery(CardRulesPredicates.LeafNumber.CardField field) {
+        int lowerValue = lowerBound.getValue();
+        int upperValue = upperBound.getValue();
+        boolean hasMin = lowerValue != minValue();
+        boolean hasMax = upperValue != maxValue();
+
+        List<CardCatalogIndex.Query> bounds = new ArrayList<>();
+        if (hasMin) {
+            bounds.add(CardCatalogIndex.Query.rules(new CardRulesPredicates.LeafNumber(field, ComparableOp.GT_OR_EQUAL, lowerValue)));
+        }
+        if (hasMax) {
+            bounds.add(CardCatalogIndex.Query.rules(new CardRulesPredicates.LeafNumber(field, ComparableOp.LT_OR_EQUAL, upperValue)));
+        }
+        return bounds.isEmpty() ? null : CardCatalogIndex.Query.and(bounds);
+    }
 }
@@ -0,0 +1,269 @@
+package forge.adventure.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.naming.CompositeName;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+public class SaveFileDataTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        SaveFileData read = readBack(sample());
+        checkSample(read);
+        // what a save holds the most of, the objects of the world map
+        @SuppressWarnings("unchecked")
+        List<Pair<Vector2, Integer>>[][] mapObjects = (List<Pair<Vector2, Integer>>[][]) read.readObject("mapObjects");
+        Assert.assertEquals(mapObjects.length, 2);
+        Assert.assertEquals(mapObjects[1][2], Arrays.asList(Pair.of(new Vector2(3, 4), 5), Pair.of(new Vector2(6, 7), 8)));
+        Assert.assertEquals(read.readObject("saveDate"), new Date(1234567890L));
+        Assert.assertNull(read.readObject("nothing"));
+    }
+
+    @Test
+    public void testValuesOfAnotherTypeReadAsMissing() throws IOException {
+        SaveFileData read = readBack(sample());
+        Assert.assertEquals(read.readLong("int"), 42L);
+        Assert.assertNull(read.readString("int"));
+        Assert.assertNull(read.readSubData("string"));
+        Assert.assertEquals(read.readVector2("rectangle"), new Vector2());
+    }
+
+    /**
+     * Saves from before the tagged format hold every value as a Java serialization stream of its own, and nested
+     * data as a serialized map; they have to read the same, and once read be stored again in the current format.
+     */
+    @Test
+    public void testLegacyImport() throws Exception {
+        SaveFileData legacyChild = new SaveFileData();
+        legacyChild.put("name", legacy(out -> out.writeUTF("child")));
+        legacyChild.put("position", legacy(out -> {
+            out.writeFloat(3.5f);
+            out.writeFloat(-2f);
+        }));
+        SaveFileData legacyMain = new SaveFileData();
+        legacyMain.put("int", legacy(out -> out.writeInt(42)));
+        legacyMain.put("long", legacy(out -> out.writeLong(Long.MIN_VALUE + 7)));
+        legacyMain.put("float", legacy(out -> out.writeFloat(1.25f)));
+        legacyMain.put("bool", legacy(out -> out.writeBoolean(true)));
+        legacyMain.put("rectangle", legacy(out -> {
+            for (float f : new float[] { 1, 2, 3, 4 })
+                out.writeFloat(f);
+        }));
+        legacyMain.put("cards", legacy(out -> out.writeObject(new String[] { "1 Forest", "2 Llanowar Elves" })));
+        legacyMain.put("child", legacy(out -> out.writeObject(legacyChild)));
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(file)) {
+            out.writeObject(legacyMain);
+        }
+        SaveFileData imported = SaveFileData.readLegacy(SaveFileData.openLegacy(new ByteArrayInputStream(file.toByteArray())));
+
+        SaveFileData migrated = new SaveFileData();
+        migrated.store("int", imported.readInt("int"));
+        migrated.store("long", imported.readLong("long"));
+        migrated.store("float", imported.readFloat("float"));
+        migrated.store("bool", imported.readBool("bool"));
+        migrated.store("rectangle", imported.readRectangle("rectangle"));
+        migrated.storeObject("cards", imported.readObject("cards"));
+        SaveFileData child = new SaveFileData();
+        child.store("name", imported.readSubData("child").readString("name"));
+        child.store("position", imported.readSubData("child").readVector2("position"));
+        migrated.store("child", child);
+
+        SaveFileData read = readBack(migrated);
+        Assert.assertEquals(read.readInt("int"), 42);
+        Assert.assertEquals(read.readLong("long"), Long.MIN_VALUE + 7);
+        Assert.assertEquals(read.readFloat("float"), 1.25f);
+        Assert.assertTrue(read.readBool("bool"));
+        Assert.assertEquals(read.readRectangle("rectangle"), new Rectangle(1, 2, 3, 4));
+        Assert.assertEquals((String[]) read.readObject("cards"), new String[] { "1 Forest", "2 Llanowar Elves" });
+        Assert.assertEquals(read.readSubData("child").readString("name"), "child");
+        Assert.assertEquals(read.readSubData("child").readVector2("position"), new Vector2(3.5f, -2f));
+
+        try {
+            imported.write(new DataOutputStream(new ByteArrayOutputStream()));
+            Assert.fail("data of the older format was written as is");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void testRejectsClassesOutsideTheGame() throws Exception {
+        byte[] bytes = SaveFileValues.toBytes(new CompositeName("a/b"));
+        try {
+            SaveFileValues.fromBytes(bytes);
+            Assert.fail("a class from outside the game was deserialized");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void testRejectsLengthsTheDataCantHold() throws IOException {
+        // each one would have been allocated before reading on
+        byte[][] crafted = {
+                encode(SaveFileValues.STRING, -1),
+                encode(SaveFileValues.BYTE_ARRAY, Integer.MAX_VALUE),
+                encode(SaveFileValues.INT_ARRAY, Integer.MAX_VALUE),
+                encode(SaveFileValues.LONG_ARRAY, -5),
+                encode(SaveFileValues.LIST, 1000),
+                encode(SaveFileValues.MAP, Integer.MAX_VALUE),
+                encode(SaveFileValues.PIXMAP, Integer.MAX_VALUE),
+                encode(SaveFileValues.SERIALIZED, 1 << 30),
+        };
+        for (byte[] bytes : crafted) {
+            try {
+                SaveFileValues.fromBytes(bytes);
+                Assert.fail("a crafted length was read with tag " + bytes[0]);
+            } catch (StreamCorruptedException expected) {
+            }
+        }
+
+        ByteArrayOutputStream array = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(array)) {
+            out.writeByte(SaveFileValues.ARRAY);
+            SaveFileValues.writeString(out, String.class.getName());
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        try {
+            SaveFileValues.fromBytes(array.toByteArray());
+            Assert.fail("an array of " + Integer.MAX_VALUE + " strings was allocated");
+        } catch (StreamCorruptedException expected) {
+        }
+
+        // the stream of a save doesn't tell how much is left in it, a value can't be longer than what is
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(data)) {
+            out.writeInt(1);
+            SaveFileValues.writeString(out, "player");
+            out.writeInt(Integer.MAX_VALUE);
+            out.write(new byte[100]);
+        }
+        try {
+            SaveFileData.read(new DataInputStream(new BufferedInputStream(new InflaterInputStream(deflate(data.toByteArray())))));
+            Assert.fail("a value longer than the save was read");
+        } catch (StreamCorruptedException expected) {
+        }
+    }
+
+    private static byte[] encode(byte tag, int length) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(stream)) {
+            out.writeByte(tag);
+            out.writeInt(length);
+            out.write(new byte[16]);
+        }
+        return stream.toByteArray();
+    }
+
+    private static InputStream deflate(byte[] bytes) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(stream)) {
+            out.write(bytes);
+        }
+        return new ByteArrayInputStream(stream.toByteArray());
+    }
+
+    private static SaveFileData sample() {
+        SaveFileData child = new SaveFileData();
+        child.store("name", "child");
+        child.store("position", new Vector2(3.5f, -2f));
+
+        SaveFileData data = new SaveFileData();
+        data.store("int", 42);
+        data.store("long", Long.MIN_VALUE + 7);
+        data.store("float", 1.25f);
+        data.store("double", Math.PI);
+        data.store("bool", true);
+        data.store("string", "\u00C6rwyn\u2019s \u201Cquote\u201D " + new String(new char[70000]).replace('\0', 'x'));
+        data.store("rectangle", new Rectangle(1, 2, 3, 4));
+        data.store("child", child);
+
+        data.storeObject("cards", new String[] { "1 Forest", "2 Llanowar Elves" });
+        data.storeObject("flags", new Byte[] { 1, null, -3 });
+        data.storeObject("terrainMap", new int[][] { { 1, 2 }, { 3 } });
+        data.storeObject("biomeMap", new long[][] { { 1L << 40 }, {} });
+        HashMap<Integer, HashSet<Integer>> cardsBought = new HashMap<>();
+        cardsBought.put(7, new HashSet<>(Arrays.asList(1, 2, 3)));
+        data.storeObject("cardsBought", cardsBought);
+        HashMap<String, Pair<Integer, Integer>> winLoss = new HashMap<>();
+        winLoss.put("Goblin", Pair.of(3, 1));
+        data.storeObject("winLossRecord", winLoss);
+        data.storeObject("timeouts", new ArrayList<>(Arrays.asList(0.5f, 2f)));
+        @SuppressWarnings("unchecked")
+        List<Pair<Vector2, Integer>>[][] mapObjects = new List[2][3];
+        mapObjects[1][2] = new ArrayList<>(Arrays.asList(Pair.of(new Vector2(3, 4), 5), Pair.of(new Vector2(6, 7), 8)));
+        data.storeObject("mapObjects", mapObjects);
+        data.storeObject("saveDate", new Date(1234567890L));
+        data.storeObject("nothing", null);
+        return data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void checkSample(SaveFileData data) {
+        Assert.assertEquals(data.readInt("int"), 42);
+        Assert.assertEquals(data.readLong("long"), Long.MIN_VALUE + 7);
+        Assert.assertEquals(data.readFloat("float"), 1.25f);
+        Assert.assertEquals(data.readDouble("double"), Math.PI);
+        Assert.assertTrue(data.readBool("bool"));
+        Assert.assertTrue(data.readString("string").startsWith("\u00C6rwyn\u2019s \u201Cquote\u201D xxx"));
+        Assert.assertEquals(data.readString("string").length(), 16 + 70000);
+        Assert.assertEquals(data.readRectangle("rectangle"), new Rectangle(1, 2, 3, 4));
+        Assert.assertEquals(data.readSubData("child").readString("name"), "child");
+        Assert.assertEquals(data.readSubData("child").readVector2("position"), new Vector2(3.5f, -2f));
+        Assert.assertEquals(data.readInt("missing"), 0);
+        Assert.assertNull(data.readSubData("missing"));
+
+        Assert.assertEquals((String[]) data.readObject("cards"), new String[] { "1 Forest", "2 Llanowar Elves" });
+        Assert.assertEquals((Byte[]) data.readObject("flags"), new Byte[] { 1, null, -3 });
+        Assert.assertEquals(((int[][]) data.readObject("terrainMap"))[0], new int[] { 1, 2 });
+        Assert.assertEquals(((int[][]) data.readObject("terrainMap"))[1], new int[] { 3 });
+        Assert.assertEquals(((long[][]) data.readObject("biomeMap"))[0], new long[] { 1L << 40 });
+        Assert.assertEquals(((HashMap<Integer, HashSet<Integer>>) data.readObject("cardsBought")).get(7), new HashSet<>(Arrays.asList(1, 2, 3)));
+        Assert.assertEquals(((HashMap<String, Pair<Integer, Integer>>) data.readObject("winLossRecord")).get("Goblin"), Pair.of(3, 1));
+        Assert.assertEquals(data.readObject("timeouts"), Arrays.asList(0.5f, 2f));
+    }
+
+    private static SaveFileData readBack(SaveFileData data) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(stream)) {
+            data.write(out);
+        }
+        return SaveFileData.read(new DataInputStream(new ByteArrayInputStream(stream.toByteArray())));
+    }
+
+    private interface LegacyValue {
+        void write(ObjectOutputStream out) throws IOException;
+    }
+
+    /** A value the way the older format stored it, in a serialization stream of its own. */
+    private static byte[] legacy(LegacyValue value) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(stream);
+        value.write(out);
+        out.flush();
+        return stream.toByteArray();
+    }
+}
@@ -0,0 +1,250 @@
+package forge.adventure.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Inflater;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+public class SpatialGridTest {
+    private static final File ADVENTURE_DIR = new File("../forge-gui/res/adventure");
+
+    /**
+     * Reads the collision rectangles of every shipped map the way MapStage does, and checks that merging them through
+     * the grid gives the same rectangles as comparing every pair, and that the grid then collides where a scan would.
+     */
+    @Test
+    public void testShippedMapsCollideAsBefore() throws Exception {
+        List<File> maps = new ArrayList<>();
+        findMaps(ADVENTURE_DIR, maps);
+        Assert.assertFalse(maps.isEmpty(), "No maps found in " + ADVENTURE_DIR.getAbsolutePath());
+
+        Map<File, Element> tilesets = new HashMap<>();
+        Random random = new Random(1);
+        for (File map : maps) {
+            Element root = parse(map);
+            Array<Rectangle> rectangles = readCollisions(map, root, tilesets);
+            if (rectangles == null)
+                continue; // a leftover copy whose tilesets can't be found, the game can't load it either
+            Array<Rectangle> expected = copy(rectangles);
+            mergeEveryPair(expected);
+            Array<Rectangle> merged = copy(rectangles);
+            SpatialGrid.mergeTouching(merged, 32);
+            Assert.assertEquals(merged, expected, map.getPath());
+
+            float width = intAttribute(root, "width") * intAttribute(root, "tilewidth");
+            float height = intAttribute(root, "height") * intAttribute(root, "tileheight");
+            SpatialGrid<Rectangle> grid = new SpatialGrid<>(new Rectangle(0, 0, width, height), 32);
+            for (Rectangle rectangle : merged)
+                grid.add(rectangle, rectangle);
+            for (int i = 0; i < 2000; i++) {
+                Rectangle probe = new Rectangle(random.nextFloat() * (width + 32) - 16, random.nextFloat() * (height + 32) - 16,
+                        1 + random.nextInt(16), 1 + random.nextInt(16));
+                boolean colliding = false;
+                for (Rectangle rectangle : expected)
+                    colliding |= rectangle.overlaps(probe);
+                Assert.assertEquals(grid.overlaps(probe), colliding, map.getPath() + " at " + probe);
+            }
+        }
+    }
+
+    @Test
+    public void testNearestMatchesAScan() {
+        Random random = new Random(2);
+        SpatialGrid<Integer> grid = new SpatialGrid<>(new Rectangle(0, 0, 800, 400), 64);
+        float[][] points = new float[300][];
+        for (int i = 0; i < points.length; i++) {
+            // a few of them outside of the bounds
+            points[i] = new float[] { random.nextFloat() * 900 - 50, random.nextFloat() * 500 - 50 };
+            grid.add(points[i][0], points[i][1], i);
+        }
+        for (int n = 0; n < 1000; n++) {
+            float x = random.nextFloat() * 1000 - 100, y = random.nextFloat() * 600 - 100;
+            float best = Float.POSITIVE_INFINITY;
+            for (float[] point : points)
+                best = Math.min(best, (point[0] - x) * (point[0] - x) + (point[1] - y) * (point[1] - y));
+            float[] nearest = points[grid.nearest(x, y)];
+            Assert.assertEquals((nearest[0] - x) * (nearest[0] - x) + (nearest[1] - y) * (nearest[1] - y), best, 1e-3f);
+        }
+        Assert.assertNull(new SpatialGrid<Integer>(new Rectangle(0, 0, 100, 100), 10).nearest(5, 5));
+    }
+
+    /** What MapStage did when a map was loaded. */
+    private static void mergeEveryPair(Array<Rectangle> collisionRect) {
+        int oldSize;
+        do {
+            oldSize = collisionRect.size;
+            for (int i = 0; i < collisionRect.size; i++) {
+                Rectangle r1 = collisionRect.get(i);
+                for (int j = i + 1; j < collisionRect.size; j++) {
+                    Rectangle r2 = collisionRect.get(j);
+                    if (SpatialGrid.touchesOrContains(r1, r2)) {
+                        r1.merge(r2);
+                        collisionRect.removeIndex(j);
+                        i--;
+                        break;
+                    }
+                }
+            }
+        } while (oldSize != collisionRect.size);
+    }
+
+    private static Array<Rectangle> copy(Array<Rectangle> rectangles) {
+        Array<Rectangle> copy = new Array<>();
+        for (Rectangle rectangle : rectangles)
+            copy.add(new Rectangle(rectangle));
+        return copy;
+    }
+
+    private static void findMaps(File dir, List<File> maps) {
+        File[] files = dir.listFiles();
+        if (files == null)
+            return;
+        for (File file : files) {
+            if (file.isDirectory())
+                findMaps(file, maps);
+            else if (file.getName().endsWith(".tmx"))
+                maps.add(file);
+        }
+    }
+
+    private static Element parse(File file) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file).getDocumentElement();
+    }
+
+    private static int intAttribute(Element element, String name) {
+        String value = element.getAttribute(name);
+        return value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    private static float floatAttribute(Element element, String name) {
+        String value = element.getAttribute(name);
+        return value.isEmpty() ? 0 : Float.parseFloat(value);
+    }
+
+    private static List<Element> children(Element element, String name) {
+        List<Element> result = new ArrayList<>();
+        NodeList nodes = element.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node instanceof Element && node.getNodeName().equals(name))
+                result.add((Element) node);
+        }
+        return result;
+    }
+
+    /** Objects with a shape of their own are not rectangles to the map loader. */
+    private static boolean isRectangle(Element object) {
+        for (String shape : new String[] { "ellipse", "polygon", "polyline", "point", "text" }) {
+            if (!children(object, shape).isEmpty())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * The rectangles of the tiles of each layer, then those of the collision objects, with y going up as the loader
+     * turns it; null if a tileset is missing.
+     */
+    private static Array<Rectangle> readCollisions(File map, Element root, Map<File, Element> tilesets) throws Exception {
+        int width = intAttribute(root, "width"), height = intAttribute(root, "height");
+        int tileWidth = intAttribute(root, "tilewidth"), tileHeight = intAttribute(root, "tileheight");
+
+        Map<Integer, Array<Rectangle>> tileObjects = new HashMap<>();
+        for (Element tileset : children(root, "tileset")) {
+            int firstGid = intAttribute(tileset, "firstgid");
+            if (!tileset.getAttribute("source").isEmpty()) {
+                File source = new File(map.getParentFile(), tileset.getAttribute("source")).getCanonicalFile();
+                if (!source.exists())
+                    return null;
+                if (!tilesets.containsKey(source))
+                    tilesets.put(source, parse(source));
+                tileset = tilesets.get(source);
+            }
+            for (Element tile : children(tileset, "tile")) {
+                float imageHeight = floatAttribute(tileset, "tileheight");
+                for (Element image : children(tile, "image"))
+                    imageHeight = floatAttribute(image, "height");
+                Array<Rectangle> objects = new Array<>();
+                for (Element group : children(tile, "objectgroup")) {
+                    for (Element object : children(group, "object")) {
+                        if (!isRectangle(object))
+                            continue;
+                        float h = floatAttribute(object, "height");
+                        objects.add(new Rectangle(floatAttribute(object, "x"), imageHeight - floatAttribute(object, "y") - h,
+                                floatAttribute(object, "width"), h));
+                    }
+                }
+                tileObjects.put(firstGid + intAttribute(tile, "id"), objects);
+            }
+        }
+
+        Array<Rectangle> result = new Array<>();
+        for (Element layer : children(root, "layer")) {
+            int[] gids = readData(children(layer, "data").get(0), width * height);
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    Array<Rectangle> objects = tileObjects.get(gids[x + (height - 1 - y) * width] & 0x1FFFFFFF);
+                    if (objects == null)
+                        continue;
+                    for (Rectangle r : objects)
+                        result.add(new Rectangle(tileWidth * x + r.x, tileHeight * y + r.y, Math.round(r.width), Math.round(r.height)));
+                }
+            }
+        }
+        for (Element group : children(root, "objectgroup")) {
+            for (Element object : children(group, "object")) {
+                if (!"collision".equals(object.getAttribute("type")) && !"collision".equals(object.getAttribute("class")))
+                    continue;
+                float h = floatAttribute(object, "height");
+                result.add(new Rectangle(floatAttribute(object, "x"), height * tileHeight - floatAttribute(object, "y") - h,
+                        floatAttribute(object, "width"), h));
+            }
+        }
+        return result;
+    }
+
+    private static int[] readData(Element data, int count) throws Exception {
+        int[] gids = new int[count];
+        String text = data.getTextContent().trim();
+        if ("csv".equals(data.getAttribute("encoding"))) {
+            String[] values = text.split("\\s*,\\s*");
+            for (int i = 0; i < count; i++)
+                gids[i] = (int) Long.parseLong(values[i].trim());
+            return gids;
+        }
+        byte[] bytes = Base64.getDecoder().decode(text.replaceAll("\\s", ""));
+        if ("zlib".equals(data.getAttribute("compression"))) {
+            Inflater inflater = new Inflater();
+            inflater.setInput(bytes);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && inflater.needsInput())
+                    break;
+                out.write(buffer, 0, read);
+            }
+            bytes = out.toByteArray();
+        }
+        for (int i = 0; i < count; i++) {
+            gids[i] = (bytes[i * 4] & 0xFF) | (bytes[i * 4 + 1] & 0xFF) << 8 | (bytes[i * 4 + 2] & 0xFF) << 16 | (bytes[i * 4 + 3] & 0xFF) << 24;
+        }
+        return gids;
+    }
+}
@@ -0,0 +1,147 @@
+package forge.adventure.util.pathfinding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+public class ClusterGraphTest {
+    private static final float TILE = 16;
+
+    /**
+     * Builds grids like the ones NavigationMap makes of a map, with random walls, and checks that the paths over
+     * the clusters are made of edges of the graph, are found exactly when there is a path at all, and are not much
+     * longer than the shortest ones.
+     */
+    @Test
+    public void testPathsMatchASearchOverTheGraph() {
+        Random random = new Random(3);
+        for (int map = 0; map < 20; map++) {
+            int width = 20 + random.nextInt(40), height = 20 + random.nextInt(40);
+            NavigationGraph graph = grid(width, height, random, 0.1f + random.nextFloat() * 0.25f);
+            List<NavigationVertex> vertices = new ArrayList<>(graph.getNodes());
+            ClusterGraph clusters = new ClusterGraph(graph.getNodes(), TILE * 8, TILE * 8);
+
+            for (int n = 0; n < 50; n++) {
+                NavigationVertex from = vertices.get(random.nextInt(vertices.size()));
+                NavigationVertex to = vertices.get(random.nextInt(vertices.size()));
+                ProgressableGraphPath<NavigationVertex> path = clusters.findPath(clusters.connect(from), clusters.connect(to));
+                float shortest = shortestDistances(vertices, from).get(to);
+                if (shortest == Float.POSITIVE_INFINITY) {
+                    Assert.assertEquals(path.getCount(), 0);
+                    continue;
+                }
+                Assert.assertTrue(path.getCount() > 0, "no path from " + from.pos + " to " + to.pos);
+                Assert.assertSame(path.get(0), from);
+                Assert.assertSame(path.get(path.getCount() - 1), to);
+                Assert.assertTrue(length(path, 0, path.getCount()) <= shortest * 1.3f + TILE,
+                        "path from " + from.pos + " to " + to.pos + " is " + length(path, 0, path.getCount()) + " long, not " + shortest);
+            }
+        }
+    }
+
+    @Test
+    public void testEndpointsOffTheGraph() {
+        Random random = new Random(4);
+        NavigationGraph graph = grid(40, 30, random, 0.2f);
+        List<NavigationVertex> vertices = new ArrayList<>(graph.getNodes());
+        ClusterGraph clusters = new ClusterGraph(graph.getNodes(), TILE * 8, TILE * 8);
+        for (int n = 0; n < 100; n++) {
+            NavigationVertex a = vertices.get(random.nextInt(vertices.size()));
+            NavigationVertex b = vertices.get(random.nextInt(vertices.size()));
+            NavigationVertex origin = new NavigationVertex(a.pos.x + 3, a.pos.y - 2);
+            NavigationVertex destination = new NavigationVertex(b.pos.x - 1, b.pos.y + 4);
+            ProgressableGraphPath<NavigationVertex> path = clusters.findPath(clusters.connect(origin, single(a)),
+                    clusters.connect(destination, single(b)));
+            if (shortestDistances(vertices, a).get(b) == Float.POSITIVE_INFINITY) {
+                Assert.assertEquals(path.getCount(), 0);
+                continue;
+            }
+            Assert.assertSame(path.get(0), origin);
+            Assert.assertSame(path.get(1), a);
+            Assert.assertSame(path.get(path.getCount() - 2), b);
+            Assert.assertSame(path.get(path.getCount() - 1), destination);
+            Assert.assertFalse(graph.getNodes().contains(origin));
+            length(path, 1, path.getCount() - 1);
+        }
+    }
+
+    private static Array<NavigationVertex> single(NavigationVertex vertex) {
+        Array<NavigationVertex> result = new Array<>();
+        result.add(vertex);
+        return result;
+    }
+
+    /** A grid of vertices at the middle of tiles, each linked to its eight neighbours, with some tiles left out. */
+    private static NavigationGraph grid(int width, int height, Random random, float walls) {
+        NavigationGraph graph = new NavigationGraph();
+        NavigationVertex[][] points = new NavigationVertex[width][height];
+        for (int i = 0; i < width; i++) {
+            for (int j = 0; j < height; j++) {
+                points[i][j] = graph.addVertex(i * TILE + TILE / 2, j * TILE + TILE / 2);
+                if (i > 0)
+                    graph.addEdgeUnchecked(points[i][j], points[i - 1][j]);
+                if (j > 0)
+                    graph.addEdgeUnchecked(points[i][j], points[i][j - 1]);
+                if (i > 0 && j > 0)
+                    graph.addEdgeUnchecked(points[i][j], points[i - 1][j - 1]);
+                if (i > 0 && j + 1 < height)
+                    graph.addEdgeUnchecked(points[i][j], points[i - 1][j + 1]);
+            }
+        }
+        // walls as runs of tiles, so that there are corridors and closed off rooms
+        for (int w = 0; w < width * height * walls / 6; w++) {
+            int x = random.nextInt(width), y = random.nextInt(height);
+            boolean across = random.nextBoolean();
+            for (int k = 0; k < 6; k++) {
+                int i = across ? x + k : x, j = across ? y : y + k;
+                if (i < width && j < height && points[i][j] != null) {
+                    graph.removeVertex(points[i][j]);
+                    points[i][j] = null;
+                }
+            }
+        }
+        graph.removeVertexIf(v -> v.outgoingEdges.size == 0);
+        return graph;
+    }
+
+    private static Map<NavigationVertex, Float> shortestDistances(List<NavigationVertex> vertices, NavigationVertex from) {
+        Map<NavigationVertex, Float> dist = new HashMap<>();
+        for (NavigationVertex vertex : vertices)
+            dist.put(vertex, Float.POSITIVE_INFINITY);
+        dist.put(from, 0f);
+        PriorityQueue<NavigationVertex> open = new PriorityQueue<>((a, b) -> Float.compare(dist.get(a), dist.get(b)));
+        open.add(from);
+        while (!open.isEmpty()) {
+            NavigationVertex next = open.poll();
+            for (NavigationEdge edge : next.outgoingEdges.values()) {
+                float d = dist.get(next) + edge.getCost();
+                if (d < dist.get(edge.getToNode())) {
+                    open.remove(edge.getToNode());
+                    dist.put(edge.getToNode(), d);
+                    open.add(edge.getToNode());
+                }
+            }
+        }
+        return dist;
+    }
+
+    /** The length of the path between the given nodes, checking that each step is an edge of the graph. */
+    private static float length(ProgressableGraphPath<NavigationVertex> path, int from, int to) {
+        float length = 0;
+        for (int i = from + 1; i < to; i++) {
+            NavigationEdge edge = path.get(i - 1).outgoingEdges.get(path.get(i));
+            Assert.assertNotNull(edge, "no edge from " + path.get(i - 1).pos + " to " + path.get(i).pos);
+            length += edge.getCost();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,162 @@
+package forge.adventure.world;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.badlogic.gdx.utils.Json;
+
+import forge.adventure.data.BiomeData;
+import forge.adventure.data.WorldData;
+import forge.util.FileUtil;
+
+public class WorldChunksTest {
+    private static final File ADVENTURE_DIR = new File("../forge-gui/res/adventure");
+    private static final long SEED = 1234L;
+    private static final int CHUNK_SIZE = 16;
+
+    // a file of the plane, or else the common one, as the game's configuration finds them
+    private static File file(String path) {
+        File file = new File(ADVENTURE_DIR, "Shandalar/" + path);
+        return file.exists() ? file : new File(ADVENTURE_DIR, "common/" + path);
+    }
+
+    /**
+     * The shipped world and biomes, on a smaller map and without the structures, whose images can only be read
+     * through the game's configuration.
+     */
+    private static WorldData worldData() throws IOException {
+        Json json = new Json();
+        json.setIgnoreUnknownFields(true);
+        String world = new String(Files.readAllBytes(file("world/world.json").toPath()), "UTF-8");
+        WorldData data = json.fromJson(WorldData.class, world);
+        StringBuilder biomes = new StringBuilder();
+        for (String name : data.biomesNames) {
+            biomes.append(biomes.length() == 0 ? "" : ",");
+            biomes.append(new String(Files.readAllBytes(file(name).toPath()), "UTF-8"));
+        }
+        data = json.fromJson(WorldData.class, world.substring(0, world.lastIndexOf('}')) + ",\"biomes\":[" + biomes + "]}");
+        Assert.assertEquals(data.GetBiomes().size(), data.biomesNames.length);
+        for (BiomeData biome : data.GetBiomes()) {
+            biome.structures = null;
+        }
+        data.width = 120;
+        data.height = 100;
+        return data;
+    }
+
+    /** Clears the start, a path which only clears collision, and a road between two corners, like a new world. */
+    private static WorldChunks layOut(WorldData data) {
+        WorldChunks chunks = new WorldChunks(data, SEED, CHUNK_SIZE);
+        for (int x = 50; x < 70; x++)
+            for (int y = 40; y < 60; y++)
+                chunks.clear(x, y);
+        for (int i = 0; i < 100; i++) {
+            chunks.clearCollision(i, i);
+            chunks.road(119 - i, i);
+        }
+        return chunks;
+    }
+
+    private static void assertSameMaps(WorldChunks actual, WorldChunks expected) {
+        Assert.assertTrue(Arrays.deepEquals(actual.biomeMap, expected.biomeMap));
+        Assert.assertTrue(Arrays.deepEquals(actual.terrainMap, expected.terrainMap));
+    }
+
+    private static WorldChunks generate(WorldData data, int threads) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            WorldChunks chunks = layOut(data);
+            chunks.generateAll(pool);
+            return chunks;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSameWorldOnAnyNumberOfThreads() throws IOException {
+        WorldData data = worldData();
+        WorldChunks serial = generate(data, 1);
+        assertSameMaps(generate(data, 4), serial);
+
+        // chunks generated as tiles are asked for, in no particular order
+        WorldChunks lazy = layOut(data);
+        List<Integer> tiles = new ArrayList<>();
+        for (int i = 0; i < data.width * data.height; i++)
+            tiles.add(i);
+        Collections.shuffle(tiles, new Random(1));
+        for (int tile : tiles)
+            lazy.ensure(tile / data.height, tile % data.height);
+        assertSameMaps(lazy, serial);
+
+        // and by background threads, nearest to the player first, while the rest is asked for
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            WorldChunks background = layOut(data);
+            background.setFocus(3, 3);
+            background.generateInBackground(pool, 3);
+            background.generateAll();
+            background.cancel();
+            assertSameMaps(background, serial);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // the changes are laid over the biomes
+        long road = 1L << data.GetBiomes().size();
+        Assert.assertEquals(serial.terrainMap[60][50], 0);
+        Assert.assertTrue((serial.biomeMap[110][9] & road) != 0);
+        Assert.assertEquals(serial.terrainMap[110][9], 0);
+        Assert.assertEquals(serial.terrainMap[5][5] & World.collisionBit, 0);
+        Assert.assertEquals(serial.biomeMap[0][99] & road, 0);
+        for (int x = 0; x < data.width; x++) {
+            for (int y = 0; y < data.height; y++) {
+                Assert.assertEquals(serial.biomeMap[x][y] & ~road, serial.biomeAt(x, y), x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    public void testChunksReadBackFromTheCache() throws IOException {
+        WorldData data = worldData();
+        File cacheDir = Files.createTempDirectory("worldchunks").toFile();
+        try {
+            WorldChunks generated = layOut(data);
+            generated.setCacheDir(cacheDir);
+            generated.generateAll();
+            File[] cached = cacheDir.listFiles();
+            Assert.assertNotNull(cached);
+            Assert.assertEquals(cached.length, generated.getWidthInChunks() * generated.getHeightInChunks());
+
+            // without any of the changes, so only what was cached has them
+            WorldChunks read = new WorldChunks(data, SEED, CHUNK_SIZE);
+            read.setCacheDir(cacheDir);
+            read.generateAll();
+            assertSameMaps(read, generated);
+
+            // a chunk cut short is generated again
+            File chunk = new File(cacheDir, "3_3.chunk");
+            try (RandomAccessFile file = new RandomAccessFile(chunk, "rw")) {
+                file.setLength(file.length() / 2);
+            }
+            WorldChunks regenerated = layOut(data);
+            regenerated.setCacheDir(cacheDir);
+            regenerated.generateAll();
+            assertSameMaps(regenerated, generated);
+        } finally {
+            FileUtil.deleteDirectory(cacheDir);
+        }
+    }
+}
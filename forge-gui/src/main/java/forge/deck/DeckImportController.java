@@ -194,6 +194,7 @@ public class DeckImportController {
         List<Token> parsedTokens = recognizer.parseCardList(lines);
         if (parsedTokens != null)
             tokens.addAll(parsedTokens);
+        warnAboutMisspeltNames();
 
         if (this.currentGameFormatAllowsCommander()) {
             List<Pair<Integer, Token>> commanderTokens = getTokensInSection(DeckSection.Commander);
@@ -206,6 +207,18 @@ public class DeckImportController {
         return tokens;
     }
 
+    private void warnAboutMisspeltNames(){
+        // cards read as the closest card name are imported, but the user is told right before them
+        for (int i = tokens.size() - 1; i >= 0; i--) {
+            Token token = tokens.get(i);
+            if (!token.isCardToken() || token.getMisspeltName() == null)
+                continue;
+            String msg = Localizer.getInstance().getMessage("lblWarnCardNameCorrected",
+                    token.getMisspeltName(), token.getCard().getName());
+            tokens.add(i, Token.WarningMessage(msg));
+        }
+    }
+
     private void collectAllCardsInTokens(){
         cardsInTokens.clear();
         for (Token token : tokens){
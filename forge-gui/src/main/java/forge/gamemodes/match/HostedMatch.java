@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import forge.gui.control.PlaybackSpeed;
 import org.apache.commons.lang3.StringUtils;
@@ -56,11 +57,18 @@ import forge.sound.SoundSystem;
 import forge.trackable.TrackableCollection;
 import forge.util.CollectionSuppliers;
 import forge.util.TextUtil;
+import forge.util.ThreadUtil;
 import forge.util.collect.FCollectionView;
 import forge.util.maps.HashMapOfLists;
 import forge.util.maps.MapOfLists;
 
 public class HostedMatch {
+    private static final Executor GAME_THREADS = new Executor() {
+        @Override public void execute(final Runnable command) {
+            ThreadUtil.invokeInGameThread(command);
+        }
+    };
+
     private Match match;
     private Game game;
     private String title;
@@ -254,23 +262,26 @@ public class HostedMatch {
                     playbackControl.setGame(game);
                     game.subscribeToEvents(playbackControl);
                 }
-                // Actually start the game!
-                match.startGame(game, startGameHook);
-                // this function waits?
-                if (endGameHook != null){
-                    endGameHook.run();
-                }
+                // Actually start the game! While a human decides what to play, the game holds no thread,
+                // and goes on in the game thread pool once they did
+                match.startGame(game, startGameHook, GAME_THREADS, new Runnable() {
+                    @Override public final void run() {
+                        if (endGameHook != null){
+                            endGameHook.run();
+                        }
 
-                // After game is over...
-                isMatchOver = match.isMatchOver();
-                if (humanCount == 0) {
-                    // ... if no human players, let AI decide next game
-                    if (isMatchOver) {
-                        addNextGameDecision(null, NextGameDecision.QUIT);
-                    } else {
-                        addNextGameDecision(null, NextGameDecision.CONTINUE);
+                        // After game is over...
+                        isMatchOver = match.isMatchOver();
+                        if (humanCount == 0) {
+                            // ... if no human players, let AI decide next game
+                            if (isMatchOver) {
+                                addNextGameDecision(null, NextGameDecision.QUIT);
+                            } else {
+                                addNextGameDecision(null, NextGameDecision.CONTINUE);
+                            }
+                        }
                     }
-                }
+                });
             }
         });
     }
@@ -1,6 +1,7 @@
 package forge.gamemodes.match.input;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import forge.gui.FThreads;
 import forge.gui.error.BugReporter;
@@ -9,6 +10,7 @@ import forge.player.PlayerControllerHuman;
 public abstract class InputSyncronizedBase extends InputBase implements InputSynchronized {
     private static final long serialVersionUID = 8756177361251703052L;
     private final CountDownLatch cdlDone;
+    private final AtomicReference<Runnable> onDone = new AtomicReference<>();
 
     public InputSyncronizedBase(final PlayerControllerHuman controller) {
         super(controller);
@@ -27,7 +29,7 @@ public abstract class InputSyncronizedBase extends InputBase implements InputSyn
 
     @Override
     public final void relaseLatchWhenGameIsOver() {
-        cdlDone.countDown();
+        release();
     }
 
     public void showAndWait() {
@@ -35,6 +37,23 @@ public abstract class InputSyncronizedBase extends InputBase implements InputSyn
         awaitLatchRelease();
     }
 
+    /**
+     * Shows this input without waiting for it, so that the thread asking is free to do something else.
+     * @param done run once the input is done, or the game is over, from the thread that finished it
+     */
+    public void showAsync(final Runnable done) {
+        onDone.set(done);
+        getController().getInputQueue().setInput(this);
+    }
+
+    private void release() {
+        cdlDone.countDown();
+        final Runnable done = onDone.getAndSet(null);
+        if (done != null) {
+            done.run();
+        }
+    }
+
     protected final void stop() {
         onStop();
 
@@ -50,7 +69,7 @@ public abstract class InputSyncronizedBase extends InputBase implements InputSyn
         if (getController().getInputQueue().getInput() != null) {
             getController().getInputQueue().removeInput(InputSyncronizedBase.this);
         }
-        cdlDone.countDown();
+        release();
     }
 
     protected void onStop() { }
@@ -15,6 +15,14 @@ public class CompatibleObjectEncoder extends MessageToByteEncoder<Serializable>
 
     @Override
     protected void encode(ChannelHandlerContext ctx, Serializable msg, ByteBuf out) throws Exception {
+        encode(msg, out);
+    }
+
+    /**
+     * Writes a message the way this encoder does in a pipeline, so it can be serialized off the event loop, e.g. while
+     * the objects it references can't change yet. Buffers written this way pass through the encoder unchanged.
+     */
+    public static void encode(Serializable msg, ByteBuf out) throws Exception {
         int startIdx = out.writerIndex();
         ByteBufOutputStream bout = new ByteBufOutputStream(out);
         ObjectOutputStream oout = null;
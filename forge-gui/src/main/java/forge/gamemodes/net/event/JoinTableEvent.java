@@ -0,0 +1,29 @@
+package forge.gamemodes.net.event;
+
+import forge.gamemodes.net.server.RemoteClient;
+
+/**
+ * Sent by a client of a {@link forge.gamemodes.net.server.GameTableServer} to watch one of its tables.
+ */
+public class JoinTableEvent implements NetEvent {
+    private static final long serialVersionUID = 5104218470316521497L;
+
+    private final String username;
+    private final int tableId;
+    public JoinTableEvent(final String username, final int tableId) {
+        this.username = username;
+        this.tableId = tableId;
+    }
+
+    @Override
+    public void updateForClient(final RemoteClient client) {
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+}
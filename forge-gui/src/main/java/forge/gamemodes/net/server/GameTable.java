@@ -0,0 +1,205 @@
+package forge.gamemodes.net.server;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.eventbus.Subscribe;
+
+import forge.game.Game;
+import forge.game.Match;
+import forge.game.event.GameEvent;
+import forge.game.event.GameEventGameFinished;
+import forge.game.event.GameEventTurnBegan;
+import forge.game.event.GameEventTurnPhase;
+import forge.game.event.IGameEventVisitor;
+import forge.gamemodes.net.GameProtocolSender;
+import forge.gamemodes.net.ProtocolMethod;
+import forge.gamemodes.net.event.NetEvent;
+
+/**
+ * One match of a {@link GameTableServer}, played on a thread of the server's executor and watched by the clients that
+ * joined it. Clients are sent the game view at every phase, from the game's thread, so it can't change while it's
+ * being serialized.
+ * <p>
+ * The CPU time and the memory allocated by the thread playing the match are accounted to the table, when the JVM can
+ * measure them for that thread; threads the AI starts on its own, e.g. to time out a decision, aren't.
+ */
+public final class GameTable implements Runnable {
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final int id;
+    private final Match match;
+    private final List<RemoteClient> clients = new CopyOnWriteArrayList<>();
+    // joined but not yet sent the game, which is only done from the game's thread
+    private final Queue<RemoteClient> joining = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final Feed feed = new Feed();
+
+    private volatile Game game;
+    private volatile int gamesPlayed;
+    private volatile long startedAt, wallNanos, cpuNanos = -1, allocatedBytes = -1;
+    private volatile Throwable error;
+
+    GameTable(final int id, final Match match) {
+        this.id = id;
+        this.match = match;
+    }
+
+    @Override
+    public void run() {
+        startedAt = System.nanoTime();
+        final long cpuStart = currentThreadCpuTime();
+        final long allocatedStart = currentThreadAllocatedBytes();
+        try {
+            while (!match.isMatchOver()) {
+                game = match.createGame();
+                game.subscribeToEvents(feed);
+                match.startGame(game);
+                gamesPlayed++;
+                account(cpuStart, allocatedStart);
+            }
+        } catch (final Throwable e) {
+            error = e;
+            e.printStackTrace();
+        } finally {
+            account(cpuStart, allocatedStart);
+            finished.countDown();
+        }
+    }
+
+    private void account(final long cpuStart, final long allocatedStart) {
+        wallNanos = System.nanoTime() - startedAt;
+        final long cpu = currentThreadCpuTime();
+        cpuNanos = cpu < 0 || cpuStart < 0 ? -1 : cpu - cpuStart;
+        final long allocated = currentThreadAllocatedBytes();
+        allocatedBytes = allocated < 0 || allocatedStart < 0 ? -1 : allocated - allocatedStart;
+    }
+
+    private static long currentThreadCpuTime() {
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    void join(final RemoteClient client) {
+        joining.add(client);
+    }
+
+    void leave(final RemoteClient client) {
+        joining.remove(client);
+        clients.remove(client);
+    }
+
+    void broadcast(final NetEvent event) {
+        for (final RemoteClient client : clients) {
+            event.updateForClient(client);
+            client.send(event);
+        }
+    }
+
+    private void send(final ProtocolMethod method, final Object... args) {
+        for (final RemoteClient client : clients) {
+            new GameProtocolSender(client).send(method, args);
+        }
+    }
+
+    private class Feed extends IGameEventVisitor.Base<Void> {
+        @Subscribe
+        public void receiveGameEvent(final GameEvent ev) {
+            ev.visit(this);
+        }
+
+        private void addJoined() {
+            RemoteClient client;
+            while ((client = joining.poll()) != null) {
+                final GameProtocolSender sender = new GameProtocolSender(client);
+                sender.send(ProtocolMethod.openView, (Object) null);
+                sender.send(ProtocolMethod.setGameView, game.getView());
+                clients.add(client);
+            }
+        }
+
+        @Override
+        public Void visit(final GameEventTurnBegan event) {
+            addJoined();
+            send(ProtocolMethod.updateTurn, event.turnOwner.getView());
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventTurnPhase event) {
+            addJoined();
+            send(ProtocolMethod.setGameView, game.getView());
+            send(ProtocolMethod.updatePhase, false);
+            return null;
+        }
+
+        @Override
+        public Void visit(final GameEventGameFinished event) {
+            addJoined();
+            send(ProtocolMethod.setGameView, game.getView());
+            send(ProtocolMethod.finishGame);
+            return null;
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    /** The game in progress, or the last one played. */
+    public Game getGame() {
+        return game;
+    }
+
+    public int getClientCount() {
+        return clients.size() + joining.size();
+    }
+
+    public boolean isFinished() {
+        return finished.getCount() == 0;
+    }
+
+    public boolean awaitFinished(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    /** Why the match stopped before it was over, if it did. */
+    public Throwable getError() {
+        return error;
+    }
+
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /** Time since the match started, up to the end of the last game played; 0 while the first one is in progress. */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /** CPU time of the thread playing the match, up to the end of the last game played, or -1 if it can't be measured. */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    /** Memory allocated by the thread playing the match, up to the end of the last game played, or -1 if it can't be measured. */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,172 @@
+package forge.gamemodes.net.server;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import forge.game.GameRules;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.gamemodes.net.CompatibleObjectDecoder;
+import forge.gamemodes.net.CompatibleObjectEncoder;
+import forge.gamemodes.net.event.JoinTableEvent;
+import forge.gamemodes.net.event.MessageEvent;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+/**
+ * A headless server hosting many matches at once behind one port, unlike {@link FServerManager} which hosts the lobby
+ * of the local player. Each match is a {@link GameTable} played on a thread of the executor the server is given;
+ * clients send a {@link JoinTableEvent} to be routed to the table they want to watch.
+ */
+public final class GameTableServer {
+    private final ExecutorService executor;
+    private final EventLoopGroup bossGroup = new NioEventLoopGroup(1);
+    private final EventLoopGroup workerGroup = new NioEventLoopGroup();
+    private final Map<Integer, GameTable> tables = new ConcurrentHashMap<>();
+    private final Map<Channel, RemoteClient> clients = new ConcurrentHashMap<>();
+    private final Map<Channel, GameTable> seats = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTableId = new AtomicInteger();
+    private Channel serverChannel;
+
+    public GameTableServer(final ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * An executor that gives every table a platform thread of its own, out of at most {@code maxThreads}, with the
+     * tables beyond that waiting for one to finish. Not virtual threads: a headless match keeps its thread busy rather
+     * than waiting on it, and the JVM can't tell the CPU time and allocations of a virtual thread, which the tables
+     * are accounted.
+     */
+    public static ExecutorService newTableExecutor(final int maxThreads) {
+        // the names matter, game threads are told apart by them
+        return Executors.newFixedThreadPool(maxThreads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+            @Override public Thread newThread(final Runnable r) {
+                return new Thread(r, "Game-Table-" + count.getAndIncrement());
+            }
+        });
+    }
+
+    /** @return the port listened on, which is picked by the system if {@code port} is 0. */
+    public int start(final int port) throws InterruptedException {
+        final ServerBootstrap b = new ServerBootstrap()
+                .group(bossGroup, workerGroup)
+                .channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(256 * 1024, 1024 * 1024))
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    public final void initChannel(final SocketChannel ch) throws Exception {
+                        ch.pipeline().addLast(
+                                new CompatibleObjectEncoder(),
+                                new CompatibleObjectDecoder(9766*1024, ClassResolvers.cacheDisabled(null)),
+                                new TableHandler());
+                    }
+                });
+        serverChannel = b.bind(port).sync().channel();
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+
+    public void stop() {
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        bossGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts a match on a table of its own, as soon as the executor has a thread for it. The table is closed once the
+     * match is over: it can't be joined any more, and the clients watching it are no longer seated at it.
+     */
+    public GameTable openTable(final GameRules rules, final List<RegisteredPlayer> players) {
+        final int id = nextTableId.getAndIncrement();
+        final GameTable table = new GameTable(id, new Match(rules, players, "Table " + id));
+        tables.put(id, table);
+        executor.execute(new Runnable() {
+            @Override public void run() {
+                try {
+                    table.run();
+                } finally {
+                    closeTable(table);
+                }
+            }
+        });
+        return table;
+    }
+
+    private void closeTable(final GameTable table) {
+        tables.remove(table.getId());
+        seats.values().removeAll(Collections.singleton(table));
+    }
+
+    public GameTable getTable(final int id) {
+        return tables.get(id);
+    }
+
+    public Collection<GameTable> getTables() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    private class TableHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelActive(final ChannelHandlerContext ctx) throws Exception {
+            clients.put(ctx.channel(), new RemoteClient(ctx.channel()));
+            super.channelActive(ctx);
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+            final RemoteClient client = clients.get(ctx.channel());
+            if (msg instanceof JoinTableEvent) {
+                final JoinTableEvent event = (JoinTableEvent) msg;
+                final GameTable table = tables.get(event.getTableId());
+                if (table == null) {
+                    ctx.close();
+                    return;
+                }
+                client.setUsername(event.getUsername());
+                final GameTable previous = seats.put(ctx.channel(), table);
+                if (previous != null) {
+                    previous.leave(client);
+                }
+                table.join(client);
+            } else if (msg instanceof MessageEvent) {
+                final GameTable table = seats.get(ctx.channel());
+                if (table != null) {
+                    table.broadcast(new MessageEvent(client.getUsername(), ((MessageEvent) msg).getMessage()));
+                }
+            }
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+            final RemoteClient client = clients.remove(ctx.channel());
+            final GameTable table = seats.remove(ctx.channel());
+            if (table != null && client != null) {
+                table.leave(client);
+            }
+            super.channelInactive(ctx);
+        }
+    }
+}
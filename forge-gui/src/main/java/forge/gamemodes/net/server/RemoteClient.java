@@ -1,30 +1,97 @@
 package forge.gamemodes.net.server;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+import forge.gamemodes.net.CompatibleObjectEncoder;
 import forge.gamemodes.net.ReplyPool;
 import forge.gamemodes.net.event.IdentifiableNetEvent;
 import forge.gamemodes.net.event.NetEvent;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 
+/**
+ * A client connected to the server. Events sent to it are serialized right away, on the sending thread, and queued;
+ * the channel's event loop writes out whatever is queued by the time it gets to it and flushes once, so the game
+ * thread never waits on the socket. While the channel isn't writable the queue grows, and a client that falls so far
+ * behind that it holds more than {@link #MAX_QUEUED_BYTES} is disconnected.
+ */
 public final class RemoteClient implements IToClient {
 
+    static final long MAX_QUEUED_BYTES = 64L * 1024 * 1024;
+
     private final Channel channel;
+    private final long maxQueuedBytes;
+    private final Queue<ByteBuf> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile boolean overflowed;
+    private final Runnable drain = new Runnable() {
+        @Override public void run() {
+            drain();
+        }
+    };
     private String username;
     private int index;
     private ReplyPool replies = new ReplyPool();
     public RemoteClient(final Channel channel) {
+        this(channel, MAX_QUEUED_BYTES);
+    }
+    RemoteClient(final Channel channel, final long maxQueuedBytes) {
         this.channel = channel;
+        this.maxQueuedBytes = maxQueuedBytes;
+        channel.closeFuture().addListener(new ChannelFutureListener() {
+            @Override public void operationComplete(final ChannelFuture future) {
+                discardQueued();
+            }
+        });
+        channel.pipeline().addFirst(new ChannelInboundHandlerAdapter() {
+            @Override public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+                if (ctx.channel().isWritable() && !outbound.isEmpty()) {
+                    scheduleDrain();
+                }
+                super.channelWritabilityChanged(ctx);
+            }
+        });
     }
 
     @Override
     public void send(final NetEvent event) {
-        System.out.println("Sending event " + event + " to " + channel);
+        if (overflowed || !channel.isActive()) {
+            return;
+        }
+        final ByteBuf buf = channel.alloc().buffer();
         try {
-            channel.writeAndFlush(event).sync();
-        } catch (Exception e) {
+            CompatibleObjectEncoder.encode(event, buf);
+        } catch (final Exception e) {
+            buf.release();
             e.printStackTrace();
+            return;
+        }
+
+        final int size = buf.readableBytes();
+        if (queuedBytes.addAndGet(size) > maxQueuedBytes) {
+            queuedBytes.addAndGet(-size);
+            buf.release();
+            overflowed = true;
+            System.err.println("Disconnecting " + channel.remoteAddress() + ", " + queuedBytes.get() + " bytes are still waiting to be sent to it");
+            channel.close();
+            return;
+        }
+        outbound.add(buf);
+        if (!channel.isActive()) {
+            // closed meanwhile, the close listener may have run already
+            discardQueued();
+            return;
         }
+        scheduleDrain();
     }
 
     @Override
@@ -36,6 +103,42 @@ public final class RemoteClient implements IToClient {
         return replies.get(event.getId());
     }
 
+    long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(drain);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        boolean written = false;
+        while (channel.isWritable()) {
+            final ByteBuf buf = outbound.poll();
+            if (buf == null) {
+                break;
+            }
+            queuedBytes.addAndGet(-buf.readableBytes());
+            // a failed write is of no interest, the channel is closing anyway
+            channel.write(buf);
+            written = true;
+        }
+        if (written) {
+            channel.flush();
+        }
+    }
+
+    private void discardQueued() {
+        ByteBuf buf;
+        while ((buf = outbound.poll()) != null) {
+            queuedBytes.addAndGet(-buf.readableBytes());
+            buf.release();
+        }
+    }
+
     public String getUsername() {
         return username;
     }
@@ -0,0 +1,181 @@
+package forge.gamemodes.quest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import forge.deck.DeckGroup;
+import forge.game.Game;
+import forge.game.GameEndReason;
+import forge.game.GameRules;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.gui.FThreads;
+import forge.model.FModel;
+import forge.player.GamePlayerUtil;
+
+/**
+ * Plays out the AI vs. AI matches of a quest draft tournament in the background, several at a time,
+ * instead of the player having to watch them or their result being made up.
+ * The games are headless, and each one is called a draw if it runs longer than {@link #GAME_TIME_LIMIT_SECONDS}.
+ * Results are written to the draft's standings on the GUI thread, as each match finishes.
+ */
+public final class QuestDraftMatchSimulator {
+    public static final int GAME_TIME_LIMIT_SECONDS = 60;
+
+    // games count the ids of their abilities on their own, so matches can run side by side; the thread names make
+    // them game threads, which GameAction.invoke runs actions on directly
+    private static final ExecutorService matchPool = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), new DaemonThreadFactory("Game - Quest Draft Simulation"));
+    private static final ScheduledExecutorService timeLimiter = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("Quest Draft Time Limit"));
+
+    private QuestDraftMatchSimulator() {
+    }
+
+    /**
+     * Simulates the AI vs. AI matches that are up next in the bracket: the first undecided one and those right after it
+     * in the same round, stopping at the first match a human plays in or that waits on another result.
+     *
+     * @param onResult run on the GUI thread after each result has been written to the standings
+     * @param onFinished run on the GUI thread once the last result is in, before its onResult
+     * @return the number of matches started, which is zero when the next match isn't an AI vs. AI one
+     */
+    public static int simulateNextMatches(final QuestEventDraft draft, final Runnable onResult, final Runnable onFinished) {
+        final List<Integer> positions = getNextAiMatches(draft.getStandings());
+        if (positions.isEmpty()) {
+            return 0;
+        }
+
+        final DeckGroup decks = FModel.getQuest().getAssets().getDraftDeckStorage().get(QuestEventDraft.DECK_NAME);
+        final GameRules rules = QuestDraftUtils.createQuestDraftRuleset();
+        rules.setHeadless(true);
+
+        final AtomicInteger remaining = new AtomicInteger(positions.size());
+        for (final int pos : positions) {
+            final int offset = (pos - 8) * 2;
+            final String sid1 = draft.getStandings()[offset];
+            final String sid2 = draft.getStandings()[offset + 1];
+            final RegisteredPlayer player1 = registerAiPlayer(draft, decks, sid1);
+            final RegisteredPlayer player2 = registerAiPlayer(draft, decks, sid2);
+
+            matchPool.submit(new Runnable() {
+                @Override
+                public void run() {
+                    String winner = null;
+                    try {
+                        final List<RegisteredPlayer> players = new ArrayList<>();
+                        players.add(player1);
+                        players.add(player2);
+                        final RegisteredPlayer matchWinner = playMatch(rules, players);
+                        if (matchWinner == player1) {
+                            winner = sid1;
+                        } else if (matchWinner == player2) {
+                            winner = sid2;
+                        }
+                    } catch (final Exception | StackOverflowError e) {
+                        e.printStackTrace();
+                    }
+                    if (winner == null) {
+                        // every game was drawn or broke, fall back on the better deck
+                        winner = QuestDraftUtils.pickLikelyWinner(sid1, sid2);
+                    }
+
+                    final String result = winner;
+                    FThreads.invokeInEdtLater(new Runnable() {
+                        @Override
+                        public void run() {
+                            draft.getStandings()[pos] = result;
+                            FModel.getQuest().save();
+                            if (remaining.decrementAndGet() == 0 && onFinished != null) {
+                                onFinished.run();
+                            }
+                            if (onResult != null) {
+                                onResult.run();
+                            }
+                        }
+                    });
+                }
+            });
+        }
+        return positions.size();
+    }
+
+    // the undecided positions from the first one on, as long as both contestants are known and neither is human
+    static List<Integer> getNextAiMatches(final String[] standings) {
+        final List<Integer> result = new ArrayList<>();
+        int pos = -1;
+        for (int i = 8; i < standings.length; i++) {
+            if (standings[i].equals(QuestEventDraft.UNDETERMINED)) {
+                pos = i;
+                break;
+            }
+        }
+        if (pos == -1) {
+            return result;
+        }
+
+        final int roundEnd = pos < 12 ? 12 : pos < 14 ? 14 : 15;
+        for (int i = pos; i < roundEnd && standings[i].equals(QuestEventDraft.UNDETERMINED); i++) {
+            final int offset = (i - 8) * 2;
+            final String sid1 = standings[offset];
+            final String sid2 = standings[offset + 1];
+            if (sid1.equals(QuestEventDraft.UNDETERMINED) || sid2.equals(QuestEventDraft.UNDETERMINED)
+                    || sid1.equals(QuestEventDraft.HUMAN) || sid2.equals(QuestEventDraft.HUMAN)) {
+                break;
+            }
+            result.add(i);
+        }
+        return result;
+    }
+
+    private static RegisteredPlayer registerAiPlayer(final QuestEventDraft draft, final DeckGroup decks, final String sid) {
+        final int index = Integer.parseInt(sid) - 1;
+        return new RegisteredPlayer(decks.getAiDecks().get(index))
+                .setPlayer(GamePlayerUtil.createAiPlayer(draft.getAINames()[index], draft.getAIIcons()[index]));
+    }
+
+    private static RegisteredPlayer playMatch(final GameRules rules, final List<RegisteredPlayer> players) {
+        final Match match = new Match(rules, players, "Simulated Match");
+        // drawn games don't count towards the match, so don't let a string of them go on forever
+        final int maxGames = rules.getGamesPerMatch() * 2;
+        for (int i = 0; i < maxGames && !match.isMatchOver(); i++) {
+            final Game game = match.createGame();
+            final ScheduledFuture<?> limit = timeLimiter.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (!game.isGameOver()) {
+                        game.setGameOver(GameEndReason.Draw);
+                    }
+                }
+            }, GAME_TIME_LIMIT_SECONDS, TimeUnit.SECONDS);
+            try {
+                match.startGame(game);
+            } finally {
+                limit.cancel(false);
+            }
+        }
+        return match.getWinner();
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private DaemonThreadFactory(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, name + " " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -244,7 +244,7 @@ public class QuestDraftUtils {
         matchups.add(matchup);
     }
 
-    private static GameRules createQuestDraftRuleset() {
+    static GameRules createQuestDraftRuleset() {
         final GameRules rules = new GameRules(GameType.QuestDraft);
         rules.setPlayForAnte(false);
         rules.setMatchAnteRarity(false);
@@ -430,6 +430,42 @@ public class QuestDraftUtils {
         return !sid1.equals(QuestEventDraft.HUMAN) && !sid2.equals(QuestEventDraft.HUMAN);
     }
 
+    /**
+     * Picks a winner without playing: decks with a higher total draft rank value win 75% of the time.
+     */
+    static String pickLikelyWinner(String sid1, String sid2) {
+        double deck1Value = rankDraftDeckValue(sid1);
+        double deck2Value = rankDraftDeckValue(sid2);
+
+        boolean strongerDeckWon = MyRandom.getRandom().nextInt(100) < 75;
+        return strongerDeckWon ? (deck1Value > deck2Value ? sid1 : sid2) : (deck1Value > deck2Value ? sid2 : sid1);
+    }
+
+    /**
+     * Plays out the next AI vs. AI matches of the current draft in the background, see {@link QuestDraftMatchSimulator}.
+     * No other match can be started until they're all done.
+     * @param onResult run on the GUI thread each time a result comes in
+     * @return false if the next match isn't an AI vs. AI one
+     */
+    public static boolean simulateAiMatches(final Runnable onResult) {
+        if (matchInProgress) {
+            return false;
+        }
+        QuestEventDraft qd = FModel.getQuest().getAchievements().getCurrentDraft();
+        matchInProgress = true;
+        int started = QuestDraftMatchSimulator.simulateNextMatches(qd, onResult, new Runnable() {
+            @Override
+            public void run() {
+                matchInProgress = false;
+            }
+        });
+        if (started == 0) {
+            matchInProgress = false;
+            return false;
+        }
+        return true;
+    }
+
     public static boolean injectRandomMatchOutcome(boolean simHumanMatches) {
         matchInProgress = true; // prevent the player from trying to start another match before we finish simulating results
         
@@ -454,14 +490,7 @@ public class QuestDraftUtils {
             }
         }
 
-        // evaluate decks
-        double deck1Value = rankDraftDeckValue(sid1);
-        double deck2Value = rankDraftDeckValue(sid2);
-
-        // Bias victory towards a deck with higher total draft rank value
-        // Decks with higher rank value have 75% win rate vs. decks with lower rank.
-        boolean strongerDeckWon = MyRandom.getRandom().nextInt(100) < 75;
-        qd.getStandings()[pos] = strongerDeckWon ? (deck1Value > deck2Value ? sid1 : sid2) : (deck1Value > deck2Value ? sid2 : sid1);
+        qd.getStandings()[pos] = pickLikelyWinner(sid1, sid2);
 
         FModel.getQuest().save();
 
@@ -463,6 +463,16 @@ public class QuestTournamentController {
         }
 
         if (FModel.getQuestPreferences().getPrefInt(QuestPreferences.QPref.SIMULATE_AI_VS_AI_RESULTS) == 1 || GuiBase.getInterface().isLibgdxPort()) {
+            if (QuestDraftUtils.simulateAiMatches(new Runnable() {
+                @Override
+                public void run() {
+                    view.populate();
+                    update();
+                }
+            })) {
+                // the results come in as the matches finish
+                return;
+            }
             if (!QuestDraftUtils.injectRandomMatchOutcome(false)) {
                 gui = GuiBase.getInterface().getNewGuiGame();
                 QuestDraftUtils.startNextMatch(gui);
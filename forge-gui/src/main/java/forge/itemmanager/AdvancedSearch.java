@@ -17,6 +17,7 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableList;
 
+import forge.card.CardCatalogIndex;
 import forge.card.CardEdition;
 import forge.card.CardRarity;
 import forge.card.CardRules;
@@ -1417,6 +1418,18 @@ public class AdvancedSearch {
             return predicate;
         }
 
+        /**
+         * @return a catalog index query for this filter, or null if the filter doesn't apply to cards
+         */
+        @SuppressWarnings("unchecked")
+        public CardCatalogIndex.Query getIndexQuery() {
+            if (option.type != PaperCard.class) {
+                return null;
+            }
+            //card filters only depend on the card itself, so their result can be cached by the index
+            return CardCatalogIndex.Query.cards((Predicate<? super PaperCard>) predicate);
+        }
+
         @Override
         public String toString() {
             return caption;
@@ -1501,6 +1514,67 @@ public class AdvancedSearch {
             return pred;
         }
 
+        /**
+         * @return the expression compiled to a catalog index query, or null if any filter in it can't be
+         */
+        public CardCatalogIndex.Query getIndexQuery() {
+            if (isEmpty()) {
+                return CardCatalogIndex.Query.all();
+            }
+            return getIndexQueryPiece(new ExpressionIterator());
+        }
+
+        @SuppressWarnings("unchecked")
+        private CardCatalogIndex.Query getIndexQueryPiece(ExpressionIterator iterator) {
+            CardCatalogIndex.Query query = null;
+            CardCatalogIndex.Query queryPiece = null;
+            Operator operator = null;
+            boolean applyNot = false;
+
+            for (; iterator.hasNext(); iterator.next()) {
+                Object piece = iterator.get();
+                if (piece.equals(Operator.OPEN_PAREN)) {
+                    queryPiece = getIndexQueryPiece(iterator.next());
+                }
+                else if (piece.equals(Operator.CLOSE_PAREN)) {
+                    return query;
+                }
+                else if (piece.equals(Operator.AND)) {
+                    operator = Operator.AND;
+                    continue;
+                }
+                else if (piece.equals(Operator.OR)) {
+                    operator = Operator.OR;
+                    continue;
+                }
+                else if (piece.equals(Operator.NOT)) {
+                    applyNot = !applyNot;
+                    continue;
+                }
+                else {
+                    queryPiece = ((AdvancedSearch.Filter<T>) piece).getIndexQuery();
+                }
+                if (queryPiece == null) {
+                    return null;
+                }
+                if (applyNot) {
+                    queryPiece = CardCatalogIndex.Query.not(queryPiece);
+                    applyNot = false;
+                }
+                if (query == null) {
+                    query = queryPiece;
+                }
+                else if (operator == Operator.AND) {
+                    query = CardCatalogIndex.Query.and(query, queryPiece);
+                }
+                else if (operator == Operator.OR) {
+                    query = CardCatalogIndex.Query.or(query, queryPiece);
+                }
+                operator = null;
+            }
+            return query;
+        }
+
         public boolean isEmpty() {
             return expression.isEmpty();
         }
@@ -10,6 +10,7 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 
 import forge.StaticData;
+import forge.card.CardCatalogIndex;
 import forge.card.CardEdition;
 import forge.card.CardRules;
 import forge.card.CardRulesPredicates;
@@ -46,37 +47,79 @@ public class SFilterUtil {
         }
 
         if (BooleanExpression.isExpression(text)) {
-            BooleanExpression expression = new BooleanExpression(text, inName, inType, inText, inCost);
-            
-            try {
-                Predicate<CardRules> filter = expression.evaluate();
-                if (filter != null) {
-                    return Predicates.compose(invert ? Predicates.not(filter) : filter, PaperCard.FN_GET_RULES);
-                }
-            }
-            catch (Exception ignored) {
-                ignored.printStackTrace();
-                //Continue with standard filtering if the expression is not valid.
+            Predicate<CardRules> filter = buildExpressionFilter(text, inName, inType, inText, inCost);
+            if (filter != null) {
+                return Predicates.compose(invert ? Predicates.not(filter) : filter, PaperCard.FN_GET_RULES);
             }
         }
 
         List<String> splitText = getSplitText(text);
         List<Predicate<CardRules>> terms = new ArrayList<>();
         for (String s : splitText) {
-            List<Predicate<CardRules>> subands = new ArrayList<>();
-
-            if (inName) { subands.add(CardRulesPredicates.name(StringOp.CONTAINS_IC, s));       }
-            if (inType) { subands.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, s)); }
-            if (inText) { subands.add(CardRulesPredicates.rules(StringOp.CONTAINS_IC, s));      }
-            if (inCost) { subands.add(CardRulesPredicates.cost(StringOp.CONTAINS_IC, s));       }
-
-            terms.add(Predicates.or(subands));
+            terms.add(buildTermFilter(s, inName, inType, inText, inCost));
         }
         Predicate<CardRules> textFilter = invert ? Predicates.not(Predicates.or(terms)) : Predicates.and(terms);
 
         return Predicates.compose(textFilter, PaperCard.FN_GET_RULES);
     }
 
+    /**
+     * builds a card catalog index query equivalent to {@link #buildTextFilter}
+     */
+    public static CardCatalogIndex.Query buildTextQuery(String text, boolean invert, boolean inName, boolean inType, boolean inText, boolean inCost) {
+        text = text.trim();
+
+        if (text.isEmpty()) {
+            return CardCatalogIndex.Query.all();
+        }
+
+        if (BooleanExpression.isExpression(text)) {
+            Predicate<CardRules> filter = buildExpressionFilter(text, inName, inType, inText, inCost);
+            if (filter != null) {
+                return CardCatalogIndex.Query.rules(invert ? Predicates.not(filter) : filter);
+            }
+        }
+
+        List<CardCatalogIndex.Query> terms = new ArrayList<>();
+        for (String s : getSplitText(text)) {
+            terms.add(CardCatalogIndex.Query.text(s, buildTermFilter(s, inName, inType, inText, inCost)));
+        }
+        if (invert) {
+            return CardCatalogIndex.Query.not(CardCatalogIndex.Query.or(terms));
+        }
+        CardCatalogIndex.Query query = CardCatalogIndex.Query.and(terms);
+        if (inName) {
+            // a misspelt name finds nothing, so show the card it was most likely meant to be instead
+            query = CardCatalogIndex.Query.orElse(query, CardCatalogIndex.Query.closestName(text.replace("\"", ""),
+                    FModel.getMagicDb().getCommonCards().getNameIndex()));
+        }
+        return query;
+    }
+
+    private static Predicate<CardRules> buildExpressionFilter(String text, boolean inName, boolean inType, boolean inText, boolean inCost) {
+        BooleanExpression expression = new BooleanExpression(text, inName, inType, inText, inCost);
+
+        try {
+            return expression.evaluate();
+        }
+        catch (Exception ignored) {
+            ignored.printStackTrace();
+            //Continue with standard filtering if the expression is not valid.
+            return null;
+        }
+    }
+
+    private static Predicate<CardRules> buildTermFilter(String s, boolean inName, boolean inType, boolean inText, boolean inCost) {
+        List<Predicate<CardRules>> subands = new ArrayList<>();
+
+        if (inName) { subands.add(CardRulesPredicates.name(StringOp.CONTAINS_IC, s));       }
+        if (inType) { subands.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, s)); }
+        if (inText) { subands.add(CardRulesPredicates.rules(StringOp.CONTAINS_IC, s));      }
+        if (inCost) { subands.add(CardRulesPredicates.cost(StringOp.CONTAINS_IC, s));       }
+
+        return Predicates.or(subands);
+    }
+
     private static List<String> getSplitText(String text) {
         boolean inQuotes = false;
         StringBuilder entry = new StringBuilder();
@@ -227,6 +270,14 @@ public class SFilterUtil {
     }
 
     public static Predicate<PaperCard> buildColorFilter(Map<SItemManagerUtil.StatTypes, ? extends IButton> buttonMap) {
+        return Predicates.compose(buildColorRulesFilter(buttonMap), PaperCard.FN_GET_RULES);
+    }
+
+    public static CardCatalogIndex.Query buildColorQuery(Map<SItemManagerUtil.StatTypes, ? extends IButton> buttonMap) {
+        return CardCatalogIndex.Query.rules(buildColorRulesFilter(buttonMap));
+    }
+
+    private static Predicate<CardRules> buildColorRulesFilter(Map<SItemManagerUtil.StatTypes, ? extends IButton> buttonMap) {
         byte colors0 = 0;
 
         if (buttonMap.get(StatTypes.WHITE).isSelected()) {
@@ -249,10 +300,9 @@ public class SFilterUtil {
         final boolean wantColorless = buttonMap.get(StatTypes.COLORLESS).isSelected();
         final boolean wantMulticolor = buttonMap.get(StatTypes.MULTICOLOR).isSelected();
 
-        return new Predicate<PaperCard>() {
+        return new Predicate<CardRules>() {
             @Override
-            public boolean apply(PaperCard card) {
-                CardRules rules = card.getRules();
+            public boolean apply(CardRules rules) {
                 ColorSet color = rules.getColor();
                 boolean allColorsFilteredOut = colors == 0;
 
@@ -397,6 +447,50 @@ public class SFilterUtil {
         return Predicates.or(predicates);
     }
 
+    public static CardCatalogIndex.Query buildFormatQuery(Set<GameFormat> formats, boolean allowReprints) {
+        List<CardCatalogIndex.Query> queries = new ArrayList<>();
+        for (GameFormat f : formats) {
+            queries.add(CardCatalogIndex.Query.cards(allowReprints ? f.getFilterRules() : f.getFilterPrinted()));
+        }
+        return CardCatalogIndex.Query.or(queries);
+    }
+
+    /**
+     * builds a query matching cards with any of the selected stats, equivalent to
+     * or-ing the predicates of the selected buttons
+     */
+    public static CardCatalogIndex.Query buildStatTypeQuery(Map<StatTypes, ? extends IButton> buttonMap) {
+        List<CardCatalogIndex.Query> queries = new ArrayList<>();
+        for (Map.Entry<StatTypes, ? extends IButton> btn : buttonMap.entrySet()) {
+            if (btn.getKey().predicate != null && btn.getValue().isSelected()) {
+                queries.add(CardCatalogIndex.Query.rules(btn.getKey().predicate));
+            }
+        }
+        if (queries.size() == buttonMap.size()) {
+            return CardCatalogIndex.Query.all();
+        }
+        return CardCatalogIndex.Query.or(queries);
+    }
+
+    /**
+     * Combine the predicates of an item manager's active filters. When every active filter could
+     * also be compiled to a catalog index query, cards in the catalog are looked up in the query
+     * result and only other items are tested against the predicates.
+     *
+     * @param queries index queries for the active filters, or null if any filter has none
+     */
+    public static <T extends InventoryItem> Predicate<? super T> buildItemFilter(List<Predicate<? super T>> predicates, List<CardCatalogIndex.Query> queries) {
+        if (predicates.isEmpty()) {
+            return null;
+        }
+        Predicate<? super T> predicate = Predicates.and(predicates);
+        if (queries == null) {
+            return predicate;
+        }
+        CardCatalogIndex index = FModel.getMagicDb().getCommonCards().getCatalogIndex();
+        return index.asPredicate(index.evaluate(CardCatalogIndex.Query.and(queries)), predicate);
+    }
+
     public static <T> Predicate<T> optimizedAnd(Predicate<T> p1, Predicate<T> p2) {
         return p1 == null ? p2 : (p2 == null ? p1 : Predicates.and(p1, p2));
     }
@@ -19,13 +19,17 @@ public class LobbyPlayerHuman extends LobbyPlayer implements IGameEntitiesFactor
 
     @Override
     public PlayerController createMindSlaveController(final Player master, final Player slave) {
+        if (slave.getGame().getReplay() != null) {
+            return new RecordingPlayerControllerHuman(slave, this, (PlayerControllerHuman)master.getController());
+        }
         return new PlayerControllerHuman(slave, this, (PlayerControllerHuman)master.getController());
     }
 
     @Override
     public Player createIngamePlayer(final Game game, final int id) {
         final Player player = new Player(GuiDisplayUtil.personalizeHuman(getName()), game, id);
-        final PlayerControllerHuman controller = new PlayerControllerHuman(game, player, this);
+        final PlayerControllerHuman controller = game.getReplay() != null ? new RecordingPlayerControllerHuman(game, player, this)
+                : new PlayerControllerHuman(game, player, this);
         player.setFirstController(controller);
         return player;
     }
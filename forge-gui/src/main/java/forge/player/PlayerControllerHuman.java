@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 
 
 import forge.game.player.actions.SelectCardAction;
@@ -1478,6 +1479,37 @@ public class PlayerControllerHuman extends PlayerController implements IGameCont
 
     @Override
     public List<SpellAbility> chooseSpellAbilityToPlay() {
+        if (passesWithoutPrompt()) {
+            return null;
+        }
+
+        final InputPassPriority defaultInput = new InputPassPriority(this);
+        defaultInput.showAndWait();
+        return defaultInput.getChosenSa();
+    }
+
+    @Override
+    public boolean chooseSpellAbilityToPlayLater(final Consumer<List<SpellAbility>> answer) {
+        if (passesWithoutPrompt()) {
+            answer.accept(null);
+            return true;
+        }
+
+        final InputPassPriority defaultInput = new InputPassPriority(this);
+        defaultInput.showAsync(new Runnable() {
+            @Override
+            public void run() {
+                answer.accept(defaultInput.getChosenSa());
+            }
+        });
+        return true;
+    }
+
+    /**
+     * @return true if priority is passed without prompting, as the phase is auto-passed or skipped or the top of
+     * the stack auto-yielded to
+     */
+    private boolean passesWithoutPrompt() {
         final MagicStack stack = getGame().getStack();
 
         if (mayAutoPass()) {
@@ -1502,13 +1534,13 @@ public class PlayerControllerHuman extends PlayerController implements IGameCont
                     e.printStackTrace();
                 }
             }
-            return null;
+            return true;
         }
 
         if (stack.isEmpty()) {
             if (getGui().isUiSetToSkipPhase(getGame().getPhaseHandler().getPlayerTurn().getView(),
                     getGame().getPhaseHandler().getPhase())) {
-                return null; // avoid prompt for input if stack is empty and
+                return true; // avoid prompt for input if stack is empty and
                 // player is set to skip the current phase
             }
         } else {
@@ -1520,13 +1552,10 @@ public class PlayerControllerHuman extends PlayerController implements IGameCont
                 } catch (final InterruptedException e) {
                     e.printStackTrace();
                 }
-                return null;
+                return true;
             }
         }
-
-        final InputPassPriority defaultInput = new InputPassPriority(this);
-        defaultInput.showAndWait();
-        return defaultInput.getChosenSa();
+        return false;
     }
 
     @Override
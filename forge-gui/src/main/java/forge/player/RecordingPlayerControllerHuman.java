@@ -0,0 +1,507 @@
+package forge.player;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+
+import forge.LobbyPlayer;
+import forge.card.ColorSet;
+import forge.card.ICardFace;
+import forge.card.mana.ManaCost;
+import forge.card.mana.ManaCostShard;
+import forge.game.Game;
+import forge.game.GameEntity;
+import forge.game.GameObject;
+import forge.game.PlanarDice;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
+import forge.game.card.CounterType;
+import forge.game.combat.Combat;
+import forge.game.cost.Cost;
+import forge.game.cost.CostPart;
+import forge.game.keyword.KeywordInterface;
+import forge.game.mana.Mana;
+import forge.game.player.DelayedReveal;
+import forge.game.player.Player;
+import forge.game.player.PlayerActionConfirmMode;
+import forge.game.player.PlayerChoiceLog;
+import forge.game.replacement.ReplacementEffect;
+import forge.game.spellability.AbilitySub;
+import forge.game.spellability.OptionalCostValue;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.spellability.TargetChoices;
+import forge.game.staticability.StaticAbility;
+import forge.game.trigger.WrappedAbility;
+import forge.game.zone.ZoneType;
+import forge.util.collect.FCollectionView;
+
+/**
+ * The controller of a human player in a recorded game, which logs the choices of the player the way
+ * {@link forge.ai.ScriptedPlayerController} makes them again, so that the game can be replayed without the player.
+ */
+public class RecordingPlayerControllerHuman extends PlayerControllerHuman {
+    private final PlayerChoiceLog log;
+
+    public RecordingPlayerControllerHuman(final Game game0, final Player p, final LobbyPlayer lp) {
+        super(game0, p, lp);
+        log = p.getChoiceLog();
+    }
+
+    public RecordingPlayerControllerHuman(final Player p, final LobbyPlayer lp, final PlayerControllerHuman owner) {
+        super(p, lp, owner);
+        log = p.getChoiceLog();
+    }
+
+    @Override
+    public Map<Card, Integer> assignCombatDamage(final Card attacker, final CardCollectionView blockers, final CardCollectionView remaining, final int damageDealt, final GameEntity defender, final boolean overrideOrder) {
+        return log.record("assignCombatDamage", blockers, () -> super.assignCombatDamage(attacker, blockers, remaining, damageDealt, defender, overrideOrder));
+    }
+
+    @Override
+    public Map<GameEntity, Integer> divideShield(final Card effectSource, final Map<GameEntity, Integer> affected, final int shieldAmount) {
+        return log.record("divideShield", affected.keySet(), () -> super.divideShield(effectSource, affected, shieldAmount));
+    }
+
+    @Override
+    public Map<Byte, Integer> specifyManaCombo(final SpellAbility sa, final ColorSet colorSet, final int manaAmount, final boolean different) {
+        return log.record("specifyManaCombo", null, () -> super.specifyManaCombo(sa, colorSet, manaAmount, different));
+    }
+
+    @Override
+    public Integer announceRequirements(final SpellAbility ability, final String announce) {
+        return log.record("announceRequirements", null, () -> super.announceRequirements(ability, announce));
+    }
+
+    @Override
+    public CardCollectionView choosePermanentsToSacrifice(final SpellAbility sa, final int min, final int max, final CardCollectionView valid, final String message) {
+        return log.record("choosePermanentsToSacrifice", valid, () -> super.choosePermanentsToSacrifice(sa, min, max, valid, message));
+    }
+
+    @Override
+    public CardCollectionView choosePermanentsToDestroy(final SpellAbility sa, final int min, final int max, final CardCollectionView valid, final String message) {
+        return log.record("choosePermanentsToDestroy", valid, () -> super.choosePermanentsToDestroy(sa, min, max, valid, message));
+    }
+
+    @Override
+    public CardCollectionView chooseCardsForEffect(final CardCollectionView sourceList, final SpellAbility sa, final String title, final int min, final int max, final boolean isOptional, final Map<String, Object> params) {
+        return log.record("chooseCardsForEffect", sourceList, () -> super.chooseCardsForEffect(sourceList, sa, title, min, max, isOptional, params));
+    }
+
+    @Override
+    public <T extends GameEntity> T chooseSingleEntityForEffect(final FCollectionView<T> optionList, final DelayedReveal delayedReveal, final SpellAbility sa, final String title, final boolean isOptional, final Player targetedPlayer, final Map<String, Object> params) {
+        return log.record("chooseSingleEntityForEffect", optionList,
+                () -> super.chooseSingleEntityForEffect(optionList, delayedReveal, sa, title, isOptional, targetedPlayer, params));
+    }
+
+    @Override
+    public <T extends GameEntity> List<T> chooseEntitiesForEffect(final FCollectionView<T> optionList, final int min, final int max, final DelayedReveal delayedReveal, final SpellAbility sa, final String title, final Player targetedPlayer, final Map<String, Object> params) {
+        return log.record("chooseEntitiesForEffect", optionList,
+                () -> super.chooseEntitiesForEffect(optionList, min, max, delayedReveal, sa, title, targetedPlayer, params));
+    }
+
+    @Override
+    public List<SpellAbility> chooseSpellAbilitiesForEffect(final List<SpellAbility> spells, final SpellAbility sa, final String title, final int num, final Map<String, Object> params) {
+        return log.record("chooseSpellAbilitiesForEffect", spells, () -> super.chooseSpellAbilitiesForEffect(spells, sa, title, num, params));
+    }
+
+    @Override
+    public SpellAbility chooseSingleSpellForEffect(final List<SpellAbility> spells, final SpellAbility sa, final String title, final Map<String, Object> params) {
+        return log.record("chooseSingleSpellForEffect", spells, () -> super.chooseSingleSpellForEffect(spells, sa, title, params));
+    }
+
+    @Override
+    public boolean confirmAction(final SpellAbility sa, final PlayerActionConfirmMode mode, final String message, final List<String> options, final Card cardToShow, final Map<String, Object> params) {
+        return log.record("confirmAction", null, () -> super.confirmAction(sa, mode, message, options, cardToShow, params));
+    }
+
+    @Override
+    public boolean confirmBidAction(final SpellAbility sa, final PlayerActionConfirmMode bidlife, final String string, final int bid, final Player winner) {
+        return log.record("confirmBidAction", null, () -> super.confirmBidAction(sa, bidlife, string, bid, winner));
+    }
+
+    @Override
+    public boolean confirmStaticApplication(final Card hostCard, final PlayerActionConfirmMode mode, final String message, final String logic) {
+        return log.record("confirmStaticApplication", null, () -> super.confirmStaticApplication(hostCard, mode, message, logic));
+    }
+
+    @Override
+    public boolean confirmTrigger(final WrappedAbility wrapper) {
+        return log.record("confirmTrigger", null, () -> super.confirmTrigger(wrapper));
+    }
+
+    @Override
+    public Player chooseStartingPlayer(final boolean isFirstGame) {
+        return log.record("chooseStartingPlayer", null, () -> super.chooseStartingPlayer(isFirstGame));
+    }
+
+    @Override
+    public CardCollection orderBlockers(final Card attacker, final CardCollection blockers) {
+        return log.record("orderBlockers", blockers, () -> super.orderBlockers(attacker, blockers));
+    }
+
+    @Override
+    public List<Card> exertAttackers(final List<Card> attackers) {
+        return log.record("exertAttackers", attackers, () -> super.exertAttackers(attackers));
+    }
+
+    @Override
+    public List<Card> enlistAttackers(final List<Card> attackers) {
+        return log.record("enlistAttackers", attackers, () -> super.enlistAttackers(attackers));
+    }
+
+    @Override
+    public CardCollection orderBlocker(final Card attacker, final Card blocker, final CardCollection oldBlockers) {
+        final CardCollection options = new CardCollection(oldBlockers);
+        options.add(blocker);
+        return log.record("orderBlocker", options, () -> super.orderBlocker(attacker, blocker, oldBlockers));
+    }
+
+    @Override
+    public CardCollection orderAttackers(final Card blocker, final CardCollection attackers) {
+        return log.record("orderAttackers", attackers, () -> super.orderAttackers(blocker, attackers));
+    }
+
+    @Override
+    public ImmutablePair<CardCollection, CardCollection> arrangeForScry(final CardCollection topN) {
+        return log.record("arrangeForScry", topN, () -> super.arrangeForScry(topN));
+    }
+
+    @Override
+    public ImmutablePair<CardCollection, CardCollection> arrangeForSurveil(final CardCollection topN) {
+        return log.record("arrangeForSurveil", topN, () -> super.arrangeForSurveil(topN));
+    }
+
+    @Override
+    public boolean willPutCardOnTop(final Card c) {
+        return log.record("willPutCardOnTop", null, () -> super.willPutCardOnTop(c));
+    }
+
+    @Override
+    public CardCollectionView orderMoveToZoneList(final CardCollectionView cards, final ZoneType destinationZone, final SpellAbility source) {
+        return log.record("orderMoveToZoneList", cards, () -> super.orderMoveToZoneList(cards, destinationZone, source));
+    }
+
+    @Override
+    public CardCollectionView chooseCardsToDiscardFrom(final Player p, final SpellAbility sa, final CardCollection valid, final int min, final int max) {
+        return log.record("chooseCardsToDiscardFrom", valid, () -> super.chooseCardsToDiscardFrom(p, sa, valid, min, max));
+    }
+
+    @Override
+    public CardCollectionView chooseCardsToDelve(final int genericAmount, final CardCollection grave) {
+        return log.record("chooseCardsToDelve", grave, () -> super.chooseCardsToDelve(genericAmount, grave));
+    }
+
+    @Override
+    public CardCollectionView chooseCardsToDiscardUnlessType(final int num, final CardCollectionView hand, final String uType, final SpellAbility sa) {
+        return log.record("chooseCardsToDiscardUnlessType", hand, () -> super.chooseCardsToDiscardUnlessType(num, hand, uType, sa));
+    }
+
+    @Override
+    public Mana chooseManaFromPool(final List<Mana> manaChoices) {
+        return log.record("chooseManaFromPool", manaChoices, () -> super.chooseManaFromPool(manaChoices));
+    }
+
+    @Override
+    public String chooseSomeType(final String kindOfType, final SpellAbility sa, final Collection<String> validTypes, final List<String> invalidTypes, final boolean isOptional) {
+        return log.record("chooseSomeType", validTypes, () -> super.chooseSomeType(kindOfType, sa, validTypes, invalidTypes, isOptional));
+    }
+
+    @Override
+    public Object vote(final SpellAbility sa, final String prompt, final List<Object> options, final ListMultimap<Object, Player> votes, final Player forPlayer) {
+        return log.record("vote", options, () -> super.vote(sa, prompt, options, votes, forPlayer));
+    }
+
+    @Override
+    public String chooseSector(final Card assignee, final String ai, final List<String> sectors) {
+        return log.record("chooseSector", sectors, () -> super.chooseSector(assignee, ai, sectors));
+    }
+
+    @Override
+    public PlanarDice choosePDRollToIgnore(final List<PlanarDice> rolls) {
+        return log.record("choosePDRollToIgnore", rolls, () -> super.choosePDRollToIgnore(rolls));
+    }
+
+    @Override
+    public Integer chooseRollToIgnore(final List<Integer> rolls) {
+        return log.record("chooseRollToIgnore", rolls, () -> super.chooseRollToIgnore(rolls));
+    }
+
+    @Override
+    public boolean mulliganKeepHand(final Player mulliganingPlayer, final int cardsToReturn) {
+        return log.record("mulliganKeepHand", null, () -> super.mulliganKeepHand(mulliganingPlayer, cardsToReturn));
+    }
+
+    @Override
+    public CardCollectionView londonMulliganReturnCards(final Player mulliganingPlayer, final int cardsToReturn) {
+        return log.record("londonMulliganReturnCards", mulliganingPlayer.getCardsIn(ZoneType.Hand),
+                () -> super.londonMulliganReturnCards(mulliganingPlayer, cardsToReturn));
+    }
+
+    @Override
+    public void declareAttackers(final Player attackingPlayer, final Combat combat) {
+        log.record("declareAttackers", null, () -> {
+            super.declareAttackers(attackingPlayer, combat);
+            return combat;
+        }, PlayerChoiceLog::attacksOf);
+    }
+
+    @Override
+    public void declareBlockers(final Player defender, final Combat combat) {
+        log.record("declareBlockers", null, () -> {
+            super.declareBlockers(defender, combat);
+            return combat;
+        }, c -> PlayerChoiceLog.blocksOf(c, defender));
+    }
+
+    @Override
+    public List<SpellAbility> chooseSpellAbilityToPlay() {
+        return log.record("chooseSpellAbilityToPlay", null, super::chooseSpellAbilityToPlay, log::keysOf);
+    }
+
+    @Override
+    public boolean chooseSpellAbilityToPlayLater(final Consumer<List<SpellAbility>> answer) {
+        return super.chooseSpellAbilityToPlayLater(chosenSa -> answer.accept(
+                log.record("chooseSpellAbilityToPlay", null, () -> chosenSa, log::keysOf)));
+    }
+
+    @Override
+    public boolean playChosenSpellAbility(final SpellAbility chosenSa) {
+        return log.act("playChosenSpellAbility", () -> super.playChosenSpellAbility(chosenSa),
+                played -> PlayerChoiceLog.outcomeOf(played, PlayerChoiceLog.onStack(chosenSa)));
+    }
+
+    @Override
+    public CardCollection chooseCardsToDiscardToMaximumHandSize(final int nDiscard) {
+        return log.record("chooseCardsToDiscardToMaximumHandSize", player.getCardsIn(ZoneType.Hand),
+                () -> super.chooseCardsToDiscardToMaximumHandSize(nDiscard));
+    }
+
+    @Override
+    public CardCollectionView chooseCardsToRevealFromHand(final int min, final int max, final CardCollectionView valid) {
+        return log.record("chooseCardsToRevealFromHand", valid, () -> super.chooseCardsToRevealFromHand(min, max, valid));
+    }
+
+    @Override
+    public boolean payManaOptional(final Card c, final Cost cost, final SpellAbility sa, final String prompt, final ManaPaymentPurpose purpose) {
+        return log.act("payManaOptional", () -> super.payManaOptional(c, cost, sa, prompt, purpose), Collections::singletonList);
+    }
+
+    @Override
+    public List<SpellAbility> chooseSaToActivateFromOpeningHand(final List<SpellAbility> usableFromOpeningHand) {
+        return log.record("chooseSaToActivateFromOpeningHand", usableFromOpeningHand, () -> super.chooseSaToActivateFromOpeningHand(usableFromOpeningHand));
+    }
+
+    @Override
+    public int chooseNumber(final SpellAbility sa, final String title, final int min, final int max) {
+        return log.record("chooseNumber", null, () -> super.chooseNumber(sa, title, min, max));
+    }
+
+    @Override
+    public int chooseNumber(final SpellAbility sa, final String title, final int min, final int max, final Map<String, Object> params) {
+        return log.record("chooseNumber", null, () -> super.chooseNumber(sa, title, min, max, params));
+    }
+
+    @Override
+    public int chooseNumber(final SpellAbility sa, final String title, final List<Integer> choices, final Player relatedPlayer) {
+        return log.record("chooseNumber", null, () -> super.chooseNumber(sa, title, choices, relatedPlayer));
+    }
+
+    @Override
+    public boolean chooseFlipResult(final SpellAbility sa, final Player flipper, final boolean[] results, final boolean call) {
+        return log.record("chooseFlipResult", null, () -> super.chooseFlipResult(sa, flipper, results, call));
+    }
+
+    @Override
+    public Pair<SpellAbilityStackInstance, GameObject> chooseTarget(final SpellAbility saSpellskite, final List<Pair<SpellAbilityStackInstance, GameObject>> allTargets) {
+        return log.record("chooseTarget", allTargets, () -> super.chooseTarget(saSpellskite, allTargets));
+    }
+
+    @Override
+    public boolean chooseBinary(final SpellAbility sa, final String question, final BinaryChoiceType kindOfChoice, final Boolean defaultVal) {
+        return log.record("chooseBinary", null, () -> super.chooseBinary(sa, question, kindOfChoice, defaultVal));
+    }
+
+    @Override
+    public boolean chooseBinary(final SpellAbility sa, final String question, final BinaryChoiceType kindOfChoice, final Map<String, Object> params) {
+        return log.record("chooseBinary", null, () -> super.chooseBinary(sa, question, kindOfChoice, params));
+    }
+
+    @Override
+    public List<AbilitySub> chooseModeForAbility(final SpellAbility sa, final List<AbilitySub> possible, final int min, final int num, final boolean allowRepeat) {
+        return log.record("chooseModeForAbility", possible, () -> super.chooseModeForAbility(sa, possible, min, num, allowRepeat));
+    }
+
+    @Override
+    public List<String> chooseColors(final String message, final SpellAbility sa, final int min, final int max, final List<String> options) {
+        return log.record("chooseColors", options, () -> super.chooseColors(message, sa, min, max, options));
+    }
+
+    @Override
+    public byte chooseColor(final String message, final SpellAbility sa, final ColorSet colors) {
+        return log.record("chooseColor", null, () -> super.chooseColor(message, sa, colors));
+    }
+
+    @Override
+    public byte chooseColorAllowColorless(final String message, final Card c, final ColorSet colors) {
+        return log.record("chooseColorAllowColorless", null, () -> super.chooseColorAllowColorless(message, c, colors));
+    }
+
+    @Override
+    public CounterType chooseCounterType(final List<CounterType> options, final SpellAbility sa, final String prompt, final Map<String, Object> params) {
+        return log.record("chooseCounterType", options, () -> super.chooseCounterType(options, sa, prompt, params));
+    }
+
+    @Override
+    public String chooseKeywordForPump(final List<String> options, final SpellAbility sa, final String prompt, final Card tgtCard) {
+        return log.record("chooseKeywordForPump", options, () -> super.chooseKeywordForPump(options, sa, prompt, tgtCard));
+    }
+
+    @Override
+    public boolean confirmPayment(final CostPart costPart, final String question, final SpellAbility sa) {
+        return log.record("confirmPayment", null, () -> super.confirmPayment(costPart, question, sa));
+    }
+
+    @Override
+    public boolean confirmReplacementEffect(final ReplacementEffect replacementEffect, final SpellAbility effectSA, final GameEntity affected, final String question) {
+        return log.record("confirmReplacementEffect", null, () -> super.confirmReplacementEffect(replacementEffect, effectSA, affected, question));
+    }
+
+    @Override
+    public ReplacementEffect chooseSingleReplacementEffect(final String prompt, final List<ReplacementEffect> possibleReplacers) {
+        return log.record("chooseSingleReplacementEffect", possibleReplacers, () -> super.chooseSingleReplacementEffect(prompt, possibleReplacers));
+    }
+
+    @Override
+    public StaticAbility chooseSingleStaticAbility(final String prompt, final List<StaticAbility> possibleStatics) {
+        return log.record("chooseSingleStaticAbility", possibleStatics, () -> super.chooseSingleStaticAbility(prompt, possibleStatics));
+    }
+
+    @Override
+    public String chooseProtectionType(final String string, final SpellAbility sa, final List<String> choices) {
+        return log.record("chooseProtectionType", choices, () -> super.chooseProtectionType(string, sa, choices));
+    }
+
+    @Override
+    public boolean payCostToPreventEffect(final Cost cost, final SpellAbility sa, final boolean alreadyPaid, final FCollectionView<Player> allPayers) {
+        return log.act("payCostToPreventEffect", () -> super.payCostToPreventEffect(cost, sa, alreadyPaid, allPayers), Collections::singletonList);
+    }
+
+    @Override
+    public void playSpellAbilityForFree(final SpellAbility copySA, final boolean mayChoseNewTargets) {
+        log.act("playSpellAbilityForFree", () -> {
+            super.playSpellAbilityForFree(copySA, mayChoseNewTargets);
+            return copySA;
+        }, PlayerChoiceLog::targetsOf);
+    }
+
+    @Override
+    public void playSpellAbilityNoStack(final SpellAbility effectSA, final boolean canSetupTargets) {
+        log.act("playSpellAbilityNoStack", () -> {
+            super.playSpellAbilityNoStack(effectSA, canSetupTargets);
+            return effectSA;
+        }, PlayerChoiceLog::targetsOf);
+    }
+
+    @Override
+    public void orderAndPlaySimultaneousSa(final List<SpellAbility> activePlayerSAs) {
+        log.act("orderAndPlaySimultaneousSa", () -> {
+            super.orderAndPlaySimultaneousSa(activePlayerSAs);
+            return activePlayerSAs;
+        }, sas -> PlayerChoiceLog.stackedOutcome(getGame(), sas));
+    }
+
+    @Override
+    public boolean playTrigger(final Card host, final WrappedAbility wrapperAbility, final boolean isMandatory) {
+        return log.act("playTrigger", () -> super.playTrigger(host, wrapperAbility, isMandatory),
+                played -> Lists.newArrayList(played, PlayerChoiceLog.targetsOf(wrapperAbility)));
+    }
+
+    @Override
+    public boolean playSaFromPlayEffect(final SpellAbility tgtSA) {
+        return log.act("playSaFromPlayEffect", () -> super.playSaFromPlayEffect(tgtSA), played -> PlayerChoiceLog.outcomeOf(played, tgtSA));
+    }
+
+    @Override
+    public boolean chooseTargetsFor(final SpellAbility currentAbility) {
+        return log.record("chooseTargetsFor", null, () -> super.chooseTargetsFor(currentAbility),
+                chosen -> Lists.newArrayList(chosen, PlayerChoiceLog.targetsOf(currentAbility)));
+    }
+
+    @Override
+    public TargetChoices chooseNewTargetsFor(final SpellAbility ability, final Predicate<GameObject> filter, final boolean optional) {
+        return log.record("chooseNewTargetsFor", null, () -> super.chooseNewTargetsFor(ability, filter, optional));
+    }
+
+    @Override
+    public boolean chooseCardsPile(final SpellAbility sa, final CardCollectionView pile1, final CardCollectionView pile2, final String faceUp) {
+        return log.record("chooseCardsPile", null, () -> super.chooseCardsPile(sa, pile1, pile2, faceUp));
+    }
+
+    @Override
+    public Map<Card, ManaCostShard> chooseCardsForConvokeOrImprovise(final SpellAbility sa, final ManaCost manaCost, final CardCollectionView untappedCards, final boolean improvise) {
+        return log.record("chooseCardsForConvokeOrImprovise", untappedCards, () -> super.chooseCardsForConvokeOrImprovise(sa, manaCost, untappedCards, improvise));
+    }
+
+    @Override
+    public String chooseCardName(final SpellAbility sa, final Predicate<ICardFace> cpp, final String valid, final String message) {
+        return log.record("chooseCardName", null, () -> super.chooseCardName(sa, cpp, valid, message));
+    }
+
+    @Override
+    public String chooseCardName(final SpellAbility sa, final List<ICardFace> faces, final String message) {
+        return log.record("chooseCardName", null, () -> super.chooseCardName(sa, faces, message));
+    }
+
+    @Override
+    public Card chooseSingleCardForZoneChange(final ZoneType destination, final List<ZoneType> origin, final SpellAbility sa, final CardCollection fetchList, final DelayedReveal delayedReveal, final String selectPrompt, final boolean isOptional, final Player decider) {
+        return log.record("chooseSingleCardForZoneChange", fetchList,
+                () -> super.chooseSingleCardForZoneChange(destination, origin, sa, fetchList, delayedReveal, selectPrompt, isOptional, decider));
+    }
+
+    @Override
+    public List<Card> chooseCardsForZoneChange(final ZoneType destination, final List<ZoneType> origin, final SpellAbility sa, final CardCollection fetchList, final int min, final int max, final DelayedReveal delayedReveal, final String selectPrompt, final Player decider) {
+        return log.record("chooseCardsForZoneChange", fetchList,
+                () -> super.chooseCardsForZoneChange(destination, origin, sa, fetchList, min, max, delayedReveal, selectPrompt, decider));
+    }
+
+    @Override
+    public List<Card> chooseCardsForSplice(final SpellAbility sa, final List<Card> cards) {
+        return log.record("chooseCardsForSplice", cards, () -> super.chooseCardsForSplice(sa, cards));
+    }
+
+    @Override
+    public List<OptionalCostValue> chooseOptionalCosts(final SpellAbility choosen, final List<OptionalCostValue> optionalCost) {
+        return log.record("chooseOptionalCosts", optionalCost, () -> super.chooseOptionalCosts(choosen, optionalCost));
+    }
+
+    @Override
+    public boolean confirmMulliganScry(final Player p) {
+        return log.record("confirmMulliganScry", null, () -> super.confirmMulliganScry(p));
+    }
+
+    @Override
+    public int chooseNumberForKeywordCost(final SpellAbility sa, final Cost cost, final KeywordInterface keyword, final String prompt, final int max) {
+        return log.record("chooseNumberForKeywordCost", null, () -> super.chooseNumberForKeywordCost(sa, cost, keyword, prompt, max));
+    }
+
+    @Override
+    public int chooseNumberForCostReduction(final SpellAbility sa, final int min, final int max) {
+        return log.record("chooseNumberForCostReduction", null, () -> super.chooseNumberForCostReduction(sa, min, max));
+    }
+
+    @Override
+    public CardCollection chooseCardsForEffectMultiple(final Map<String, CardCollection> validMap, final SpellAbility sa, final String title, final boolean isOptional) {
+        return log.record("chooseCardsForEffectMultiple", null, () -> super.chooseCardsForEffectMultiple(validMap, sa, title, isOptional));
+    }
+}
@@ -1,5 +1,17 @@
 package forge.util;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public abstract class AbstractGeneticAlgorithm<T> {
 
@@ -8,24 +20,149 @@ public abstract class AbstractGeneticAlgorithm<T> {
     private float pruneRatio = 0.5f;
     public int generationCount = 0;
 
+    // own generator rather than MyRandom, so that a seeded run is reproducible
+    private Random random = new Random();
+    private int numWorkers = 1;
+    // fitness of individuals that survived from an earlier generation, they are the same objects
+    private final Map<T, Double> fitnessCache = new IdentityHashMap<>();
+    private final List<Long> generationTimes = new ArrayList<>();
+
     public void initializePopulation(List<T> population){
         this.population = population;
         targetPopulationSize = population.size();
     }
 
-    protected abstract void evaluateFitness();
+    public void setSeed(long seed) {
+        random = new Random(seed);
+    }
+
+    protected Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Sets how many tasks {@link #runOnWorkers} runs at the same time, such as the individuals
+     * {@link #evaluateFitness()} scores.
+     */
+    public void setNumWorkers(int numWorkers) {
+        if (numWorkers < 1) {
+            throw new IllegalArgumentException("numWorkers must be at least 1");
+        }
+        this.numWorkers = numWorkers;
+    }
+
+    /**
+     * @return how long evaluating each generation took, in milliseconds
+     */
+    public List<Long> getGenerationTimes() {
+        return Collections.unmodifiableList(generationTimes);
+    }
+
+    /**
+     * Scores one individual, higher is better. Called from worker threads, so it must not touch shared state.
+     * Only the default {@link #evaluateFitness()} calls it; subclasses that override that one needn't implement it.
+     * @param random a generator seeded for this individual, use it instead of MyRandom
+     */
+    protected double computeFitness(T individual, Random random) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't score individuals one by one");
+    }
+
+    /**
+     * Runs the tasks on up to {@link #setNumWorkers numWorkers} threads at once.
+     * @return the results in the order of the tasks
+     */
+    protected <R> List<R> runOnWorkers(List<? extends Callable<R>> tasks) {
+        final List<R> results = new ArrayList<>();
+        if (numWorkers == 1 || tasks.size() < 2) {
+            try {
+                for (Callable<R> task : tasks) {
+                    results.add(task.call());
+                }
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return results;
+        }
+        final ExecutorService pool = Executors.newFixedThreadPool(Math.min(numWorkers, tasks.size()));
+        try {
+            final List<Future<R>> futures = new ArrayList<>();
+            for (Callable<R> task : tasks) {
+                futures.add(pool.submit(task));
+            }
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Sorts the population from fittest to weakest.
+     * By default scores each new individual with {@link #computeFitness}, spread over the worker pool;
+     * subclasses that can only rank the population as a whole (by a tournament, say) override this instead,
+     * and can still use {@link #runOnWorkers} for the parts that are independent of each other.
+     */
+    protected void evaluateFitness() {
+        final List<Callable<Double>> tasks = new ArrayList<>();
+        final List<T> pending = new ArrayList<>();
+        for (final T individual : population) {
+            if (!fitnessCache.containsKey(individual)) {
+                pending.add(individual);
+                // drawn in population order, so the seeds don't depend on how the workers are scheduled
+                final long seed = random.nextLong();
+                tasks.add(new Callable<Double>() {
+                    @Override
+                    public Double call() {
+                        return computeFitness(individual, new Random(seed));
+                    }
+                });
+            }
+        }
+
+        final List<Double> scores = runOnWorkers(tasks);
+        for (int i = 0; i < pending.size(); i++) {
+            fitnessCache.put(pending.get(i), scores.get(i));
+        }
+
+        population = new ArrayList<>(population);
+        Collections.sort(population, new Comparator<T>() {
+            @Override
+            public int compare(T a, T b) {
+                return Double.compare(fitnessCache.get(b), fitnessCache.get(a));
+            }
+        });
+    }
+
+    /**
+     * @return the fitness computed for an individual of the current population, or null if it hasn't been
+     */
+    public Double getFitness(T individual) {
+        return fitnessCache.get(individual);
+    }
 
     protected abstract T expandPool();
 
     public void pruneWeakest(){
         population = population.subList(0, Float.valueOf(population.size()*pruneRatio).intValue());
+        final Set<T> survivors = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+        survivors.addAll(population);
+        fitnessCache.keySet().retainAll(survivors);
     }
 
     protected void generateChildren(){
         int prunedSize = population.size();
         while(population.size()<targetPopulationSize){
-            int randomIndex = Double.valueOf(prunedSize*Math.pow(MyRandom.getRandom().nextDouble(), 0.25)/2d).intValue();
-            float rand = MyRandom.getRandom().nextFloat();
+            int randomIndex = Double.valueOf(prunedSize*Math.pow(random.nextDouble(), 0.25)/2d).intValue();
+            float rand = random.nextFloat();
             if(rand>0.85f){
                 T child = mutateObject(population.get(randomIndex));
                 if(child != null) {
@@ -34,7 +171,7 @@ public abstract class AbstractGeneticAlgorithm<T> {
             }else if(rand>0.70f){
                 int secondIndex = randomIndex;
                 while(secondIndex != randomIndex){
-                    secondIndex = Double.valueOf(prunedSize*Math.pow(MyRandom.getRandom().nextDouble(), 0.25)/2d).intValue();
+                    secondIndex = Double.valueOf(prunedSize*Math.pow(random.nextDouble(), 0.25)/2d).intValue();
                 }
                 T child = createChild(population.get(randomIndex)
                         , population.get(secondIndex));
@@ -53,7 +190,9 @@ public abstract class AbstractGeneticAlgorithm<T> {
 
     public void run(){
         while(true){
+            final long start = System.currentTimeMillis();
             evaluateFitness();
+            generationTimes.add(System.currentTimeMillis() - start);
             pruneWeakest();
             generationCount++;
             if(!shouldContinue()) {
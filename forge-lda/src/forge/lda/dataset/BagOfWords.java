@@ -162,6 +162,33 @@ public final class BagOfWords {
         System.out.println("Num Cards: " + this.numWords);
     }
 
+    /**
+     * Make a bag-of-words dataset of documents given as the IDs of their vocabularies.
+     * @param vocabs the vocabularies
+     * @param docs the vocabulary IDs of each document
+     */
+    public BagOfWords(Vocabularies vocabs, List<List<Integer>> docs) {
+        this.vocabs    = vocabs;
+        this.words     = new HashMap<>();
+        this.docLength = new HashMap<>();
+        this.legalDecks = new ArrayList<>();
+
+        int numNNZ   = 0;
+        int numWords = 0;
+        for (int docID = 0; docID < docs.size(); ++docID) {
+            final List<Integer> doc = new ArrayList<>(docs.get(docID));
+            words.put(docID, doc);
+            docLength.put(docID, doc.size());
+            numNNZ   += new HashSet<>(doc).size();
+            numWords += doc.size();
+        }
+
+        this.numDocs   = docs.size();
+        this.numVocabs = vocabs.size();
+        this.numNNZ    = numNNZ;
+        this.numWords  = numWords;
+    }
+
     public int getNumDocs() {
         return numDocs;
     }
@@ -31,7 +31,7 @@ public class Dataset {
     
     public Dataset(BagOfWords bow) {
         this.bow = bow;
-        this.vocabs = null;
+        this.vocabs = bow.getVocabs();
     }
     
     public BagOfWords getBow() {
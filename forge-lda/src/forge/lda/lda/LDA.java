@@ -63,6 +63,15 @@ public class LDA {
         properties.setNumIteration(100);
     }
 
+    /**
+     * Set the number of partitions of the documents sampled in parallel. By default there is one, and the documents
+     * are sampled one after another, which is exact; more partitions are faster but only approximate it (AD-LDA).
+     * @param numPartitions
+     */
+    public void setNumPartitions(final int numPartitions) {
+        properties.setNumPartitions(numPartitions);
+    }
+
     /**
      * Get the vocabulary from its ID.
      * @param vocabID
@@ -39,6 +39,10 @@ public class InferenceProperties {
     public void setNumIteration(Integer numIteration){
         properties.setProperty("numIteration",numIteration.toString());
     }
+
+    public void setNumPartitions(Integer numPartitions){
+        properties.setProperty("numPartitions",numPartitions.toString());
+    }
     
     /**
      * Load properties.
@@ -60,6 +64,14 @@ public class InferenceProperties {
     public Integer numIteration() {
         return Integer.parseInt(properties.getProperty("numIteration"));
     }
+
+    /**
+     * @return the number of partitions to split the documents into, or null if not set
+     */
+    public Integer numPartitions() {
+        final String numPartitions = properties.getProperty("numPartitions");
+        return numPartitions != null ? Integer.valueOf(numPartitions) : null;
+    }
 }
 
 class PropertiesLoader {
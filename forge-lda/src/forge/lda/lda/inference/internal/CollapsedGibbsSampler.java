@@ -16,8 +16,9 @@
 
 package forge.lda.lda.inference.internal;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.IntStream;
 
 import forge.lda.lda.LDA;
@@ -25,19 +26,21 @@ import forge.lda.lda.inference.Inference;
 import forge.lda.lda.inference.InferenceProperties;
 
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.math3.distribution.EnumeratedIntegerDistribution;
-import org.apache.commons.math3.distribution.IntegerDistribution;
-
-import forge.lda.dataset.Vocabulary;
+import org.apache.commons.math3.special.Gamma;
 
 public class CollapsedGibbsSampler implements Inference {
     private LDA lda;
     private Topics topics;
     private Documents documents;
     private int numIteration;
+    private long seed;
+    private int numPartitions;
+    private Partition[] partitions;
     
     private static final long DEFAULT_SEED = 0L;
     private static final int DEFAULT_NUM_ITERATION = 100;
+    private static final int DEFAULT_NUM_PARTITIONS = 1;
+    private static final int LOG_LIKELIHOOD_INTERVAL = 10;
     
     // ready for Gibbs sampling
     private boolean ready;
@@ -56,11 +59,13 @@ public class CollapsedGibbsSampler implements Inference {
         this.lda = lda;
         initialize(this.lda);
         
-        final long seed = properties.seed() != null ? properties.seed() : DEFAULT_SEED;
+        this.seed = properties.seed() != null ? properties.seed() : DEFAULT_SEED;
         initializeTopicAssignment(seed);
         
         this.numIteration
             = properties.numIteration() != null ? properties.numIteration() : DEFAULT_NUM_ITERATION;
+        this.numPartitions
+            = properties.numPartitions() != null ? properties.numPartitions() : DEFAULT_NUM_PARTITIONS;
         this.ready = true;
     }
     
@@ -71,9 +76,11 @@ public class CollapsedGibbsSampler implements Inference {
         this.lda = lda;
         
         initialize(this.lda);
-        initializeTopicAssignment(DEFAULT_SEED);
+        this.seed = DEFAULT_SEED;
+        initializeTopicAssignment(seed);
         
         this.numIteration = DEFAULT_NUM_ITERATION;
+        this.numPartitions = DEFAULT_NUM_PARTITIONS;
         this.ready = true;
     }
     
@@ -95,57 +102,213 @@ public class CollapsedGibbsSampler implements Inference {
         this.numIteration = numIteration;
     }
 
+    public int getNumPartitions() {
+        return numPartitions;
+    }
+
+    /**
+     * Split the documents into partitions sampled in parallel, approximating Gibbs sampling as in AD-LDA
+     * [Newman et al. 2009]. The topics found depend on the number of partitions, not on the number of threads
+     * that happen to sample them.
+     * @param numPartitions
+     */
+    public void setNumPartitions(final int numPartitions) {
+        if (numPartitions <= 0) throw new IllegalArgumentException();
+        this.numPartitions = numPartitions;
+    }
+
     @Override
     public void run() {
         if (!ready) {
             throw new IllegalStateException("instance has not set up yet");
         }
 
+        createPartitions();
         for (int i = 1; i <= numIteration; ++i) {
-            System.out.println("Iteration " + i + ".");
             runSampling();
+            if (i % LOG_LIKELIHOOD_INTERVAL == 0 || i == numIteration) {
+                System.out.println("Iteration " + i + ". Log-likelihood " + getLogLikelihood());
+            } else {
+                System.out.println("Iteration " + i + ".");
+            }
         }
+        partitions = null;
     }
 
     /**
      * Run collapsed Gibbs sampling [Griffiths and Steyvers 2004].
+     * With more than one partition, each partition samples its share of the documents against its own copy of
+     * the topic-vocab counts, with a generator of its own, and the copies are merged at the end of the iteration
+     * (AD-LDA). The partitions are sampled on as many threads as are available.
      */
     void runSampling() {
+        if (partitions == null) {
+            createPartitions();
+        }
+        if (partitions.length == 1) {
+            final Partition p = partitions[0];
+            p.copySumCounts(topics);
+            p.sample();
+            for (int t = 0; t < topics.numTopics(); ++t) {
+                topics.get(t).addToSumCount(p.sumCounts[t] - topics.getSumCount(t));
+            }
+            return;
+        }
+
+        for (Partition p : partitions) {
+            p.copyCounts(topics);
+        }
+        IntStream.range(0, partitions.length).parallel().forEach(i -> partitions[i].sample());
+        mergeCounts();
+    }
+
+    private void createPartitions() {
+        final int numPartitions = Math.max(1, Math.min(this.numPartitions, documents.getDocuments().size()));
+        final List<List<Document>> docs = new ArrayList<>();
+        for (int i = 0; i < numPartitions; ++i) {
+            docs.add(new ArrayList<>());
+        }
+        int i = 0;
         for (Document d : documents.getDocuments()) {
-            for (int w = 0; w < d.getDocLength(); ++w) {
-                final Topic oldTopic = topics.get(d.getTopicID(w));
-                d.decrementTopicCount(oldTopic.id());
-                
-                final Vocabulary v = d.getVocabulary(w);
-                oldTopic.decrementVocabCount(v.id());
-                
-                IntegerDistribution distribution
-                    = getFullConditionalDistribution(lda.getNumTopics(), d.id(), v.id());
-                
-                final int newTopicID = distribution.sample();
-                d.setTopicID(w, newTopicID);
-                
-                d.incrementTopicCount(newTopicID);
-                final Topic newTopic = topics.get(newTopicID);
-                newTopic.incrementVocabCount(v.id());
+            docs.get(i++ % numPartitions).add(d);
+        }
+
+        partitions = new Partition[numPartitions];
+        for (int p = 0; p < numPartitions; ++p) {
+            // a single partition works on the shared counts directly
+            partitions[p] = new Partition(docs.get(p), numPartitions == 1 ? topics : null, seed + p);
+        }
+    }
+
+    // global count += sum over partitions of (local count - global count)
+    private void mergeCounts() {
+        final int others = partitions.length - 1;
+        for (int t = 0; t < topics.numTopics(); ++t) {
+            final Topic topic = topics.get(t);
+            final int[] global = topic.getVocabCounts();
+            for (int v = 0; v < global.length; ++v) {
+                int sum = 0;
+                for (Partition p : partitions) {
+                    sum += p.vocabCounts[t][v];
+                }
+                global[v] = sum - others * global[v];
             }
+            int sum = 0;
+            for (Partition p : partitions) {
+                sum += p.sumCounts[t];
+            }
+            topic.addToSumCount(sum - others * topic.getSumCount() - topic.getSumCount());
         }
     }
-    
+
     /**
-     * Get the full conditional distribution over topics.
-     * docID and vocabID are passed to this distribution for parameters.
-     * @param numTopics
-     * @param docID
-     * @param vocabID
-     * @return the integer distribution over topics
+     * The documents sampled together, with the buffers it needs to sample them without allocating.
      */
-    IntegerDistribution getFullConditionalDistribution(final int numTopics, final int docID, final int vocabID) {
-        int[]    topics        = IntStream.range(0, numTopics).toArray();
-        double[] probabilities = Arrays.stream(topics)
-                                       .mapToDouble(t -> getTheta(docID, t) * getPhi(t, vocabID))
-                                       .toArray();
-        return new EnumeratedIntegerDistribution(topics, probabilities); 
+    private final class Partition {
+        private final List<Document> docs;
+        private final int[][] vocabCounts;
+        private final int[] sumCounts;
+        private final double[] cumulative;
+        private final double[] alpha;
+        private final Random random;
+
+        private Partition(final List<Document> docs, final Topics shared, final long seed) {
+            final int numTopics = lda.getNumTopics();
+            this.docs = docs;
+            this.vocabCounts = new int[numTopics][];
+            for (int t = 0; t < numTopics; ++t) {
+                vocabCounts[t] = shared != null ? shared.get(t).getVocabCounts() : new int[topics.get(t).getVocabCounts().length];
+            }
+            this.sumCounts = new int[numTopics];
+            this.cumulative = new double[numTopics];
+            this.alpha = new double[numTopics];
+            for (int t = 0; t < numTopics; ++t) {
+                alpha[t] = lda.getAlpha(t);
+            }
+            this.random = new Random(seed);
+        }
+
+        private void copySumCounts(final Topics from) {
+            for (int t = 0; t < sumCounts.length; ++t) {
+                sumCounts[t] = from.getSumCount(t);
+            }
+        }
+
+        private void copyCounts(final Topics from) {
+            for (int t = 0; t < vocabCounts.length; ++t) {
+                final int[] counts = from.get(t).getVocabCounts();
+                System.arraycopy(counts, 0, vocabCounts[t], 0, counts.length);
+            }
+            copySumCounts(from);
+        }
+
+        private void sample() {
+            final int numTopics = sumCounts.length;
+            final double beta = lda.getBeta();
+            final double vBeta = beta * topics.get(0).numVocabs();
+            for (Document d : docs) {
+                for (int w = 0; w < d.getDocLength(); ++w) {
+                    final int oldTopicID = d.getTopicID(w);
+                    final int vocabID = d.getVocabulary(w).id();
+                    d.decrementTopicCount(oldTopicID);
+                    --vocabCounts[oldTopicID][vocabID];
+                    --sumCounts[oldTopicID];
+
+                    // theta * phi, leaving out theta's denominator, which is the same for every topic
+                    double total = 0.0;
+                    for (int t = 0; t < numTopics; ++t) {
+                        total += (d.getTopicCount(t) + alpha[t]) * (vocabCounts[t][vocabID] + beta) / (sumCounts[t] + vBeta);
+                        cumulative[t] = total;
+                    }
+                    final int newTopicID = sampleCumulative(cumulative, random.nextDouble() * total);
+
+                    d.setTopicID(w, newTopicID);
+                    d.incrementTopicCount(newTopicID);
+                    ++vocabCounts[newTopicID][vocabID];
+                    ++sumCounts[newTopicID];
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the first index whose cumulative weight exceeds u
+     */
+    static int sampleCumulative(final double[] cumulative, final double u) {
+        int lo = 0;
+        int hi = cumulative.length - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] > u) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Get the log-likelihood log p(w|z) of the words under the current topic assignment,
+     * which should rise and level off as the sampler converges.
+     * @return the log-likelihood
+     */
+    public double getLogLikelihood() {
+        if (!ready) throw new IllegalStateException();
+        final double beta = lda.getBeta();
+        final int numVocabs = topics.get(0).numVocabs();
+        final double logGammaBeta = Gamma.logGamma(beta);
+        double result = 0.0;
+        for (int t = 0; t < topics.numTopics(); ++t) {
+            final Topic topic = topics.get(t);
+            result += Gamma.logGamma(beta * numVocabs) - Gamma.logGamma(topic.getSumCount() + beta * numVocabs);
+            for (int count : topic.getVocabCounts()) {
+                if (count > 0) {
+                    result += Gamma.logGamma(count + beta) - logGammaBeta;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -48,6 +48,21 @@ class Topic {
         counter.decrementVocabCount(vocabID);
     }
     
+    /**
+     * The vocab counts of this topic, indexed by vocab ID. See {@link AssignmentCounter#counts()}.
+     */
+    int[] getVocabCounts() {
+        return counter.getVocabCounts();
+    }
+
+    void addToSumCount(int delta) {
+        counter.addToSumCount(delta);
+    }
+
+    int numVocabs() {
+        return numVocabs;
+    }
+
     double getPhi(int vocabID, double beta) {
         if (vocabID < 0 || beta <= 0) throw new IllegalArgumentException();
         return (getVocabCount(vocabID) + beta) / (getSumCount() + beta * numVocabs);
@@ -16,34 +16,31 @@
 
 package forge.lda.lda.inference.internal;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
 
 class TopicAssignment {
-    private List<Integer> topicAssignment;
+    private int[] topicAssignment;
     private boolean ready;
     
     TopicAssignment() {
-        topicAssignment = new ArrayList<>();
+        topicAssignment = new int[0];
         ready = false;
     }
 
     void set(int wordID, int topicID) {
         if (!ready) throw new IllegalStateException();
-        if (wordID < 0 || topicAssignment.size() <= wordID || topicID < 0) {
+        if (wordID < 0 || topicAssignment.length <= wordID || topicID < 0) {
             throw new IllegalArgumentException();
         }
-        topicAssignment.set(wordID, topicID);
+        topicAssignment[wordID] = topicID;
     }
     
     int get(int wordID) {
         if (!ready) throw new IllegalStateException();
-        if (wordID < 0 || topicAssignment.size() <= wordID) {
+        if (wordID < 0 || topicAssignment.length <= wordID) {
             throw new IllegalArgumentException();
         }
-        return topicAssignment.get(wordID);
+        return topicAssignment[wordID];
     }
     
     void initialize(int docLength, int numTopics, long seed) {
@@ -52,9 +49,7 @@ class TopicAssignment {
         }
         
         Random random = new Random(seed);
-        topicAssignment = random.ints(docLength, 0, numTopics)
-                                .boxed()
-                                .collect(Collectors.toList());
+        topicAssignment = random.ints(docLength, 0, numTopics).toArray();
         ready = true;
     }
 }
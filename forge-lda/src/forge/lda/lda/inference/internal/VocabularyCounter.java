@@ -18,11 +18,9 @@ package forge.lda.lda.inference.internal;
 
 class VocabularyCounter {
     private AssignmentCounter vocabCount;
-    private int sumCount;
     
     VocabularyCounter(int numVocabs) {
         this.vocabCount = new AssignmentCounter(numVocabs);
-        this.sumCount = 0;
     }
 
     int getVocabCount(int vocabID) {
@@ -31,16 +29,22 @@ class VocabularyCounter {
     }
     
     int getSumCount() {
-        return sumCount;
+        return vocabCount.getSum();
     }
     
     void incrementVocabCount(int vocabID) {
         vocabCount.increment(vocabID);
-        ++sumCount;
     }
     
     void decrementVocabCount(int vocabID) {
         vocabCount.decrement(vocabID);
-        --sumCount;
+    }
+
+    int[] getVocabCounts() {
+        return vocabCount.counts();
+    }
+
+    void addToSumCount(int delta) {
+        vocabCount.addToSum(delta);
     }
 }
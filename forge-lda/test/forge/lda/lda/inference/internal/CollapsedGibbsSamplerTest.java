@@ -0,0 +1,95 @@
+package forge.lda.lda.inference.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import forge.lda.dataset.BagOfWords;
+import forge.lda.dataset.Dataset;
+import forge.lda.dataset.Vocabularies;
+import forge.lda.dataset.Vocabulary;
+import forge.lda.lda.LDA;
+import forge.lda.lda.inference.InferenceMethod;
+import forge.lda.lda.inference.InferenceProperties;
+
+public class CollapsedGibbsSamplerTest {
+    private static final int NUM_TOPICS = 4;
+    private static final int CARDS_PER_TOPIC = 10;
+    private static final long SEED = 123L;
+    private static final int NUM_ITERATION = 50;
+
+    /**
+     * Decks drawn mostly from one planted topic and partly from another, each topic with cards of its own.
+     */
+    private static Dataset createDataset() {
+        final List<Vocabulary> cards = new ArrayList<>();
+        for (int i = 0; i < NUM_TOPICS * CARDS_PER_TOPIC; i++) {
+            cards.add(new Vocabulary(i, "Card " + i));
+        }
+        final Random random = new Random(1);
+        final List<List<Integer>> decks = new ArrayList<>();
+        for (int d = 0; d < 200; d++) {
+            final int main = random.nextInt(NUM_TOPICS);
+            final int splash = random.nextInt(NUM_TOPICS);
+            final List<Integer> deck = new ArrayList<>();
+            for (int c = 0; c < 30; c++) {
+                final int topic = random.nextInt(4) == 0 ? splash : main;
+                deck.add(topic * CARDS_PER_TOPIC + random.nextInt(CARDS_PER_TOPIC));
+            }
+            decks.add(deck);
+        }
+        return new Dataset(new BagOfWords(new Vocabularies(cards), decks));
+    }
+
+    private static CollapsedGibbsSampler sample(final LDA lda, final Integer numPartitions) {
+        final InferenceProperties properties = new InferenceProperties();
+        properties.setSeed(SEED);
+        properties.setNumIteration(NUM_ITERATION);
+        if (numPartitions != null) {
+            properties.setNumPartitions(numPartitions);
+        }
+        final CollapsedGibbsSampler sampler = new CollapsedGibbsSampler();
+        sampler.setUp(lda, properties);
+        sampler.run();
+        return sampler;
+    }
+
+    @Test
+    public void testOnePartitionByDefault() {
+        final LDA lda = new LDA(0.1, 0.1, NUM_TOPICS, createDataset(), InferenceMethod.CGS);
+        final CollapsedGibbsSampler byDefault = sample(lda, null);
+        final CollapsedGibbsSampler serial = sample(lda, 1);
+        Assert.assertEquals(byDefault.getNumPartitions(), 1);
+        for (int t = 0; t < NUM_TOPICS; t++) {
+            Assert.assertEquals(byDefault.getTSumCount(t), serial.getTSumCount(t));
+            for (int v = 1; v < NUM_TOPICS * CARDS_PER_TOPIC; v++) {
+                Assert.assertEquals(byDefault.getTVCount(t, v), serial.getTVCount(t, v));
+            }
+        }
+        Assert.assertEquals(byDefault.getLogLikelihood(), serial.getLogLikelihood());
+    }
+
+    @Test
+    public void testPartitionsConvergeLikeSerialSampling() {
+        final Dataset dataset = createDataset();
+        final LDA lda = new LDA(0.1, 0.1, NUM_TOPICS, dataset, InferenceMethod.CGS);
+        final CollapsedGibbsSampler serial = sample(lda, 1);
+        final CollapsedGibbsSampler partitioned = sample(lda, 4);
+        Assert.assertEquals(partitioned.getNumPartitions(), 4);
+
+        // merging the partitions' counts keeps every word assigned to exactly one topic
+        int words = 0;
+        for (int t = 0; t < NUM_TOPICS; t++) {
+            words += partitioned.getTSumCount(t);
+        }
+        Assert.assertEquals(words, dataset.getNumWords());
+
+        final double serialLikelihood = serial.getLogLikelihood();
+        final double partitionedLikelihood = partitioned.getLogLikelihood();
+        Assert.assertEquals(partitionedLikelihood, serialLikelihood, Math.abs(serialLikelihood) * 0.01,
+                "log-likelihood of 4 partitions " + partitionedLikelihood + ", of serial sampling " + serialLikelihood);
+    }
+}